@@ -0,0 +1,257 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.plugin.multivm;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * This is a pool of warm test runners, each runner is a host virtual machine
+ * which stays alive and runs many tests one after the other. Each test is
+ * still run in its own fresh virtual machine within the runner, but the cost
+ * of starting the host virtual machine and loading the emulator is only
+ * paid once per runner rather than once per test.
+ *
+ * Only tests which are launched through {@link #FACTORY_MAIN} may be pooled,
+ * see {@link #canPool(Iterable)}.
+ *
+ * @since 2026/10/18
+ */
+public final class VMTestPool
+{
+	/** The main class of the virtual machine factory. */
+	public static final String FACTORY_MAIN =
+		"cc.squirreljme.emulator.vm.VMFactory";
+	
+	/** The main class of the virtual machine factory runner. */
+	public static final String RUNNER_MAIN =
+		"cc.squirreljme.emulator.vm.VMFactoryRunner";
+	
+	/** The approximate amount of memory each runner uses. */
+	private static final long _RUNNER_MEMORY =
+		1024L * 1024L * 1024L;
+	
+	/** The virtual machine name, for the XML results. */
+	protected final String vmName;
+	
+	/** The total number of tests, used for progress. */
+	protected final int total;
+	
+	/** Tests which are waiting to run. */
+	private final LinkedList<VMTestPool.__Pending__> _pending =
+		new LinkedList<>();
+	
+	/**
+	 * Initializes the test pool.
+	 *
+	 * @param __vmName The name of the virtual machine.
+	 * @param __total The total number of tests, used for progress.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public VMTestPool(String __vmName, int __total)
+		throws NullPointerException
+	{
+		if (__vmName == null)
+			throw new NullPointerException("NARG");
+		
+		this.vmName = __vmName;
+		this.total = __total;
+	}
+	
+	/**
+	 * Runs all of the submitted tests and waits for them to finish.
+	 *
+	 * @param __numRunners The number of runners to use.
+	 * @throws IllegalArgumentException If the number of runners is zero
+	 * or negative.
+	 * @since 2026/10/18
+	 */
+	public void run(int __numRunners)
+		throws IllegalArgumentException
+	{
+		if (__numRunners <= 0)
+			throw new IllegalArgumentException("No runners.");
+		
+		// Never use more runners than there are tests
+		int numRunners;
+		synchronized (this)
+		{
+			numRunners = Math.min(__numRunners, this._pending.size());
+		}
+		
+		// Start every runner, they pull tests as they become free
+		Collection<Thread> threads = new ArrayList<>(numRunners);
+		for (int i = 0; i < numRunners; i++)
+		{
+			Thread thread = new Thread(new __TestPoolWorker__(this),
+				"testRunner" + i);
+			threads.add(thread);
+			thread.start();
+		}
+		
+		// Wait for all of the runners to finish
+		for (Thread thread : threads)
+			for (;;)
+				try
+				{
+					thread.join();
+					break;
+				}
+				catch (InterruptedException e)
+				{
+					for (Thread other : threads)
+						other.interrupt();
+				}
+	}
+	
+	/**
+	 * Submits a test to be run.
+	 *
+	 * @param __testName The name of the test.
+	 * @param __count The number of this test, used for progress.
+	 * @param __commandLine The command line that would run the test.
+	 * @param __resultFile The file where the XML result is written.
+	 * @throws IllegalArgumentException If the test cannot be pooled.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public void submit(String __testName, int __count,
+		Iterable<String> __commandLine, Path __resultFile)
+		throws IllegalArgumentException, NullPointerException
+	{
+		if (__testName == null || __commandLine == null ||
+			__resultFile == null)
+			throw new NullPointerException("NARG");
+		
+		// Split the command line into the runner and its arguments
+		List<String> commandLine = new ArrayList<>();
+		for (String arg : __commandLine)
+			commandLine.add(arg);
+		int split = commandLine.indexOf(VMTestPool.FACTORY_MAIN);
+		if (split < 0)
+			throw new IllegalArgumentException(
+				"Test cannot be pooled: " + __testName);
+		
+		List<String> runner = new ArrayList<>(commandLine.subList(0, split));
+		runner.add(VMTestPool.RUNNER_MAIN);
+		
+		synchronized (this)
+		{
+			this._pending.add(new VMTestPool.__Pending__(__testName, __count,
+				runner, new ArrayList<>(commandLine.subList(split + 1,
+				commandLine.size())), __resultFile));
+		}
+	}
+	
+	/**
+	 * Returns the next test to run.
+	 *
+	 * @return The next test or {@code null} if there are none left.
+	 * @since 2026/10/18
+	 */
+	synchronized VMTestPool.__Pending__ __next()
+	{
+		return this._pending.pollFirst();
+	}
+	
+	/**
+	 * Can the test with the given command line be pooled?
+	 *
+	 * @param __commandLine The command line that would run the test.
+	 * @return If the test can be pooled.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static boolean canPool(Iterable<String> __commandLine)
+		throws NullPointerException
+	{
+		if (__commandLine == null)
+			throw new NullPointerException("NARG");
+		
+		for (String arg : __commandLine)
+			if (VMTestPool.FACTORY_MAIN.equals(arg))
+				return true;
+		return false;
+	}
+	
+	/**
+	 * Returns the number of runners which should be used, this is limited
+	 * by the number of processors and the amount of memory in the system.
+	 *
+	 * @return The number of runners to use.
+	 * @since 2026/10/18
+	 */
+	public static int runnerCount()
+	{
+		int rv = VMTestTaskAction.physicalProcessorCount();
+		
+		// Do not start more runners than can fit in memory, if this is known
+		OperatingSystemMXBean os =
+			ManagementFactory.getOperatingSystemMXBean();
+		if (os instanceof com.sun.management.OperatingSystemMXBean)
+		{
+			long memory = ((com.sun.management.OperatingSystemMXBean)os)
+				.getTotalPhysicalMemorySize();
+			if (memory > 0)
+				rv = (int)Math.min(rv, memory / VMTestPool._RUNNER_MEMORY);
+		}
+		
+		return Math.max(1, rv);
+	}
+	
+	/**
+	 * A test which is waiting to be run.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final class __Pending__
+	{
+		/** The name of the test. */
+		final String testName;
+		
+		/** The number of this test. */
+		final int count;
+		
+		/** The command line of the runner. */
+		final List<String> runner;
+		
+		/** The arguments to the virtual machine factory. */
+		final List<String> args;
+		
+		/** Where the results go. */
+		final Path resultFile;
+		
+		/**
+		 * Initializes the pending test.
+		 *
+		 * @param __testName The name of the test.
+		 * @param __count The number of this test.
+		 * @param __runner The command line of the runner.
+		 * @param __args The arguments to the virtual machine factory.
+		 * @param __resultFile Where the results go.
+		 * @since 2026/10/18
+		 */
+		__Pending__(String __testName, int __count, List<String> __runner,
+			List<String> __args, Path __resultFile)
+		{
+			this.testName = __testName;
+			this.count = __count;
+			this.runner = __runner;
+			this.args = __args;
+			this.resultFile = __resultFile;
+		}
+	}
+}
@@ -142,8 +142,9 @@ public class VMTestTaskAction
 			sysProps.put("java.awt.headless", "true");
 		
 		// If debugging, do not run in parallel
-		if (null != System.getProperty("squirreljme.xjdwp",
-			System.getProperty("squirreljme.jdwp")))
+		boolean isDebugging = (null != System.getProperty("squirreljme.xjdwp",
+			System.getProperty("squirreljme.jdwp")));
+		if (isDebugging)
 			maxParallel = 1;
 		
 		// Any specific changes to how tests run
@@ -174,6 +175,15 @@ public class VMTestTaskAction
 		__task.getLogger().debug("Testing ClassPath: {}",
 			Arrays.asList(classPath));
 		
+		// Tests which run through the VM factory can be run by a pool of warm
+		// runners, this is not used when debugging as the debugger would
+		// need to attach to each test
+		String poolProp = System.getProperty("squirreljme.test.pool");
+		VMTestPool pool = (isDebugging ||
+			(poolProp != null && !Boolean.parseBoolean(poolProp)) ? null :
+			new VMTestPool(vmType.vmName(VMNameFormat.PROPER_NOUN),
+				numTests));
+		
 		// Execute the tests concurrently but up to the limit, as testing is
 		// very intense on CPU
 		int runCount = 0;
@@ -194,6 +204,14 @@ public class VMTestTaskAction
 			// Which test number is this?
 			int submitId = ++submitCount;
 			
+			// Run within the pool instead, if this is possible
+			Iterable<String> commandLine = execSpec.getCommandLine();
+			if (pool != null && VMTestPool.canPool(commandLine))
+			{
+				pool.submit(testName, submitId, commandLine, xmlResult);
+				continue;
+			}
+			
 			// Submit our work task which should be a simple JVM execute due
 			// to the limitations of Gradle workers
 			queue.submit(VMTestWorkAction.class, __params ->
@@ -203,7 +221,7 @@ public class VMTestTaskAction
 					__params.getResultFile().set(xmlResult.toFile());
 					
 					// The command line to execute
-					__params.getCommandLine().set(execSpec.getCommandLine());
+					__params.getCommandLine().set(commandLine);
 					
 					// Name of the VM for hostname setting
 					__params.getVmName()
@@ -229,6 +247,11 @@ public class VMTestTaskAction
 		// Wait for the queue to finish
 		queue.await();
 		
+		// Run any pooled tests, the number of runners is limited by the
+		// processors and memory of the system rather than the fixed limit
+		if (pool != null)
+			pool.run((maxParallel <= 1 ? 1 : VMTestPool.runnerCount()));
+		
 		// Get the status of every test
 		Map<String, ResultantTestInfo> testResults =
 			this.__testResults(xmlResults);
@@ -30,7 +30,7 @@ public abstract class VMTestWorkAction
 	implements WorkAction<VMTestParameters>
 {
 	/** The timeout for tests. */
-	private static final long _TEST_TIMEOUT =
+	static final long _TEST_TIMEOUT =
 		360_000_000_000L;
 	
 	/** Skip sequence special. */
@@ -207,7 +207,7 @@ public abstract class VMTestWorkAction
 	 * @throws NullPointerException On null arguments.
 	 * @since 2021/07/18
 	 */
-	private static boolean __findTimeoutSkip(byte[] __stdErrBytes)
+	static boolean __findTimeoutSkip(byte[] __stdErrBytes)
 		throws NullPointerException
 	{
 		if (__stdErrBytes == null)
@@ -254,7 +254,7 @@ public abstract class VMTestWorkAction
 	 * @since 2020/09/07
 	 */
 	@SuppressWarnings("resource")
-	private static void __writeXml(PrintStream __out, String __testName,
+	static void __writeXml(PrintStream __out, String __testName,
 		VMTestResult __result, String __vmName, long __clockStart,
 		long __nsDur, byte[] __stdOut, byte[] __stdErr)
 		throws NullPointerException
@@ -346,6 +346,12 @@ public enum VMType
 			if (!__isTest && config.isBootLoader)
 				args.add("-boot");
 			
+			// Reuse classes which were minimized by previous builds, if a
+			// directory was given for them
+			String cache = System.getProperty("squirreljme.summercoat.cache");
+			if (cache != null)
+				args.add("-cache:" + cache);
+			
 			// Run the specified command
 			this.__aotCommand(__task, __in, __out,
 				"compile", args);
@@ -408,6 +414,12 @@ public enum VMType
 			// Setup arguments for compilation
 			Collection<String> args = new ArrayList<>();
 			
+			// Reuse classes which were minimized by previous builds, if a
+			// directory was given for them
+			String cache = System.getProperty("squirreljme.summercoat.cache");
+			if (cache != null)
+				args.add("-cache:" + cache);
+			
 			// Put down paths to libraries to link together
 			for (Path path : __libs)
 				args.add(path.toString());
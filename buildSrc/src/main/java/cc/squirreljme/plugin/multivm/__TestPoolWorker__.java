@@ -0,0 +1,467 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.plugin.multivm;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This owns a single warm runner process and runs tests from the pool in it
+ * until there are none left. If a test takes too long or the runner dies
+ * then the runner is killed and a new one is started for the next test.
+ *
+ * The frames which are read from the runner are in the wire format which is
+ * written by {@code VMFactoryRunner} in {@code emulator-base}, the frame
+ * bytes are copied from there since the build cannot depend on it.
+ *
+ * @since 2026/10/18
+ */
+final class __TestPoolWorker__
+	implements Runnable
+{
+	/** Frame containing standard output bytes. */
+	private static final byte _FRAME_STDOUT =
+		'O';
+	
+	/** Frame containing standard error bytes. */
+	private static final byte _FRAME_STDERR =
+		'E';
+	
+	/** Frame containing the exit code of a run. */
+	private static final byte _FRAME_EXIT =
+		'X';
+	
+	/** Not a frame, indicates the runner has ended. */
+	private static final byte _FRAME_END =
+		-1;
+	
+	/** The pool to run tests from. */
+	protected final VMTestPool pool;
+	
+	/** The current runner process. */
+	private Process _process;
+	
+	/** The command line of the current runner process. */
+	private List<String> _runner;
+	
+	/** Requests to the runner. */
+	private DataOutputStream _requests;
+	
+	/** Frames read from the runner. */
+	private BlockingQueue<byte[]> _frames;
+	
+	/**
+	 * Initializes the worker.
+	 *
+	 * @param __pool The pool to run tests from.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	__TestPoolWorker__(VMTestPool __pool)
+		throws NullPointerException
+	{
+		if (__pool == null)
+			throw new NullPointerException("NARG");
+		
+		this.pool = __pool;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void run()
+	{
+		try
+		{
+			// Interrupts stop any further tests from running
+			while (!Thread.currentThread().isInterrupted())
+			{
+				VMTestPool.__Pending__ test = this.pool.__next();
+				if (test == null)
+					break;
+				
+				this.__runTest(test);
+			}
+		}
+		
+		// Always stop the runner
+		finally
+		{
+			this.__stop(false);
+		}
+	}
+	
+	/**
+	 * Runs the given test.
+	 *
+	 * @param __test The test to run.
+	 * @since 2026/10/18
+	 */
+	private void __runTest(VMTestPool.__Pending__ __test)
+	{
+		VMTestPool pool = this.pool;
+		String testName = __test.testName;
+		int count = __test.count;
+		int total = pool.total;
+		
+		// Note this is running
+		System.err.printf("???? %s (%d/%d)%n", testName, count, total);
+		System.err.flush();
+		
+		// Clock the starting time
+		long clockStart = System.currentTimeMillis();
+		long nsStart = System.nanoTime();
+		
+		// Any output of the test
+		ByteArrayOutputStream stdOut = new ByteArrayOutputStream();
+		ByteArrayOutputStream stdErr = new ByteArrayOutputStream();
+		
+		// Run the test, if the runner could not be used or it stopped then
+		// the exit code remains invalid and the test fails
+		int exitCode = -1;
+		boolean timeOutHit = false;
+		boolean finished = false;
+		boolean died = false;
+		try
+		{
+			// Use a new runner if it is different or it died
+			if (this._process == null || !this._process.isAlive() ||
+				!__test.runner.equals(this._runner))
+				this.__start(__test.runner);
+			
+			// Send the request
+			DataOutputStream requests = this._requests;
+			requests.writeInt(__test.args.size());
+			for (String arg : __test.args)
+			{
+				byte[] utf = arg.getBytes(StandardCharsets.UTF_8);
+				requests.writeInt(utf.length);
+				requests.write(utf);
+			}
+			requests.flush();
+			
+			// Handle frames until the test finishes
+			BlockingQueue<byte[]> frames = this._frames;
+			while (!finished && !died)
+			{
+				// Has the test run expired?
+				long nsLeft = VMTestWorkAction._TEST_TIMEOUT -
+					(System.nanoTime() - nsStart);
+				byte[] frame = (nsLeft <= 0 ? null :
+					frames.poll(nsLeft, TimeUnit.NANOSECONDS));
+				if (frame == null)
+				{
+					// Note it
+					System.err.printf("TIME %s (%d/%d)%n", testName,
+						count, total);
+					System.err.flush();
+					
+					// Set timeout as being hit, used for special check
+					timeOutHit = true;
+					break;
+				}
+				
+				switch (frame[0])
+				{
+					case __TestPoolWorker__._FRAME_STDOUT:
+						stdOut.write(frame, 1, frame.length - 1);
+						System.out.write(frame, 1, frame.length - 1);
+						System.out.flush();
+						break;
+					
+					case __TestPoolWorker__._FRAME_STDERR:
+						stdErr.write(frame, 1, frame.length - 1);
+						System.err.write(frame, 1, frame.length - 1);
+						System.err.flush();
+						break;
+					
+					case __TestPoolWorker__._FRAME_EXIT:
+						exitCode = ((frame[1] & 0xFF) << 24) |
+							((frame[2] & 0xFF) << 16) |
+							((frame[3] & 0xFF) << 8) |
+							(frame[4] & 0xFF);
+						finished = true;
+						break;
+					
+					// The runner died, so stop waiting
+					default:
+						System.err.printf("DIED %s (%d/%d)%n", testName,
+							count, total);
+						System.err.flush();
+						died = true;
+						break;
+				}
+			}
+		}
+		
+		// Runner could not be talked to
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+		
+		// Stop the test if interrupted
+		catch (InterruptedException e)
+		{
+			// Add note that this happened
+			System.err.printf("INTR %s%n", testName);
+			System.err.flush();
+			
+			// Keep the interrupt so no more tests are run
+			Thread.currentThread().interrupt();
+		}
+		
+		// A runner which did not finish the test cannot be used again, so
+		// recycle it
+		finally
+		{
+			if (!finished)
+				this.__stop(true);
+		}
+		
+		// Clock the ending time
+		long nsDur = System.nanoTime() - nsStart;
+		
+		byte[] stdErrBytes = stdErr.toByteArray();
+		if (timeOutHit && VMTestWorkAction.__findTimeoutSkip(stdErrBytes))
+			exitCode = VMTestResult.SKIP.exitCode;
+		
+		// Note this has finished
+		VMTestResult testResult = VMTestResult.valueOf(exitCode);
+		System.err.printf("%4s %s (%d/%d)%n", testResult, testName,
+			count, total);
+		System.err.flush();
+		
+		// Write the XML file
+		try (PrintStream out = new PrintStream(Files.newOutputStream(
+			__test.resultFile,
+			StandardOpenOption.CREATE,
+			StandardOpenOption.TRUNCATE_EXISTING,
+			StandardOpenOption.WRITE)))
+		{
+			// Write the resultant XML, this will be read later for
+			// detection purposes
+			VMTestWorkAction.__writeXml(out, testName, testResult,
+				pool.vmName, clockStart, nsDur, stdOut.toByteArray(),
+				stdErrBytes);
+			
+			// Make sure everything is written
+			out.flush();
+		}
+		
+		// Could not write the results
+		catch (IOException e)
+		{
+			throw new RuntimeException("I/O Exception in " + testName, e);
+		}
+	}
+	
+	/**
+	 * Starts a new runner.
+	 *
+	 * @param __runner The command line of the runner.
+	 * @throws IOException If it could not be started.
+	 * @since 2026/10/18
+	 */
+	@SuppressWarnings("UseOfProcessBuilder")
+	private void __start(List<String> __runner)
+		throws IOException
+	{
+		// Stop any old runner first
+		this.__stop(false);
+		
+		Process process = new ProcessBuilder(__runner).start();
+		
+		// Frames are read as they come in so that the timeout can be
+		// checked while the test runs
+		BlockingQueue<byte[]> frames = new LinkedBlockingQueue<>();
+		Thread reader = new Thread(new __FrameReader__(
+			process.getInputStream(), frames), "testRunnerFrames");
+		reader.setDaemon(true);
+		reader.start();
+		
+		// Anything which is not part of a test goes to standard error
+		Thread drain = new Thread(new __Drain__(process.getErrorStream()),
+			"testRunnerStdErr");
+		drain.setDaemon(true);
+		drain.start();
+		
+		this._process = process;
+		this._runner = __runner;
+		this._frames = frames;
+		this._requests = new DataOutputStream(process.getOutputStream());
+	}
+	
+	/**
+	 * Stops the current runner, if there is one.
+	 *
+	 * @param __kill If the runner should be killed rather than told to
+	 * stop after it finishes.
+	 * @since 2026/10/18
+	 */
+	private void __stop(boolean __kill)
+	{
+		Process process = this._process;
+		if (process == null)
+			return;
+		
+		// Tell the runner to stop
+		if (!__kill)
+			try
+			{
+				DataOutputStream requests = this._requests;
+				requests.writeInt(-1);
+				requests.close();
+				
+				process.waitFor(10, TimeUnit.SECONDS);
+			}
+			catch (IOException|InterruptedException ignored)
+			{
+			}
+		
+		// Make sure it is gone
+		if (process.isAlive())
+			process.destroyForcibly();
+		
+		this._process = null;
+		this._runner = null;
+		this._frames = null;
+		this._requests = null;
+	}
+	
+	/**
+	 * Copies the standard error of a runner to standard error.
+	 *
+	 * @since 2026/10/18
+	 */
+	private static final class __Drain__
+		implements Runnable
+	{
+		/** The stream to read from. */
+		protected final InputStream in;
+		
+		/**
+		 * Initializes the drain.
+		 *
+		 * @param __in The stream to read from.
+		 * @since 2026/10/18
+		 */
+		__Drain__(InputStream __in)
+		{
+			this.in = __in;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public void run()
+		{
+			byte[] buf = new byte[4096];
+			try (InputStream in = this.in)
+			{
+				for (;;)
+				{
+					int rc = in.read(buf);
+					if (rc < 0)
+						break;
+					
+					System.err.write(buf, 0, rc);
+					System.err.flush();
+				}
+			}
+			
+			// Ignore, the runner is gone
+			catch (IOException ignored)
+			{
+			}
+		}
+	}
+	
+	/**
+	 * Reads frames from a runner, each frame starts with its type.
+	 *
+	 * @since 2026/10/18
+	 */
+	private static final class __FrameReader__
+		implements Runnable
+	{
+		/** The stream to read from. */
+		protected final InputStream in;
+		
+		/** Where frames go. */
+		protected final BlockingQueue<byte[]> frames;
+		
+		/**
+		 * Initializes the reader.
+		 *
+		 * @param __in The stream to read from.
+		 * @param __frames Where frames go.
+		 * @since 2026/10/18
+		 */
+		__FrameReader__(InputStream __in, BlockingQueue<byte[]> __frames)
+		{
+			this.in = __in;
+			this.frames = __frames;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public void run()
+		{
+			BlockingQueue<byte[]> frames = this.frames;
+			try (DataInputStream in = new DataInputStream(this.in))
+			{
+				for (;;)
+				{
+					byte type = in.readByte();
+					
+					// The exit code is always a single integer
+					int len = (type == __TestPoolWorker__._FRAME_EXIT ? 4 :
+						in.readInt());
+					
+					byte[] frame = new byte[1 + len];
+					frame[0] = type;
+					in.readFully(frame, 1, len);
+					
+					frames.add(frame);
+				}
+			}
+			
+			// End of the stream or the runner is gone
+			catch (IOException ignored)
+			{
+			}
+			
+			// Indicate the end of the stream
+			finally
+			{
+				frames.add(new byte[]{__TestPoolWorker__._FRAME_END});
+			}
+		}
+	}
+}
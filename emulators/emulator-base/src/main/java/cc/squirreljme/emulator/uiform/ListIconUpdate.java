@@ -83,6 +83,7 @@ public class ListIconUpdate
 		this.callback.paint(this.form, list,
 			UIPixelFormat.INT_RGB888, dimension, dimension,
 			pixelBuffer,0, null,
+			0, 0, dimension, dimension,
 			0, 0, dimension, dimension, this.subIndex);
 		
 		// Load image from the pixels
@@ -67,12 +67,14 @@ public class SwingInjector
 	@Override
 	public void paint(UIFormBracket __form, UIItemBracket __item, int __pf,
 		int __bw, int __bh, Object __buf, int __offset, int[] __pal, int __sx,
-		int __sy, int __sw, int __sh, int __special)
+		int __sy, int __sw, int __sh, int __cx, int __cy, int __cw, int __ch,
+		int __special)
 	{
 		UIFormCallback callback = ((SwingForm)__form).callback();
 		if (callback != null)
 			callback.paint(__form, __item, __pf, __bw, __bh, __buf, __offset,
-				__pal, __sx, __sy, __sw, __sh, __special);
+				__pal, __sx, __sy, __sw, __sh, __cx, __cy, __cw, __ch,
+				__special);
 	}
 	
 	/**
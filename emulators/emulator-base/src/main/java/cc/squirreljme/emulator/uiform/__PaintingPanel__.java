@@ -14,6 +14,7 @@ import cc.squirreljme.jvm.mle.constants.UIPixelFormat;
 import java.awt.AlphaComposite;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 import java.lang.ref.Reference;
@@ -69,6 +70,25 @@ class __PaintingPanel__
 		int pW = this.getWidth();
 		int pH = this.getHeight();
 		
+		// Swing merges all of the repaint requests made since the last paint
+		// into the clip, so only that area needs to be drawn
+		int cX = 0;
+		int cY = 0;
+		int cW = pW;
+		int cH = pH;
+		Rectangle clip = __g.getClipBounds();
+		if (clip != null)
+		{
+			cX = Math.max(0, clip.x);
+			cY = Math.max(0, clip.y);
+			cW = Math.min(pW, clip.x + clip.width) - cX;
+			cH = Math.min(pH, clip.y + clip.height) - cY;
+			
+			// Nothing is visible
+			if (cW <= 0 || cH <= 0)
+				return;
+		}
+		
 		// Did the framebuffer need to be recreated?
 		BufferedImage pixelImage = this._pixelImage;
 		if (pixelImage == null || pW != pixelImage.getWidth() ||
@@ -83,6 +103,12 @@ class __PaintingPanel__
 				.getDataBuffer()).getData();
 			for (int i = 0, n = buffer.length; i < n; i++)
 				buffer[i] = 0xFF_000000;
+			
+			// The new buffer has nothing in it, so all of it must be drawn
+			cX = 0;
+			cY = 0;
+			cW = pW;
+			cH = pH;
 		}
 		
 		// Send callback
@@ -97,12 +123,12 @@ class __PaintingPanel__
 					callback.paint(form, item, UIPixelFormat.INT_RGB888,
 						pW, pH, ((DataBufferInt)pixelImage.getRaster()
 							.getDataBuffer()).getData(), 0,
-							null, 0, 0, pW, pH, 0);
+							null, 0, 0, pW, pH, cX, cY, cW, cH, 0);
 			}
 		}
 		
-		// Draw the buffer directly onto the panel
-		__g.drawImage(pixelImage, 0, 0, pW, pH,
-			0, 0, pW, pH, null);
+		// Draw only the changed area of the buffer onto the panel
+		__g.drawImage(pixelImage, cX, cY, cX + cW, cY + cH,
+			cX, cY, cX + cW, cY + cH, null);
 	}
 }
@@ -105,6 +105,20 @@ public abstract class VMFactory
 		// Poke the VM to initialize some probably important parts of it
 		Poking.poke();
 		
+		// Exit with the exit code the VM gave us back
+		System.exit(VMFactory.run(__args));
+	}
+	
+	/**
+	 * Runs the virtual machine with the given arguments, the arguments are
+	 * the same as {@link #main(String...)}.
+	 *
+	 * @param __args Arguments.
+	 * @return The exit code of the virtual machine.
+	 * @since 2026/10/18
+	 */
+	public static int run(String... __args)
+	{
 		// Default settings
 		String vmName = "springcoat";
 		Path snapshotPath = null;
@@ -351,8 +365,7 @@ public abstract class VMFactory
 			}
 		}
 		
-		// Exit with the exit code the VM gave us back
-		System.exit(exitCode);
+		return exitCode;
 	}
 	
 	/**
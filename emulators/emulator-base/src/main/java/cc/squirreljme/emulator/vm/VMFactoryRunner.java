@@ -0,0 +1,238 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.emulator.vm;
+
+import cc.squirreljme.runtime.cldc.Poking;
+import cc.squirreljme.vm.JarClassLibrary;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This runs many virtual machines one after the other within the same
+ * process, so that the cost of starting the host virtual machine and
+ * loading the emulator is only paid once. Each run uses a completely new
+ * virtual machine.
+ *
+ * Requests are read from standard input and are the arguments which would
+ * be passed to {@link VMFactory#main(String...)}, the argument count is
+ * written as an integer followed by each argument as a length and its
+ * UTF-8 bytes. A negative argument count or the end of input stops the
+ * runner.
+ *
+ * While a virtual machine runs, standard output and standard error are
+ * written to standard output as frames of {@link #FRAME_STDOUT} or
+ * {@link #FRAME_STDERR} followed by a length and the bytes. When the virtual
+ * machine finishes then {@link #FRAME_EXIT} is written followed by the
+ * exit code.
+ *
+ * @since 2026/10/18
+ */
+public final class VMFactoryRunner
+{
+	/** Frame containing standard output bytes. */
+	public static final byte FRAME_STDOUT =
+		'O';
+	
+	/** Frame containing standard error bytes. */
+	public static final byte FRAME_STDERR =
+		'E';
+	
+	/** Frame containing the exit code of a run. */
+	public static final byte FRAME_EXIT =
+		'X';
+	
+	/**
+	 * Not used.
+	 *
+	 * @since 2026/10/18
+	 */
+	private VMFactoryRunner()
+	{
+	}
+	
+	/**
+	 * Main entry point.
+	 *
+	 * @param __args Not used.
+	 * @throws IOException If the requests could not be read or the results
+	 * could not be written.
+	 * @since 2026/10/18
+	 */
+	public static void main(String... __args)
+		throws IOException
+	{
+		// Poke the VM to initialize some probably important parts of it
+		Poking.poke();
+		
+		// Only frames may be written to standard output, so anything which
+		// is printed outside of a run goes to standard error
+		PrintStream stdErr = System.err;
+		System.setOut(stdErr);
+		
+		DataInputStream in = new DataInputStream(new BufferedInputStream(
+			new FileInputStream(FileDescriptor.in)));
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+			new FileOutputStream(FileDescriptor.out)));
+		
+		for (;;)
+		{
+			// Read the next request
+			String[] args;
+			try
+			{
+				int argc = in.readInt();
+				if (argc < 0)
+					break;
+				
+				args = new String[argc];
+				for (int i = 0; i < argc; i++)
+				{
+					byte[] utf = new byte[in.readInt()];
+					in.readFully(utf);
+					args[i] = new String(utf, StandardCharsets.UTF_8);
+				}
+			}
+			catch (EOFException e)
+			{
+				break;
+			}
+			
+			// Output from the run is sent as frames
+			PrintStream runOut = new PrintStream(new __FrameOutputStream__(
+				out, VMFactoryRunner.FRAME_STDOUT), true);
+			PrintStream runErr = new PrintStream(new __FrameOutputStream__(
+				out, VMFactoryRunner.FRAME_STDERR), true);
+			
+			int exitCode;
+			try
+			{
+				System.setOut(runOut);
+				System.setErr(runErr);
+				
+				exitCode = VMFactory.run(args);
+			}
+			
+			// Exceptions from the run are failures, the same as if the
+			// virtual machine was run by itself
+			catch (RuntimeException|Error e)
+			{
+				e.printStackTrace(runErr);
+				exitCode = 1;
+			}
+			
+			// Stop capturing output
+			finally
+			{
+				runOut.flush();
+				runErr.flush();
+				
+				System.setOut(stdErr);
+				System.setErr(stdErr);
+				
+				// The virtual machine has ended, so its JARs need not be
+				// kept open until the next run
+				JarClassLibrary.closeAll();
+			}
+			
+			// Indicate that the run has finished
+			synchronized (out)
+			{
+				out.writeByte(VMFactoryRunner.FRAME_EXIT);
+				out.writeInt(exitCode);
+				out.flush();
+			}
+		}
+	}
+	
+	/**
+	 * Writes bytes as frames of the given type.
+	 *
+	 * @since 2026/10/18
+	 */
+	private static final class __FrameOutputStream__
+		extends OutputStream
+	{
+		/** The stream frames are written to. */
+		protected final DataOutputStream out;
+		
+		/** The type of frame to write. */
+		protected final byte type;
+		
+		/**
+		 * Initializes the stream.
+		 *
+		 * @param __out The stream frames are written to.
+		 * @param __type The type of frame to write.
+		 * @since 2026/10/18
+		 */
+		__FrameOutputStream__(DataOutputStream __out, byte __type)
+		{
+			this.out = __out;
+			this.type = __type;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public void flush()
+			throws IOException
+		{
+			DataOutputStream out = this.out;
+			synchronized (out)
+			{
+				out.flush();
+			}
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public void write(int __b)
+			throws IOException
+		{
+			this.write(new byte[]{(byte)__b}, 0, 1);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public void write(byte[] __b, int __o, int __l)
+			throws IOException
+		{
+			if (__l <= 0)
+				return;
+			
+			// Threads of the virtual machine may write at the same time
+			DataOutputStream out = this.out;
+			synchronized (out)
+			{
+				out.writeByte(this.type);
+				out.writeInt(__l);
+				out.write(__b, __o, __l);
+			}
+		}
+	}
+}
@@ -91,11 +91,11 @@ public class DebugViewObject
 		// the class details.
 		if (__which instanceof SpringSimpleObject)
 		{
-			SpringFieldStorage[] store = ((SpringSimpleObject)__which)._fields;
-			if (__index >= 0 && __index < store.length)
+			SpringSimpleObject sso = (SpringSimpleObject)__which;
+			if (__index >= 0 && __index < sso._fieldTable.length)
 			{
 				__out.set(DebugViewObject.__normalizeNull(
-					store[__index].get()));
+					sso.fieldGet(sso._fieldTable[__index])));
 				return true;
 			}
 		}
@@ -0,0 +1,105 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.vm.springcoat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is a shelf function which has been bound by the dispatcher, it can
+ * count the number of times the function has been called.
+ *
+ * @since 2026/10/18
+ */
+public final class MLEBoundFunction
+	implements MLEDispatcherTarget
+{
+	/**
+	 * {@squirreljme.property cc.squirreljme.vm.mlecalls=bool
+	 * Count the calls to each shelf function and report them when the
+	 * virtual machine exits?}
+	 */
+	public static final boolean COUNT_CALLS =
+		Boolean.getBoolean("cc.squirreljme.vm.mlecalls");
+	
+	/** The shelf this function is in. */
+	protected final MLEDispatcher shelf;
+	
+	/** The function to call. */
+	protected final MLEFunction function;
+	
+	/** The number of times this function was called. */
+	private final AtomicLong _calls =
+		new AtomicLong();
+	
+	/**
+	 * Initializes the bound function.
+	 *
+	 * @param __shelf The shelf the function is in.
+	 * @param __function The function to call.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	MLEBoundFunction(MLEDispatcher __shelf, MLEFunction __function)
+		throws NullPointerException
+	{
+		if (__shelf == null || __function == null)
+			throw new NullPointerException("NARG");
+		
+		this.shelf = __shelf;
+		this.function = __function;
+	}
+	
+	/**
+	 * Returns the number of times this function was called.
+	 *
+	 * @return The call count, this is always zero if calls are not being
+	 * counted.
+	 * @since 2026/10/18
+	 */
+	public final long callCount()
+	{
+		return this._calls.get();
+	}
+	
+	/**
+	 * Returns whether this function may block on other threads, such as
+	 * user interface calls which wait on callbacks.
+	 *
+	 * @return If this function may block on other threads.
+	 * @since 2026/10/18
+	 */
+	public final boolean mayBlock()
+	{
+		return this.shelf == MLEDispatcher.UI_FORM;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final Object handle(SpringThreadWorker __thread, Object... __args)
+	{
+		if (MLEBoundFunction.COUNT_CALLS)
+		this._calls.incrementAndGet();
+		
+		return this.function.handle(__thread, __args);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final String toString()
+	{
+		return this.shelf.key() + "::" + this.function.key();
+	}
+}
@@ -23,6 +23,7 @@ import cc.squirreljme.jvm.mle.ThreadShelf;
 import cc.squirreljme.jvm.mle.TypeShelf;
 import cc.squirreljme.jvm.mle.UIFormShelf;
 import cc.squirreljme.vm.springcoat.exceptions.SpringVirtualMachineException;
+import java.io.PrintStream;
 import java.util.Map;
 import java.util.TreeMap;
 import net.multiphasicapps.classfile.ClassName;
@@ -92,7 +93,7 @@ public enum MLEDispatcher
 	;
 	
 	/** The function tree. */
-	private static Map<String, Map<String, MLEDispatcherTarget>> _fnTree;
+	private static Map<String, Map<String, MLEBoundFunction>> _fnTree;
 	
 	/** The dispatcher key. */
 	protected final String key;
@@ -102,16 +103,17 @@ public enum MLEDispatcher
 	
 	static
 	{
-		Map<String, Map<String, MLEDispatcherTarget>> functionTree =
+		Map<String, Map<String, MLEBoundFunction>> functionTree =
 			new TreeMap<>();
 		
 		// Build the function tree
 		for (MLEDispatcher dispatch : MLEDispatcher.values())
 		{
-			Map<String, MLEDispatcherTarget> subTree = new TreeMap<>();
+			Map<String, MLEBoundFunction> subTree = new TreeMap<>();
 			
 			for (MLEFunction function : dispatch._functions)
-				subTree.put(function.key(), function);
+				subTree.put(function.key(),
+					new MLEBoundFunction(dispatch, function));
 			
 			functionTree.put(dispatch.key(), subTree);
 		}
@@ -148,37 +150,115 @@ public enum MLEDispatcher
 	}
 	
 	/**
-	 * Handles the dispatching of the native method.
+	 * Binds the given native method to its shelf function, this is meant to
+	 * be done once for a method so that calls do not need to look it up.
 	 *
-	 * @param __thread The current thread this is acting under.
 	 * @param __class The native class being called.
 	 * @param __func The method being called.
-	 * @param __args The arguments to the call.
-	 * @return The resulting object returned by the dispatcher.
+	 * @return The bound function.
 	 * @throws NullPointerException On null arguments.
-	 * @since 2020/05/30
+	 * @throws SpringVirtualMachineException If the shelf or function does
+	 * not exist.
+	 * @since 2026/10/18
 	 */
-	public static Object dispatch(SpringThreadWorker __thread,
-		ClassName __class, MethodNameAndType __func, Object... __args)
-		throws NullPointerException
+	public static MLEBoundFunction bind(ClassName __class,
+		MethodNameAndType __func)
+		throws NullPointerException, SpringVirtualMachineException
 	{
-		if (__thread == null || __class == null)
+		if (__class == null || __func == null)
 			throw new NullPointerException("NARG");
 		
 		// Find the sub-tree
-		Map<String, MLEDispatcherTarget> subTree = MLEDispatcher._fnTree.get(
+		Map<String, MLEBoundFunction> subTree = MLEDispatcher._fnTree.get(
 			__class.toString());
 		if (subTree == null)
 			throw new SpringVirtualMachineException(String.format(
 				"Unknown MLE Shelf: %s", __class));
 		
 		// Find the target function
-		MLEDispatcherTarget target = subTree.get(__func.toString());
+		MLEBoundFunction target = subTree.get(__func.toString());
 		if (target == null)
 			throw new SpringVirtualMachineException(String.format(
 				"Unknown MLE Shelf Function: %s::%s", __class, __func));
 		
-		// Call it
-		return target.handle(__thread, __args);
+		return target;
+	}
+	
+	/**
+	 * Returns the number of times each shelf function has been called,
+	 * functions which were never called are not included.
+	 *
+	 * @return The call counts of each function.
+	 * @since 2026/10/18
+	 */
+	public static Map<String, Long> callCounts()
+	{
+		Map<String, Long> rv = new TreeMap<>();
+		
+		for (Map<String, MLEBoundFunction> subTree :
+			MLEDispatcher._fnTree.values())
+			for (MLEBoundFunction function : subTree.values())
+			{
+				long count = function.callCount();
+				if (count > 0)
+					rv.put(function.toString(), count);
+			}
+		
+		return rv;
+	}
+	
+	/**
+	 * Reports the number of times each shelf function has been called,
+	 * along with the total for each shelf.
+	 *
+	 * @param __out Where the counts are printed to.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static void reportCallCounts(PrintStream __out)
+		throws NullPointerException
+	{
+		if (__out == null)
+			throw new NullPointerException("NARG");
+		
+		Map<String, Long> counts = MLEDispatcher.callCounts();
+		
+		// Total the calls for each shelf
+		Map<String, Long> shelves = new TreeMap<>();
+		for (Map.Entry<String, Long> e : counts.entrySet())
+		{
+			String key = e.getKey();
+			String shelf = key.substring(0, key.indexOf("::"));
+			
+			Long old = shelves.get(shelf);
+			shelves.put(shelf, (old == null ? 0 : old) + e.getValue());
+		}
+		
+		__out.println("*** MLE CALL COUNTS ***");
+		for (Map.Entry<String, Long> e : shelves.entrySet())
+			__out.printf("%12d %s%n", e.getValue(), e.getKey());
+		for (Map.Entry<String, Long> e : counts.entrySet())
+			__out.printf("%12d %s%n", e.getValue(), e.getKey());
+	}
+	
+	/**
+	 * Handles the dispatching of the native method.
+	 *
+	 * @param __thread The current thread this is acting under.
+	 * @param __class The native class being called.
+	 * @param __func The method being called.
+	 * @param __args The arguments to the call.
+	 * @return The resulting object returned by the dispatcher.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2020/05/30
+	 */
+	public static Object dispatch(SpringThreadWorker __thread,
+		ClassName __class, MethodNameAndType __func, Object... __args)
+		throws NullPointerException
+	{
+		if (__thread == null || __class == null)
+			throw new NullPointerException("NARG");
+		
+		return MLEDispatcher.bind(__class, __func).handle(__thread, __args);
 	}
 }
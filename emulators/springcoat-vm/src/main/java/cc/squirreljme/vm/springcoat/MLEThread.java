@@ -235,9 +235,9 @@ public enum MLEThread
 				__args[0]).fieldByNameAndType(false, 
 				"_interrupted", "Z");
 			
-			// Get and clear the field value
+			// Get and clear the field value, boolean fields hold integers
 			Object old = field.get();
-			field.set(false);
+			field.set(0);
 			return old;
 		}
 	}, 
@@ -253,9 +253,9 @@ public enum MLEThread
 		@Override
 		public Object handle(SpringThreadWorker __thread, Object... __args)
 		{
-			// Just set the started field to true
+			// Just set the started field to true, which is an integer
 			MLEThread.__javaThread(__thread, __args[0]).fieldByNameAndType(
-				false, "_started", "Z").set(true);
+				false, "_started", "Z").set(1);
 			return null;
 		}
 	},
@@ -305,7 +305,7 @@ public enum MLEThread
 			// Just set the started field to true
 			MLEThread.__javaThread(__thread, __args[0]).fieldByNameAndType(
 				false, "_isAlive", "Z")
-				.set((int)__args[1] != 0);
+				.set(((int)__args[1] != 0 ? 1 : 0));
 			
 			return null;
 		}
@@ -350,7 +350,9 @@ public enum MLEThread
 		@Override
 		public Object handle(SpringThreadWorker __thread, Object... __args)
 		{
-			// SpringCoat is always multi-threaded
+			// Threads only take turns if they are scheduled
+			if (__thread.thread._scheduler != null)
+				return ThreadModelType.SINGLE_COOP_THREAD;
 			return ThreadModelType.SIMULTANEOUS_MULTI_THREAD;
 		}
 	},
@@ -454,11 +456,21 @@ public enum MLEThread
 					profiler.sleep(true, System.nanoTime());
 				
 				// Just giving up CPU time?
+				SpringScheduler scheduler = __thread.thread._scheduler;
 				if (ms == 0 && ns == 0)
-					Thread.yield();
+				{
+					if (scheduler != null)
+						scheduler.yield(__thread.thread);
+					else
+						Thread.yield();
+				}
 				
-				// Normal sleep
+				// Normal sleep, other threads may run in the meantime
 				else
+				{
+					if (scheduler != null)
+						scheduler.release(__thread.thread);
+					
 					try
 					{
 						Thread.sleep(ms, ns);
@@ -467,6 +479,7 @@ public enum MLEThread
 					{
 						interrupted = true;
 					}
+				}
 			}
 			finally
 			{
@@ -650,6 +663,12 @@ public enum MLEThread
 			target.enterFrame(worker.loadClass(MLEThread._START_CLASS)
 				.lookupMethod(true, MLEThread._BASE_THREAD_METHOD));
 			
+			// If threads are scheduled, the thread waits for its turn behind
+			// the threads which are already waiting
+			SpringScheduler scheduler = target._scheduler;
+			if (scheduler != null)
+				scheduler.admit(target);
+			
 			// Try to start it
 			try
 			{
@@ -658,6 +677,9 @@ public enum MLEThread
 			}
 			catch (IllegalThreadStateException ignored)
 			{
+				if (scheduler != null)
+					scheduler.dismiss(target);
+				
 				return false;
 			}
 		}
@@ -696,12 +718,20 @@ public enum MLEThread
 				throw new SpringMLECallError("Negative milliseconds");
 			
 			// Waiting for nothing? just give up our slice
+			SpringScheduler scheduler = __thread.thread._scheduler;
 			if (ms == 0)
 			{
-				Thread.yield();
+				if (scheduler != null)
+					scheduler.yield(__thread.thread);
+				else
+					Thread.yield();
 				return false;
 			}
 			
+			// Let other threads run while this one waits
+			if (scheduler != null)
+				scheduler.release(__thread.thread);
+			
 			// Wait until the monitor is hit
 			SpringMachine machine = __thread.machine;
 			synchronized (machine)
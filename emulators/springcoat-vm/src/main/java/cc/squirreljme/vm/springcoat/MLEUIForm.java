@@ -78,7 +78,7 @@ public enum MLEUIForm
 			// forward calls into, there also needs to be threads to do work
 			// in
 			UIFormShelf.callback(form.form,
-				new UIFormCallbackAdapter(__thread.machine, callback));
+				new UIFormCallbackAdapter(__thread.machine, callback, form));
 			return null;
 		}
 	}, 
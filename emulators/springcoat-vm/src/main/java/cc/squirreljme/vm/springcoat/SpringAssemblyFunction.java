@@ -0,0 +1,107 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.vm.springcoat;
+
+import cc.squirreljme.jvm.Assembly;
+
+/**
+ * These are the only {@link Assembly} functions which are supported by
+ * SpringCoat, which are used to pack and unpack long values.
+ *
+ * @since 2026/10/18
+ */
+public enum SpringAssemblyFunction
+	implements MLEDispatcherTarget
+{
+	/** {@link Assembly#longPack(int, int)}. */
+	LONG_PACK("longPack")
+	{
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public Object handle(SpringThreadWorker __thread, Object... __args)
+		{
+			return Assembly.longPack((int)__args[0], (int)__args[1]);
+		}
+	},
+	
+	/** {@link Assembly#longUnpackHigh(long)}. */
+	LONG_UNPACK_HIGH("longUnpackHigh")
+	{
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public Object handle(SpringThreadWorker __thread, Object... __args)
+		{
+			return Assembly.longUnpackHigh((long)__args[0]);
+		}
+	},
+	
+	/** {@link Assembly#longUnpackLow(long)}. */
+	LONG_UNPACK_LOW("longUnpackLow")
+	{
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public Object handle(SpringThreadWorker __thread, Object... __args)
+		{
+			return Assembly.longUnpackLow((long)__args[0]);
+		}
+	},
+	
+	/* End. */
+	;
+	
+	/** The name of the method. */
+	protected final String key;
+	
+	/**
+	 * Initializes the function.
+	 *
+	 * @param __key The name of the method.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	SpringAssemblyFunction(String __key)
+		throws NullPointerException
+	{
+		if (__key == null)
+			throw new NullPointerException("NARG");
+		
+		this.key = __key;
+	}
+	
+	/**
+	 * Returns the function for the given method name.
+	 *
+	 * @param __name The name of the method.
+	 * @return The function or {@code null} if it is not supported.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static SpringAssemblyFunction of(String __name)
+		throws NullPointerException
+	{
+		if (__name == null)
+			throw new NullPointerException("NARG");
+		
+		for (SpringAssemblyFunction function : SpringAssemblyFunction.values())
+			if (function.key.equals(__name))
+				return function;
+		
+		return null;
+	}
+}
@@ -81,7 +81,10 @@ public final class SpringClass
 		new HashMap<>();
 	
 	/** The table of fields defined in this class, includes super classes. */
-	private final SpringField[] _fieldtable;
+	final SpringField[] _fieldtable;
+	
+	/** The layout of instance fields. */
+	final SpringFieldLayout _fieldLayout;
 	
 	/** Field lookup. */
 	private final SpringField[] _fieldLookup;
@@ -104,6 +107,16 @@ public final class SpringClass
 	/** The base index for our own instance fields. */
 	final int _fieldLookupBase;
 	
+	/** The virtual method table, indexed by slot. */
+	private final SpringMethod[] _vTable;
+	
+	/** The slots of methods within the virtual table. */
+	private final Map<MethodNameAndType, Integer> _vTableSlots;
+	
+	/** Interface tables for this class, built when first used. */
+	private final Map<SpringClass, SpringMethod[]> _iTables =
+		new HashMap<>();
+	
 	/** The class instance. */
 	SpringObject _instance;
 	
@@ -181,6 +194,7 @@ public final class SpringClass
 			
 			// Store method in the lookup table
 			methodLookup[atIndex] = sm;
+			sm._springClass = this;
 			
 			// Store only instance methods which are not static
 			if (!m.flags().isStatic())
@@ -270,6 +284,10 @@ public final class SpringClass
 		// Used to quickly determine how big to set storage for a class
 		this.instanceFieldCount = instanceFieldCount;
 		
+		// Determine where every instance field is stored in objects
+		this._fieldLayout = new SpringFieldLayout((__super == null ? null :
+			__super._fieldLayout), instFields);
+		
 		// Go through super and interfaces and add non-static methods which
 		// exist in sub-classes
 		for (int i = 0, n = __interfaces.length; i <= n; i++)
@@ -298,6 +316,23 @@ public final class SpringClass
 			}
 		}
 		
+		// Build the virtual table, the slots of the super class are kept the
+		// same so that a method can be found by its slot in any sub-class
+		Map<MethodNameAndType, Integer> vTableSlots = (__super == null ?
+			new HashMap<MethodNameAndType, Integer>() :
+			new HashMap<>(__super._vTableSlots));
+		for (MethodNameAndType k : methods.keySet())
+			if (!vTableSlots.containsKey(k))
+				vTableSlots.put(k, vTableSlots.size());
+		this._vTableSlots = vTableSlots;
+		
+		// Methods which are not in this class, such as private methods or
+		// constructors in the super class, have no entry
+		SpringMethod[] vTable = new SpringMethod[vTableSlots.size()];
+		for (Map.Entry<MethodNameAndType, Integer> e : vTableSlots.entrySet())
+			vTable[e.getValue()] = methods.get(e.getKey());
+		this._vTable = vTable;
+		
 		// Debug
 		/*todo.DEBUG.note("Class %s (size=%d, fields=%d, methods=%d).", name,
 			instancefieldcount,
@@ -474,6 +509,43 @@ public final class SpringClass
 		return this._interfaceclasses.clone();
 	}
 	
+	/**
+	 * Returns the interface table of this class for the given interface, the
+	 * table is indexed by the virtual slots of the interface and contains the
+	 * method in this class which implements each one.
+	 *
+	 * @param __interface The interface to get the table for.
+	 * @return The interface table, entries may be {@code null} if there is
+	 * no such method in this class.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final SpringMethod[] interfaceTable(SpringClass __interface)
+		throws NullPointerException
+	{
+		if (__interface == null)
+			throw new NullPointerException("NARG");
+		
+		Map<SpringClass, SpringMethod[]> iTables = this._iTables;
+		synchronized (iTables)
+		{
+			SpringMethod[] rv = iTables.get(__interface);
+			if (rv != null)
+				return rv;
+			
+			// Map each method of the interface to the one in this class
+			SpringMethod[] from = __interface._vTable;
+			int n = from.length;
+			rv = new SpringMethod[n];
+			for (int i = 0; i < n; i++)
+				if (from[i] != null)
+					rv[i] = this._methods.get(from[i].nameAndType());
+			
+			iTables.put(__interface, rv);
+			return rv;
+		}
+	}
+	
 	/**
 	 * Is this an array?
 	 *
@@ -958,6 +1030,40 @@ public final class SpringClass
 		return this.superclass;
 	}
 	
+	/**
+	 * Returns the method which is in the given virtual slot.
+	 *
+	 * @param __slot The slot to get.
+	 * @return The method in the slot or {@code null} if there is none.
+	 * @since 2026/10/18
+	 */
+	public final SpringMethod virtualMethod(int __slot)
+	{
+		SpringMethod[] vTable = this._vTable;
+		if (__slot < 0 || __slot >= vTable.length)
+			return null;
+		return vTable[__slot];
+	}
+	
+	/**
+	 * Returns the virtual slot of the given method, sub-classes will always
+	 * have their implementation of the method in the same slot.
+	 *
+	 * @param __nat The name and type of the method.
+	 * @return The slot of the method or {@code -1} if there is none.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final int virtualSlot(MethodNameAndType __nat)
+		throws NullPointerException
+	{
+		if (__nat == null)
+			throw new NullPointerException("NARG");
+		
+		Integer rv = this._vTableSlots.get(__nat);
+		return (rv == null ? -1 : rv);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2018/09/15
@@ -0,0 +1,167 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.vm.springcoat;
+
+import cc.squirreljme.vm.VMClassLibrary;
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.multiphasicapps.classfile.ClassFile;
+import net.multiphasicapps.classfile.ClassName;
+
+/**
+ * This is a cache of decoded class files which is shared by every machine
+ * in the process, so that tasks and test runs which use the same libraries
+ * do not need to decode the same classes again.
+ *
+ * Only libraries which exist on the file system are cached, they are keyed
+ * by their path along with their size and modification time so that
+ * libraries which have changed are not used. Only the latest key of a path
+ * is kept, so the classes of a library which has changed are dropped. Class
+ * files are softly referenced so that they may be collected if memory is
+ * low.
+ *
+ * @since 2026/10/18
+ */
+public final class SpringClassFileCache
+{
+	/** The cached class files, by library key. */
+	private static final Map<String, Map<ClassName, Reference<ClassFile>>>
+		_CACHE =
+		new ConcurrentHashMap<>();
+	
+	/** The latest library key, by path. */
+	private static final Map<String, String> _LATEST =
+		new ConcurrentHashMap<>();
+	
+	/**
+	 * Not used.
+	 *
+	 * @since 2026/10/18
+	 */
+	private SpringClassFileCache()
+	{
+	}
+	
+	/**
+	 * Returns the cached class file.
+	 *
+	 * @param __key The library key, may be {@code null}.
+	 * @param __cn The class name.
+	 * @return The class file or {@code null} if it is not cached.
+	 * @throws NullPointerException If no class name was specified.
+	 * @since 2026/10/18
+	 */
+	public static ClassFile get(String __key, ClassName __cn)
+		throws NullPointerException
+	{
+		if (__cn == null)
+			throw new NullPointerException("NARG");
+		
+		// Library is not cached
+		if (__key == null)
+			return null;
+		
+		Map<ClassName, Reference<ClassFile>> classes =
+			SpringClassFileCache._CACHE.get(__key);
+		if (classes == null)
+			return null;
+		
+		Reference<ClassFile> ref = classes.get(__cn);
+		return (ref == null ? null : ref.get());
+	}
+	
+	/**
+	 * Returns the key to use for the given library.
+	 *
+	 * @param __lib The library to get the key for.
+	 * @return The key for the library or {@code null} if it cannot be
+	 * cached.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static String key(VMClassLibrary __lib)
+		throws NullPointerException
+	{
+		if (__lib == null)
+			throw new NullPointerException("NARG");
+		
+		// Only file system libraries can be identified
+		Path path = __lib.path();
+		if (path == null || !Files.isRegularFile(path))
+			return null;
+		
+		String rv;
+		String where = path.toAbsolutePath().toString();
+		try
+		{
+			rv = where + "#" + Files.size(path) + "@" +
+				Files.getLastModifiedTime(path).toMillis();
+		}
+		
+		// Cannot cache it if it cannot be checked
+		catch (IOException e)
+		{
+			return null;
+		}
+		
+		// If the library has changed then the old one will not be used
+		// again, so its classes are dropped
+		String old = SpringClassFileCache._LATEST.put(where, rv);
+		if (old != null && !old.equals(rv))
+			SpringClassFileCache._CACHE.remove(old);
+		
+		return rv;
+	}
+	
+	/**
+	 * Stores the given class file in the cache.
+	 *
+	 * @param __key The library key, may be {@code null}.
+	 * @param __cn The class name.
+	 * @param __cf The class file.
+	 * @throws NullPointerException If no class name or class file was
+	 * specified.
+	 * @since 2026/10/18
+	 */
+	public static void put(String __key, ClassName __cn, ClassFile __cf)
+		throws NullPointerException
+	{
+		if (__cn == null || __cf == null)
+			throw new NullPointerException("NARG");
+		
+		// Library is not cached
+		if (__key == null)
+			return;
+		
+		// Do not store classes for a library which has since changed, since
+		// they would never be dropped
+		if (!__key.equals(SpringClassFileCache._LATEST.get(
+			__key.substring(0, __key.lastIndexOf('#')))))
+			return;
+		
+		Map<String, Map<ClassName, Reference<ClassFile>>> cache =
+			SpringClassFileCache._CACHE;
+		Map<ClassName, Reference<ClassFile>> classes = cache.get(__key);
+		if (classes == null)
+		{
+			Map<ClassName, Reference<ClassFile>> old = cache.putIfAbsent(
+				__key, (classes = new ConcurrentHashMap<>()));
+			if (old != null)
+				classes = old;
+		}
+		
+		classes.put(__cn, new SoftReference<>(__cf));
+	}
+}
@@ -20,8 +20,8 @@ import java.io.InputStream;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import net.multiphasicapps.classfile.ClassFile;
 import net.multiphasicapps.classfile.ClassName;
 import net.multiphasicapps.classfile.InvalidClassFormatException;
@@ -41,9 +41,15 @@ public final class SpringClassLoader
 	/** The class path for the machine. */
 	private final VMClassLibrary[] _classpath;
 	
-	/** The classes which have been loaded by the virtual machine. */
+	/** Keys for each library in the shared class file cache. */
+	private final String[] _cacheKeys;
+	
+	/**
+	 * The classes which have been loaded by the virtual machine, this may
+	 * be read without holding the class loading lock.
+	 */
 	private final Map<ClassName, SpringClass> _classes =
-		new HashMap<>();
+		new ConcurrentHashMap<>();
 	
 	/** Reference to self. */
 	private final Reference<SpringClassLoader> _machineRef =
@@ -71,6 +77,13 @@ public final class SpringClassLoader
 			if (b == null)
 				throw new NullPointerException("NARG");
 		this._classpath = __classpath;
+		
+		// Determine the keys used to share class files with other machines
+		int n = __classpath.length;
+		String[] cacheKeys = new String[n];
+		for (int i = 0; i < n; i++)
+			cacheKeys[i] = SpringClassFileCache.key(__classpath[i]);
+		this._cacheKeys = cacheKeys;
 	}
 	
 	/**
@@ -146,17 +159,17 @@ public final class SpringClassLoader
 		if (__cn == null)
 			throw new NullPointerException("NARG");
 		
-		// Lock on classes
+		// If the class has already been loaded, use that without locking
 		Map<ClassName, SpringClass> classes = this._classes;
+		SpringClass rv = classes.get(__cn);
+		if (rv != null)
+			return rv;
+		
+		// Lock on classes
 		synchronized (this.loaderlock)
 		{
-			// If the class has already been initialized, use that
-			SpringClass rv;
-			synchronized (this)
-			{
-				rv = classes.get(__cn);
-			}
-			
+			// Another thread may have loaded the class already
+			rv = classes.get(__cn);
 			if (rv != null)
 				return rv;
 			
@@ -200,10 +213,7 @@ public final class SpringClassLoader
 				component, inJar[0], this._machineRef);
 			
 			// Store for later use
-			synchronized (this)
-			{
-				classes.put(__cn, rv);
-			}
+			classes.put(__cn, rv);
 			
 			return rv;
 		}
@@ -241,8 +251,24 @@ public final class SpringClassLoader
 		
 		// Otherwise we need to go through every single binary to find
 		// the class we want, which can take awhile
+		VMClassLibrary[] classpath = this._classpath;
+		String[] cacheKeys = this._cacheKeys;
 		byte[] data = null;
-		for (VMClassLibrary b : this._classpath)
+		String dataKey = null;
+		for (int i = 0, n = classpath.length; i < n; i++)
+		{
+			VMClassLibrary b = classpath[i];
+			
+			// If another machine has decoded this class, use that
+			ClassFile cached = SpringClassFileCache.get(cacheKeys[i], __cn);
+			if (cached != null)
+			{
+				if (__ij != null && __ij.length > 0)
+					__ij[0] = b;
+				
+				return cached;
+			}
+			
 			try (InputStream in = b.resourceAsStream(fileform))
 			{
 				// Class or file does not exist
@@ -251,6 +277,7 @@ public final class SpringClassLoader
 				
 				// Read in the data
 				data = StreamUtils.readAll(in);
+				dataKey = cacheKeys[i];
 				
 				// Record the binary
 				if (__ij != null && __ij.length > 0)
@@ -264,6 +291,7 @@ public final class SpringClassLoader
 				// path.}
 				throw new SpringException("BK13", e);
 			}
+		}
 		
 		// {@squirreljme.error BK14 Could not locate the specified class.
 		// (The class which was not found; The class file which was
@@ -272,11 +300,12 @@ public final class SpringClassLoader
 			throw new SpringClassNotFoundException(__cn, String.format(
 				"BK14 %s %s", __cn, fileform));
 		
-		// Decode class file
-		ClassFile cf;
+		// Decode class file, it is then shared with other machines
 		try (ByteArrayInputStream bais = new ByteArrayInputStream(data))
 		{
-			return ClassFile.decode(bais);
+			ClassFile rv = ClassFile.decode(bais);
+			SpringClassFileCache.put(dataKey, __cn, rv);
+			return rv;
 		}
 		catch (IOException e)
 		{
@@ -302,12 +331,8 @@ public final class SpringClassLoader
 	 */
 	public final SpringClass[] loadedClasses()
 	{
-		synchronized (this)
-		{
-			Collection<SpringClass> classes = this._classes.values();
-			return classes.<SpringClass>toArray(
-				new SpringClass[classes.size()]);
-		}
+		Collection<SpringClass> classes = this._classes.values();
+		return classes.<SpringClass>toArray(new SpringClass[0]);
 	}
 	
 	/**
@@ -50,7 +50,8 @@ public class SpringCoatFactory
 		throws IllegalArgumentException, NullPointerException, VMException
 	{
 		// Setup the main task manager which runs everything
-		SpringTaskManager tm = new SpringTaskManager(__sm, __ps);
+		SpringTaskManager tm = new SpringTaskManager(__sm, __ps,
+			__threadModel);
 		
 		// Bind this to the task manager which is the pure global state
 		if (__jdwp != null)
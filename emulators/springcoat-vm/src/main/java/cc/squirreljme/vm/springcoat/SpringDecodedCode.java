@@ -0,0 +1,186 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.vm.springcoat;
+
+import net.multiphasicapps.classfile.ByteCode;
+import net.multiphasicapps.classfile.Instruction;
+import net.multiphasicapps.classfile.InstructionJumpTarget;
+import net.multiphasicapps.classfile.InvalidClassFormatException;
+
+/**
+ * This is the pre-decoded form of the byte code of a method, it is built
+ * once when the method is first executed so that the interpreter does not
+ * need to decode instructions and their operands on every single step.
+ *
+ * All of the tables are indexed by the address of the instruction, addresses
+ * which are not the start of an instruction have no operation.
+ *
+ * Resolved operands (classes, fields, methods, and constants) are filled in
+ * by the interpreter the first time an instruction successfully executes,
+ * since these are always resolved in the context of the class the method is
+ * in they never change afterwards.
+ *
+ * @since 2026/10/18
+ */
+public final class SpringDecodedCode
+{
+	/** Indicates that there is no instruction at the given address. */
+	public static final int NO_OPERATION =
+		-1;
+	
+	/** The byte code this was decoded from. */
+	protected final ByteCode code;
+	
+	/** Is this a static initializer? */
+	protected final boolean isStaticInitializer;
+	
+	/** Is this an instance initializer? */
+	protected final boolean isInstanceInitializer;
+	
+	/**
+	 * Is this code in a class which uses the context of its caller? If so
+	 * then resolved operands cannot be kept since access checks vary.
+	 */
+	protected final boolean isContextual;
+	
+	/** Decoded instructions. */
+	final Instruction[] _instructions;
+	
+	/** The operation of each instruction. */
+	final int[] _operations;
+	
+	/** The address of the instruction which follows. */
+	final int[] _nextPc;
+	
+	/** The first integer operand, local index, value, or jump target. */
+	final int[] _intArgA;
+	
+	/** The second integer operand, such as the increment or dimensions. */
+	final int[] _intArgB;
+	
+	/** The first resolved operand, filled in on first execution. */
+	final Object[] _resolvedA;
+	
+	/** The second resolved operand, filled in on first execution. */
+	final Object[] _resolvedB;
+	
+	/**
+	 * Decodes the given method.
+	 *
+	 * @param __m The method to decode.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	SpringDecodedCode(SpringMethod __m)
+		throws NullPointerException
+	{
+		if (__m == null)
+			throw new NullPointerException("NARG");
+		
+		ByteCode code = __m.byteCode();
+		this.code = code;
+		this.isStaticInitializer = __m.isStaticInitializer();
+		this.isInstanceInitializer = __m.isInstanceInitializer();
+		this.isContextual = __m.inClass().toString().startsWith(
+			"cc/squirreljme/runtime/cldc/asm/");
+		
+		// Setup tables
+		int codeLen = code.length();
+		Instruction[] instructions = new Instruction[codeLen];
+		int[] operations = new int[codeLen];
+		int[] nextPc = new int[codeLen];
+		int[] intArgA = new int[codeLen];
+		int[] intArgB = new int[codeLen];
+		
+		// Nothing is valid until it is decoded
+		for (int i = 0; i < codeLen; i++)
+			operations[i] = SpringDecodedCode.NO_OPERATION;
+		
+		// Decode every instruction within the method
+		for (int pc : code.validAddresses())
+		{
+			// If an instruction cannot be decoded then it is left as is, this
+			// way if it is executed the error is raised at that point
+			Instruction inst;
+			try
+			{
+				inst = code.getByAddress(pc);
+			}
+			catch (InvalidClassFormatException ignored)
+			{
+				continue;
+			}
+			
+			instructions[pc] = inst;
+			operations[pc] = inst.operation();
+			nextPc[pc] = code.addressFollowing(pc);
+			
+			// Extract integer operands, these are always the same
+			int count = inst.count();
+			if (count >= 1)
+			{
+				Object a = inst.argument(0, Object.class);
+				if (a instanceof Integer)
+					intArgA[pc] = (Integer)a;
+				else if (a instanceof InstructionJumpTarget)
+					intArgA[pc] = ((InstructionJumpTarget)a).target();
+			}
+			if (count >= 2)
+			{
+				Object b = inst.argument(1, Object.class);
+				if (b instanceof Integer)
+					intArgB[pc] = (Integer)b;
+			}
+		}
+		
+		this._instructions = instructions;
+		this._operations = operations;
+		this._nextPc = nextPc;
+		this._intArgA = intArgA;
+		this._intArgB = intArgB;
+		this._resolvedA = new Object[codeLen];
+		this._resolvedB = new Object[codeLen];
+	}
+	
+	/**
+	 * Returns the byte code this was decoded from.
+	 *
+	 * @return The byte code.
+	 * @since 2026/10/18
+	 */
+	public final ByteCode byteCode()
+	{
+		return this.code;
+	}
+	
+	/**
+	 * Returns the instruction at the given address.
+	 *
+	 * @param __pc The address to get.
+	 * @return The instruction at this address.
+	 * @throws InvalidClassFormatException If there is no valid instruction
+	 * here.
+	 * @since 2026/10/18
+	 */
+	public final Instruction instruction(int __pc)
+		throws InvalidClassFormatException
+	{
+		Instruction[] instructions = this._instructions;
+		if (__pc >= 0 && __pc < instructions.length)
+		{
+			Instruction rv = instructions[__pc];
+			if (rv != null)
+				return rv;
+		}
+		
+		// This will fail with the appropriate error
+		return this.code.getByAddress(__pc);
+	}
+}
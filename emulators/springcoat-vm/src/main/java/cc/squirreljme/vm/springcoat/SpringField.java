@@ -37,6 +37,15 @@ public final class SpringField
 	/** Are we watching reads? */
 	volatile boolean _watchRead;
 	
+	/** The type of slot the field is stored in, for instance fields. */
+	byte _slotType;
+	
+	/** The slot the field is stored in, for instance fields. */
+	int _slot;
+	
+	/** Is this field final? */
+	boolean _isFinal;
+	
 	/**
 	 * Initializes the field.
 	 *
@@ -0,0 +1,199 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.vm.springcoat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.multiphasicapps.classfile.ConstantValue;
+
+/**
+ * This is the layout of the instance fields of a class, integer and float
+ * fields are packed into an {@code int[]}, long and double fields into a
+ * {@code long[]}, and references into an {@code Object[]}. This way objects
+ * do not need a separate storage object for every field and primitive
+ * values are not boxed.
+ *
+ * Volatile fields are kept in their own {@link SpringFieldStorage} so that
+ * reads and writes to them remain volatile.
+ *
+ * The layout of a class always starts with the layout of its super class so
+ * the slot of a field is the same in every sub-class.
+ *
+ * @since 2026/10/18
+ */
+public final class SpringFieldLayout
+{
+	/** Integer slot, also used for boolean, byte, short, and char. */
+	public static final byte TYPE_INTEGER =
+		0;
+	
+	/** Float slot, stored in the integer slots as raw bits. */
+	public static final byte TYPE_FLOAT =
+		1;
+	
+	/** Long slot. */
+	public static final byte TYPE_LONG =
+		2;
+	
+	/** Double slot, stored in the long slots as raw bits. */
+	public static final byte TYPE_DOUBLE =
+		3;
+	
+	/** Object slot. */
+	public static final byte TYPE_OBJECT =
+		4;
+	
+	/** Volatile field, which has its own storage. */
+	public static final byte TYPE_VOLATILE =
+		5;
+	
+	/** Initial values of integer slots. */
+	final int[] _intTemplate;
+	
+	/** Initial values of long slots. */
+	final long[] _longTemplate;
+	
+	/** Initial values of object slots. */
+	final Object[] _objectTemplate;
+	
+	/** Volatile fields, which each get their own storage. */
+	final SpringField[] _volatiles;
+	
+	/**
+	 * Initializes the field layout.
+	 *
+	 * @param __super The layout of the super class, may be {@code null}.
+	 * @param __fields The instance fields declared in the class.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	SpringFieldLayout(SpringFieldLayout __super, List<SpringField> __fields)
+		throws NullPointerException
+	{
+		if (__fields == null)
+			throw new NullPointerException("NARG");
+		
+		// Count how many slots of each kind are needed
+		int numInts = 0;
+		int numLongs = 0;
+		int numObjects = 0;
+		for (SpringField f : __fields)
+			if (!f.flags().isVolatile())
+				switch (f.nameAndType().type().simpleStorageType())
+				{
+					case INTEGER:
+					case FLOAT:
+						numInts++;
+						break;
+					
+					case LONG:
+					case DOUBLE:
+						numLongs++;
+						break;
+					
+					default:
+						numObjects++;
+						break;
+				}
+		
+		// Our slots go after the super class slots
+		int baseInts = (__super == null ? 0 : __super._intTemplate.length);
+		int baseLongs = (__super == null ? 0 : __super._longTemplate.length);
+		int baseObjects = (__super == null ? 0 :
+			__super._objectTemplate.length);
+		int[] ints = (__super == null ? new int[numInts] :
+			Arrays.copyOf(__super._intTemplate, baseInts + numInts));
+		long[] longs = (__super == null ? new long[numLongs] :
+			Arrays.copyOf(__super._longTemplate, baseLongs + numLongs));
+		Object[] objects = (__super == null ? new Object[numObjects] :
+			Arrays.copyOf(__super._objectTemplate, baseObjects + numObjects));
+		List<SpringField> volatiles = new ArrayList<>();
+		if (__super != null)
+			volatiles.addAll(Arrays.asList(__super._volatiles));
+		
+		// Objects are initially null
+		for (int i = baseObjects, n = objects.length; i < n; i++)
+			objects[i] = SpringNullObject.NULL;
+		
+		// Place every field
+		int atInt = baseInts;
+		int atLong = baseLongs;
+		int atObject = baseObjects;
+		for (SpringField f : __fields)
+		{
+			f._isFinal = f.flags().isFinal();
+			
+			// Volatile fields need their own storage
+			if (f.flags().isVolatile())
+			{
+				f._slotType = SpringFieldLayout.TYPE_VOLATILE;
+				f._slot = volatiles.size();
+				volatiles.add(f);
+				continue;
+			}
+			
+			// If the field starts with a constant, it must be initialized
+			ConstantValue cv = f.field.constantValue();
+			Object init = (cv == null ? null : cv.boxedValue());
+			
+			switch (f.nameAndType().type().simpleStorageType())
+			{
+				case INTEGER:
+					f._slotType = SpringFieldLayout.TYPE_INTEGER;
+					f._slot = atInt;
+					if (init != null)
+						ints[atInt] = ((Number)init).intValue();
+					atInt++;
+					break;
+				
+				case FLOAT:
+					f._slotType = SpringFieldLayout.TYPE_FLOAT;
+					f._slot = atInt;
+					if (init != null)
+						ints[atInt] = Float.floatToRawIntBits(
+							((Number)init).floatValue());
+					atInt++;
+					break;
+				
+				case LONG:
+					f._slotType = SpringFieldLayout.TYPE_LONG;
+					f._slot = atLong;
+					if (init != null)
+						longs[atLong] = ((Number)init).longValue();
+					atLong++;
+					break;
+				
+				case DOUBLE:
+					f._slotType = SpringFieldLayout.TYPE_DOUBLE;
+					f._slot = atLong;
+					if (init != null)
+						longs[atLong] = Double.doubleToRawLongBits(
+							((Number)init).doubleValue());
+					atLong++;
+					break;
+				
+				default:
+					f._slotType = SpringFieldLayout.TYPE_OBJECT;
+					f._slot = atObject;
+					if (init != null)
+						objects[atObject] = init;
+					atObject++;
+					break;
+			}
+		}
+		
+		this._intTemplate = ints;
+		this._longTemplate = longs;
+		this._objectTemplate = objects;
+		this._volatiles = volatiles.<SpringField>toArray(
+			new SpringField[volatiles.size()]);
+	}
+}
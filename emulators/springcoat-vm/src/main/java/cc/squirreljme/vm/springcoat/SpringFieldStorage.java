@@ -37,6 +37,12 @@ public final class SpringFieldStorage
 	/** The field index. */
 	protected final int fieldIndex;
 	
+	/** The object the field is in, if this accesses an instance field. */
+	private final SpringSimpleObject _object;
+	
+	/** The instance field which is accessed in the object. */
+	private final SpringField _field;
+	
 	/** The value of the field. */
 	private Object _normal;
 	
@@ -57,6 +63,10 @@ public final class SpringFieldStorage
 		if (__f == null)
 			throw new NullPointerException("NARG");
 		
+		// This has its own value
+		this._object = null;
+		this._field = null;
+		
 		// Used for debug
 		FieldNameAndType nameandtype;
 		this.fieldIndex = __fieldDx;
@@ -106,6 +116,31 @@ public final class SpringFieldStorage
 		this.isfinal = __f.flags().isFinal();
 	}
 	
+	/**
+	 * Initializes storage which accesses an instance field that is stored
+	 * within the given object.
+	 *
+	 * @param __o The object the field is in.
+	 * @param __f The field to access.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	SpringFieldStorage(SpringSimpleObject __o, SpringField __f)
+		throws NullPointerException
+	{
+		if (__o == null || __f == null)
+			throw new NullPointerException("NARG");
+		
+		this._object = __o;
+		this._field = __f;
+		
+		this.fieldIndex = __f.index;
+		this.inclass = __f.inClass();
+		this.nameandtype = __f.nameAndType();
+		this.isvolatile = __f.flags().isVolatile();
+		this.isfinal = __f.flags().isFinal();
+	}
+	
 	/**
 	 * Returns the value of the field.
 	 *
@@ -114,6 +149,11 @@ public final class SpringFieldStorage
 	 */
 	public final Object get()
 	{
+		// The value is stored in an object
+		SpringSimpleObject object = this._object;
+		if (object != null)
+			return object.fieldGet(this._field);
+		
 		// Volatile field, use volatile field instead
 		// Otherwise just set thread without worrying about any contention
 		return (this.isvolatile ? this._volatile : this._normal);
@@ -153,6 +193,14 @@ public final class SpringFieldStorage
 		/*todo.DEBUG.note("%s::%s = %s", this.inclass, this.nameandtype,
 			__v);*/
 		
+		// The value is stored in an object
+		SpringSimpleObject object = this._object;
+		if (object != null)
+		{
+			object.fieldSet(this._field, __v, __writeFinal);
+			return;
+		}
+		
 		// {@squirreljme.error BK18 Attempt to write to final field.}
 		if (this.isfinal && !__writeFinal)
 			throw new SpringIllegalAccessException("BK18");
@@ -0,0 +1,193 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.vm.springcoat;
+
+import cc.squirreljme.vm.springcoat.exceptions.SpringIncompatibleClassChangeException;
+import cc.squirreljme.vm.springcoat.exceptions.SpringNoSuchMethodException;
+import net.multiphasicapps.classfile.MethodNameAndType;
+
+/**
+ * This is an inline cache for a single virtual or interface call site, it
+ * remembers the target method for the last few receiver classes so that a
+ * call which has been made before only needs to check the class of the
+ * object being called.
+ *
+ * If there are more receiver classes than can be cached then the call site
+ * is considered megamorphic and the virtual or interface table of the
+ * receiver class is used instead.
+ *
+ * @since 2026/10/18
+ */
+public final class SpringInlineCache
+{
+	/** The maximum number of receiver classes to cache. */
+	public static final int MAX_RECEIVERS =
+		4;
+	
+	/** The class which was referenced. */
+	protected final SpringClass refClass;
+	
+	/** The method which was referenced. */
+	protected final SpringMethod refMethod;
+	
+	/** The name and type of the method. */
+	protected final MethodNameAndType nameAndType;
+	
+	/** The number of arguments, including the instance. */
+	protected final int argCount;
+	
+	/** Is this an interface call? */
+	protected final boolean isInterface;
+	
+	/** The slot of the method in the reference class. */
+	protected final int slot;
+	
+	/**
+	 * Receiver classes and their target methods, alternating between them.
+	 * This array is replaced and never modified so that it is always valid
+	 * for other threads.
+	 */
+	private volatile Object[] _entries =
+		new Object[0];
+	
+	/**
+	 * Initializes the inline cache.
+	 *
+	 * @param __refClass The class which was referenced.
+	 * @param __refMethod The method which was referenced.
+	 * @param __isInterface Is this an interface call?
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public SpringInlineCache(SpringClass __refClass, SpringMethod __refMethod,
+		boolean __isInterface)
+		throws NullPointerException
+	{
+		if (__refClass == null || __refMethod == null)
+			throw new NullPointerException("NARG");
+		
+		MethodNameAndType nat = __refMethod.nameAndType();
+		
+		this.refClass = __refClass;
+		this.refMethod = __refMethod;
+		this.nameAndType = nat;
+		this.argCount = nat.type().argumentCount() + 1;
+		this.isInterface = __isInterface;
+		this.slot = __refClass.virtualSlot(nat);
+	}
+	
+	/**
+	 * Returns the number of arguments the call uses, this includes the
+	 * instance.
+	 *
+	 * @return The argument count.
+	 * @since 2026/10/18
+	 */
+	public final int argumentCount()
+	{
+		return this.argCount;
+	}
+	
+	/**
+	 * Returns the method which is to be called for the given receiver class.
+	 *
+	 * @param __cl The class of the object being called.
+	 * @return The method to call, or {@code null} if this is an interface
+	 * call and the class does not implement the interface.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringIncompatibleClassChangeException If the target method
+	 * is static.
+	 * @throws SpringNoSuchMethodException If no method exists.
+	 * @since 2026/10/18
+	 */
+	public final SpringMethod lookup(SpringClass __cl)
+		throws NullPointerException, SpringIncompatibleClassChangeException,
+			SpringNoSuchMethodException
+	{
+		if (__cl == null)
+			throw new NullPointerException("NARG");
+		
+		// Is this a receiver class which has been seen before?
+		Object[] entries = this._entries;
+		int n = entries.length;
+		for (int i = 0; i < n; i += 2)
+			if (entries[i] == __cl)
+				return (SpringMethod)entries[i + 1];
+		
+		// The class must implement the interface, this only needs to be
+		// checked once since afterwards the class will be cached
+		if (this.isInterface && !this.refClass.isAssignableFrom(__cl))
+			return null;
+		
+		// Use the table of the receiver class to find the method
+		SpringMethod rv = this.__lookupTable(__cl);
+		
+		// Remember this class unless this call site is megamorphic
+		if (n < SpringInlineCache.MAX_RECEIVERS * 2)
+		{
+			Object[] grow = new Object[n + 2];
+			System.arraycopy(entries, 0, grow, 0, n);
+			grow[n] = __cl;
+			grow[n + 1] = rv;
+			
+			this._entries = grow;
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * Returns the method which was referenced.
+	 *
+	 * @return The referenced method.
+	 * @since 2026/10/18
+	 */
+	public final SpringMethod refMethod()
+	{
+		return this.refMethod;
+	}
+	
+	/**
+	 * Looks up the method for the given class using its virtual or interface
+	 * table.
+	 *
+	 * @param __cl The receiver class.
+	 * @return The method to call.
+	 * @throws SpringIncompatibleClassChangeException If the target method
+	 * is static.
+	 * @throws SpringNoSuchMethodException If no method exists.
+	 * @since 2026/10/18
+	 */
+	private SpringMethod __lookupTable(SpringClass __cl)
+		throws SpringIncompatibleClassChangeException,
+			SpringNoSuchMethodException
+	{
+		int slot = this.slot;
+		MethodNameAndType nat = this.nameAndType;
+		
+		SpringMethod rv;
+		if (slot < 0)
+			rv = null;
+		else if (this.isInterface)
+		{
+			SpringMethod[] iTable = __cl.interfaceTable(this.refClass);
+			rv = (slot < iTable.length ? iTable[slot] : null);
+		}
+		else
+			rv = __cl.virtualMethod(slot);
+		
+		// If the slot does not contain the method, as the class may not
+		// actually extend the reference class, or the method is not valid to
+		// call then the normal lookup will find it or fail appropriately
+		if (rv == null || rv.isStatic() || !nat.equals(rv.nameAndType()))
+			return __cl.lookupMethod(false, nat);
+		return rv;
+	}
+}
@@ -236,6 +236,7 @@ public final class SpringMachine
 				usedName,
 				this.profiler.measureThread(String.format("VM_%s-%d-%s",
 				this.vmId, v, usedName)));
+			rv._scheduler = this.tasks.scheduler;
 			
 			// Signal that a major state has changed
 			this.notifyAll();
@@ -272,6 +273,11 @@ public final class SpringMachine
 	public final void exitCheck()
 		throws SpringMachineExitException
 	{
+		// This is checked before every instruction, so only lock when it is
+		// known that we are exiting
+		if (!this._exiting)
+			return;
+		
 		synchronized (this)
 		{
 			// Only if exiting
@@ -615,6 +621,13 @@ public final class SpringMachine
 			
 			return SpringMachine.EXIT_CODE_FATAL_EXCEPTION;
 		}
+		
+		// Report how often the shelf functions were called, if requested
+		finally
+		{
+			if (MLEBoundFunction.COUNT_CALLS)
+				MLEDispatcher.reportCallCounts(System.err);
+		}
 	}
 	
 	/**
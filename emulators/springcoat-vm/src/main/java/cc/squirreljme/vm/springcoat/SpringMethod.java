@@ -45,6 +45,15 @@ public final class SpringMethod
 	/** The method index. */
 	protected final int methodIndex;
 	
+	/** The pre-decoded code of the method, built on first execution. */
+	private volatile SpringDecodedCode _decoded;
+	
+	/** The class this method is declared in, set when the class is made. */
+	SpringClass _springClass;
+	
+	/** The bound target of a native method, set on the first call. */
+	MLEDispatcherTarget _nativeTarget;
+	
 	/**
 	 * Initializes the method representation.
 	 *
@@ -78,6 +87,24 @@ public final class SpringMethod
 		return this.method.byteCode();
 	}
 	
+	/**
+	 * Returns the pre-decoded code of the method, it is decoded when this is
+	 * first called.
+	 *
+	 * @return The pre-decoded method code.
+	 * @since 2026/10/18
+	 */
+	public final SpringDecodedCode decodedCode()
+	{
+		// If two threads race here they will both decode the same code, which
+		// is harmless
+		SpringDecodedCode rv = this._decoded;
+		if (rv == null)
+			this._decoded = (rv = new SpringDecodedCode(this));
+		
+		return rv;
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2018/09/09
@@ -328,6 +328,12 @@ public final class SpringMonitor
 			// Set as waiting
 			__thread.setStatus(ThreadStatusType.MONITOR_WAIT);
 			
+			// Let other threads run while this one is blocked, it will wait
+			// for its turn again on its next instruction
+			SpringScheduler scheduler = __thread._scheduler;
+			if (scheduler != null)
+				scheduler.release(__thread);
+			
 			// Do not count CPU time
 			if (profiler != null)
 				profiler.sleep(true, System.nanoTime());
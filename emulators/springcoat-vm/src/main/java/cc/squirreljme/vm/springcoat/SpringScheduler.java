@@ -0,0 +1,315 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.vm.springcoat;
+
+import java.util.LinkedList;
+
+/**
+ * This is the scheduler which is used for the single cooperative thread
+ * model, only one thread may execute byte code at a time.
+ *
+ * Threads take turns executing and the turn only changes hands at defined
+ * points, so that runs are reproducible:
+ *
+ * - When a thread has executed a number of instructions.
+ * - When a thread enters a native method, it takes its place at the end of
+ *   the queue of waiting threads as it enters. Native methods which may
+ *   block on other threads do not keep their place and instead wait for a
+ *   new turn when they leave.
+ * - When a thread blocks on a monitor, waits, sleeps, is suspended by the
+ *   debugger, or finishes.
+ *
+ * A thread which holds the class loading lock keeps its turn at the first
+ * two points, since it may be running a static initializer or interning a
+ * string and any other thread which needs the lock would never give up its
+ * turn.
+ *
+ * Threads which are waiting for their turn are run in the order they
+ * started waiting, a thread which is started waits behind the threads that
+ * are already waiting. Since the order does not depend on how long natives
+ * take to run, threads which yield to each other run in the same order
+ * every time.
+ *
+ * @since 2026/10/18
+ */
+public final class SpringScheduler
+{
+	/** The number of instructions a thread executes before switching. */
+	public static final int TIME_SLICE =
+		16384;
+	
+	/** Threads which are waiting for their turn, in order. */
+	private final LinkedList<SpringThread> _waiting =
+		new LinkedList<>();
+	
+	/** The thread which currently has its turn. */
+	private volatile SpringThread _current;
+	
+	/** The instructions remaining for the current thread. */
+	private int _budget;
+	
+	/**
+	 * Places a thread which is about to be started in the queue of threads
+	 * that are waiting for their turn.
+	 *
+	 * @param __thread The thread being started.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final void admit(SpringThread __thread)
+		throws NullPointerException
+	{
+		if (__thread == null)
+			throw new NullPointerException("NARG");
+		
+		synchronized (this)
+		{
+			LinkedList<SpringThread> waiting = this._waiting;
+			if (!waiting.contains(__thread))
+				waiting.addLast(__thread);
+		}
+	}
+	
+	/**
+	 * Called before the given thread executes an instruction, this waits
+	 * until it is the turn of the thread.
+	 *
+	 * @param __thread The thread executing an instruction.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final void checkpoint(SpringThread __thread)
+		throws NullPointerException
+	{
+		if (__thread == null)
+			throw new NullPointerException("NARG");
+		
+		// Still our turn, note that the budget is only ever touched by the
+		// thread which has its turn
+		if (this._current == __thread && --this._budget > 0)
+			return;
+		
+		synchronized (this)
+		{
+			// If this thread has its turn, then its turn has run out
+			if (this._current == __thread)
+			{
+				// Nobody else wants a turn or another thread cannot run
+				// anyway, so keep going
+				if (this._waiting.isEmpty() ||
+					SpringScheduler.__pinned(__thread))
+				{
+					this._budget = SpringScheduler.TIME_SLICE;
+					return;
+				}
+				
+				// Let the next thread go
+				this.__pass();
+			}
+			
+			// Wait for our turn
+			this.__await(__thread);
+		}
+	}
+	
+	/**
+	 * Removes a thread which was admitted but could not be started.
+	 *
+	 * @param __thread The thread which could not be started.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final void dismiss(SpringThread __thread)
+		throws NullPointerException
+	{
+		if (__thread == null)
+			throw new NullPointerException("NARG");
+		
+		synchronized (this)
+		{
+			if (this._waiting.remove(__thread))
+				this.notifyAll();
+		}
+	}
+	
+	/**
+	 * Called when a thread enters a native method, the thread gives up its
+	 * turn to the next waiting thread.
+	 *
+	 * @param __thread The thread entering the native method.
+	 * @param __blocking If the native method may block on other threads,
+	 * if so then the thread does not keep its place in the queue.
+	 * @return If the thread gave up its turn, this must be passed to
+	 * {@link #nativeExit(SpringThread, boolean)}.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final boolean nativeEnter(SpringThread __thread,
+		boolean __blocking)
+		throws NullPointerException
+	{
+		if (__thread == null)
+			throw new NullPointerException("NARG");
+		
+		synchronized (this)
+		{
+			if (this._current != __thread ||
+				SpringScheduler.__pinned(__thread))
+				return false;
+			
+			// Keep our place in line so the order does not depend on how
+			// long the native method takes
+			if (!__blocking)
+				this._waiting.addLast(__thread);
+			
+			this.__pass();
+			return true;
+		}
+	}
+	
+	/**
+	 * Called when a thread leaves a native method, this waits until it is
+	 * the turn of the thread again.
+	 *
+	 * @param __thread The thread leaving the native method.
+	 * @param __gaveUp The value returned from
+	 * {@link #nativeEnter(SpringThread)}.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final void nativeExit(SpringThread __thread, boolean __gaveUp)
+		throws NullPointerException
+	{
+		if (__thread == null)
+			throw new NullPointerException("NARG");
+		
+		// The thread may have taken a turn again if the native method
+		// executed byte code
+		if (__gaveUp)
+			synchronized (this)
+			{
+				if (this._current != __thread)
+					this.__await(__thread);
+			}
+	}
+	
+	/**
+	 * Ends the turn of the given thread, this is called when a thread is
+	 * about to block or has finished executing. If the thread is within a
+	 * native method then it gives up its place in the queue, so that other
+	 * threads may run while it blocks.
+	 *
+	 * @param __thread The thread ending its turn.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final void release(SpringThread __thread)
+		throws NullPointerException
+	{
+		if (__thread == null)
+			throw new NullPointerException("NARG");
+		
+		synchronized (this)
+		{
+			if (this._current == __thread)
+				this.__pass();
+			else if (this._waiting.remove(__thread))
+				this.notifyAll();
+		}
+	}
+	
+	/**
+	 * Ends the turn of the given thread, if there are other threads waiting
+	 * then they will run first.
+	 *
+	 * @param __thread The thread yielding.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final void yield(SpringThread __thread)
+		throws NullPointerException
+	{
+		if (__thread == null)
+			throw new NullPointerException("NARG");
+		
+		synchronized (this)
+		{
+			if (this._current == __thread && !this._waiting.isEmpty())
+			{
+				this.__pass();
+				this.__await(__thread);
+			}
+		}
+	}
+	
+	/**
+	 * Waits until it is the turn of the given thread, the lock must be
+	 * held.
+	 *
+	 * @param __thread The thread to wait for.
+	 * @since 2026/10/18
+	 */
+	private void __await(SpringThread __thread)
+	{
+		// Started threads are already waiting
+		LinkedList<SpringThread> waiting = this._waiting;
+		if (!waiting.contains(__thread))
+			waiting.addLast(__thread);
+		
+		// Wait until nobody has a turn and this is the next thread
+		boolean interrupted = false;
+		while (this._current != null || waiting.peekFirst() != __thread)
+			try
+			{
+				this.wait();
+			}
+			catch (InterruptedException e)
+			{
+				interrupted = true;
+			}
+		
+		// It is now our turn
+		waiting.removeFirst();
+		this._current = __thread;
+		this._budget = SpringScheduler.TIME_SLICE;
+		
+		// Interrupts are for the thread and not the scheduler, so they must
+		// be kept
+		if (interrupted)
+			Thread.currentThread().interrupt();
+	}
+	
+	/**
+	 * Checks whether the given thread must keep its turn because it holds
+	 * the class loading lock.
+	 *
+	 * @param __thread The thread to check.
+	 * @return If the thread must keep its turn.
+	 * @since 2026/10/18
+	 */
+	private static boolean __pinned(SpringThread __thread)
+	{
+		SpringMachine machine = __thread.machineRef.get();
+		return machine != null &&
+			Thread.holdsLock(machine.classLoader().classLoadingLock());
+	}
+	
+	/**
+	 * Passes the turn to the next thread, the lock must be held.
+	 *
+	 * @since 2026/10/18
+	 */
+	private void __pass()
+	{
+		this._current = null;
+		
+		this.notifyAll();
+	}
+}
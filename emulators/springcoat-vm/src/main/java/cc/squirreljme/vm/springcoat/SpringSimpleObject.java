@@ -10,6 +10,7 @@
 package cc.squirreljme.vm.springcoat;
 
 import cc.squirreljme.vm.springcoat.brackets.RefLinkHolder;
+import cc.squirreljme.vm.springcoat.exceptions.SpringIllegalAccessException;
 import cc.squirreljme.vm.springcoat.exceptions.SpringVirtualMachineException;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
@@ -33,8 +34,23 @@ public final class SpringSimpleObject
 	protected final RefLinkHolder refLink =
 		new RefLinkHolder();
 	
-	/** Field storage in the class. */
-	final SpringFieldStorage[] _fields;
+	/** The instance fields of the class. */
+	final SpringField[] _fieldTable;
+	
+	/** Integer and float fields. */
+	final int[] _ints;
+	
+	/** Long and double fields. */
+	final long[] _longs;
+	
+	/** Reference fields. */
+	final Object[] _objects;
+	
+	/** Volatile fields, these have their own storage. */
+	final SpringFieldStorage[] _volatiles;
+	
+	/** Storage which accesses the fields of this object, created on use. */
+	private SpringFieldStorage[] _storages;
 	
 	/** String representation. */
 	private Reference<String> _string;
@@ -53,20 +69,26 @@ public final class SpringSimpleObject
 			throw new NullPointerException("NARG");
 		
 		this.type = __cl;
+		this._fieldTable = __cl._fieldtable;
 		
-		// Setup field array
-		int n;
-		SpringFieldStorage[] fields;
-		this._fields = (fields =
-			new SpringFieldStorage[(n = __cl.instanceFieldCount())]);
+		// Fields start with the initial values of the class layout, empty
+		// arrays do not need to be copied
+		SpringFieldLayout layout = __cl._fieldLayout;
+		int[] ints = layout._intTemplate;
+		long[] longs = layout._longTemplate;
+		Object[] objects = layout._objectTemplate;
+		this._ints = (ints.length == 0 ? ints : ints.clone());
+		this._longs = (longs.length == 0 ? longs : longs.clone());
+		this._objects = (objects.length == 0 ? objects : objects.clone());
 		
-		// Initialize variable for all fields
-		int i = 0;
-		for (SpringField f : __cl.fieldTable())
-		{
-			int thisDx = i++;
-			fields[thisDx] = new SpringFieldStorage(f, f.index);
-		}
+		// Volatile fields need their own storage
+		SpringField[] volatileFields = layout._volatiles;
+		int n = volatileFields.length;
+		SpringFieldStorage[] volatiles = new SpringFieldStorage[n];
+		for (int i = 0; i < n; i++)
+			volatiles[i] = new SpringFieldStorage(volatileFields[i],
+				volatileFields[i].index);
+		this._volatiles = volatiles;
 	}
 	
 	/**
@@ -95,15 +117,531 @@ public final class SpringSimpleObject
 	 */
 	public final SpringFieldStorage fieldByIndex(int __dx)
 	{
+		SpringField field;
 		try
 		{
-			return this._fields[__dx];
+			field = this._fieldTable[__dx];
 		}
 		catch (IndexOutOfBoundsException e)
 		{
 			throw new SpringVirtualMachineException(
 				"Invalid field index: " + __dx, e);
 		}
+		
+		// Volatile fields already have storage
+		if (field._slotType == SpringFieldLayout.TYPE_VOLATILE)
+			return this._volatiles[field._slot];
+		
+		// Otherwise the storage accesses the value in this object, it is
+		// only created when it is first asked for
+		SpringFieldStorage[] storages = this._storages;
+		if (storages == null)
+			this._storages = (storages =
+				new SpringFieldStorage[this._fieldTable.length]);
+		
+		SpringFieldStorage rv = storages[__dx];
+		if (rv == null)
+			storages[__dx] = (rv = new SpringFieldStorage(this, field));
+		return rv;
+	}
+	
+	/**
+	 * Returns the value of the given field.
+	 *
+	 * @param __f The field to get.
+	 * @return The value of the field.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringVirtualMachineException If the field is not within this
+	 * object.
+	 * @since 2026/10/18
+	 */
+	public final Object fieldGet(SpringField __f)
+		throws NullPointerException, SpringVirtualMachineException
+	{
+		if (__f == null)
+			throw new NullPointerException("NARG");
+		
+		switch (__f._slotType)
+		{
+			case SpringFieldLayout.TYPE_INTEGER:
+				return this.fieldGetInt(__f);
+			
+			case SpringFieldLayout.TYPE_FLOAT:
+				return this.fieldGetFloat(__f);
+			
+			case SpringFieldLayout.TYPE_LONG:
+				return this.fieldGetLong(__f);
+			
+			case SpringFieldLayout.TYPE_DOUBLE:
+				return this.fieldGetDouble(__f);
+			
+			case SpringFieldLayout.TYPE_OBJECT:
+				return this.fieldGetObject(__f);
+			
+			default:
+				return this.__volatile(__f).get();
+		}
+	}
+	
+	/**
+	 * Returns the value of the given double field.
+	 *
+	 * @param __f The field to get.
+	 * @return The value of the field.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringVirtualMachineException If the field is not within this
+	 * object or is not a double.
+	 * @since 2026/10/18
+	 */
+	public final double fieldGetDouble(SpringField __f)
+		throws NullPointerException, SpringVirtualMachineException
+	{
+		if (__f == null)
+			throw new NullPointerException("NARG");
+		
+		switch (__f._slotType)
+		{
+			case SpringFieldLayout.TYPE_DOUBLE:
+				try
+				{
+					return Double.longBitsToDouble(this._longs[__f._slot]);
+				}
+				catch (IndexOutOfBoundsException e)
+				{
+					throw SpringSimpleObject.__invalid(__f, e);
+				}
+			
+			case SpringFieldLayout.TYPE_VOLATILE:
+				return SpringSimpleObject.<Double>__unbox(__f, Double.class,
+					this.__volatile(__f).get());
+			
+			default:
+				throw SpringSimpleObject.__wrongType(__f, Double.class);
+		}
+	}
+	
+	/**
+	 * Returns the value of the given float field.
+	 *
+	 * @param __f The field to get.
+	 * @return The value of the field.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringVirtualMachineException If the field is not within this
+	 * object or is not a float.
+	 * @since 2026/10/18
+	 */
+	public final float fieldGetFloat(SpringField __f)
+		throws NullPointerException, SpringVirtualMachineException
+	{
+		if (__f == null)
+			throw new NullPointerException("NARG");
+		
+		switch (__f._slotType)
+		{
+			case SpringFieldLayout.TYPE_FLOAT:
+				try
+				{
+					return Float.intBitsToFloat(this._ints[__f._slot]);
+				}
+				catch (IndexOutOfBoundsException e)
+				{
+					throw SpringSimpleObject.__invalid(__f, e);
+				}
+			
+			case SpringFieldLayout.TYPE_VOLATILE:
+				return SpringSimpleObject.<Float>__unbox(__f, Float.class,
+					this.__volatile(__f).get());
+			
+			default:
+				throw SpringSimpleObject.__wrongType(__f, Float.class);
+		}
+	}
+	
+	/**
+	 * Returns the value of the given integer field, this includes boolean,
+	 * byte, short, and char fields.
+	 *
+	 * @param __f The field to get.
+	 * @return The value of the field.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringVirtualMachineException If the field is not within this
+	 * object or is not an integer.
+	 * @since 2026/10/18
+	 */
+	public final int fieldGetInt(SpringField __f)
+		throws NullPointerException, SpringVirtualMachineException
+	{
+		if (__f == null)
+			throw new NullPointerException("NARG");
+		
+		switch (__f._slotType)
+		{
+			case SpringFieldLayout.TYPE_INTEGER:
+				try
+				{
+					return this._ints[__f._slot];
+				}
+				catch (IndexOutOfBoundsException e)
+				{
+					throw SpringSimpleObject.__invalid(__f, e);
+				}
+			
+			case SpringFieldLayout.TYPE_VOLATILE:
+				return SpringSimpleObject.<Integer>__unbox(__f, Integer.class,
+					this.__volatile(__f).get());
+			
+			default:
+				throw SpringSimpleObject.__wrongType(__f, Integer.class);
+		}
+	}
+	
+	/**
+	 * Returns the value of the given long field.
+	 *
+	 * @param __f The field to get.
+	 * @return The value of the field.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringVirtualMachineException If the field is not within this
+	 * object or is not a long.
+	 * @since 2026/10/18
+	 */
+	public final long fieldGetLong(SpringField __f)
+		throws NullPointerException, SpringVirtualMachineException
+	{
+		if (__f == null)
+			throw new NullPointerException("NARG");
+		
+		switch (__f._slotType)
+		{
+			case SpringFieldLayout.TYPE_LONG:
+				try
+				{
+					return this._longs[__f._slot];
+				}
+				catch (IndexOutOfBoundsException e)
+				{
+					throw SpringSimpleObject.__invalid(__f, e);
+				}
+			
+			case SpringFieldLayout.TYPE_VOLATILE:
+				return SpringSimpleObject.<Long>__unbox(__f, Long.class,
+					this.__volatile(__f).get());
+			
+			default:
+				throw SpringSimpleObject.__wrongType(__f, Long.class);
+		}
+	}
+	
+	/**
+	 * Returns the value of the given reference field.
+	 *
+	 * @param __f The field to get.
+	 * @return The value of the field.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringVirtualMachineException If the field is not within this
+	 * object or is not a reference.
+	 * @since 2026/10/18
+	 */
+	public final Object fieldGetObject(SpringField __f)
+		throws NullPointerException, SpringVirtualMachineException
+	{
+		if (__f == null)
+			throw new NullPointerException("NARG");
+		
+		switch (__f._slotType)
+		{
+			case SpringFieldLayout.TYPE_OBJECT:
+				try
+				{
+					return this._objects[__f._slot];
+				}
+				catch (IndexOutOfBoundsException e)
+				{
+					throw SpringSimpleObject.__invalid(__f, e);
+				}
+			
+			case SpringFieldLayout.TYPE_VOLATILE:
+				return this.__volatile(__f).get();
+			
+			default:
+				throw SpringSimpleObject.__wrongType(__f, Object.class);
+		}
+	}
+	
+	/**
+	 * Sets the value of the given double field.
+	 *
+	 * @param __f The field to set.
+	 * @param __v The value to set.
+	 * @param __writeFinal If true then final is overridden.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringIllegalAccessException If the field is final and we are
+	 * not allowed to write to final fields.
+	 * @throws SpringVirtualMachineException If the field is not within this
+	 * object or is not a double.
+	 * @since 2026/10/18
+	 */
+	public final void fieldPutDouble(SpringField __f, double __v,
+		boolean __writeFinal)
+		throws NullPointerException, SpringIllegalAccessException,
+			SpringVirtualMachineException
+	{
+		if (__f == null)
+			throw new NullPointerException("NARG");
+		
+		switch (__f._slotType)
+		{
+			case SpringFieldLayout.TYPE_DOUBLE:
+				SpringSimpleObject.__checkFinal(__f, __writeFinal);
+				try
+				{
+					this._longs[__f._slot] = Double.doubleToRawLongBits(__v);
+				}
+				catch (IndexOutOfBoundsException e)
+				{
+					throw SpringSimpleObject.__invalid(__f, e);
+				}
+				break;
+			
+			case SpringFieldLayout.TYPE_VOLATILE:
+				this.__volatile(__f).set(__v, __writeFinal);
+				break;
+			
+			default:
+				throw SpringSimpleObject.__wrongType(__f, Double.class);
+		}
+	}
+	
+	/**
+	 * Sets the value of the given float field.
+	 *
+	 * @param __f The field to set.
+	 * @param __v The value to set.
+	 * @param __writeFinal If true then final is overridden.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringIllegalAccessException If the field is final and we are
+	 * not allowed to write to final fields.
+	 * @throws SpringVirtualMachineException If the field is not within this
+	 * object or is not a float.
+	 * @since 2026/10/18
+	 */
+	public final void fieldPutFloat(SpringField __f, float __v,
+		boolean __writeFinal)
+		throws NullPointerException, SpringIllegalAccessException,
+			SpringVirtualMachineException
+	{
+		if (__f == null)
+			throw new NullPointerException("NARG");
+		
+		switch (__f._slotType)
+		{
+			case SpringFieldLayout.TYPE_FLOAT:
+				SpringSimpleObject.__checkFinal(__f, __writeFinal);
+				try
+				{
+					this._ints[__f._slot] = Float.floatToRawIntBits(__v);
+				}
+				catch (IndexOutOfBoundsException e)
+				{
+					throw SpringSimpleObject.__invalid(__f, e);
+				}
+				break;
+			
+			case SpringFieldLayout.TYPE_VOLATILE:
+				this.__volatile(__f).set(__v, __writeFinal);
+				break;
+			
+			default:
+				throw SpringSimpleObject.__wrongType(__f, Float.class);
+		}
+	}
+	
+	/**
+	 * Sets the value of the given integer field, this includes boolean,
+	 * byte, short, and char fields.
+	 *
+	 * @param __f The field to set.
+	 * @param __v The value to set.
+	 * @param __writeFinal If true then final is overridden.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringIllegalAccessException If the field is final and we are
+	 * not allowed to write to final fields.
+	 * @throws SpringVirtualMachineException If the field is not within this
+	 * object or is not an integer.
+	 * @since 2026/10/18
+	 */
+	public final void fieldPutInt(SpringField __f, int __v,
+		boolean __writeFinal)
+		throws NullPointerException, SpringIllegalAccessException,
+			SpringVirtualMachineException
+	{
+		if (__f == null)
+			throw new NullPointerException("NARG");
+		
+		switch (__f._slotType)
+		{
+			case SpringFieldLayout.TYPE_INTEGER:
+				SpringSimpleObject.__checkFinal(__f, __writeFinal);
+				try
+				{
+					this._ints[__f._slot] = __v;
+				}
+				catch (IndexOutOfBoundsException e)
+				{
+					throw SpringSimpleObject.__invalid(__f, e);
+				}
+				break;
+			
+			case SpringFieldLayout.TYPE_VOLATILE:
+				this.__volatile(__f).set(__v, __writeFinal);
+				break;
+			
+			default:
+				throw SpringSimpleObject.__wrongType(__f, Integer.class);
+		}
+	}
+	
+	/**
+	 * Sets the value of the given long field.
+	 *
+	 * @param __f The field to set.
+	 * @param __v The value to set.
+	 * @param __writeFinal If true then final is overridden.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringIllegalAccessException If the field is final and we are
+	 * not allowed to write to final fields.
+	 * @throws SpringVirtualMachineException If the field is not within this
+	 * object or is not a long.
+	 * @since 2026/10/18
+	 */
+	public final void fieldPutLong(SpringField __f, long __v,
+		boolean __writeFinal)
+		throws NullPointerException, SpringIllegalAccessException,
+			SpringVirtualMachineException
+	{
+		if (__f == null)
+			throw new NullPointerException("NARG");
+		
+		switch (__f._slotType)
+		{
+			case SpringFieldLayout.TYPE_LONG:
+				SpringSimpleObject.__checkFinal(__f, __writeFinal);
+				try
+				{
+					this._longs[__f._slot] = __v;
+				}
+				catch (IndexOutOfBoundsException e)
+				{
+					throw SpringSimpleObject.__invalid(__f, e);
+				}
+				break;
+			
+			case SpringFieldLayout.TYPE_VOLATILE:
+				this.__volatile(__f).set(__v, __writeFinal);
+				break;
+			
+			default:
+				throw SpringSimpleObject.__wrongType(__f, Long.class);
+		}
+	}
+	
+	/**
+	 * Sets the value of the given reference field.
+	 *
+	 * @param __f The field to set.
+	 * @param __v The value to set.
+	 * @param __writeFinal If true then final is overridden.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringIllegalAccessException If the field is final and we are
+	 * not allowed to write to final fields.
+	 * @throws SpringVirtualMachineException If the field is not within this
+	 * object or is not a reference.
+	 * @since 2026/10/18
+	 */
+	public final void fieldPutObject(SpringField __f, Object __v,
+		boolean __writeFinal)
+		throws NullPointerException, SpringIllegalAccessException,
+			SpringVirtualMachineException
+	{
+		if (__f == null || __v == null)
+			throw new NullPointerException("NARG");
+		
+		switch (__f._slotType)
+		{
+			case SpringFieldLayout.TYPE_OBJECT:
+				SpringSimpleObject.__checkFinal(__f, __writeFinal);
+				try
+				{
+					this._objects[__f._slot] = __v;
+				}
+				catch (IndexOutOfBoundsException e)
+				{
+					throw SpringSimpleObject.__invalid(__f, e);
+				}
+				break;
+			
+			case SpringFieldLayout.TYPE_VOLATILE:
+				this.__volatile(__f).set(__v, __writeFinal);
+				break;
+			
+			default:
+				throw SpringSimpleObject.__wrongType(__f, Object.class);
+		}
+	}
+	
+	/**
+	 * Sets the value of the given field, the value must be in the form
+	 * the virtual machine uses so boolean, byte, short, and char fields take
+	 * an {@link Integer}.
+	 *
+	 * @param __f The field to set.
+	 * @param __v The value to set.
+	 * @param __writeFinal If true then final is overridden.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringIllegalAccessException If the field is final and we are
+	 * not allowed to write to final fields.
+	 * @throws SpringVirtualMachineException If the field is not within this
+	 * object or the value is not of the type of the field.
+	 * @since 2026/10/18
+	 */
+	public final void fieldSet(SpringField __f, Object __v,
+		boolean __writeFinal)
+		throws NullPointerException, SpringIllegalAccessException,
+			SpringVirtualMachineException
+	{
+		if (__f == null || __v == null)
+			throw new NullPointerException("NARG");
+		
+		switch (__f._slotType)
+		{
+			case SpringFieldLayout.TYPE_INTEGER:
+				this.fieldPutInt(__f, SpringSimpleObject.<Integer>__unbox(
+					__f, Integer.class, __v), __writeFinal);
+				break;
+			
+			case SpringFieldLayout.TYPE_FLOAT:
+				this.fieldPutFloat(__f, SpringSimpleObject.<Float>__unbox(
+					__f, Float.class, __v), __writeFinal);
+				break;
+			
+			case SpringFieldLayout.TYPE_LONG:
+				this.fieldPutLong(__f, SpringSimpleObject.<Long>__unbox(
+					__f, Long.class, __v), __writeFinal);
+				break;
+			
+			case SpringFieldLayout.TYPE_DOUBLE:
+				this.fieldPutDouble(__f, SpringSimpleObject.<Double>__unbox(
+					__f, Double.class, __v), __writeFinal);
+				break;
+			
+			case SpringFieldLayout.TYPE_OBJECT:
+				this.fieldPutObject(__f, __v, __writeFinal);
+				break;
+			
+			default:
+				this.__volatile(__f).set(__v, __writeFinal);
+				break;
+		}
 	}
 	
 	/**
@@ -168,5 +706,100 @@ public final class SpringSimpleObject
 	{
 		return this.type;
 	}
+	
+	/**
+	 * Returns the storage of the given volatile field.
+	 *
+	 * @param __f The field to get the storage of.
+	 * @return The storage for the field.
+	 * @throws SpringVirtualMachineException If the field is not within this
+	 * object.
+	 * @since 2026/10/18
+	 */
+	private SpringFieldStorage __volatile(SpringField __f)
+		throws SpringVirtualMachineException
+	{
+		try
+		{
+			return this._volatiles[__f._slot];
+		}
+		catch (IndexOutOfBoundsException e)
+		{
+			throw SpringSimpleObject.__invalid(__f, e);
+		}
+	}
+	
+	/**
+	 * Checks that the given field may be written to.
+	 *
+	 * @param __f The field to check.
+	 * @param __writeFinal If true then final is overridden.
+	 * @throws SpringIllegalAccessException If the field is final and we are
+	 * not allowed to write to final fields.
+	 * @since 2026/10/18
+	 */
+	private static void __checkFinal(SpringField __f, boolean __writeFinal)
+		throws SpringIllegalAccessException
+	{
+		// Same as a write to a final field in storage, see BK18
+		if (__f._isFinal && !__writeFinal)
+			throw new SpringIllegalAccessException("BK18");
+	}
+	
+	/**
+	 * Returns the exception for a field which is not within this object.
+	 *
+	 * @param __f The field.
+	 * @param __e The cause.
+	 * @return The exception to throw.
+	 * @since 2026/10/18
+	 */
+	private static SpringVirtualMachineException __invalid(SpringField __f,
+		IndexOutOfBoundsException __e)
+	{
+		return new SpringVirtualMachineException("Invalid field: " + __f,
+			__e);
+	}
+	
+	/**
+	 * Unboxes the given field value.
+	 *
+	 * @param <T> The type of value.
+	 * @param __f The field the value is for.
+	 * @param __cl The type of value.
+	 * @param __v The value.
+	 * @return The value as the given type.
+	 * @throws SpringVirtualMachineException If the value is not of the given
+	 * type.
+	 * @since 2026/10/18
+	 */
+	private static <T> T __unbox(SpringField __f, Class<T> __cl, Object __v)
+		throws SpringVirtualMachineException
+	{
+		// {@squirreljme.error BK3e The value for a field is not of the type
+		// the virtual machine uses for the field, boolean and char values
+		// must be integers. (The field; The expected type; The value)}
+		if (!__cl.isInstance(__v))
+			throw new SpringVirtualMachineException(String.format(
+				"BK3e %s %s %s", __f, __cl.getSimpleName(), __v));
+		
+		return __cl.cast(__v);
+	}
+	
+	/**
+	 * Returns the exception for a field which is accessed as another type.
+	 *
+	 * @param __f The field.
+	 * @param __cl The type it was accessed as.
+	 * @return The exception to throw.
+	 * @since 2026/10/18
+	 */
+	private static SpringVirtualMachineException __wrongType(SpringField __f,
+		Class<?> __cl)
+	{
+		// {@squirreljme.error BK3f A field was accessed as another type.
+		// (The field; The type it was accessed as)}
+		return new SpringVirtualMachineException(String.format(
+			"BK3f %s %s", __f, __cl.getSimpleName()));
+	}
 }
-
@@ -0,0 +1,106 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.vm.springcoat;
+
+/**
+ * This marks a slot in the stack or local variables as holding a primitive
+ * value, the value itself is stored unboxed alongside it.
+ *
+ * @since 2026/10/18
+ */
+public final class SpringStackPrimitive
+{
+	/** Integer value. */
+	public static final SpringStackPrimitive INTEGER =
+		new SpringStackPrimitive(Integer.class);
+	
+	/** Float value. */
+	public static final SpringStackPrimitive FLOAT =
+		new SpringStackPrimitive(Float.class);
+	
+	/** Long value. */
+	public static final SpringStackPrimitive LONG =
+		new SpringStackPrimitive(Long.class);
+	
+	/** Double value. */
+	public static final SpringStackPrimitive DOUBLE =
+		new SpringStackPrimitive(Double.class);
+	
+	/** The boxed type of the value. */
+	protected final Class<?> boxedType;
+	
+	/**
+	 * Internally used.
+	 *
+	 * @param __boxed The boxed type of the value.
+	 * @since 2026/10/18
+	 */
+	private SpringStackPrimitive(Class<?> __boxed)
+	{
+		this.boxedType = __boxed;
+	}
+	
+	/**
+	 * Boxes the given raw value.
+	 *
+	 * @param __raw The raw value.
+	 * @return The boxed value.
+	 * @since 2026/10/18
+	 */
+	public final Object box(long __raw)
+	{
+		if (this == SpringStackPrimitive.INTEGER)
+			return (int)__raw;
+		else if (this == SpringStackPrimitive.FLOAT)
+			return Float.intBitsToFloat((int)__raw);
+		else if (this == SpringStackPrimitive.LONG)
+			return __raw;
+		return Double.longBitsToDouble(__raw);
+	}
+	
+	/**
+	 * Returns the type of slot for the given value.
+	 *
+	 * @param __v The value to check.
+	 * @return The type of primitive the value is, or {@code null} if it is
+	 * not a primitive.
+	 * @since 2026/10/18
+	 */
+	public static SpringStackPrimitive of(Object __v)
+	{
+		if (__v instanceof Integer)
+			return SpringStackPrimitive.INTEGER;
+		else if (__v instanceof Long)
+			return SpringStackPrimitive.LONG;
+		else if (__v instanceof Float)
+			return SpringStackPrimitive.FLOAT;
+		else if (__v instanceof Double)
+			return SpringStackPrimitive.DOUBLE;
+		return null;
+	}
+	
+	/**
+	 * Returns the raw value of the given boxed primitive.
+	 *
+	 * @param __v The value to get.
+	 * @return The raw value.
+	 * @since 2026/10/18
+	 */
+	public static long raw(Object __v)
+	{
+		if (__v instanceof Integer)
+			return (Integer)__v;
+		else if (__v instanceof Long)
+			return (Long)__v;
+		else if (__v instanceof Float)
+			return Float.floatToRawIntBits((Float)__v);
+		return Double.doubleToRawLongBits((Double)__v);
+	}
+}
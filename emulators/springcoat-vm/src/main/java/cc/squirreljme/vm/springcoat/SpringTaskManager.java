@@ -12,6 +12,7 @@ package cc.squirreljme.vm.springcoat;
 import cc.squirreljme.emulator.profiler.ProfilerSnapshot;
 import cc.squirreljme.emulator.terminal.TerminalPipeManager;
 import cc.squirreljme.emulator.vm.VMSuiteManager;
+import cc.squirreljme.emulator.vm.VMThreadModel;
 import cc.squirreljme.jdwp.JDWPBinding;
 import cc.squirreljme.jdwp.JDWPController;
 import cc.squirreljme.jdwp.JDWPState;
@@ -49,6 +50,9 @@ public final class SpringTaskManager
 	/** Global state. */
 	protected final GlobalState globalState;
 	
+	/** The thread scheduler, {@code null} if threads run freely. */
+	protected final SpringScheduler scheduler;
+	
 	/** The machine queue. */
 	private final ReferenceQueue<SpringMachine> _machineGc =
 		new ReferenceQueue<>(); 
@@ -74,12 +78,31 @@ public final class SpringTaskManager
 	public SpringTaskManager(VMSuiteManager __sm, ProfilerSnapshot __ps)
 		throws NullPointerException
 	{
-		if (__sm == null)
+		this(__sm, __ps, VMThreadModel.DEFAULT);
+	}
+	
+	/**
+	 * Initializes the task manager.
+	 *
+	 * @param __sm The suite manager.
+	 * @param __ps The snapshot for profiling.
+	 * @param __threadModel The threading model to use.
+	 * @throws NullPointerException If no suite manager or thread model was
+	 * specified.
+	 * @since 2026/10/18
+	 */
+	public SpringTaskManager(VMSuiteManager __sm, ProfilerSnapshot __ps,
+		VMThreadModel __threadModel)
+		throws NullPointerException
+	{
+		if (__sm == null || __threadModel == null)
 			throw new NullPointerException("NARG");
 		
 		this.suites = __sm;
 		this.profiler = (__ps == null ? new ProfilerSnapshot() : __ps);
 		this.globalState = new GlobalState();
+		this.scheduler = (__threadModel == VMThreadModel.SINGLE_COOP_THREAD ?
+			new SpringScheduler() : null);
 	}
 	
 	/**
@@ -94,6 +94,9 @@ public final class SpringThread
 	/** The current worker for the thread. */
 	volatile SpringThreadWorker _worker;
 	
+	/** The scheduler for threads, {@code null} if not scheduled. */
+	SpringScheduler _scheduler;
+	
 	/** Terminate the thread? */
 	private volatile boolean _terminate;
 	
@@ -226,10 +229,61 @@ public final class SpringThread
 			for (int i = 0, n = __args.length; i < n; i++)
 				vmArgs[i] = worker.asVMObject(vmArgs[i], true);
 		
+		return this.__enterFrame(this._worker.loadClass(__m.inClass()), __m,
+			vmArgs);
+	}
+	
+	/**
+	 * Enters the specified method and sets up a stack frame for it, this is
+	 * used by the interpreter where the class is already known and the
+	 * arguments are already virtual machine objects.
+	 *
+	 * @param __cl The class the method is in, which must be initialized.
+	 * @param __m The method to enter.
+	 * @param __vmArgs Arguments to the frame entry, this array is owned by
+	 * the frame after this call.
+	 * @return The used stack frame.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringVirtualMachineException If the method is abstract.
+	 * @since 2026/10/18
+	 */
+	final SpringThread.Frame enterFrameDirect(SpringClass __cl,
+		SpringMethod __m, Object[] __vmArgs)
+		throws NullPointerException, SpringVirtualMachineException
+	{
+		if (__cl == null || __m == null || __vmArgs == null)
+			throw new NullPointerException("NARG");
+		
+		// Cannot enter frames when terminated
+		if (this.isTerminated())
+			throw new SpringVirtualMachineException(
+				"Cannot enter frame on terminated thread.");
+		
+		// Abstract methods cannot be entered, see BK1k in enterFrame()
+		if (__m.isAbstract())
+			throw new SpringVirtualMachineException(String.format("BK1k %s %s",
+				__m.inClass(), __m.nameAndType()));
+		
+		return this.__enterFrame(__cl, __m, __vmArgs);
+	}
+	
+	/**
+	 * Sets up the stack frame for the given method.
+	 *
+	 * @param __cl The class the method is in.
+	 * @param __m The method to enter.
+	 * @param __args The arguments to the frame, owned by the frame.
+	 * @return The used stack frame.
+	 * @since 2026/10/18
+	 */
+	private SpringThread.Frame __enterFrame(SpringClass __cl,
+		SpringMethod __m, Object[] __args)
+	{
+		SpringThreadWorker worker = this._worker;
+		
 		// Create new frame
 		List<SpringThread.Frame> frames = this._frames;
-		Frame rv = new Frame(frames.size(),
-			this._worker.loadClass(__m.inClass()), __m, vmArgs);
+		Frame rv = new Frame(frames.size(), __cl, __m, __args);
 		
 		// Profile for this frame
 		rv._profiler = this.profiler.enterFrame(__m.inClass().toString(),
@@ -438,6 +492,25 @@ public final class SpringThread
 		return this._worker.invokeMethod(__static, __cl, __nat, __args);
 	}
 	
+	/**
+	 * Invokes a method in this thread which has already been resolved.
+	 * 
+	 * @param __method The method to invoke.
+	 * @param __args The arguments to the method, the first is the instance
+	 * if the method is not static.
+	 * @return The result of the invoke.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final Object invokeMethod(SpringMethod __method, Object... __args)
+		throws NullPointerException
+	{
+		if (__method == null || __args == null)
+			throw new NullPointerException("NARG");
+		
+		return this._worker.invokeMethod(__method, __args);
+	}
+	
 	/**
 	 * Returns the machine that created this.
 	 * 
@@ -737,26 +810,38 @@ public final class SpringThread
 		/** The class this is for. */
 		protected final SpringClass springClass;
 		
-		/** Local variables. */
+		/** Local variables, primitive values are marked as such. */
 		private final Object[] _locals;
 		
-		/** The stack. */
+		/** Raw values of primitive local variables. */
+		private final long[] _localsRaw;
+		
+		/** The stack, primitive values are marked as such. */
 		private final Object[] _stack;
 		
+		/** Raw values of primitive stack entries. */
+		private final long[] _stackRaw;
+		
 		/** Profiled frame. */
 		volatile ProfiledFrame _profiler;
 		
+		/*
+		 * These are only changed by the thread which executes the frame, so
+		 * they are not volatile. Other threads such as the debugger only
+		 * inspect them when the thread is suspended, which synchronizes.
+		 */
+		
 		/** The top of the stack. */
-		private volatile int _stacktop;
+		private int _stacktop;
 		
 		/** The current program counter. */
-		private volatile int _pc;
+		private int _pc;
 		
 		/** Last executed PC address. */
-		private volatile int _lastexecpc;
+		private int _lastexecpc;
 		
 		/** Frame execution count. */
-		private volatile int _execcount;
+		private int _execcount;
 		
 		/** Exception which was tossed into this frame. */
 		private SpringObject _tossedexception;
@@ -779,7 +864,9 @@ public final class SpringThread
 			this.thisobject = null;
 			this.isblank = true;
 			this._locals = new Object[0];
+			this._localsRaw = new long[0];
 			this._stack = new Object[2];
+			this._stackRaw = new long[2];
 		}
 		
 		/**
@@ -799,7 +886,9 @@ public final class SpringThread
 			if (__cl == null || __m == null)
 				throw new NullPointerException("NARG");
 			
-			__args = (__args == null ? new Object[0] : __args.clone());
+			// The arguments are always a copy owned by this frame
+			if (__args == null)
+				__args = new Object[0];
 			
 			this.level = __level;
 			this.isblank = false;
@@ -812,18 +901,33 @@ public final class SpringThread
 			this.code = (code = __m.byteCode());
 			
 			// Initialize variable storage
+			int maxLocals = code.maxLocals();
+			int maxStack = code.maxStack();
 			Object[] locals;
-			this._locals = (locals = new Object[code.maxLocals()]);
-			this._stack = new Object[code.maxStack()];
+			long[] localsRaw;
+			this._locals = (locals = new Object[maxLocals]);
+			this._localsRaw = (localsRaw = new long[maxLocals]);
+			this._stack = new Object[maxStack];
+			this._stackRaw = new long[maxStack];
 			
 			// Copy arguments passed to the method
 			for (int i = 0, n = __args.length, o = 0; i < n; i++)
 			{
-				Object av;
-				locals[o++] = (av = __args[i]);
+				Object av = __args[i];
+				
+				// Primitives are stored unboxed
+				SpringStackPrimitive prim = SpringStackPrimitive.of(av);
+				if (prim != null)
+				{
+					locals[o] = prim;
+					localsRaw[o++] = SpringStackPrimitive.raw(av);
+				}
+				else
+					locals[o++] = av;
 				
 				// Add additional top for long/double
-				if (av instanceof Long || av instanceof Double)
+				if (prim == SpringStackPrimitive.LONG ||
+					prim == SpringStackPrimitive.DOUBLE)
 					locals[o++] = SpringStackTop.TOP;
 			}
 			
@@ -917,7 +1021,27 @@ public final class SpringThread
 		public final <C> C loadLocal(Class<C> __cl, int __dx)
 			throws NullPointerException
 		{
-			return __cl.cast(this._locals[__dx]);
+			Object rv = this._locals[__dx];
+			if (rv instanceof SpringStackPrimitive)
+				rv = ((SpringStackPrimitive)rv).box(this._localsRaw[__dx]);
+			
+			return __cl.cast(rv);
+		}
+		
+		/**
+		 * Loads an integer from a local variable.
+		 *
+		 * @param __dx The index to load from.
+		 * @return The read value.
+		 * @since 2026/10/18
+		 */
+		public final int loadLocalInt(int __dx)
+		{
+			if (this._locals[__dx] == SpringStackPrimitive.INTEGER)
+				return (int)this._localsRaw[__dx];
+			
+			// Not an integer, this will fail with the appropriate error
+			return this.<Integer>loadLocal(Integer.class, __dx);
 		}
 		
 		/**
@@ -932,11 +1056,26 @@ public final class SpringThread
 		{
 			Object[] locals = this._locals;
 			
+			// Primitive values are copied without boxing them
+			Object pushy = locals[__dx];
+			if (pushy instanceof SpringStackPrimitive)
+			{
+				SpringStackPrimitive prim = (SpringStackPrimitive)pushy;
+				long raw = this._localsRaw[__dx];
+				if (__cl.isAssignableFrom(prim.boxedType))
+				{
+					this.__pushPrimitive(prim, raw);
+					return;
+				}
+				
+				// Use the value for the error
+				pushy = prim.box(raw);
+			}
+			
 			// {@squirreljme.error BK1p Cannot push local variable to the stack
 			// because it of the incorrect type. (The varible to push; The
 			// index to load from; The expected class; The value to push;
 			// The type of value to push)}
-			Object pushy = locals[__dx];
 			if (!__cl.isInstance(pushy))
 				throw new SpringVirtualMachineException(String.format(
 					"BK1p %s %d %s %s %s", pushy, __dx, __cl, pushy,
@@ -1006,6 +1145,54 @@ public final class SpringThread
 			return this.code.lineOfAddress(this._pc);
 		}
 		
+		/**
+		 * Pops a double from the stack.
+		 *
+		 * @return The popped value.
+		 * @throws SpringVirtualMachineException If the type does not match or
+		 * the stack underflows.
+		 * @since 2026/10/18
+		 */
+		public final double popDouble()
+			throws SpringVirtualMachineException
+		{
+			int stacktop = this._stacktop - 2;
+			Object[] stack = this._stack;
+			if (stacktop >= 0 &&
+				stack[stacktop] == SpringStackPrimitive.DOUBLE &&
+				stack[stacktop + 1] == SpringStackTop.TOP)
+			{
+				this._stacktop = stacktop;
+				return Double.longBitsToDouble(this._stackRaw[stacktop]);
+			}
+			
+			// Not the right type, this will fail with the appropriate error
+			return this.<Double>popFromStack(Double.class);
+		}
+		
+		/**
+		 * Pops a float from the stack.
+		 *
+		 * @return The popped value.
+		 * @throws SpringVirtualMachineException If the type does not match or
+		 * the stack underflows.
+		 * @since 2026/10/18
+		 */
+		public final float popFloat()
+			throws SpringVirtualMachineException
+		{
+			int stacktop = this._stacktop - 1;
+			if (stacktop >= 0 &&
+				this._stack[stacktop] == SpringStackPrimitive.FLOAT)
+			{
+				this._stacktop = stacktop;
+				return Float.intBitsToFloat((int)this._stackRaw[stacktop]);
+			}
+			
+			// Not the right type, this will fail with the appropriate error
+			return this.<Float>popFromStack(Float.class);
+		}
+		
 		/**
 		 * Pops from the stack.
 		 *
@@ -1048,6 +1235,10 @@ public final class SpringThread
 						"BK1s %d %d", stacktop, stack.length));
 			}
 			
+			// Primitive values are boxed
+			else if (rv instanceof SpringStackPrimitive)
+				rv = ((SpringStackPrimitive)rv).box(this._stackRaw[stacktop]);
+			
 			// Debug
 			/*todo.DEBUG.note("popped(%s) <- %d", rv, stacktop);*/
 			
@@ -1121,6 +1312,54 @@ public final class SpringThread
 			return __cl.cast(rv);
 		}
 		
+		/**
+		 * Pops an integer from the stack.
+		 *
+		 * @return The popped value.
+		 * @throws SpringVirtualMachineException If the type does not match or
+		 * the stack underflows.
+		 * @since 2026/10/18
+		 */
+		public final int popInt()
+			throws SpringVirtualMachineException
+		{
+			int stacktop = this._stacktop - 1;
+			if (stacktop >= 0 &&
+				this._stack[stacktop] == SpringStackPrimitive.INTEGER)
+			{
+				this._stacktop = stacktop;
+				return (int)this._stackRaw[stacktop];
+			}
+			
+			// Not the right type, this will fail with the appropriate error
+			return this.<Integer>popFromStack(Integer.class);
+		}
+		
+		/**
+		 * Pops a long from the stack.
+		 *
+		 * @return The popped value.
+		 * @throws SpringVirtualMachineException If the type does not match or
+		 * the stack underflows.
+		 * @since 2026/10/18
+		 */
+		public final long popLong()
+			throws SpringVirtualMachineException
+		{
+			int stacktop = this._stacktop - 2;
+			Object[] stack = this._stack;
+			if (stacktop >= 0 &&
+				stack[stacktop] == SpringStackPrimitive.LONG &&
+				stack[stacktop + 1] == SpringStackTop.TOP)
+			{
+				this._stacktop = stacktop;
+				return this._stackRaw[stacktop];
+			}
+			
+			// Not the right type, this will fail with the appropriate error
+			return this.<Long>popFromStack(Long.class);
+		}
+		
 		/**
 		 * Pushes the specified value to the stack.
 		 *
@@ -1136,6 +1375,14 @@ public final class SpringThread
 			if (__v == null)
 				throw new NullPointerException("NARG");
 			
+			// Primitive values are stored unboxed
+			SpringStackPrimitive prim = SpringStackPrimitive.of(__v);
+			if (prim != null)
+			{
+				this.__pushPrimitive(prim, SpringStackPrimitive.raw(__v));
+				return;
+			}
+			
 			Object[] stack = this._stack;
 			int stacktop = this._stacktop;
 			
@@ -1151,10 +1398,60 @@ public final class SpringThread
 			// Store
 			stack[stacktop++] = __v;
 			this._stacktop = stacktop;
-			
-			// Push an extra top for long and double
-			if (__v instanceof Long || __v instanceof Double)
-				this.pushToStack(SpringStackTop.TOP);
+		}
+		
+		/**
+		 * Pushes the specified double to the stack.
+		 *
+		 * @param __v The value to push.
+		 * @throws SpringVirtualMachineException If the stack overflows.
+		 * @since 2026/10/18
+		 */
+		public final void pushToStack(double __v)
+			throws SpringVirtualMachineException
+		{
+			this.__pushPrimitive(SpringStackPrimitive.DOUBLE,
+				Double.doubleToRawLongBits(__v));
+		}
+		
+		/**
+		 * Pushes the specified float to the stack.
+		 *
+		 * @param __v The value to push.
+		 * @throws SpringVirtualMachineException If the stack overflows.
+		 * @since 2026/10/18
+		 */
+		public final void pushToStack(float __v)
+			throws SpringVirtualMachineException
+		{
+			this.__pushPrimitive(SpringStackPrimitive.FLOAT,
+				Float.floatToRawIntBits(__v));
+		}
+		
+		/**
+		 * Pushes the specified integer to the stack.
+		 *
+		 * @param __v The value to push.
+		 * @throws SpringVirtualMachineException If the stack overflows.
+		 * @since 2026/10/18
+		 */
+		public final void pushToStack(int __v)
+			throws SpringVirtualMachineException
+		{
+			this.__pushPrimitive(SpringStackPrimitive.INTEGER, __v);
+		}
+		
+		/**
+		 * Pushes the specified long to the stack.
+		 *
+		 * @param __v The value to push.
+		 * @throws SpringVirtualMachineException If the stack overflows.
+		 * @since 2026/10/18
+		 */
+		public final void pushToStack(long __v)
+			throws SpringVirtualMachineException
+		{
+			this.__pushPrimitive(SpringStackPrimitive.LONG, __v);
 		}
 		
 		/**
@@ -1193,7 +1490,67 @@ public final class SpringThread
 			if (__v == null)
 				throw new NullPointerException("NARG");
 			
-			this._locals[__dx] = __v;
+			// Primitive values are stored unboxed
+			SpringStackPrimitive prim = SpringStackPrimitive.of(__v);
+			if (prim != null)
+			{
+				this._locals[__dx] = prim;
+				this._localsRaw[__dx] = SpringStackPrimitive.raw(__v);
+			}
+			else
+				this._locals[__dx] = __v;
+		}
+		
+		/**
+		 * Stores the specified double at the given local variable index.
+		 *
+		 * @param __dx The index to store into.
+		 * @param __v The value to store.
+		 * @since 2026/10/18
+		 */
+		public final void storeLocal(int __dx, double __v)
+		{
+			this._locals[__dx] = SpringStackPrimitive.DOUBLE;
+			this._localsRaw[__dx] = Double.doubleToRawLongBits(__v);
+		}
+		
+		/**
+		 * Stores the specified float at the given local variable index.
+		 *
+		 * @param __dx The index to store into.
+		 * @param __v The value to store.
+		 * @since 2026/10/18
+		 */
+		public final void storeLocal(int __dx, float __v)
+		{
+			this._locals[__dx] = SpringStackPrimitive.FLOAT;
+			this._localsRaw[__dx] = Float.floatToRawIntBits(__v);
+		}
+		
+		/**
+		 * Stores the specified integer at the given local variable index.
+		 *
+		 * @param __dx The index to store into.
+		 * @param __v The value to store.
+		 * @since 2026/10/18
+		 */
+		public final void storeLocal(int __dx, int __v)
+		{
+			this._locals[__dx] = SpringStackPrimitive.INTEGER;
+			this._localsRaw[__dx] = __v;
+		}
+		
+		/**
+		 * Stores the specified long at the given local variable index.
+		 *
+		 * @param __dx The index to store into.
+		 * @param __v The value to store.
+		 * @since 2026/10/18
+		 */
+		public final void storeLocal(int __dx, long __v)
+		{
+			this._locals[__dx] = SpringStackPrimitive.LONG;
+			this._localsRaw[__dx] = __v;
 		}
 		
 		/**
@@ -1228,6 +1585,39 @@ public final class SpringThread
 		{
 			this._tossedexception = __o;
 		}
+		
+		/**
+		 * Pushes a primitive value to the stack.
+		 *
+		 * @param __type The type of value to push.
+		 * @param __raw The raw value.
+		 * @throws SpringVirtualMachineException If the stack overflows.
+		 * @since 2026/10/18
+		 */
+		private void __pushPrimitive(SpringStackPrimitive __type, long __raw)
+			throws SpringVirtualMachineException
+		{
+			Object[] stack = this._stack;
+			int stacktop = this._stacktop;
+			
+			// Long and double take up two entries
+			boolean wide = (__type == SpringStackPrimitive.LONG ||
+				__type == SpringStackPrimitive.DOUBLE);
+			
+			// {@squirreljme.error BK3d Stack overflow pushing value. (The
+			// value; The current top of the stack; The stack limit)}
+			if (stacktop + (wide ? 2 : 1) > stack.length)
+				throw new SpringVirtualMachineException(String.format(
+					"BK3d %s %d %d", __type.box(__raw), stacktop,
+					stack.length));
+			
+			// Store, the top of long and double is always marked
+			stack[stacktop] = __type;
+			this._stackRaw[stacktop++] = __raw;
+			if (wide)
+				stack[stacktop++] = SpringStackTop.TOP;
+			this._stacktop = stacktop;
+		}
 	}
 }
 
@@ -20,7 +20,6 @@ import cc.squirreljme.jdwp.trips.JDWPTripBreakpoint;
 import cc.squirreljme.jdwp.trips.JDWPTripClassStatus;
 import cc.squirreljme.jdwp.trips.JDWPTripField;
 import cc.squirreljme.jdwp.trips.JDWPTripThread;
-import cc.squirreljme.jvm.Assembly;
 import cc.squirreljme.jvm.mle.constants.VerboseDebugFlag;
 import cc.squirreljme.runtime.cldc.debug.Debugging;
 import cc.squirreljme.vm.springcoat.brackets.TypeObject;
@@ -94,6 +93,9 @@ public final class SpringThreadWorker
 	/** The current step count. */
 	private volatile int _stepCount;
 	
+	/** How deeply {@link #run(int)} is nested. */
+	private int _runDepth;
+	
 	/**
 	 * Initialize the worker.
 	 *
@@ -780,20 +782,40 @@ public final class SpringThreadWorker
 			throw new NullPointerException("NARG");
 		
 		// Lookup class and method for the static method
-		SpringClass cl;
 		SpringMethod method;
 		if (__static)
-		{
-			cl = this.resolveClass(__cl);
-			method = cl.lookupMethod(__static, __nat);
-		}
+			method = this.resolveClass(__cl).lookupMethod(true, __nat);
 		
 		// Call it based on the object instead
 		else
-		{
-			cl = ((SpringObject)__args[0]).type();
-			method = cl.lookupMethod(false, __nat);
-		} 
+			method = ((SpringObject)__args[0]).type()
+				.lookupMethod(false, __nat);
+		
+		return this.invokeMethod(method, __args);
+	}
+	
+	/**
+	 * Invokes the given method which has already been resolved, if it is an
+	 * instance method then it is not looked up again from the type of the
+	 * instance.
+	 *
+	 * @param __method The method to invoke.
+	 * @param __args The arguments, the first is the instance if the method
+	 * is not static.
+	 * @return The return value, if any.
+	 * @throws MethodInvokeException If the invoked method threw an exception.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final Object invokeMethod(SpringMethod __method, Object... __args)
+		throws MethodInvokeException, NullPointerException
+	{
+		if (__method == null || __args == null)
+			throw new NullPointerException("NARG");
+		
+		SpringMethod method = __method;
+		boolean isStatic = method.isStatic();
+		MethodNameAndType nat = method.nameAndType();
 		
 		// Overflow or exceptions might occur
 		int framelimit;
@@ -806,8 +828,8 @@ public final class SpringThreadWorker
 			blank = thread.enterBlankFrame();
 			
 			// Executing a proxy method?
-			if (!__static && __args[0] instanceof SpringProxyObject)
-				this.__invokeProxy(method.nameAndType(), __args);
+			if (!isStatic && __args[0] instanceof SpringProxyObject)
+				this.__invokeProxy(nat, __args);
 			
 			// Normal call
 			else
@@ -852,12 +874,12 @@ public final class SpringThreadWorker
 		if (rv != null)
 			rv = new MethodInvokeException(String.format(
 				"Exception in %s %s:%s(%s)",
-				(__static ? "static" : "instance"), __cl, __nat,
+				(isStatic ? "static" : "instance"), method.inClass(), nat,
 				Arrays.asList(__args)), (SpringObject)rv,
 				thread.getStackTrace());
 		
 		// Read return value from the blank frame
-		else if (__nat.type().hasReturnValue())
+		else if (nat.type().hasReturnValue())
 			rv = blank.popFromStack();
 		
 		// Pop the blank frame, we do not need it anymore
@@ -1053,50 +1075,37 @@ public final class SpringThreadWorker
 		if (__class == null || __method == null || __args == null)
 			throw new NullPointerException("NARG");
 		
-		// All low-level calls are considered invalid in SpringCoat because
-		// it does not have the given functionality.
-		if (__class.toString().startsWith("cc/squirreljme/jvm/Assembly") ||
-			__class.toString().startsWith("cc/squirreljme/jvm/summercoat/lle/"))
-		{
-			// The only exception is made for packing/unpacking longs
-			if (__class.toString().startsWith("cc/squirreljme/jvm/Assembly"))
-				switch (__method.name().toString())
-				{
-					case "longPack":
-						return Assembly.longPack(
-							(int)__args[0], (int)__args[1]);
-					
-					case "longUnpackHigh":
-						return Assembly.longUnpackHigh((long)__args[0]);
-					
-					case "longUnpackLow":
-						return Assembly.longUnpackLow((long)__args[0]);
-				}
-			
-			// Otherwise fail
-			throw new SpringVirtualMachineException(String.format(
-				"Invalid LLE native call: %s:%s %s", __class, __method,
-				Arrays.asList(__args)));
-		}
-		
-		// Do not allow the older SpringCoat "asm" classes to be called as
-		// the interfaces are very different with the MLE layer.
-		if (__class.toString().startsWith("cc/squirreljme/runtime/cldc/asm/"))
-			throw new SpringVirtualMachineException(String.format(
-				"Old-SpringCoat native call: %s:%s %s", __class, __method,
-				Arrays.asList(__args)));
-		
-		// Only allow mid-level native calls
-		if (!__class.toString().startsWith("cc/squirreljme/jvm/mle/"))
-			throw new SpringVirtualMachineException(String.format(
-				"Non-MLE native call: %s:%s %s", __class, __method,
-				Arrays.asList(__args)));
+		return this.__handleNative(
+			SpringThreadWorker.__bindNative(__class, __method, __args),
+			__args);
+	}
+	
+	/**
+	 * Handles a native action within the VM, the target of the method is
+	 * bound on the first call and is then reused for every other call.
+	 *
+	 * Note that the return value should be a native type, it is translated
+	 * as needed.
+	 *
+	 * @param __method The method being called.
+	 * @param __args The arguments to the function.
+	 * @return The result from the call.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final Object nativeMethod(SpringMethod __method, Object... __args)
+		throws NullPointerException
+	{
+		if (__method == null || __args == null)
+			throw new NullPointerException("NARG");
 		
-		// Debug
-		/*Debugging.debugNote("Call native %s::%s %s", __class, __method,
-			Arrays.asList(__args));*/
+		// If two threads race here they will bind the same target
+		MLEDispatcherTarget target = __method._nativeTarget;
+		if (target == null)
+			__method._nativeTarget = (target = SpringThreadWorker.__bindNative(
+				__method.inClass(), __method.nameAndType(), __args));
 		
-		return MLEDispatcher.dispatch(this, __class, __method, __args);
+		return this.__handleNative(target, __args);
 	}
 	
 	/**
@@ -1234,6 +1243,8 @@ public final class SpringThreadWorker
 		throws IllegalArgumentException
 	{
 		SpringThread thread = this.thread;
+		SpringScheduler scheduler = thread._scheduler;
+		this._runDepth++;
 		try
 		{
 			// {@squirreljme.error BK27 Cannot have a negative frame limit.
@@ -1246,6 +1257,10 @@ public final class SpringThreadWorker
 			// execution
 			while (thread.numFrames() > __framelimit)
 			{
+				// Wait for our turn to run, if threads are scheduled
+				if (scheduler != null)
+					scheduler.checkpoint(thread);
+				
 				// Single step executing the top frame
 				this.__singleStep();
 			}
@@ -1309,6 +1324,10 @@ public final class SpringThreadWorker
 		{
 			if (__framelimit == 0)
 				thread.terminate();
+			
+			// Let other threads run once this thread is no longer executing
+			if (--this._runDepth == 0 && scheduler != null)
+				scheduler.release(thread);
 		}
 	}
 	
@@ -1500,6 +1519,114 @@ public final class SpringThreadWorker
 		}
 	}
 	
+	/**
+	 * Binds the target of a native method.
+	 *
+	 * @param __class The class the function is in.
+	 * @param __method The method being called.
+	 * @param __args The arguments to the function, used for errors.
+	 * @return The target of the native method.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringVirtualMachineException If the native method cannot be
+	 * called in SpringCoat.
+	 * @since 2026/10/18
+	 */
+	private static MLEDispatcherTarget __bindNative(ClassName __class,
+		MethodNameAndType __method, Object... __args)
+		throws NullPointerException, SpringVirtualMachineException
+	{
+		if (__class == null || __method == null || __args == null)
+			throw new NullPointerException("NARG");
+		
+		// All low-level calls are considered invalid in SpringCoat because
+		// it does not have the given functionality.
+		String className = __class.toString();
+		if (className.startsWith("cc/squirreljme/jvm/Assembly") ||
+			className.startsWith("cc/squirreljme/jvm/summercoat/lle/"))
+		{
+			// The only exception is made for packing/unpacking longs
+			if (className.startsWith("cc/squirreljme/jvm/Assembly"))
+			{
+				SpringAssemblyFunction function = SpringAssemblyFunction.of(
+					__method.name().toString());
+				if (function != null)
+					return function;
+			}
+			
+			// Otherwise fail
+			throw new SpringVirtualMachineException(String.format(
+				"Invalid LLE native call: %s:%s %s", __class, __method,
+				Arrays.asList(__args)));
+		}
+		
+		// Do not allow the older SpringCoat "asm" classes to be called as
+		// the interfaces are very different with the MLE layer.
+		if (className.startsWith("cc/squirreljme/runtime/cldc/asm/"))
+			throw new SpringVirtualMachineException(String.format(
+				"Old-SpringCoat native call: %s:%s %s", __class, __method,
+				Arrays.asList(__args)));
+		
+		// Only allow mid-level native calls
+		if (!className.startsWith("cc/squirreljme/jvm/mle/"))
+			throw new SpringVirtualMachineException(String.format(
+				"Non-MLE native call: %s:%s %s", __class, __method,
+				Arrays.asList(__args)));
+		
+		return MLEDispatcher.bind(__class, __method);
+	}
+	
+	/**
+	 * Enters the frame for a method which was invoked by the interpreter.
+	 *
+	 * @param __t The current thread.
+	 * @param __m The method to enter.
+	 * @param __args The arguments, these are already virtual machine
+	 * objects and are owned by the new frame.
+	 * @since 2026/10/18
+	 */
+	private void __enterFrame(SpringThread __t, SpringMethod __m,
+		Object[] __args)
+	{
+		// If the class the method is in was already initialized then it
+		// does not need to be looked up and loaded again
+		SpringClass inClass = __m._springClass;
+		if (inClass != null && inClass.isInitialized())
+			__t.enterFrameDirect(inClass, __m, __args);
+		else
+			__t.enterFrame(__m, __args);
+	}
+	
+	/**
+	 * Handles a native method call, if threads are scheduled then other
+	 * threads may run while this one is within the native method.
+	 *
+	 * @param __target The target of the native method.
+	 * @param __args The arguments to the function.
+	 * @return The result from the call.
+	 * @since 2026/10/18
+	 */
+	private Object __handleNative(MLEDispatcherTarget __target,
+		Object... __args)
+	{
+		SpringScheduler scheduler = this.thread._scheduler;
+		if (scheduler == null)
+			return __target.handle(this, __args);
+		
+		// Functions which may block on other threads must let those threads
+		// run until they return
+		boolean was = scheduler.nativeEnter(this.thread,
+			__target instanceof MLEBoundFunction &&
+			((MLEBoundFunction)__target).mayBlock());
+		try
+		{
+			return __target.handle(this, __args);
+		}
+		finally
+		{
+			scheduler.nativeExit(this.thread, was);
+		}
+	}
+	
 	/**
 	 * Invokes the given proxy method.
 	 * 
@@ -1696,6 +1823,7 @@ public final class SpringThreadWorker
 		SpringThread.Frame frame = thread.currentFrame();
 		SpringMethod method = frame.method();
 		ByteCode code = frame.byteCode();
+		SpringDecodedCode decoded = method.decodedCode();
 		
 		// Poll the JDWP debugger for any new debugging state
 		JDWPController jdwp = this.machine.tasks.jdwpController;
@@ -1735,6 +1863,9 @@ public final class SpringThreadWorker
 			// that to whatever is running
 			boolean interrupted = false;
 			JDWPThreadSuspension suspension = thread.debuggerSuspension;
+			SpringScheduler scheduler = thread._scheduler;
+			if (scheduler != null && suspension.query() > 0)
+				scheduler.release(thread);
 			while (suspension.await(jdwp, thread))
 			{
 				interrupted = true;
@@ -1761,13 +1892,12 @@ public final class SpringThreadWorker
 		
 		// Are these certain kinds of initializers? Because final fields are
 		// writable during initialization accordingly
-		SpringClass currentclass = this.contextClass();
-		boolean isstaticinit = method.isStaticInitializer(),
-			isinstanceinit = method.isInstanceInitializer();
+		boolean isstaticinit = decoded.isStaticInitializer,
+			isinstanceinit = decoded.isInstanceInitializer;
 		
 		// Determine the current instruction of execution
 		int pc = frame.pc();
-		Instruction inst = code.getByAddress(pc);
+		Instruction inst = decoded.instruction(pc);
 		
 		// If we are tossing an exception, we need to handle it
 		if (this.__checkException())
@@ -1784,15 +1914,30 @@ public final class SpringThreadWorker
 		
 		// Used to detect the next instruction of execution following this,
 		// may be set accordingly in the frame manually
-		int nextpc = code.addressFollowing(pc),
+		int nextpc = decoded._nextPc[pc],
 			orignextpc = nextpc;
 		
+		// Pre-decoded operands of the instruction, resolved operands are
+		// only valid after the instruction has executed once
+		int argA = decoded._intArgA[pc],
+			argB = decoded._intArgB[pc];
+		Object[] resolvedA = decoded._resolvedA,
+			resolvedB = decoded._resolvedB;
+		
+		// Code which takes the context of the caller cannot keep anything
+		// that was resolved, since access checks differ
+		if (decoded.isContextual)
+		{
+			resolvedA[pc] = null;
+			resolvedB[pc] = null;
+		}
+		
 		// Handle individual instructions
 		int opid;
 		try
 		{
 			// Handle it
-			switch ((opid = inst.operation()))
+			switch ((opid = decoded._operations[pc]))
 			{
 					// Do absolutely nothing!
 				case InstructionIndex.NOP:
@@ -1801,7 +1946,7 @@ public final class SpringThreadWorker
 					// Load object from array
 				case InstructionIndex.AALOAD:
 					{
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						int dx = frame.popInt();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
@@ -1815,7 +1960,7 @@ public final class SpringThreadWorker
 					{
 						SpringObject value = frame.<SpringObject>popFromStack(
 							SpringObject.class);
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						int dx = frame.popInt();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
@@ -1831,8 +1976,7 @@ public final class SpringThreadWorker
 					// Load reference from local
 				case InstructionIndex.ALOAD:
 				case InstructionIndex.WIDE_ALOAD:
-					frame.loadToStack(SpringObject.class,
-						inst.<Integer>argument(0, Integer.class));
+					frame.loadToStack(SpringObject.class, argA);
 					break;
 					
 					// Load reference from local (short)
@@ -1846,10 +1990,16 @@ public final class SpringThreadWorker
 				
 					// Allocate new array
 				case InstructionIndex.ANEWARRAY:
-					frame.pushToStack(this.allocateArray(this.resolveClass(
-						inst.<ClassName>argument(0, ClassName.class)
-						.addDimensions(1)),
-						frame.<Integer>popFromStack(Integer.class)));
+					{
+						SpringClass as = (SpringClass)resolvedA[pc];
+						if (as == null)
+							resolvedA[pc] = (as = this.resolveClass(
+								inst.<ClassName>argument(0, ClassName.class)
+								.addDimensions(1)));
+						
+						frame.pushToStack(this.allocateArray(as,
+							frame.popInt()));
+					}
 					break;
 					
 					// Return reference
@@ -1869,7 +2019,7 @@ public final class SpringThreadWorker
 					// Store reference to local variable
 				case InstructionIndex.ASTORE:
 				case InstructionIndex.WIDE_ASTORE:
-					frame.storeLocal(inst.<Integer>argument(0, Integer.class),
+					frame.storeLocal(argA,
 						frame.<SpringObject>popFromStack(SpringObject.class));
 					break;
 					
@@ -1896,15 +2046,16 @@ public final class SpringThreadWorker
 					// Push value
 				case InstructionIndex.BIPUSH:
 				case InstructionIndex.SIPUSH:
-					frame.pushToStack(inst.<Integer>argument(
-						0, Integer.class));
+					frame.pushToStack(argA);
 					break;
 					
 					// Checks casting from a type to another
 				case InstructionIndex.CHECKCAST:
 					{
-						SpringClass as = this.resolveClass(inst.
-							<ClassName>argument(0, ClassName.class));
+						SpringClass as = (SpringClass)resolvedA[pc];
+						if (as == null)
+							resolvedA[pc] = (as = this.resolveClass(inst.
+								<ClassName>argument(0, ClassName.class)));
 						
 						// This is just popped back on if it passes
 						SpringObject pop = frame.<SpringObject>popFromStack(
@@ -1928,32 +2079,32 @@ public final class SpringThreadWorker
 					// Double to float
 				case InstructionIndex.D2F:
 					{
-						double value = frame.<Double>popFromStack(Double.class);
-						frame.pushToStack(Float.valueOf((float)value));
+						double value = frame.popDouble();
+						frame.pushToStack((float)value);
 					}
 					break;
 					
 					// Double to int
 				case InstructionIndex.D2I:
 					{
-						double value = frame.<Double>popFromStack(Double.class);
-						frame.pushToStack(Integer.valueOf((int)value));
+						double value = frame.popDouble();
+						frame.pushToStack((int)value);
 					}
 					break;
 					
 					// Double to long
 				case InstructionIndex.D2L:
 					{
-						double value = frame.<Double>popFromStack(Double.class);
-						frame.pushToStack(Long.valueOf((long)value));
+						double value = frame.popDouble();
+						frame.pushToStack((long)value);
 					}
 					break;
 				
 					// Addiply double
 				case InstructionIndex.DADD:
 					{
-						double b = frame.<Double>popFromStack(Double.class),
-							a = frame.<Double>popFromStack(Double.class);
+						double b = frame.popDouble(),
+							a = frame.popDouble();
 						frame.pushToStack(a + b);
 					}
 					break;
@@ -1961,8 +2112,8 @@ public final class SpringThreadWorker
 					// Compare double, NaN is positive
 				case InstructionIndex.DCMPG:
 					{
-						double b = frame.<Float>popFromStack(Float.class),
-							a = frame.<Float>popFromStack(Float.class);
+						double b = frame.popDouble(),
+							a = frame.popDouble();
 						
 						if (Double.isNaN(a) || Double.isNaN(b))
 							frame.pushToStack(1);
@@ -1974,8 +2125,8 @@ public final class SpringThreadWorker
 					// Compare double, NaN is negative
 				case InstructionIndex.DCMPL:
 					{
-						double b = frame.<Double>popFromStack(Double.class),
-							a = frame.<Double>popFromStack(Double.class);
+						double b = frame.popDouble(),
+							a = frame.popDouble();
 						
 						if (Double.isNaN(a) || Double.isNaN(b))
 							frame.pushToStack(-1);
@@ -1988,14 +2139,14 @@ public final class SpringThreadWorker
 				case InstructionIndex.DCONST_0:
 				case InstructionIndex.DCONST_1:
 					frame.pushToStack(
-						Double.valueOf(opid - InstructionIndex.DCONST_0));
+						(double)(opid - InstructionIndex.DCONST_0));
 					break;
 				
 					// Divide double
 				case InstructionIndex.DDIV:
 					{
-						double b = frame.<Double>popFromStack(Double.class),
-							a = frame.<Double>popFromStack(Double.class);
+						double b = frame.popDouble(),
+							a = frame.popDouble();
 						frame.pushToStack(a / b);
 					}
 					break;
@@ -2003,8 +2154,7 @@ public final class SpringThreadWorker
 					// Load double from local variable
 				case InstructionIndex.DLOAD:
 				case InstructionIndex.WIDE_DLOAD:
-					frame.loadToStack(Double.class,
-						inst.<Integer>argument(0, Integer.class));
+					frame.loadToStack(Double.class, argA);
 					break;
 					
 					// Load double from local variable
@@ -2019,8 +2169,8 @@ public final class SpringThreadWorker
 					// Multiply double
 				case InstructionIndex.DMUL:
 					{
-						double b = frame.<Double>popFromStack(Double.class),
-							a = frame.<Double>popFromStack(Double.class);
+						double b = frame.popDouble(),
+							a = frame.popDouble();
 						frame.pushToStack(a * b);
 					}
 					break;
@@ -2028,7 +2178,7 @@ public final class SpringThreadWorker
 					// Negate double
 				case InstructionIndex.DNEG:
 					{
-						double a = frame.<Double>popFromStack(Double.class);
+						double a = frame.popDouble();
 						frame.pushToStack(-a);
 					}
 					break;
@@ -2036,24 +2186,23 @@ public final class SpringThreadWorker
 					// Remainder double
 				case InstructionIndex.DREM:
 					{
-						double b = frame.<Double>popFromStack(Double.class),
-							a = frame.<Double>popFromStack(Double.class);
+						double b = frame.popDouble(),
+							a = frame.popDouble();
 						frame.pushToStack(a % b);
 					}
 					break;
 					
 					// Return double
 				case InstructionIndex.DRETURN:
-					this.__vmReturn(thread,
-						frame.<Double>popFromStack(Double.class));
+					this.__vmReturn(thread, frame.popDouble());
 					nextpc = Integer.MIN_VALUE;
 					break;
 				
 					// Subtract double
 				case InstructionIndex.DSUB:
 					{
-						double b = frame.<Double>popFromStack(Double.class),
-							a = frame.<Double>popFromStack(Double.class);
+						double b = frame.popDouble(),
+							a = frame.popDouble();
 						frame.pushToStack(a - b);
 					}
 					break;
@@ -2061,8 +2210,7 @@ public final class SpringThreadWorker
 					// Store double to local variable
 				case InstructionIndex.DSTORE:
 				case InstructionIndex.WIDE_DSTORE:
-					frame.storeLocal(inst.<Integer>argument(0, Integer.class),
-						frame.<Double>popFromStack(Double.class));
+					frame.storeLocal(argA, frame.popDouble());
 					break;
 					
 					// Store long to double variable
@@ -2071,7 +2219,7 @@ public final class SpringThreadWorker
 				case InstructionIndex.DSTORE_2:
 				case InstructionIndex.DSTORE_3:
 					frame.storeLocal(opid - InstructionIndex.DSTORE_0,
-						frame.<Double>popFromStack(Double.class));
+						frame.popDouble());
 					break;
 					
 					// Duplicate top-most stack entry
@@ -2301,32 +2449,32 @@ public final class SpringThreadWorker
 					// Float to double
 				case InstructionIndex.F2D:
 					{
-						float value = frame.<Float>popFromStack(Float.class);
-						frame.pushToStack(Double.valueOf((double)value));
+						float value = frame.popFloat();
+						frame.pushToStack((double)value);
 					}
 					break;
 					
 					// Float to integer
 				case InstructionIndex.F2I:
 					{
-						float value = frame.<Float>popFromStack(Float.class);
-						frame.pushToStack(Integer.valueOf((int)value));
+						float value = frame.popFloat();
+						frame.pushToStack((int)value);
 					}
 					break;
 					
 					// Float to long
 				case InstructionIndex.F2L:
 					{
-						float value = frame.<Float>popFromStack(Float.class);
-						frame.pushToStack(Long.valueOf((long)value));
+						float value = frame.popFloat();
+						frame.pushToStack((long)value);
 					}
 					break;
 				
 					// Add float
 				case InstructionIndex.FADD:
 					{
-						float b = frame.<Float>popFromStack(Float.class),
-							a = frame.<Float>popFromStack(Float.class);
+						float b = frame.popFloat(),
+							a = frame.popFloat();
 						frame.pushToStack(a + b);
 					}
 					break;
@@ -2334,8 +2482,8 @@ public final class SpringThreadWorker
 					// Compare float, NaN is positive
 				case InstructionIndex.FCMPG:
 					{
-						float b = frame.<Float>popFromStack(Float.class),
-							a = frame.<Float>popFromStack(Float.class);
+						float b = frame.popFloat(),
+							a = frame.popFloat();
 						
 						if (Float.isNaN(a) || Float.isNaN(b))
 							frame.pushToStack(1);
@@ -2347,8 +2495,8 @@ public final class SpringThreadWorker
 					// Compare float, NaN is negative
 				case InstructionIndex.FCMPL:
 					{
-						float b = frame.<Float>popFromStack(Float.class),
-							a = frame.<Float>popFromStack(Float.class);
+						float b = frame.popFloat(),
+							a = frame.popFloat();
 						
 						if (Float.isNaN(a) || Float.isNaN(b))
 							frame.pushToStack(-1);
@@ -2362,14 +2510,14 @@ public final class SpringThreadWorker
 				case InstructionIndex.FCONST_1:
 				case InstructionIndex.FCONST_2:
 					frame.pushToStack(
-						Float.valueOf(opid - InstructionIndex.FCONST_0));
+						(float)(opid - InstructionIndex.FCONST_0));
 					break;
 				
 					// Divide float
 				case InstructionIndex.FDIV:
 					{
-						float b = frame.<Float>popFromStack(Float.class),
-							a = frame.<Float>popFromStack(Float.class);
+						float b = frame.popFloat(),
+							a = frame.popFloat();
 						frame.pushToStack(a / b);
 					}
 					break;
@@ -2377,8 +2525,7 @@ public final class SpringThreadWorker
 					// Load float from local variable
 				case InstructionIndex.FLOAD:
 				case InstructionIndex.WIDE_FLOAD:
-					frame.loadToStack(Float.class,
-						inst.<Integer>argument(0, Integer.class));
+					frame.loadToStack(Float.class, argA);
 					break;
 					
 					// Load float from local variable
@@ -2393,8 +2540,8 @@ public final class SpringThreadWorker
 					// Multiply float
 				case InstructionIndex.FMUL:
 					{
-						float b = frame.<Float>popFromStack(Float.class),
-							a = frame.<Float>popFromStack(Float.class);
+						float b = frame.popFloat(),
+							a = frame.popFloat();
 						frame.pushToStack(a * b);
 					}
 					break;
@@ -2402,7 +2549,7 @@ public final class SpringThreadWorker
 					// Negate float
 				case InstructionIndex.FNEG:
 					{
-						float a = frame.<Float>popFromStack(Float.class);
+						float a = frame.popFloat();
 						frame.pushToStack(-a);
 					}
 					break;
@@ -2410,24 +2557,23 @@ public final class SpringThreadWorker
 					// Remainder float
 				case InstructionIndex.FREM:
 					{
-						float b = frame.<Float>popFromStack(Float.class),
-							a = frame.<Float>popFromStack(Float.class);
+						float b = frame.popFloat(),
+							a = frame.popFloat();
 						frame.pushToStack(a % b);
 					}
 					break;
 					
 					// Return float
 				case InstructionIndex.FRETURN:
-					this.__vmReturn(thread,
-						frame.<Float>popFromStack(Float.class));
+					this.__vmReturn(thread, frame.popFloat());
 					nextpc = Integer.MIN_VALUE;
 					break;
 				
 					// Subtract float
 				case InstructionIndex.FSUB:
 					{
-						float b = frame.<Float>popFromStack(Float.class),
-							a = frame.<Float>popFromStack(Float.class);
+						float b = frame.popFloat(),
+							a = frame.popFloat();
 						frame.pushToStack(a - b);
 					}
 					break;
@@ -2435,8 +2581,7 @@ public final class SpringThreadWorker
 					// Store float to local variable
 				case InstructionIndex.FSTORE:
 				case InstructionIndex.WIDE_FSTORE:
-					frame.storeLocal(inst.<Integer>argument(0, Integer.class),
-						frame.<Float>popFromStack(Float.class));
+					frame.storeLocal(argA, frame.popFloat());
 					break;
 					
 					// Store float to local variable
@@ -2445,16 +2590,18 @@ public final class SpringThreadWorker
 				case InstructionIndex.FSTORE_2:
 				case InstructionIndex.FSTORE_3:
 					frame.storeLocal(opid - InstructionIndex.FSTORE_0,
-						frame.<Float>popFromStack(Float.class));
+						frame.popFloat());
 					break;
 					
 					// Read from instance field
 				case InstructionIndex.GETFIELD:
 					{
 						// Lookup field
-						SpringField ssf = this.__lookupInstanceField(
-							inst.<FieldReference>argument(0,
-							FieldReference.class));
+						SpringField ssf = (SpringField)resolvedA[pc];
+						if (ssf == null)
+							resolvedA[pc] = (ssf = this.__lookupInstanceField(
+								inst.<FieldReference>argument(0,
+								FieldReference.class)));
 						
 						// Pop the object to read from
 						SpringObject ref = frame.<SpringObject>popFromStack(
@@ -2472,10 +2619,36 @@ public final class SpringThreadWorker
 								"BK2p");
 						SpringSimpleObject sso = (SpringSimpleObject)ref;
 						
-						// Read and push to the stack
-						SpringFieldStorage store =
-							sso.fieldByIndex(ssf.index());
-						frame.pushToStack(this.asVMObject(store.get()));
+						// Read and push to the stack, primitive fields are
+						// pushed without being boxed
+						switch (ssf._slotType)
+						{
+							case SpringFieldLayout.TYPE_INTEGER:
+								frame.pushToStack(sso.fieldGetInt(ssf));
+								break;
+							
+							case SpringFieldLayout.TYPE_FLOAT:
+								frame.pushToStack(sso.fieldGetFloat(ssf));
+								break;
+							
+							case SpringFieldLayout.TYPE_LONG:
+								frame.pushToStack(sso.fieldGetLong(ssf));
+								break;
+							
+							case SpringFieldLayout.TYPE_DOUBLE:
+								frame.pushToStack(sso.fieldGetDouble(ssf));
+								break;
+							
+							case SpringFieldLayout.TYPE_OBJECT:
+								frame.pushToStack(sso.fieldGetObject(ssf));
+								break;
+								
+								// Volatile fields have their own storage
+							default:
+								frame.pushToStack(this.asVMObject(
+									sso.fieldGet(ssf)));
+								break;
+						}
 						
 						// Debug signal
 						if (jdwp != null && ssf.isDebugWatching(false))
@@ -2490,12 +2663,20 @@ public final class SpringThreadWorker
 				case InstructionIndex.GETSTATIC:
 					{
 						// Lookup field
-						FieldReference fieldRef =
-							inst.<FieldReference>argument(0,
-								FieldReference.class);
-						SpringField[] field = new SpringField[1];
-						SpringFieldStorage ssf = this.__lookupStaticField(
-							fieldRef, field);
+						// The field is only needed when debugging, so that
+						// case always performs the full lookup
+						SpringFieldStorage ssf =
+							(SpringFieldStorage)resolvedA[pc];
+						SpringField[] field = null;
+						if (ssf == null || jdwp != null)
+						{
+							FieldReference fieldRef =
+								inst.<FieldReference>argument(0,
+									FieldReference.class);
+							field = new SpringField[1];
+							resolvedA[pc] = (ssf = this.__lookupStaticField(
+								fieldRef, field));
+						}
 						
 						// Push read value to stack
 						frame.pushToStack(this.asVMObject(
@@ -2515,8 +2696,7 @@ public final class SpringThreadWorker
 					// Go to address
 				case InstructionIndex.GOTO:
 				case InstructionIndex.GOTO_W:
-					nextpc = inst.<InstructionJumpTarget>argument(0,
-						InstructionJumpTarget.class).target();
+					nextpc = argA;
 					break;
 					
 					// Load integer from array
@@ -2525,7 +2705,7 @@ public final class SpringThreadWorker
 				case InstructionIndex.SALOAD:
 				case InstructionIndex.IALOAD:
 					{
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						int dx = frame.popInt();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
@@ -2536,7 +2716,7 @@ public final class SpringThreadWorker
 					// Load double from array
 				case InstructionIndex.DALOAD:
 					{
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						int dx = frame.popInt();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
@@ -2547,7 +2727,7 @@ public final class SpringThreadWorker
 					// Load float from array
 				case InstructionIndex.FALOAD:
 					{
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						int dx = frame.popInt();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
@@ -2559,7 +2739,7 @@ public final class SpringThreadWorker
 					// Load long from array
 				case InstructionIndex.LALOAD:
 					{
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						int dx = frame.popInt();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
@@ -2573,8 +2753,8 @@ public final class SpringThreadWorker
 				case InstructionIndex.SASTORE:
 				case InstructionIndex.IASTORE:
 					{
-						int value = frame.<Integer>popFromStack(Integer.class);
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						int value = frame.popInt();
+						int dx = frame.popInt();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
@@ -2585,9 +2765,8 @@ public final class SpringThreadWorker
 					// Store double to array
 				case InstructionIndex.DASTORE:
 					{
-						double value = frame.<Double>popFromStack(
-							Double.class);
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						double value = frame.popDouble();
+						int dx = frame.popInt();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
@@ -2598,8 +2777,8 @@ public final class SpringThreadWorker
 					// Store float to array
 				case InstructionIndex.FASTORE:
 					{
-						float value = frame.<Float>popFromStack(Float.class);
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						float value = frame.popFloat();
+						int dx = frame.popInt();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
@@ -2610,8 +2789,8 @@ public final class SpringThreadWorker
 					// Store long to array
 				case InstructionIndex.LASTORE:
 					{
-						long value = frame.<Long>popFromStack(Long.class);
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						long value = frame.popLong();
+						int dx = frame.popInt();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
@@ -2622,49 +2801,48 @@ public final class SpringThreadWorker
 					// Integer to byte
 				case InstructionIndex.I2B:
 					{
-						int value = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(Byte.valueOf((byte)value).
-							intValue());
+						int value = frame.popInt();
+						frame.pushToStack((int)(byte)value);
 					}
 					break;
 					
 					// Integer to double
 				case InstructionIndex.I2D:
 					{
-						int value = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(Double.valueOf(value));
+						int value = frame.popInt();
+						frame.pushToStack((double)value);
 					}
 					break;
 					
 					// Integer to long
 				case InstructionIndex.I2L:
 					{
-						int value = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(Long.valueOf(value));
+						int value = frame.popInt();
+						frame.pushToStack((long)value);
 					}
 					break;
 					
 					// Integer to character
 				case InstructionIndex.I2C:
 					{
-						int value = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(Integer.valueOf((char)value));
+						int value = frame.popInt();
+						frame.pushToStack((int)(char)value);
 					}
 					break;
 					
 					// Integer to short
 				case InstructionIndex.I2S:
 					{
-						int value = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(Integer.valueOf((short)value));
+						int value = frame.popInt();
+						frame.pushToStack((int)(short)value);
 					}
 					break;
 					
 					// Integer to float
 				case InstructionIndex.I2F:
 					{
-						int value = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(Float.valueOf(value));
+						int value = frame.popInt();
+						frame.pushToStack((float)value);
 					}
 					break;
 					
@@ -2676,8 +2854,7 @@ public final class SpringThreadWorker
 				case InstructionIndex.ICONST_3:
 				case InstructionIndex.ICONST_4:
 				case InstructionIndex.ICONST_5:
-					frame.pushToStack(Integer.valueOf(
-						-1 + (opid - InstructionIndex.ICONST_M1)));
+					frame.pushToStack(-1 + (opid - InstructionIndex.ICONST_M1));
 					break;
 					
 					// Object a == b
@@ -2689,8 +2866,7 @@ public final class SpringThreadWorker
 								SpringObject.class);
 						
 						if (a == b)
-							nextpc = inst.<InstructionJumpTarget>argument(0,
-								InstructionJumpTarget.class).target();
+							nextpc = argA;
 					}
 					break;
 					
@@ -2703,131 +2879,117 @@ public final class SpringThreadWorker
 								SpringObject.class);
 						
 						if (a != b)
-							nextpc = inst.<InstructionJumpTarget>argument(0,
-								InstructionJumpTarget.class).target();
+							nextpc = argA;
 					}
 					break;
 					
 					// int a == b
 				case InstructionIndex.IF_ICMPEQ:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popInt(),
+							a = frame.popInt();
 						
 						if (a == b)
-							nextpc = inst.<InstructionJumpTarget>argument(0,
-								InstructionJumpTarget.class).target();
+							nextpc = argA;
 					}
 					break;
 					
 					// int a >= b
 				case InstructionIndex.IF_ICMPGE:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popInt(),
+							a = frame.popInt();
 						
 						if (a >= b)
-							nextpc = inst.<InstructionJumpTarget>argument(0,
-								InstructionJumpTarget.class).target();
+							nextpc = argA;
 					}
 					break;
 					
 					// int a > b
 				case InstructionIndex.IF_ICMPGT:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popInt(),
+							a = frame.popInt();
 						
 						if (a > b)
-							nextpc = inst.<InstructionJumpTarget>argument(0,
-								InstructionJumpTarget.class).target();
+							nextpc = argA;
 					}
 					break;
 					
 					// int a <= b
 				case InstructionIndex.IF_ICMPLE:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popInt(),
+							a = frame.popInt();
 						
 						if (a <= b)
-							nextpc = inst.<InstructionJumpTarget>argument(0,
-								InstructionJumpTarget.class).target();
+							nextpc = argA;
 					}
 					break;
 					
 					// int a < b
 				case InstructionIndex.IF_ICMPLT:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popInt(),
+							a = frame.popInt();
 						
 						if (a < b)
-							nextpc = inst.<InstructionJumpTarget>argument(0,
-								InstructionJumpTarget.class).target();
+							nextpc = argA;
 					}
 					break;
 					
 					// int a != b
 				case InstructionIndex.IF_ICMPNE:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popInt(),
+							a = frame.popInt();
 						
 						if (a != b)
-							nextpc = inst.<InstructionJumpTarget>argument(0,
-								InstructionJumpTarget.class).target();
+							nextpc = argA;
 					}
 					break;
 					
 					// int a == 0
 				case InstructionIndex.IFEQ:
-					if (frame.<Integer>popFromStack(Integer.class) == 0)
-						nextpc = inst.<InstructionJumpTarget>argument(0,
-							InstructionJumpTarget.class).target();
+					if (frame.popInt() == 0)
+						nextpc = argA;
 					break;
 					
 					// int a >= 0
 				case InstructionIndex.IFGE:
-					if (frame.<Integer>popFromStack(Integer.class) >= 0)
-						nextpc = inst.<InstructionJumpTarget>argument(0,
-							InstructionJumpTarget.class).target();
+					if (frame.popInt() >= 0)
+						nextpc = argA;
 					break;
 					
 					// int a > 0
 				case InstructionIndex.IFGT:
-					if (frame.<Integer>popFromStack(Integer.class) > 0)
-						nextpc = inst.<InstructionJumpTarget>argument(0,
-							InstructionJumpTarget.class).target();
+					if (frame.popInt() > 0)
+						nextpc = argA;
 					break;
 					
 					// int a <= 0
 				case InstructionIndex.IFLE:
-					if (frame.<Integer>popFromStack(Integer.class) <= 0)
-						nextpc = inst.<InstructionJumpTarget>argument(0,
-							InstructionJumpTarget.class).target();
+					if (frame.popInt() <= 0)
+						nextpc = argA;
 					break;
 					
 					// int a < 0
 				case InstructionIndex.IFLT:
-					if (frame.<Integer>popFromStack(Integer.class) < 0)
-						nextpc = inst.<InstructionJumpTarget>argument(0,
-							InstructionJumpTarget.class).target();
+					if (frame.popInt() < 0)
+						nextpc = argA;
 					break;
 					
 					// int a != 0
 				case InstructionIndex.IFNE:
-					if (frame.<Integer>popFromStack(Integer.class) != 0)
-						nextpc = inst.<InstructionJumpTarget>argument(0,
-							InstructionJumpTarget.class).target();
+					if (frame.popInt() != 0)
+						nextpc = argA;
 					break;
 					
 					// If reference is not null
 				case InstructionIndex.IFNONNULL:
 					if (frame.<SpringObject>popFromStack(
 						SpringObject.class) != SpringNullObject.NULL)
-						nextpc = inst.<InstructionJumpTarget>argument(0,
-							InstructionJumpTarget.class).target();
+						nextpc = argA;
 					break;
 					
 					// If reference is null
@@ -2836,8 +2998,7 @@ public final class SpringThreadWorker
 						SpringObject a = frame.<SpringObject>popFromStack(
 							SpringObject.class);
 						if (a == SpringNullObject.NULL)
-							nextpc = inst.<InstructionJumpTarget>argument(0,
-								InstructionJumpTarget.class).target();
+							nextpc = argA;
 					}
 					break;
 					
@@ -2845,18 +3006,15 @@ public final class SpringThreadWorker
 				case InstructionIndex.IINC:
 				case InstructionIndex.WIDE_IINC:
 					{
-						int dx = inst.<Integer>argument(0, Integer.class);
-						frame.storeLocal(dx, frame.<Integer>loadLocal(
-							Integer.class, dx) + inst.<Integer>argument(1,
-							Integer.class));
+						int dx = argA;
+						frame.storeLocal(dx, frame.loadLocalInt(dx) + argB);
 					}
 					break;
 					
 					// Load integer from local variable
 				case InstructionIndex.ILOAD:
 				case InstructionIndex.WIDE_ILOAD:
-					frame.loadToStack(Integer.class,
-						inst.<Integer>argument(0, Integer.class));
+					frame.loadToStack(Integer.class, argA);
 					break;
 					
 					// Load integer from local variable
@@ -2871,8 +3029,8 @@ public final class SpringThreadWorker
 					// Addly integer
 				case InstructionIndex.IADD:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popInt(),
+							a = frame.popInt();
 						frame.pushToStack(a + b);
 					}
 					break;
@@ -2880,8 +3038,8 @@ public final class SpringThreadWorker
 					// AND integer
 				case InstructionIndex.IAND:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popInt(),
+							a = frame.popInt();
 						frame.pushToStack(a & b);
 					}
 					break;
@@ -2889,8 +3047,8 @@ public final class SpringThreadWorker
 					// Divide integer
 				case InstructionIndex.IDIV:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popInt(),
+							a = frame.popInt();
 						frame.pushToStack(a / b);
 					}
 					break;
@@ -2898,8 +3056,8 @@ public final class SpringThreadWorker
 					// Multiply integer
 				case InstructionIndex.IMUL:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popInt(),
+							a = frame.popInt();
 						frame.pushToStack(a * b);
 					}
 					break;
@@ -2907,7 +3065,7 @@ public final class SpringThreadWorker
 					// Negate integer
 				case InstructionIndex.INEG:
 					{
-						int a = frame.<Integer>popFromStack(Integer.class);
+						int a = frame.popInt();
 						frame.pushToStack(-a);
 					}
 					break;
@@ -2916,8 +3074,10 @@ public final class SpringThreadWorker
 				case InstructionIndex.INSTANCEOF:
 					{
 						// Check against this
-						SpringClass as = this.resolveClass(inst.
-							<ClassName>argument(0, ClassName.class));
+						SpringClass as = (SpringClass)resolvedA[pc];
+						if (as == null)
+							resolvedA[pc] = (as = this.resolveClass(inst.
+								<ClassName>argument(0, ClassName.class)));
 						
 						SpringClass vtype = frame.<SpringObject>popFromStack(
 							SpringObject.class).type();
@@ -2932,7 +3092,8 @@ public final class SpringThreadWorker
 					if (this.verboseCheck(VerboseDebugFlag.METHOD_ENTRY))
 						Debugging.debugNote("Interface: %s", inst);
 				
-					this.__vmInvokeInterface(inst, thread, frame);
+					this.__vmInvokeInterface(inst, thread, frame, decoded,
+						pc);
 					
 					// Exception to be handled?
 					if (this.__checkException())
@@ -2946,7 +3107,8 @@ public final class SpringThreadWorker
 					if (this.verboseCheck(VerboseDebugFlag.METHOD_ENTRY))
 						Debugging.debugNote("Special: %s", inst);
 					
-					this.__vmInvokeSpecial(inst, thread, frame);
+					this.__vmInvokeSpecial(inst, thread, frame, decoded,
+						pc);
 					
 					// Exception to be handled?
 					if (this.__checkException())
@@ -2960,7 +3122,8 @@ public final class SpringThreadWorker
 							VerboseDebugFlag.INVOKE_STATIC))
 						Debugging.debugNote("Static: %s", inst);
 					
-					this.__vmInvokeStatic(inst, thread, frame);
+					this.__vmInvokeStatic(inst, thread, frame, decoded,
+						pc);
 					
 					// Exception to be handled?
 					if (this.__checkException())
@@ -2973,7 +3136,8 @@ public final class SpringThreadWorker
 					if (this.verboseCheck(VerboseDebugFlag.METHOD_ENTRY))
 						Debugging.debugNote("Virtual: %s", inst);
 					
-					this.__vmInvokeVirtual(inst, thread, frame);
+					this.__vmInvokeVirtual(inst, thread, frame, decoded,
+						pc);
 					
 					// Exception to be handled?
 					if (this.__checkException())
@@ -2983,8 +3147,8 @@ public final class SpringThreadWorker
 					// OR integer
 				case InstructionIndex.IOR:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popInt(),
+							a = frame.popInt();
 						frame.pushToStack(a | b);
 					}
 					break;
@@ -2992,24 +3156,23 @@ public final class SpringThreadWorker
 					// Remainder integer
 				case InstructionIndex.IREM:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popInt(),
+							a = frame.popInt();
 						frame.pushToStack(a % b);
 					}
 					break;
 					
 					// Return integer
 				case InstructionIndex.IRETURN:
-					this.__vmReturn(thread,
-						frame.<Integer>popFromStack(Integer.class));
+					this.__vmReturn(thread, frame.popInt());
 					nextpc = Integer.MIN_VALUE;
 					break;
 				
 					// Shift left integer
 				case InstructionIndex.ISHL:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popInt(),
+							a = frame.popInt();
 						frame.pushToStack(a << (b & 0x1F));
 					}
 					break;
@@ -3017,8 +3180,8 @@ public final class SpringThreadWorker
 					// Shift right integer
 				case InstructionIndex.ISHR:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popInt(),
+							a = frame.popInt();
 						frame.pushToStack(a >> (b & 0x1F));
 					}
 					break;
@@ -3026,8 +3189,7 @@ public final class SpringThreadWorker
 					// Store integer to local variable
 				case InstructionIndex.ISTORE:
 				case InstructionIndex.WIDE_ISTORE:
-					frame.storeLocal(inst.<Integer>argument(0, Integer.class),
-						frame.<Integer>popFromStack(Integer.class));
+					frame.storeLocal(argA, frame.popInt());
 					break;
 					
 					// Store integer to local variable
@@ -3036,14 +3198,14 @@ public final class SpringThreadWorker
 				case InstructionIndex.ISTORE_2:
 				case InstructionIndex.ISTORE_3:
 					frame.storeLocal(opid - InstructionIndex.ISTORE_0,
-						frame.<Integer>popFromStack(Integer.class));
+						frame.popInt());
 					break;
 				
 					// Subtract integer
 				case InstructionIndex.ISUB:
 					{
-						Integer b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popInt(),
+							a = frame.popInt();
 						frame.pushToStack(a - b);
 					}
 					break;
@@ -3051,8 +3213,8 @@ public final class SpringThreadWorker
 					// Unsigned shift right integer
 				case InstructionIndex.IUSHR:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popInt(),
+							a = frame.popInt();
 						frame.pushToStack(a >>> (b & 0x1F));
 					}
 					break;
@@ -3060,8 +3222,8 @@ public final class SpringThreadWorker
 					// XOR integer
 				case InstructionIndex.IXOR:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popInt(),
+							a = frame.popInt();
 						frame.pushToStack(a ^ b);
 					}
 					break;
@@ -3069,32 +3231,32 @@ public final class SpringThreadWorker
 					// Long to double
 				case InstructionIndex.L2D:
 					{
-						long value = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack(Double.valueOf((double)value));
+						long value = frame.popLong();
+						frame.pushToStack((double)value);
 					}
 					break;
 					
 					// Long to float
 				case InstructionIndex.L2F:
 					{
-						long value = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack(Float.valueOf((float)value));
+						long value = frame.popLong();
+						frame.pushToStack((float)value);
 					}
 					break;
 					
 					// Long to integer
 				case InstructionIndex.L2I:
 					{
-						long value = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack(Integer.valueOf((int)value));
+						long value = frame.popLong();
+						frame.pushToStack((int)value);
 					}
 					break;
 					
 					// Add long
 				case InstructionIndex.LADD:
 					{
-						long b = frame.<Long>popFromStack(Long.class),
-							a = frame.<Long>popFromStack(Long.class);
+						long b = frame.popLong(),
+							a = frame.popLong();
 						frame.pushToStack(a + b);
 					}
 					break;
@@ -3102,8 +3264,8 @@ public final class SpringThreadWorker
 					// And long
 				case InstructionIndex.LAND:
 					{
-						long b = frame.<Long>popFromStack(Long.class),
-							a = frame.<Long>popFromStack(Long.class);
+						long b = frame.popLong(),
+							a = frame.popLong();
 						frame.pushToStack(a & b);
 					}
 					break;
@@ -3111,8 +3273,8 @@ public final class SpringThreadWorker
 					// Compare long
 				case InstructionIndex.LCMP:
 					{
-						long b = frame.<Long>popFromStack(Long.class),
-							a = frame.<Long>popFromStack(Long.class);
+						long b = frame.popLong(),
+							a = frame.popLong();
 						frame.pushToStack((a < b ? -1 : (a > b ? 1 : 0)));
 					}
 					break;
@@ -3120,8 +3282,8 @@ public final class SpringThreadWorker
 					// Long constant
 				case InstructionIndex.LCONST_0:
 				case InstructionIndex.LCONST_1:
-					frame.pushToStack(Long.valueOf(
-						(opid - InstructionIndex.LCONST_0)));
+					frame.pushToStack(
+						(long)(opid - InstructionIndex.LCONST_0));
 					break;
 					
 					// Load from constant pool, push to the stack
@@ -3139,7 +3301,14 @@ public final class SpringThreadWorker
 						// too as needed
 						if (value instanceof ConstantValueString ||
 							value instanceof ConstantValueClass)
-							frame.pushToStack(this.asVMObject(value));
+						{
+							Object vmValue = resolvedA[pc];
+							if (vmValue == null)
+								resolvedA[pc] = (vmValue =
+									this.asVMObject(value));
+							
+							frame.pushToStack(vmValue);
+						}
 						
 						// This will be pre-boxed so push it to the stack
 						else
@@ -3156,8 +3325,8 @@ public final class SpringThreadWorker
 					// Divide long
 				case InstructionIndex.LDIV:
 					{
-						long b = frame.<Long>popFromStack(Long.class),
-							a = frame.<Long>popFromStack(Long.class);
+						long b = frame.popLong(),
+							a = frame.popLong();
 						frame.pushToStack(a / b);
 					}
 					break;
@@ -3165,8 +3334,7 @@ public final class SpringThreadWorker
 					// Load integer from local variable
 				case InstructionIndex.LLOAD:
 				case InstructionIndex.WIDE_LLOAD:
-					frame.loadToStack(Long.class,
-						inst.<Integer>argument(0, Integer.class));
+					frame.loadToStack(Long.class, argA);
 					break;
 					
 					// Load integer from local variable
@@ -3181,8 +3349,8 @@ public final class SpringThreadWorker
 					// Multiply long
 				case InstructionIndex.LMUL:
 					{
-						long b = frame.<Long>popFromStack(Long.class),
-							a = frame.<Long>popFromStack(Long.class);
+						long b = frame.popLong(),
+							a = frame.popLong();
 						frame.pushToStack(a * b);
 					}
 					break;
@@ -3190,7 +3358,7 @@ public final class SpringThreadWorker
 					// Negate long
 				case InstructionIndex.LNEG:
 					{
-						long a = frame.<Long>popFromStack(Long.class);
+						long a = frame.popLong();
 						frame.pushToStack(-a);
 					}
 					break;
@@ -3198,8 +3366,8 @@ public final class SpringThreadWorker
 					// OR long
 				case InstructionIndex.LOR:
 					{
-						long b = frame.<Long>popFromStack(Long.class),
-							a = frame.<Long>popFromStack(Long.class);
+						long b = frame.popLong(),
+							a = frame.popLong();
 						frame.pushToStack(a | b);
 					}
 					break;
@@ -3207,8 +3375,8 @@ public final class SpringThreadWorker
 					// Subtract long
 				case InstructionIndex.LSUB:
 					{
-						long b = frame.<Long>popFromStack(Long.class),
-							a = frame.<Long>popFromStack(Long.class);
+						long b = frame.popLong(),
+							a = frame.popLong();
 						frame.pushToStack(a - b);
 					}
 					break;
@@ -3218,30 +3386,29 @@ public final class SpringThreadWorker
 				case InstructionIndex.TABLESWITCH:
 					nextpc = inst.<IntMatchingJumpTable>argument(0,
 						IntMatchingJumpTable.class).match(
-						frame.<Integer>popFromStack(Integer.class)).target();
+						frame.popInt()).target();
 					break;
 				
 					// Remainder long
 				case InstructionIndex.LREM:
 					{
-						long b = frame.<Long>popFromStack(Long.class),
-							a = frame.<Long>popFromStack(Long.class);
+						long b = frame.popLong(),
+							a = frame.popLong();
 						frame.pushToStack(a % b);
 					}
 					break;
 					
 					// Return long
 				case InstructionIndex.LRETURN:
-					this.__vmReturn(thread,
-						frame.<Long>popFromStack(Long.class));
+					this.__vmReturn(thread, frame.popLong());
 					nextpc = Integer.MIN_VALUE;
 					break;
 				
 					// Shift left long
 				case InstructionIndex.LSHL:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class);
-						long a = frame.<Long>popFromStack(Long.class);
+						int b = frame.popInt();
+						long a = frame.popLong();
 						frame.pushToStack(a << (((long)b) & 0x3F));
 					}
 					break;
@@ -3249,8 +3416,8 @@ public final class SpringThreadWorker
 					// Shift right long
 				case InstructionIndex.LSHR:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class);
-						long a = frame.<Long>popFromStack(Long.class);
+						int b = frame.popInt();
+						long a = frame.popLong();
 						frame.pushToStack(a >> (((long)b) & 0x3F));
 					}
 					break;
@@ -3258,8 +3425,7 @@ public final class SpringThreadWorker
 					// Store long to local variable
 				case InstructionIndex.LSTORE:
 				case InstructionIndex.WIDE_LSTORE:
-					frame.storeLocal(inst.<Integer>argument(0, Integer.class),
-						frame.<Long>popFromStack(Long.class));
+					frame.storeLocal(argA, frame.popLong());
 					break;
 					
 					// Store long to local variable
@@ -3268,14 +3434,14 @@ public final class SpringThreadWorker
 				case InstructionIndex.LSTORE_2:
 				case InstructionIndex.LSTORE_3:
 					frame.storeLocal(opid - InstructionIndex.LSTORE_0,
-						frame.<Long>popFromStack(Long.class));
+						frame.popLong());
 					break;
 				
 					// Unsigned shift right long
 				case InstructionIndex.LUSHR:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class);
-						long a = frame.<Long>popFromStack(Long.class);
+						int b = frame.popInt();
+						long a = frame.popLong();
 						frame.pushToStack(a >>> (((long)b) & 0x3F));
 					}
 					break;
@@ -3283,8 +3449,8 @@ public final class SpringThreadWorker
 					// XOR long
 				case InstructionIndex.LXOR:
 					{
-						long b = frame.<Long>popFromStack(Long.class),
-							a = frame.<Long>popFromStack(Long.class);
+						long b = frame.popLong(),
+							a = frame.popLong();
 						frame.pushToStack(a ^ b);
 					}
 					break;
@@ -3305,15 +3471,16 @@ public final class SpringThreadWorker
 				case InstructionIndex.MULTIANEWARRAY:
 					{
 						// Determine component type and dimension count
-						SpringClass ccl = this.resolveClass(
-							inst.<ClassName>argument(0, ClassName.class));
-						int n = inst.<Integer>argument(1, Integer.class);
+						SpringClass ccl = (SpringClass)resolvedA[pc];
+						if (ccl == null)
+							resolvedA[pc] = (ccl = this.resolveClass(
+								inst.<ClassName>argument(0, ClassName.class)));
+						int n = argB;
 						
 						// Pop values into array
 						int[] pops = new int[n];
 						for (int i = n - 1; i >= 0; i--)
-							pops[i] = frame.<Integer>popFromStack(
-								Integer.class);
+							pops[i] = frame.popInt();
 						
 						// Call method within the class library since it is
 						// easier, because this is one super complex
@@ -3352,16 +3519,22 @@ public final class SpringThreadWorker
 					
 					// Allocate new object
 				case InstructionIndex.NEW:
-					this.__vmNew(inst, frame);
+					this.__vmNew(inst, frame, decoded, pc);
 					break;
 				
 					// Allocate new primitive array
 				case InstructionIndex.NEWARRAY:
-					frame.pushToStack(this.allocateArray(this.resolveClass(
-						ClassName.fromPrimitiveType(
-						inst.<PrimitiveType>argument(0,
-							PrimitiveType.class)).addDimensions(1)),
-						frame.<Integer>popFromStack(Integer.class)));
+					{
+						SpringClass as = (SpringClass)resolvedA[pc];
+						if (as == null)
+							resolvedA[pc] = (as = this.resolveClass(
+								ClassName.fromPrimitiveType(
+								inst.<PrimitiveType>argument(0,
+									PrimitiveType.class)).addDimensions(1)));
+						
+						frame.pushToStack(this.allocateArray(as,
+							frame.popInt()));
+					}
 					break;
 					
 					// Return from method with no return value
@@ -3401,13 +3574,50 @@ public final class SpringThreadWorker
 					// Put to instance field
 				case InstructionIndex.PUTFIELD:
 					{
-						// Lookup field
-						SpringField ssf = this.__lookupInstanceField(
-							inst.<FieldReference>argument(0,
-							FieldReference.class));
+						// Lookup field along with the class it is within
+						SpringField ssf = (SpringField)resolvedA[pc];
+						SpringClass ssfClass = (SpringClass)resolvedB[pc];
+						if (ssf == null || ssfClass == null)
+						{
+							ssf = this.__lookupInstanceField(
+								inst.<FieldReference>argument(0,
+								FieldReference.class));
+							ssfClass = this.loadClass(ssf.inClass());
+							
+							resolvedB[pc] = ssfClass;
+							resolvedA[pc] = ssf;
+						}
 						
-						// Pop the value and the object to mess with
-						Object value = frame.popFromStack();
+						// Pop the value and the object to mess with, the
+						// value is only boxed for volatile and object fields
+						int intValue = 0;
+						long longValue = 0;
+						float floatValue = 0;
+						double doubleValue = 0;
+						Object value = null;
+						byte slotType = ssf._slotType;
+						switch (slotType)
+						{
+							case SpringFieldLayout.TYPE_INTEGER:
+								intValue = frame.popInt();
+								break;
+							
+							case SpringFieldLayout.TYPE_FLOAT:
+								floatValue = frame.popFloat();
+								break;
+							
+							case SpringFieldLayout.TYPE_LONG:
+								longValue = frame.popLong();
+								break;
+							
+							case SpringFieldLayout.TYPE_DOUBLE:
+								doubleValue = frame.popDouble();
+								break;
+							
+							default:
+								value = frame.popFromStack();
+								break;
+						}
 						SpringObject ref = frame.<SpringObject>popFromStack(
 							SpringObject.class);
 						
@@ -3425,16 +3635,39 @@ public final class SpringThreadWorker
 						
 						// {@squirreljme.error BK2u Cannot store value into
 						// a field which belongs to another class.}
-						if (!this.loadClass(ssf.inClass()).isAssignableFrom(
-							sso.type()))
+						if (!ssfClass.isAssignableFrom(sso.type()))
 							throw new SpringClassCastException("BK2u");
 						
 						// Debug signal
 						if (jdwp != null && ssf.isDebugWatching(true))
 							try (JDWPValue jVal = jdwp.value())
 							{
-								jVal.set(
-									DebugViewObject.__normalizeNull(value));
+								Object debugValue;
+								switch (slotType)
+								{
+									case SpringFieldLayout.TYPE_INTEGER:
+										debugValue = intValue;
+										break;
+									
+									case SpringFieldLayout.TYPE_FLOAT:
+										debugValue = floatValue;
+										break;
+									
+									case SpringFieldLayout.TYPE_LONG:
+										debugValue = longValue;
+										break;
+									
+									case SpringFieldLayout.TYPE_DOUBLE:
+										debugValue = doubleValue;
+										break;
+									
+									default:
+										debugValue = value;
+										break;
+								}
+								
+								jVal.set(DebugViewObject.__normalizeNull(
+									debugValue));
 								jdwp.trip(JDWPTripField.class,
 									JDWPGlobalTrip.FIELD).field(thread,
 										this.loadClass(ssf.inclass),
@@ -3442,9 +3675,37 @@ public final class SpringThreadWorker
 							}
 						
 						// Set
-						SpringFieldStorage store =
-							sso.fieldByIndex(ssf.index());
-						store.set(value, isinstanceinit);
+						switch (slotType)
+						{
+							case SpringFieldLayout.TYPE_INTEGER:
+								sso.fieldPutInt(ssf, intValue,
+									isinstanceinit);
+								break;
+							
+							case SpringFieldLayout.TYPE_FLOAT:
+								sso.fieldPutFloat(ssf, floatValue,
+									isinstanceinit);
+								break;
+							
+							case SpringFieldLayout.TYPE_LONG:
+								sso.fieldPutLong(ssf, longValue,
+									isinstanceinit);
+								break;
+							
+							case SpringFieldLayout.TYPE_DOUBLE:
+								sso.fieldPutDouble(ssf, doubleValue,
+									isinstanceinit);
+								break;
+							
+							case SpringFieldLayout.TYPE_OBJECT:
+								sso.fieldPutObject(ssf, value,
+									isinstanceinit);
+								break;
+							
+							default:
+						sso.fieldSet(ssf, value, isinstanceinit);
+								break;
+						}
 					}
 					break;
 				
@@ -3452,12 +3713,20 @@ public final class SpringThreadWorker
 				case InstructionIndex.PUTSTATIC:
 					{
 						// Lookup field
-						FieldReference fieldRef =
-							inst.<FieldReference>argument(0,
-								FieldReference.class);
-						SpringField[] field = new SpringField[1];
-						SpringFieldStorage ssf = this.__lookupStaticField(
-							fieldRef, field);
+						// The field is only needed when debugging, so that
+						// case always performs the full lookup
+						SpringFieldStorage ssf =
+							(SpringFieldStorage)resolvedA[pc];
+						SpringField[] field = null;
+						if (ssf == null || jdwp != null)
+						{
+							FieldReference fieldRef =
+								inst.<FieldReference>argument(0,
+									FieldReference.class);
+							field = new SpringField[1];
+							resolvedA[pc] = (ssf = this.__lookupStaticField(
+								fieldRef, field));
+						}
 						
 						// Read value
 						Object value = frame.popFromStack();
@@ -3602,32 +3871,41 @@ public final class SpringThreadWorker
 	 * @param __i The instruction.
 	 * @param __t The current thread.
 	 * @param __f The current frame.
+	 * @param __dc The decoded code, for resolved operands.
+	 * @param __pc The address of the instruction.
 	 * @throws NullPointerException On null arguments.
 	 * @since 2018/09/19
 	 */
 	private void __vmInvokeInterface(Instruction __i, SpringThread __t,
-		SpringThread.Frame __f)
+		SpringThread.Frame __f, SpringDecodedCode __dc, int __pc)
 		throws NullPointerException
 	{
-		if (__i == null || __t == null || __f == null)
+		if (__i == null || __t == null || __f == null || __dc == null)
 			throw new NullPointerException("NARG");
 		
-		MethodReference ref = __i.<MethodReference>argument(
-			0, MethodReference.class);
-		
-		// Resolve the method reference
-		SpringClass refclass = this.loadClass(ref.className());
-		SpringMethod refmethod = refclass.lookupMethod(false,
-			ref.memberNameAndType());
-		
-		// {@squirreljme.error BK30 Could not access the target
-		// method for interface invoke. (The target method)}
-		if (!this.checkAccess(refmethod))
-			throw new SpringIncompatibleClassChangeException(
-				String.format("BK30 %s", ref));
+		// Resolve the method reference, if not yet done
+		SpringInlineCache cache = (SpringInlineCache)__dc._resolvedA[__pc];
+		if (cache == null)
+		{
+			MethodReference ref = __i.<MethodReference>argument(
+				0, MethodReference.class);
+			
+			SpringClass refclass = this.loadClass(ref.className());
+			SpringMethod refmethod = refclass.lookupMethod(false,
+				ref.memberNameAndType());
+			
+			// {@squirreljme.error BK30 Could not access the target
+			// method for interface invoke. (The target method)}
+			if (!this.checkAccess(refmethod))
+				throw new SpringIncompatibleClassChangeException(
+					String.format("BK30 %s", ref));
+			
+			__dc._resolvedA[__pc] = (cache =
+				new SpringInlineCache(refclass, refmethod, true));
+		}
 		
 		// Load arguments, includes the instance it acts on
-		int nargs = refmethod.nameAndType().type().argumentCount() + 1;
+		int nargs = cache.argumentCount();
 		Object[] args = new Object[nargs];
 		for (int i = nargs - 1; i >= 0; i--)
 			args[i] = __f.popFromStack();
@@ -3637,23 +3915,35 @@ public final class SpringThreadWorker
 		SpringObject instance = (SpringObject)args[0];
 		if (instance == null || instance == SpringNullObject.NULL)
 			throw new SpringNullPointerException("BK31");
+		
+		// Executing a proxy method? These only need to implement the
+		// interface
+		SpringClass objClass = instance.type();
+		SpringMethod target;
+		if (instance instanceof SpringProxyObject)
+		{
+			if (objClass != null && cache.refClass.isAssignableFrom(objClass))
+			{
+				this.__invokeProxy(cache.nameAndType, args);
+				return;
+			}
 			
+			target = null;
+		}
+		
+		// Find the method to call for the class of this object
+		else
+			target = (objClass == null ? null : cache.lookup(objClass));
+		
 		// {@squirreljme.error BK32 Cannot invoke the method in the object
 		// because it is of the wrong type. (The reference class; The class
 		// of the target object; The first argument)}
-		SpringClass objClass = instance.type();
-		if (objClass == null || !refclass.isAssignableFrom(objClass))
-			throw new SpringClassCastException(
-				String.format("BK32 %s %s %s", refclass, objClass, args[0]));
-				
-		// Executing a proxy method?
-		if (instance instanceof SpringProxyObject)
-			this.__invokeProxy(ref.memberNameAndType(), args);
+		if (target == null)
+			throw new SpringClassCastException(String.format("BK32 %s %s %s",
+				cache.refClass, objClass, args[0]));
 		
-		// Re-lookup the method since we need to the right one! Then invoke it
-		else
-			__t.enterFrame(objClass.lookupMethod(false,
-			ref.memberNameAndType()), args);
+		// Invoke the method which was found
+		this.__enterFrame(__t, target, args);
 	}
 	
 	/**
@@ -3662,29 +3952,25 @@ public final class SpringThreadWorker
 	 * @param __i The instruction.
 	 * @param __t The current thread.
 	 * @param __f The current frame.
+	 * @param __dc The decoded code, for resolved operands.
+	 * @param __pc The address of the instruction.
 	 * @throws NullPointerException On null arguments.
 	 * @since 2018/09/15
 	 */
 	private void __vmInvokeSpecial(Instruction __i, SpringThread __t,
-		SpringThread.Frame __f)
+		SpringThread.Frame __f, SpringDecodedCode __dc, int __pc)
 		throws NullPointerException
 	{
-		if (__i == null || __t == null || __f == null)
+		if (__i == null || __t == null || __f == null || __dc == null)
 			throw new NullPointerException("NARG");
 		
-		MethodReference ref = __i.<MethodReference>argument(
-			0, MethodReference.class);
-		
-		// Resolve the method reference
-		SpringClass refClass = this.loadClass(ref.className());
-		SpringMethod refMethod = refClass.lookupMethod(false,
-			ref.memberNameAndType());
-		
-		// {@squirreljme.error BK34 Could not access the target
-		// method for special invoke. (The target method)}
-		if (!this.checkAccess(refMethod))
-			throw new SpringIncompatibleClassChangeException(
-				String.format("BK34 %s", ref));
+		// The target method only depends on the reference and the class the
+		// current method is in, so it only needs to be determined once
+		SpringMethod refMethod = (SpringMethod)__dc._resolvedA[__pc];
+		if (refMethod == null)
+			__dc._resolvedA[__pc] = (refMethod =
+				this.__vmResolveSpecial(__i.<MethodReference>argument(
+					0, MethodReference.class)));
 		
 		// Load arguments
 		int nargs = refMethod.nameAndType().type().
@@ -3693,45 +3979,14 @@ public final class SpringThreadWorker
 		for (int i = nargs - 1; i >= 0; i--)
 			args[i] = __f.popFromStack();
 		
-		// Get the class of the current method being executed, lookup depends
-		// on it
-		SpringClass currentClass = this.loadClass(
-			this.thread.currentFrame().method().inClass());
-		
 		// {@squirreljme.error BK35 Instance object for special invoke is
 		// null.}
 		SpringObject onthis = (SpringObject)args[0];
 		if (onthis == null || onthis == SpringNullObject.NULL)
 			throw new SpringNullPointerException("BK35");
 		
-		// These modify the action to be performed
-		boolean inSameClass = (currentClass == refClass);
-		boolean inSuper = currentClass.isSuperClass(refClass);
-		boolean isInit = refMethod.name().isInstanceInitializer();
-		boolean isPrivate = refMethod.flags().isPrivate();
-		boolean isPackagePrivate = refMethod.flags().isPackagePrivate();
-		
-		// Call superclass method instead?
-		if ((!isPrivate && !isPackagePrivate) && inSuper && !isInit)
-			try
-			{
-				refMethod = currentClass.superClass()
-					.lookupMethod(false, ref.memberNameAndType());
-			}
-			catch (SpringNoSuchMethodException e)
-			{
-				throw new SpringIncompatibleClassChangeException(
-					String.format("No ref %s from %s", ref, currentClass), e);
-			}
-		
-		// {@squirreljme.error BK36 Cannot call private method that is not
-		// in the same class. (The method reference; Our current class)}
-		else if ((isPrivate || (isPackagePrivate && !isInit)) && !inSameClass)
-			throw new SpringIncompatibleClassChangeException(
-				String.format("BK36 %s %s", ref, currentClass));
-		
 		// Invoke this method
-		__t.enterFrame(refMethod, args);
+		this.__enterFrame(__t, refMethod, args);
 	}
 	
 	/**
@@ -3740,29 +3995,37 @@ public final class SpringThreadWorker
 	 * @param __i The instruction.
 	 * @param __t The current thread.
 	 * @param __f The current frame.
+	 * @param __dc The decoded code, for resolved operands.
+	 * @param __pc The address of the instruction.
 	 * @throws NullPointerException On null arguments.
 	 * @since 2018/09/15
 	 */
 	private final void __vmInvokeStatic(Instruction __i, SpringThread __t,
-		SpringThread.Frame __f)
+		SpringThread.Frame __f, SpringDecodedCode __dc, int __pc)
 		throws NullPointerException
 	{
-		if (__i == null || __t == null || __f == null)
+		if (__i == null || __t == null || __f == null || __dc == null)
 			throw new NullPointerException("NARG");
 		
 		MethodReference ref = __i.<MethodReference>argument(
 			0, MethodReference.class);
 		
-		// Resolve the method reference
-		SpringClass refclass = this.loadClass(ref.className());
-		SpringMethod refmethod = refclass.lookupMethod(true,
-			ref.memberNameAndType());
-		
-		// {@squirreljme.error BK37 Could not access the target
-		// method for static invoke. (The target method)}
-		if (!this.checkAccess(refmethod))
-			throw new SpringIncompatibleClassChangeException(
-				String.format("BK37 %s", ref));
+		// Resolve the method reference, if not yet done
+		SpringMethod refmethod = (SpringMethod)__dc._resolvedA[__pc];
+		if (refmethod == null)
+		{
+			SpringClass refclass = this.loadClass(ref.className());
+			refmethod = refclass.lookupMethod(true,
+				ref.memberNameAndType());
+			
+			// {@squirreljme.error BK37 Could not access the target
+			// method for static invoke. (The target method)}
+			if (!this.checkAccess(refmethod))
+				throw new SpringIncompatibleClassChangeException(
+					String.format("BK37 %s", ref));
+			
+			__dc._resolvedA[__pc] = refmethod;
+		}
 		
 		// Load arguments
 		int nargs = refmethod.nameAndType().type().
@@ -3795,8 +4058,7 @@ public final class SpringThreadWorker
 				currentFrame._profiler = pFrame;
 				
 				// Perform call and get the result
-				rv = this.nativeMethod(ref.className(),
-					ref.memberNameAndType(), args);
+				rv = this.nativeMethod(refmethod, args);
 			}
 			
 			// Exit the profiler frame so it is no longer tracked
@@ -3818,7 +4080,7 @@ public final class SpringThreadWorker
 		
 		// Real code that exists in class file format
 		else
-			__t.enterFrame(refmethod, args);
+			this.__enterFrame(__t, refmethod, args);
 	}
 	
 	/**
@@ -3827,32 +4089,41 @@ public final class SpringThreadWorker
 	 * @param __i The instruction.
 	 * @param __t The current thread.
 	 * @param __f The current frame.
+	 * @param __dc The decoded code, for resolved operands.
+	 * @param __pc The address of the instruction.
 	 * @throws NullPointerException On null arguments.
 	 * @since 2018/09/16
 	 */
 	private final void __vmInvokeVirtual(Instruction __i, SpringThread __t,
-		SpringThread.Frame __f)
+		SpringThread.Frame __f, SpringDecodedCode __dc, int __pc)
 		throws NullPointerException
 	{
-		if (__i == null || __t == null || __f == null)
+		if (__i == null || __t == null || __f == null || __dc == null)
 			throw new NullPointerException("NARG");
 		
-		MethodReference ref = __i.<MethodReference>argument(
-			0, MethodReference.class);
-		
-		// Resolve the method reference
-		SpringClass refclass = this.loadClass(ref.className());
-		SpringMethod refmethod = refclass.lookupMethod(false,
-			ref.memberNameAndType());
-		
-		// {@squirreljme.error BK38 Could not access the target
-		// method for virtual invoke. (The target method)}
-		if (!this.checkAccess(refmethod))
-			throw new SpringIncompatibleClassChangeException(
-				String.format("BK38 %s", ref));
+		// Resolve the method reference, if not yet done
+		SpringInlineCache cache = (SpringInlineCache)__dc._resolvedA[__pc];
+		if (cache == null)
+		{
+			MethodReference ref = __i.<MethodReference>argument(
+				0, MethodReference.class);
+			
+			SpringClass refclass = this.loadClass(ref.className());
+			SpringMethod refmethod = refclass.lookupMethod(false,
+				ref.memberNameAndType());
+			
+			// {@squirreljme.error BK38 Could not access the target
+			// method for virtual invoke. (The target method)}
+			if (!this.checkAccess(refmethod))
+				throw new SpringIncompatibleClassChangeException(
+					String.format("BK38 %s", ref));
+			
+			__dc._resolvedA[__pc] = (cache =
+				new SpringInlineCache(refclass, refmethod, false));
+		}
 		
 		// Load arguments, includes the instance it acts on
-		int nargs = refmethod.nameAndType().type().argumentCount() + 1;
+		int nargs = cache.argumentCount();
 		Object[] args = new Object[nargs];
 		for (int i = nargs - 1; i >= 0; i--)
 			args[i] = __f.popFromStack();
@@ -3863,9 +4134,8 @@ public final class SpringThreadWorker
 		if (instance == null || instance == SpringNullObject.NULL)
 			throw new SpringNullPointerException("BK39");
 		
-		// Re-resolve method for this object's class
-		refmethod = instance.type().lookupMethod(false,
-			ref.memberNameAndType());
+		// Find the method for this object's class
+		SpringMethod refmethod = cache.lookup(instance.type());
 		
 		// Calling onto a proxy?
 		if (instance instanceof SpringProxyObject)
@@ -3873,7 +4143,7 @@ public final class SpringThreadWorker
 		
 		// Enter frame as like a static method
 		else
-		__t.enterFrame(refmethod, args);
+			this.__enterFrame(__t, refmethod, args);
 	}
 	
 	/**
@@ -3882,30 +4152,101 @@ public final class SpringThreadWorker
 	 *
 	 * @param __i The instruction.
 	 * @param __f The current frame.
+	 * @param __dc The decoded code, for resolved operands.
+	 * @param __pc The address of the instruction.
 	 * @throws NullPointerException On null arguments.
 	 * @since 2018/09/15
 	 */
-	private void __vmNew(Instruction __i, SpringThread.Frame __f)
+	private void __vmNew(Instruction __i, SpringThread.Frame __f,
+		SpringDecodedCode __dc, int __pc)
 		throws NullPointerException
 	{
-		if (__i == null || __f == null)
+		if (__i == null || __f == null || __dc == null)
 			throw new NullPointerException("NARG");
 		
-		// Lookup class we want to allocate
-		ClassName allocName;
-		SpringClass toAlloc = this.loadClass((allocName =
-			__i.<ClassName>argument(0, ClassName.class)));
-		
-		// {@squirreljme.error BK3a Cannot allocate an instance of the given
-		// class because it cannot be accessed. (The class to allocate)}
-		if (!this.checkAccess(toAlloc))
-			throw new SpringIncompatibleClassChangeException(
-				String.format("BK3a %s", allocName));
+		// Lookup class we want to allocate, if not yet done
+		SpringClass toAlloc = (SpringClass)__dc._resolvedA[__pc];
+		if (toAlloc == null)
+		{
+			ClassName allocName;
+			toAlloc = this.loadClass((allocName =
+				__i.<ClassName>argument(0, ClassName.class)));
+			
+			// {@squirreljme.error BK3a Cannot allocate an instance of the
+			// given class because it cannot be accessed. (The class to
+			// allocate)}
+			if (!this.checkAccess(toAlloc))
+				throw new SpringIncompatibleClassChangeException(
+					String.format("BK3a %s", allocName));
+			
+			__dc._resolvedA[__pc] = toAlloc;
+		}
 		
 		// Push a new allocation to the stack
 		__f.pushToStack(this.allocateObject(toAlloc));
 	}
 	
+	/**
+	 * Resolves the target of a special invocation, this depends on the
+	 * current class being executed.
+	 *
+	 * @param __ref The method reference.
+	 * @return The method which is to be invoked.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private SpringMethod __vmResolveSpecial(MethodReference __ref)
+		throws NullPointerException
+	{
+		if (__ref == null)
+			throw new NullPointerException("NARG");
+		
+		// Resolve the method reference
+		SpringClass refClass = this.loadClass(__ref.className());
+		SpringMethod refMethod = refClass.lookupMethod(false,
+			__ref.memberNameAndType());
+		
+		// {@squirreljme.error BK34 Could not access the target
+		// method for special invoke. (The target method)}
+		if (!this.checkAccess(refMethod))
+			throw new SpringIncompatibleClassChangeException(
+				String.format("BK34 %s", __ref));
+		
+		// Get the class of the current method being executed, lookup depends
+		// on it
+		SpringClass currentClass = this.loadClass(
+			this.thread.currentFrame().method().inClass());
+		
+		// These modify the action to be performed
+		boolean inSameClass = (currentClass == refClass);
+		boolean inSuper = currentClass.isSuperClass(refClass);
+		boolean isInit = refMethod.name().isInstanceInitializer();
+		boolean isPrivate = refMethod.flags().isPrivate();
+		boolean isPackagePrivate = refMethod.flags().isPackagePrivate();
+		
+		// Call superclass method instead?
+		if ((!isPrivate && !isPackagePrivate) && inSuper && !isInit)
+			try
+			{
+				refMethod = currentClass.superClass()
+					.lookupMethod(false, __ref.memberNameAndType());
+			}
+			catch (SpringNoSuchMethodException e)
+			{
+				throw new SpringIncompatibleClassChangeException(
+					String.format("No ref %s from %s", __ref, currentClass),
+					e);
+			}
+		
+		// {@squirreljme.error BK36 Cannot call private method that is not
+		// in the same class. (The method reference; Our current class)}
+		else if ((isPrivate || (isPackagePrivate && !isInit)) && !inSameClass)
+			throw new SpringIncompatibleClassChangeException(
+				String.format("BK36 %s %s", __ref, currentClass));
+		
+		return refMethod;
+	}
+	
 	/**
 	 * Returns from the top-most frame then pushes the return value to the
 	 * parent frame's stack (if any).
@@ -20,12 +20,19 @@ import net.multiphasicapps.classfile.MethodNameAndType;
 public class UIDisplayCallbackAdapter
 	implements UIDisplayCallback
 {
+	/** The later method. */
+	private static final MethodNameAndType _LATER =
+		MethodNameAndType.ofArguments("later", null, "I", "I");
+	
 	/** The object to call into. */
 	private final SpringObject callback;
 	
 	/** The machine to call for when callbacks occur. */
 	private final SpringMachine machine;
 	
+	/** The later method, resolved when first used. */
+	private volatile SpringMethod _later;
+	
 	/**
 	 * Initializes the callback.
 	 * 
@@ -52,9 +59,13 @@ public class UIDisplayCallbackAdapter
 	@Override
 	public void later(int __displayId, int __serialId)
 	{
-		UIFormCallbackAdapter.__callbackInvoke(this.machine, this.callback,
-			MethodNameAndType.ofArguments("later", null,
-				"I", "I"),
-			__displayId, __serialId);
+		// If two threads race here they will resolve the same method
+		SpringMethod later = this._later;
+		if (later == null)
+			this._later = (later = this.callback.type().lookupMethod(false,
+				UIDisplayCallbackAdapter._LATER));
+		
+		UIFormCallbackAdapter.__callbackInvoke(this.machine, later,
+			this.callback, __displayId, __serialId);
 	}
 }
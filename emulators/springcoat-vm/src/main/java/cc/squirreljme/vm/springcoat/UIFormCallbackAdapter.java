@@ -15,6 +15,10 @@ import cc.squirreljme.jvm.mle.callbacks.UIFormCallback;
 import cc.squirreljme.runtime.cldc.debug.Debugging;
 import cc.squirreljme.vm.springcoat.brackets.UIFormObject;
 import cc.squirreljme.vm.springcoat.brackets.UIItemObject;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
 import net.multiphasicapps.classfile.ClassName;
 import net.multiphasicapps.classfile.MethodNameAndType;
 
@@ -22,15 +26,17 @@ import net.multiphasicapps.classfile.MethodNameAndType;
  * This adapter is responsible for when it is called, to call into SpringCoat
  * whenever any events happen.
  *
+ * The methods of the callback are looked up once and then reused, since
+ * events such as painting and mouse movement happen very often. The wrappers
+ * of each form and item are also kept so that they are not created again
+ * for every event, these are weakly held so they go away with their form or
+ * item.
+ *
  * @since 2020/09/13
  */
 public class UIFormCallbackAdapter
 	implements UIFormCallback
 {
-	/** The callback class. */
-	private static final ClassName CALLBACK_CLASS =
-		new ClassName("cc/squirreljme/jvm/mle/callbacks/UIFormCallback");
-	
 	/** Printing of stack traces. */
 	private static final MethodNameAndType PRINTSTACKTRACE_NAT =
 		new MethodNameAndType("printStackTrace", "()V");
@@ -39,12 +45,76 @@ public class UIFormCallbackAdapter
 	private static final ClassName THROWABLE_CLASS =
 		new ClassName("java/lang/Throwable");
 	
+	/** {@link UIFormCallback#eventKey}. */
+	private static final int _EVENT_KEY =
+		0;
+	
+	/** {@link UIFormCallback#eventMouse}. */
+	private static final int _EVENT_MOUSE =
+		1;
+	
+	/** {@link UIFormCallback#exitRequest}. */
+	private static final int _EXIT_REQUEST =
+		2;
+	
+	/** {@link UIFormCallback#paint}. */
+	private static final int _PAINT =
+		3;
+	
+	/** Integer {@link UIFormCallback#propertyChange}. */
+	private static final int _PROPERTY_CHANGE_INT =
+		4;
+	
+	/** String {@link UIFormCallback#propertyChange}. */
+	private static final int _PROPERTY_CHANGE_STRING =
+		5;
+	
+	/** The methods which are called, by their index. */
+	private static final MethodNameAndType[] _METHODS =
+		{
+			MethodNameAndType.ofArguments("eventKey", null,
+				"Lcc/squirreljme/jvm/mle/brackets/UIFormBracket;",
+				"Lcc/squirreljme/jvm/mle/brackets/UIItemBracket;",
+				"I", "I", "I"),
+			MethodNameAndType.ofArguments("eventMouse", null,
+				"Lcc/squirreljme/jvm/mle/brackets/UIFormBracket;",
+				"Lcc/squirreljme/jvm/mle/brackets/UIItemBracket;",
+				"I", "I", "I", "I", "I"),
+			MethodNameAndType.ofArguments("exitRequest", null,
+				"Lcc/squirreljme/jvm/mle/brackets/UIFormBracket;"),
+			MethodNameAndType.ofArguments("paint", null,
+				"Lcc/squirreljme/jvm/mle/brackets/UIFormBracket;",
+				"Lcc/squirreljme/jvm/mle/brackets/UIItemBracket;",
+				"I", "I", "I", "Ljava/lang/Object;", "I", "[I",
+				"I", "I", "I", "I", "I", "I", "I", "I", "I"),
+			MethodNameAndType.ofArguments("propertyChange", null,
+				"Lcc/squirreljme/jvm/mle/brackets/UIFormBracket;",
+				"Lcc/squirreljme/jvm/mle/brackets/UIItemBracket;",
+				"I", "I", "I", "I"),
+			MethodNameAndType.ofArguments("propertyChange", null,
+				"Lcc/squirreljme/jvm/mle/brackets/UIFormBracket;",
+				"Lcc/squirreljme/jvm/mle/brackets/UIItemBracket;",
+				"I", "I", "Ljava/lang/String;", "Ljava/lang/String;"),
+		};
+	
 	/** The object to call into. */
 	private final SpringObject callback;
 	
 	/** The machine to call for when callbacks occur. */
 	private final SpringMachine machine;
 	
+	/** The methods of the callback, resolved when first used. */
+	private final SpringMethod[] _resolved =
+		new SpringMethod[UIFormCallbackAdapter._METHODS.length];
+	
+	/** The wrappers for forms. */
+	private final Map<UIFormBracket, Reference<UIFormObject>> _forms =
+		new WeakHashMap<>();
+	
+	/** The wrappers for items. */
+	private final Map<UIItemBracket, Reference<UIItemObject>> _items =
+		new WeakHashMap<>();
+	
 	/**
 	 * Initializes the callback adapter.
 	 * 
@@ -55,12 +125,33 @@ public class UIFormCallbackAdapter
 	 */
 	public UIFormCallbackAdapter(SpringMachine __machine, SpringObject __cb)
 		throws NullPointerException
+	{
+		this(__machine, __cb, null);
+	}
+	
+	/**
+	 * Initializes the callback adapter.
+	 * 
+	 * @param __machine The machine executing under.
+	 * @param __cb The SpringCoat object to call.
+	 * @param __form The wrapper of the form the callback is for, this is
+	 * passed to the callback so that it sees the same object, may be
+	 * {@code null}.
+	 * @throws NullPointerException If no machine or callback was specified.
+	 * @since 2026/10/18
+	 */
+	public UIFormCallbackAdapter(SpringMachine __machine, SpringObject __cb,
+		UIFormObject __form)
+		throws NullPointerException
 	{
 		if (__machine == null || __cb == null)
 			throw new NullPointerException("NARG");
 		
 		this.machine = __machine;
 		this.callback = __cb;
+		
+		if (__form != null)
+			this._forms.put(__form.form, new WeakReference<>(__form));
 	}
 	
 	/**
@@ -71,13 +162,9 @@ public class UIFormCallbackAdapter
 	public void eventKey(UIFormBracket __form, UIItemBracket __item,
 		int __event, int __keyCode, int __modifiers)
 	{
-		UIFormCallbackAdapter.__callbackInvoke(this.machine, this.callback,
-			MethodNameAndType.ofArguments("eventKey", null,
-				"Lcc/squirreljme/jvm/mle/brackets/UIFormBracket;",
-				"Lcc/squirreljme/jvm/mle/brackets/UIItemBracket;",
-				"I", "I", "I"),
-			new UIFormObject(this.machine, __form), new UIItemObject(machine,
-				__item),
+		UIFormCallbackAdapter.__callbackInvoke(this.machine,
+			this.__method(UIFormCallbackAdapter._EVENT_KEY),
+			this.callback, this.__form(__form), this.__item(__item),
 			__event, __keyCode, __modifiers);
 	}
 	
@@ -89,13 +176,9 @@ public class UIFormCallbackAdapter
 	public void eventMouse(UIFormBracket __form, UIItemBracket __item,
 		int __event, int __button, int __x, int __y, int __modifiers)
 	{
-		UIFormCallbackAdapter.__callbackInvoke(this.machine, this.callback,
-			MethodNameAndType.ofArguments("eventMouse", null,
-				"Lcc/squirreljme/jvm/mle/brackets/UIFormBracket;",
-				"Lcc/squirreljme/jvm/mle/brackets/UIItemBracket;",
-				"I", "I", "I", "I", "I"),
-			new UIFormObject(this.machine, __form), new UIItemObject(
-				this.machine, __item),
+		UIFormCallbackAdapter.__callbackInvoke(this.machine,
+			this.__method(UIFormCallbackAdapter._EVENT_MOUSE),
+			this.callback, this.__form(__form), this.__item(__item),
 			__event, __button, __x, __y, __modifiers);
 	}
 	
@@ -106,10 +189,9 @@ public class UIFormCallbackAdapter
 	@Override
 	public void exitRequest(UIFormBracket __form)
 	{
-		UIFormCallbackAdapter.__callbackInvoke(this.machine, this.callback,
-			MethodNameAndType.ofArguments("exitRequest", null,
-			"Lcc/squirreljme/jvm/mle/brackets/UIFormBracket;"),
-			new UIFormObject(this.machine, __form));
+		UIFormCallbackAdapter.__callbackInvoke(this.machine,
+			this.__method(UIFormCallbackAdapter._EXIT_REQUEST),
+			this.callback, this.__form(__form));
 	}
 	
 	/**
@@ -119,18 +201,14 @@ public class UIFormCallbackAdapter
 	@Override
 	public void paint(UIFormBracket __form, UIItemBracket __item, int __pf,
 		int __bw, int __bh, Object __buf, int __offset, int[] __pal, int __sx,
-		int __sy, int __sw, int __sh, int __special)
+		int __sy, int __sw, int __sh, int __cx, int __cy, int __cw, int __ch,
+		int __special)
 	{
-		UIFormCallbackAdapter.__callbackInvoke(this.machine, this.callback,
-			MethodNameAndType.ofArguments("paint", null,
-				"Lcc/squirreljme/jvm/mle/brackets/UIFormBracket;",
-				"Lcc/squirreljme/jvm/mle/brackets/UIItemBracket;",
-				"I", "I", "I", "Ljava/lang/Object;", "I", "[I",
-				"I", "I", "I", "I", "I"),
-			new UIFormObject(this.machine, __form), new UIItemObject(
-				this.machine, __item),
+		UIFormCallbackAdapter.__callbackInvoke(this.machine,
+			this.__method(UIFormCallbackAdapter._PAINT),
+			this.callback, this.__form(__form), this.__item(__item),
 			__pf, __bw, __bh, __buf, __offset, __pal, __sx, __sy, __sw, __sh,
-			__special);
+			__cx, __cy, __cw, __ch, __special);
 	}
 	
 	/**
@@ -141,13 +219,9 @@ public class UIFormCallbackAdapter
 	public void propertyChange(UIFormBracket __form, UIItemBracket __item,
 		int __intProp, int __sub, int __old, int __new)
 	{
-		UIFormCallbackAdapter.__callbackInvoke(this.machine, this.callback,
-			MethodNameAndType.ofArguments("propertyChange", null,
-				"Lcc/squirreljme/jvm/mle/brackets/UIFormBracket;",
-				"Lcc/squirreljme/jvm/mle/brackets/UIItemBracket;",
-				"I", "I", "I", "I"),
-			new UIFormObject(this.machine, __form), new UIItemObject(
-				this.machine, __item),
+		UIFormCallbackAdapter.__callbackInvoke(this.machine,
+			this.__method(UIFormCallbackAdapter._PROPERTY_CHANGE_INT),
+			this.callback, this.__form(__form), this.__item(__item),
 			__intProp, __sub, __old, __new);
 	}
 	
@@ -159,45 +233,106 @@ public class UIFormCallbackAdapter
 	public void propertyChange(UIFormBracket __form, UIItemBracket __item,
 		int __strProp, int __sub, String __old, String __new)
 	{
-		UIFormCallbackAdapter.__callbackInvoke(this.machine, this.callback,
-			MethodNameAndType.ofArguments("propertyChange", null,
-				"Lcc/squirreljme/jvm/mle/brackets/UIFormBracket;",
-				"Lcc/squirreljme/jvm/mle/brackets/UIItemBracket;",
-				"I", "I", "Ljava/lang/String;", "Ljava/lang/String;"),
-			new UIFormObject(this.machine, __form),
-			new UIItemObject(this.machine, __item),
+		UIFormCallbackAdapter.__callbackInvoke(this.machine,
+			this.__method(UIFormCallbackAdapter._PROPERTY_CHANGE_STRING),
+			this.callback, this.__form(__form), this.__item(__item),
 			__strProp, __sub, __old, __new);
 	}
 	
+	/**
+	 * Returns the wrapper for the given form.
+	 * 
+	 * @param __form The form to wrap.
+	 * @return The wrapper for the form.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private UIFormObject __form(UIFormBracket __form)
+		throws NullPointerException
+	{
+		Map<UIFormBracket, Reference<UIFormObject>> forms = this._forms;
+		synchronized (forms)
+		{
+			Reference<UIFormObject> ref = forms.get(__form);
+			UIFormObject rv = (ref == null ? null : ref.get());
+			
+			if (rv == null)
+			{
+				rv = new UIFormObject(this.machine, __form);
+				forms.put(__form, new WeakReference<>(rv));
+			}
+			
+			return rv;
+		}
+	}
+	
+	/**
+	 * Returns the wrapper for the given item.
+	 * 
+	 * @param __item The item to wrap.
+	 * @return The wrapper for the item.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private UIItemObject __item(UIItemBracket __item)
+		throws NullPointerException
+	{
+		Map<UIItemBracket, Reference<UIItemObject>> items = this._items;
+		synchronized (items)
+		{
+			Reference<UIItemObject> ref = items.get(__item);
+			UIItemObject rv = (ref == null ? null : ref.get());
+			
+			if (rv == null)
+			{
+				rv = new UIItemObject(this.machine, __item);
+				items.put(__item, new WeakReference<>(rv));
+			}
+			
+			return rv;
+		}
+	}
+	
+	/**
+	 * Returns the method of the callback to call.
+	 * 
+	 * @param __id The index of the method.
+	 * @return The method to call.
+	 * @since 2026/10/18
+	 */
+	private SpringMethod __method(int __id)
+	{
+		// If two threads race here they will resolve the same method
+		SpringMethod[] resolved = this._resolved;
+		SpringMethod rv = resolved[__id];
+		if (rv == null)
+			resolved[__id] = (rv = this.callback.type().lookupMethod(false,
+				UIFormCallbackAdapter._METHODS[__id]));
+		return rv;
+	}
+	
 	/**
 	 * Invokes the callback.
 	 * 
 	 * @param __machine The target machine.
-	 * @param __target The target to call.
-	 * @param __nat The name and type.
-	 * @param __args The arguments to the call.
+	 * @param __method The method to call.
+	 * @param __args The arguments to the call, the first is the object the
+	 * method is called on.
 	 * @throws NullPointerException On null arguments.
 	 * @since 2020/09/15
 	 */
 	static void __callbackInvoke(SpringMachine __machine,
-		SpringObject __target, MethodNameAndType __nat, Object... __args)
+		SpringMethod __method, Object... __args)
 		throws NullPointerException
 	{
-		if (__nat == null || __args == null)
+		if (__machine == null || __method == null || __args == null)
 			throw new NullPointerException("NARG");
 		
-		// Inject our object into the call
-		int argLen = __args.length;
-		Object[] callArgs = new Object[argLen + 1];
-		System.arraycopy(__args, 0, callArgs, 1, argLen);
-		callArgs[0] = __target;
-		
 		// Setup callback thread for handling
 		try (CallbackThread cb = __machine.obtainCallbackThread())
 		{
 			// Invoke the given method
-			Object fail = cb.thread().invokeMethod(false,
-				UIFormCallbackAdapter.CALLBACK_CLASS, __nat, callArgs);
+			Object fail = cb.thread().invokeMethod(__method, __args);
 			
 			// Request failed, do not fail but eat the exception
 			if (fail instanceof MethodInvokeException)
@@ -90,7 +90,7 @@ public class UIFormCallbackProxy
 				
 			case "paint:(Lcc/squirreljme/jvm/mle/brackets/" +
 				"UIFormBracket;Lcc/squirreljme/jvm/mle/brackets/" +
-				"UIItemBracket;IIILjava/lang/Object;I[IIIIII)V":
+				"UIItemBracket;IIILjava/lang/Object;I[IIIIIIIIII)V":
 				SpringArrayObjectInteger pal =
 					(SpringArrayObjectInteger)__args[7];
 				this.callback.paint(
@@ -106,7 +106,11 @@ public class UIFormCallbackProxy
 					(int)__args[9],
 					(int)__args[10],
 					(int)__args[11],
-					(int)__args[12]);
+					(int)__args[12],
+					(int)__args[13],
+					(int)__args[14],
+					(int)__args[15],
+					(int)__args[16]);
 				return null;
 				
 			case "propertyChange:(Lcc/squirreljme/jvm/mle/brackets/" +
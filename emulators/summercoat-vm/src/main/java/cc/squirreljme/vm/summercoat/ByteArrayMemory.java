@@ -99,8 +99,7 @@ public final class ByteArrayMemory
 		
 		// Get properties
 		byte[] bytes = this._bytes;
-		int offset = this.offset,
-			size = this.size;
+		int size = this.size;
 		
 		// The end index where we are reading
 		int enddx = __addr + __l;
@@ -108,12 +107,25 @@ public final class ByteArrayMemory
 		// The limiting index, which never exceeds the size
 		int limdx = (enddx > size ? size : enddx);
 		
-		// The real address to read from
-		int ai = this.boff + __addr;
+		// The address to read from
+		int ai = __addr;
+		
+		// Anything before the region is invalid
+		while (ai < 0 && ai < enddx)
+		{
+			__b[__o++] = -1;
+			ai++;
+		}
 		
 		// Copy all data
-		while (ai < limdx)
-			__b[__o++] = bytes[ai++];
+		if (ai < limdx)
+		{
+			int count = limdx - ai;
+			System.arraycopy(bytes, this.boff + ai, __b, __o, count);
+			
+			__o += count;
+			ai += count;
+		}
 		
 		// If there is anything left over, pour in -1s
 		while ((ai++) < enddx)
@@ -0,0 +1,183 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.vm.summercoat;
+
+import cc.squirreljme.emulator.vm.VMException;
+import dev.shadowtail.classfile.nncc.ArgumentFormat;
+import dev.shadowtail.classfile.nncc.NativeCode;
+import dev.shadowtail.classfile.nncc.NativeInstruction;
+
+/**
+ * This is a single native instruction which has been decoded so that it
+ * does not need to be decoded every time it is executed.
+ *
+ * @since 2026/10/18
+ */
+public final class DecodedInstruction
+{
+	/** The maximum number of arguments an instruction may have. */
+	public static final int MAX_ARGUMENTS =
+		6;
+	
+	/** The address of the instruction. */
+	protected final int address;
+	
+	/** The operation. */
+	protected final int op;
+	
+	/** The encoding of the operation. */
+	protected final int encoding;
+	
+	/** The number of arguments the instruction has. */
+	protected final int argCount;
+	
+	/** The length of the instruction in bytes. */
+	protected final int length;
+	
+	/** The arguments, this must not be modified. */
+	final int[] _args;
+	
+	/** The register list, if there is one, this must not be modified. */
+	final int[] _reglist;
+	
+	/**
+	 * Initializes the decoded instruction.
+	 *
+	 * @param __addr The address of the instruction.
+	 * @param __op The operation.
+	 * @param __args The arguments.
+	 * @param __argCount The number of arguments.
+	 * @param __reglist The register list, may be {@code null}.
+	 * @param __len The length of the instruction.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private DecodedInstruction(int __addr, int __op, int[] __args,
+		int __argCount, int[] __reglist, int __len)
+		throws NullPointerException
+	{
+		if (__args == null)
+			throw new NullPointerException("NARG");
+		
+		this.address = __addr;
+		this.op = __op;
+		this.encoding = NativeInstruction.encoding(__op);
+		this._args = __args;
+		this.argCount = __argCount;
+		this._reglist = __reglist;
+		this.length = __len;
+	}
+	
+	/**
+	 * Decodes the instruction at the given address.
+	 *
+	 * @param __addr The address of the instruction.
+	 * @param __code The bytes of the code the instruction is in.
+	 * @param __off The offset of the instruction in the code bytes.
+	 * @return The decoded instruction.
+	 * @throws NullPointerException On null arguments.
+	 * @throws VMException If the instruction is not valid.
+	 * @since 2026/10/18
+	 */
+	public static DecodedInstruction decode(int __addr, byte[] __code,
+		int __off)
+		throws NullPointerException, VMException
+	{
+		if (__code == null)
+			throw new NullPointerException("NARG");
+		
+		int op = __code[__off] & 0xFF;
+		int[] args = new int[DecodedInstruction.MAX_ARGUMENTS];
+		
+		// Register list, just one is used everywhere
+		int[] reglist = null;
+		
+		// Load arguments for this instruction
+		ArgumentFormat[] af = NativeInstruction.argumentFormat(op);
+		int rargp = __off + 1;
+		for (int i = 0, n = af.length; i < n; i++)
+			switch (af[i])
+			{
+				// Variable sized entries, may be pool values
+				case VUINT:
+				case VUREG:
+				case VPOOL:
+				case VJUMP:
+					{
+						// Long value?
+						int base = (__code[rargp++] & 0xFF);
+						if ((base & 0x80) != 0)
+						{
+							base = ((base & 0x7F) << 8);
+							base |= (__code[rargp++] & 0xFF);
+						}
+						
+						// Set
+						if (af[i] == ArgumentFormat.VJUMP)
+							args[i] = (short)(base |
+								((base & 0x4000) << 1));
+						else
+							args[i] = base;
+						
+						// {@squirreljme.error AE03 Reference to register
+						// which is out of range of maximum number of
+						// registers. (The register index)}
+						if (af[i] == ArgumentFormat.VUREG &&
+							(base < 0 || base >= NativeCode.MAX_REGISTERS))
+							throw new VMException("AE03 " + base);
+					}
+					break;
+				
+				// Register list.
+				case REGLIST:
+					{
+						// Wide
+						int count = (__code[rargp++] & 0xFF);
+						if ((count & 0x80) != 0)
+						{
+							count = ((count & 0x7F) << 8) |
+								(__code[rargp++] & 0xFF);
+							
+							// Read values
+							reglist = new int[count];
+							for (int r = 0; r < count; r++)
+								reglist[r] =
+									((__code[rargp++] & 0xFF) << 8) |
+									(__code[rargp++] & 0xFF);
+						}
+						// Narrow
+						else
+						{
+							reglist = new int[count];
+							
+							// Read values
+							for (int r = 0; r < count; r++)
+								reglist[r] = (__code[rargp++] & 0xFF);
+						}
+					}
+					break;
+				
+				// 32-bit integer/float
+				case INT32:
+				case FLOAT32:
+					args[i] = ((__code[rargp++] & 0xFF) << 24) |
+						((__code[rargp++] & 0xFF) << 16) |
+						((__code[rargp++] & 0xFF) << 8) |
+						((__code[rargp++] & 0xFF));
+					break;
+				
+				default:
+					throw new todo.OOPS(af[i].name());
+			}
+		
+		return new DecodedInstruction(__addr, op, args, af.length, reglist,
+			rargp - __off);
+	}
+}
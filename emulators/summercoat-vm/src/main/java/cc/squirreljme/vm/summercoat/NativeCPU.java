@@ -18,7 +18,6 @@ import cc.squirreljme.jvm.SupervisorPropertyIndex;
 import cc.squirreljme.jvm.SystemCallError;
 import cc.squirreljme.jvm.SystemCallIndex;
 import cc.squirreljme.runtime.cldc.debug.CallTraceElement;
-import dev.shadowtail.classfile.nncc.ArgumentFormat;
 import dev.shadowtail.classfile.nncc.InvalidInstructionException;
 import dev.shadowtail.classfile.nncc.NativeCode;
 import dev.shadowtail.classfile.nncc.NativeInstruction;
@@ -29,6 +28,7 @@ import dev.shadowtail.classfile.xlate.MathType;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.LinkedList;
 
@@ -60,6 +60,10 @@ public final class NativeCPU
 	public static final int METHOD_CACHE_SPILL =
 		1024;
 	
+	/** The number of decoded instructions to cache, must be a power of two. */
+	public static final int DECODE_CACHE =
+		4096;
+	
 	/** The number of execution slices to store. */
 	public static final int MAX_EXECUTION_SLICES =
 		32;
@@ -100,9 +104,16 @@ public final class NativeCPU
 	private final Deque<Deque<ExecutionSlice>> _sopf =
 		(NativeCPU.ENABLE_DEBUG ? new LinkedList<Deque<ExecutionSlice>>() : null);
 	
+	/** Instructions which were decoded, by their address. */
+	private final DecodedInstruction[] _decoded =
+		new DecodedInstruction[NativeCPU.DECODE_CACHE];
+	
 	/** IPC Exception register. */
 	private int _ipcexception;
 	
+	/** The code epoch the decoded instructions are valid for. */
+	private int _decodedEpoch;
+	
 	/**
 	 * Initializes the native CPU.
 	 *
@@ -300,13 +311,17 @@ public final class NativeCPU
 		int[] lr = null;
 		int pc = -1;
 		
-		// Per operation handling
-		final int[] args = new int[6];
-		
 		// Method cache to reduce tons of method reads
 		final byte[] icache = new byte[NativeCPU.METHOD_CACHE];
 		int lasticache = -(NativeCPU.METHOD_CACHE_SPILL + 1);
 		
+		// Instructions which were already decoded, by their address, these
+		// are only cached when the code epoch of virtual memory is known
+		final VirtualMemory vmem = (memory instanceof VirtualMemory ?
+			(VirtualMemory)memory : null);
+		final DecodedInstruction[] decoded = this._decoded;
+		int decodeMask = NativeCPU.DECODE_CACHE - 1;
+		
 		// Debug point counter
 		int pointcounter = 0;
 		
@@ -339,114 +354,62 @@ public final class NativeCPU
 				reload = false;
 			}
 			
-			// For a bit faster execution of the method, cache a bunch of
-			// the code that is being executed in memory. Constantly performing
-			// the method calls to read single bytes of memory is a bit so, so
-			// this should hopefully improve performance slightly.
-			int pcdiff = pc - lasticache;
-			if (pcdiff < 0 || pcdiff >= NativeCPU.METHOD_CACHE_SPILL)
+			// Use the already decoded instruction if there is one, if code
+			// was written to then everything decoded is thrown away
+			DecodedInstruction inst = null;
+			if (vmem != null)
 			{
-				memory.memReadBytes(pc, icache, 0, NativeCPU.METHOD_CACHE);
-				lasticache = pc;
+				int epoch = vmem.codeEpoch();
+				if (epoch != this._decodedEpoch)
+				{
+					Arrays.fill(decoded, null);
+					this._decodedEpoch = epoch;
+					
+					// The cached code bytes are also no longer valid
+					lasticache = -(NativeCPU.METHOD_CACHE_SPILL + 1);
+				}
+				
+				inst = decoded[pc & decodeMask];
+				if (inst != null && inst.address != pc)
+					inst = null;
 			}
 			
-			// Calculate last PC base address
-			int bpc = pc - lasticache;
+			// Need to decode the instruction
+			if (inst == null)
+			{
+				// For a bit faster execution of the method, cache a bunch of
+				// the code that is being executed in memory. Constantly
+				// performing the method calls to read single bytes of memory
+				// is a bit so, so this should hopefully improve performance
+				// slightly.
+				int pcdiff = pc - lasticache;
+				if (pcdiff < 0 || pcdiff >= NativeCPU.METHOD_CACHE_SPILL)
+				{
+					memory.memReadBytes(pc, icache, 0, NativeCPU.METHOD_CACHE);
+					lasticache = pc;
+				}
+				
+				// Decode and remember it, writes to this code will cause it
+				// to be decoded again
+				inst = DecodedInstruction.decode(pc, icache, pc - lasticache);
+				if (vmem != null)
+				{
+					vmem.markCode(pc, inst.length);
+					decoded[pc & decodeMask] = inst;
+				}
+			}
 			
 			// Always set PC address for debugging frames
 			nowframe._pc = pc;
 			
 			// Read operation
 			nowframe._lastpc = pc;
-			int op = icache[bpc] & 0xFF;
-			
-			// Reset all input arguments
-			for (int i = 0, n = args.length; i < n; i++)
-				args[i] = 0;
-			
-			// Register list, just one is used everywhere
-			int[] reglist = null;
-			
-			// Load arguments for this instruction
-			ArgumentFormat[] af = NativeInstruction.argumentFormat(op);
-			int rargp = bpc + 1;
-			for (int i = 0, n = af.length; i < n; i++)
-				switch (af[i])
-				{
-					// Variable sized entries, may be pool values
-					case VUINT:
-					case VUREG:
-					case VPOOL:
-					case VJUMP:
-						{
-							// Long value?
-							int base = (icache[rargp++] & 0xFF);
-							if ((base & 0x80) != 0)
-							{
-								base = ((base & 0x7F) << 8);
-								base |= (icache[rargp++] & 0xFF);
-							}
-							
-							// Set
-							if (af[i] == ArgumentFormat.VJUMP)
-								args[i] = (short)(base |
-									((base & 0x4000) << 1));
-							else
-								args[i] = base;
-							
-							// {@squirreljme.error AE03 Reference to register
-							// which is out of range of maximum number of
-							// registers. (The register index)}
-							if (af[i] == ArgumentFormat.VUREG &&
-								(base < 0 || base >= NativeCode.MAX_REGISTERS))
-								throw new VMException("AE03 " + base);
-						}
-						break;
-					
-					// Register list.
-					case REGLIST:
-						{
-							// Wide
-							int count = (icache[rargp++] & 0xFF);
-							if ((count & 0x80) != 0)
-							{
-								count = ((count & 0x7F) << 8) |
-									(icache[rargp++] & 0xFF);
-								
-								// Read values
-								reglist = new int[count];
-								for (int r = 0; r < count; r++)
-									reglist[r] =
-										((icache[rargp++] & 0xFF) << 8) |
-										(icache[rargp++] & 0xFF);
-							}
-							// Narrow
-							else
-							{
-								reglist = new int[count];
-								
-								// Read values
-								for (int r = 0; r < count; r++)
-									reglist[r] = (icache[rargp++] & 0xFF);
-							}
-						}
-						break;
-					
-					// 32-bit integer/float
-					case INT32:
-					case FLOAT32:
-						args[i] = ((icache[rargp++] & 0xFF) << 24) |
-							((icache[rargp++] & 0xFF) << 16) |
-							((icache[rargp++] & 0xFF) << 8) |
-							((icache[rargp++] & 0xFF));
-						break;
-					
-					default:
-						throw new todo.OOPS(af[i].name());
-				}
+			int op = inst.op;
+			int[] args = inst._args;
+			int[] reglist = inst._reglist;
 			
 			// Determine the encoding
-			int encoding = NativeInstruction.encoding(op);
+			int encoding = inst.encoding;
 			
 			// Set first point flag
 			if (encoding == NativeInstructionType.DEBUG_ENTRY)
@@ -457,7 +420,7 @@ public final class NativeCPU
 			{
 				// Get slice for this instruction
 				ExecutionSlice el = ExecutionSlice.of(this.trace(nowframe),
-					nowframe, op, args, af.length, reglist);
+					nowframe, op, args, inst.argCount, reglist);
 				
 				// Add to previous instructions, do not exceed slice limits
 				Deque<ExecutionSlice> execslices = nowframe._execslices;
@@ -485,7 +448,7 @@ public final class NativeCPU
 			
 			// By default the next instruction is the address after all
 			// arguments have been read
-			int nextpc = lasticache + rargp;
+			int nextpc = pc + inst.length;
 			
 			// Handle the operation
 			switch (encoding)
@@ -646,12 +609,15 @@ public final class NativeCPU
 					// Invoke a pointer
 				case NativeInstructionType.INVOKE:
 					{
-						// Load values into the register list
-						for (int i = 0, n = reglist.length; i < n; i++)
-							reglist[i] = lr[reglist[i]];
+						// Load values from the register list, the list is
+						// part of the decoded instruction so it is copied
+						int n = reglist.length;
+						int[] callargs = new int[n];
+						for (int i = 0; i < n; i++)
+							callargs[i] = lr[reglist[i]];
 						
 						// Enter the frame
-						this.enterFrame(lr[args[0]], reglist);
+						this.enterFrame(lr[args[0]], callargs);
 						
 						// Entering some other frame
 						reload = true;
@@ -54,6 +54,29 @@ public final class RawMemory
 		return (this.bytes[__addr] & 0xFF);
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void memReadBytes(int __addr, byte[] __b, int __o, int __l)
+		throws IndexOutOfBoundsException, NullPointerException
+	{
+		if (__b == null)
+			throw new NullPointerException("NARG");
+		if (__o < 0 || __l < 0 || (__o + __l) > __b.length)
+			throw new IndexOutOfBoundsException("IOOB");
+		
+		// Treat out of region reads as invalid data
+		if (__addr < 0 || __addr > this.size - __l)
+		{
+			super.memReadBytes(__addr, __b, __o, __l);
+			return;
+		}
+		
+		System.arraycopy(this.bytes, __addr, __b, __o, __l);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2019/04/21
@@ -117,7 +140,7 @@ public final class RawMemory
 	{
 		// {@squirreljme.error AE06 Cannot write to the specified address.
 		// (The address to write to)}
-		if (__addr < 0 || __addr >= this.size - 1)
+		if (__addr < 0 || __addr >= this.size)
 			throw new VMRuntimeException(String.format("AE06 %08x",
 				this.offset + __addr));
 		
@@ -125,6 +148,27 @@ public final class RawMemory
 		bytes[__addr++] = (byte)(__v);
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void memWriteBytes(int __addr, byte[] __b, int __o, int __l)
+	{
+		if (__b == null)
+			throw new NullPointerException("NARG");
+		if (__o < 0 || __l < 0 || (__o + __l) > __b.length)
+			throw new IndexOutOfBoundsException("IOOB");
+		
+		// {@squirreljme.error AE0r Cannot write to the specified address.
+		// (The address to write to; The number of bytes to write)}
+		if (__addr < 0 || __addr > this.size - __l)
+			throw new VMRuntimeException(String.format("AE0r %08x %d",
+				this.offset + __addr, __l));
+		
+		System.arraycopy(__b, __o, this.bytes, __addr, __l);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2019/04/21
@@ -154,7 +198,7 @@ public final class RawMemory
 	{
 		// {@squirreljme.error AE08 Cannot write to the specified address.
 		// (The address to write to)}
-		if (__addr < 0 || __addr >= this.size - 2)
+		if (__addr < 0 || __addr >= this.size - 1)
 			throw new VMRuntimeException(String.format("AE08 %08x",
 				this.offset + __addr));
 		
@@ -180,6 +180,50 @@ public final class SuitesMemory
 		return suitemem[si].memReadByte(__addr - suitemem[si].offset);
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void memReadBytes(int __addr, byte[] __b, int __o, int __l)
+		throws IndexOutOfBoundsException, NullPointerException
+	{
+		// Forward to the suite if this is entirely within it
+		SuiteMemory suite = this.__suite(__addr, __l);
+		if (suite != null)
+			suite.memReadBytes(__addr - suite.offset, __b, __o, __l);
+		else
+			super.memReadBytes(__addr, __b, __o, __l);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public int memReadInt(int __addr)
+	{
+		// Forward to the suite if this is entirely within it
+		SuiteMemory suite = this.__suite(__addr, 4);
+		if (suite != null)
+			return suite.memReadInt(__addr - suite.offset);
+		return super.memReadInt(__addr);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public int memReadShort(int __addr)
+	{
+		// Forward to the suite if this is entirely within it
+		SuiteMemory suite = this.__suite(__addr, 2);
+		if (suite != null)
+			return suite.memReadShort(__addr - suite.offset);
+		return super.memReadShort(__addr);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2019/04/21
@@ -304,5 +348,41 @@ public final class SuitesMemory
 			throw new RuntimeException("AE0b", e);
 		}
 	}
+	
+	/**
+	 * Returns the suite which the given span of memory is entirely within.
+	 *
+	 * @param __addr The address to access.
+	 * @param __len The number of bytes to access.
+	 * @return The suite the span is within, or {@code null} if it is not
+	 * entirely within a single suite.
+	 * @since 2026/10/18
+	 */
+	private SuiteMemory __suite(int __addr, int __len)
+	{
+		// Needs to be initialized?
+		if (!this._didconfiginit)
+			this.__init();
+		
+		// The configuration table is not a suite
+		if (__addr < SuitesMemory.CONFIG_TABLE_SIZE || __len <= 0)
+			return null;
+		
+		// Determine the suite index we are wanting to look in memory
+		int si = (__addr - SuitesMemory.CONFIG_TABLE_SIZE) /
+			SuitesMemory.SUITE_CHUNK_SIZE;
+		
+		// Not within a suite
+		SuiteMemory[] suitemem = this._suitemem;
+		if (si < 0 || si >= suitemem.length)
+			return null;
+		
+		// The span must not go into the next suite
+		SuiteMemory rv = suitemem[si];
+		if (__addr - rv.offset > SuitesMemory.SUITE_CHUNK_SIZE - __len)
+			return null;
+		
+		return rv;
+	}
 }
 
@@ -12,16 +12,42 @@ package cc.squirreljme.vm.summercoat;
 import cc.squirreljme.emulator.vm.VMException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This class contains the entirety of virtual memory, this includes access
  * to the various on-demand minification of suites and classes.
  *
+ * Accesses are found through a page table, if a page is entirely within a
+ * single region then the access goes directly to that region. Otherwise,
+ * such as for unmapped pages or pages which have multiple regions in them,
+ * every region is searched.
+ *
+ * Pages which contain code that was decoded are marked, when any of those
+ * pages are written to the code epoch changes so that any decoded code is
+ * discarded.
+ *
  * @since 2019/04/21
  */
 public final class VirtualMemory
 	extends AbstractWritableMemory
 {
+	/** The number of bits used for the page size. */
+	public static final int PAGE_SHIFT =
+		16;
+	
+	/** The size of a single page. */
+	public static final int PAGE_SIZE =
+		1 << VirtualMemory.PAGE_SHIFT;
+	
+	/** The mask for the address within a page. */
+	public static final int PAGE_MASK =
+		VirtualMemory.PAGE_SIZE - 1;
+	
+	/** The number of pages in memory. */
+	public static final int PAGE_COUNT =
+		(int)(0x80000000L >>> VirtualMemory.PAGE_SHIFT);
+	
 	/** Memory map. */
 	private final List<Memory> _memories =
 		new ArrayList<>();
@@ -30,6 +56,34 @@ public final class VirtualMemory
 	private volatile Memory[] _cache =
 		new Memory[0];
 	
+	/** The region to read from for each page. */
+	private volatile ReadableMemory[] _readPages =
+		new ReadableMemory[VirtualMemory.PAGE_COUNT];
+	
+	/** The region to write to for each page. */
+	private volatile WritableMemory[] _writePages =
+		new WritableMemory[VirtualMemory.PAGE_COUNT];
+	
+	/** Pages which have had code decoded from them. */
+	private final boolean[] _codePages =
+		new boolean[VirtualMemory.PAGE_COUNT];
+	
+	/** The code epoch, changes when a page with code is written to. */
+	private final AtomicInteger _codeEpoch =
+		new AtomicInteger();
+	
+	/**
+	 * Returns the current code epoch, if this changes then code has been
+	 * written to and any decoded code must be discarded.
+	 *
+	 * @return The code epoch.
+	 * @since 2026/10/18
+	 */
+	public final int codeEpoch()
+	{
+		return this._codeEpoch.get();
+	}
+	
 	/**
 	 * Maps the given region of memory.
 	 *
@@ -49,11 +103,47 @@ public final class VirtualMemory
 			memories.add(__mem);
 			
 			// Redo cache
-			this._cache = memories.<Memory>toArray(
+			Memory[] cache = memories.<Memory>toArray(
 				new Memory[memories.size()]);
+			this._cache = cache;
+			
+			// Redo the page tables
+			ReadableMemory[] readPages =
+				new ReadableMemory[VirtualMemory.PAGE_COUNT];
+			WritableMemory[] writePages =
+				new WritableMemory[VirtualMemory.PAGE_COUNT];
+			for (int i = 0; i < VirtualMemory.PAGE_COUNT; i++)
+			{
+				readPages[i] = VirtualMemory.<ReadableMemory>__pageRegion(
+					cache, i, ReadableMemory.class);
+				writePages[i] = VirtualMemory.<WritableMemory>__pageRegion(
+					cache, i, WritableMemory.class);
+			}
+			
+			this._readPages = readPages;
+			this._writePages = writePages;
 		}
 	}
 	
+	/**
+	 * Marks the given span of memory as containing decoded code, so that
+	 * writes to it change the code epoch.
+	 *
+	 * @param __addr The address of the code.
+	 * @param __len The length of the code.
+	 * @since 2026/10/18
+	 */
+	public final void markCode(int __addr, int __len)
+	{
+		if (__addr < 0 || __len <= 0)
+			return;
+		
+		boolean[] codePages = this._codePages;
+		for (int p = __addr >>> VirtualMemory.PAGE_SHIFT,
+			n = VirtualMemory.__lastPage(__addr, __len); p <= n; p++)
+			codePages[p] = true;
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2019/04/21
@@ -61,6 +151,15 @@ public final class VirtualMemory
 	@Override
 	public final int memReadByte(int __addr)
 	{
+		// Use the region the page is in
+		if (__addr >= 0)
+		{
+			ReadableMemory page =
+				this._readPages[__addr >>> VirtualMemory.PAGE_SHIFT];
+			if (page != null)
+				return page.memReadByte(__addr - page.memRegionOffset());
+		}
+		
 		// Find memory to read from
 		Memory[] cache = this._cache;
 		for (Memory c : cache)
@@ -78,6 +177,89 @@ public final class VirtualMemory
 		throw new VMException(String.format("AE0i %08x", __addr));
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void memReadBytes(int __addr, byte[] __b, int __o, int __l)
+		throws IndexOutOfBoundsException, NullPointerException
+	{
+		if (__b == null)
+			throw new NullPointerException("NARG");
+		if (__o < 0 || __l < 0 || (__o + __l) > __b.length)
+			throw new IndexOutOfBoundsException("IOOB");
+		
+		// Copy the bytes a page at a time
+		ReadableMemory[] readPages = this._readPages;
+		while (__l > 0)
+		{
+			// Do not cross over the end of the page
+			int count = VirtualMemory.PAGE_SIZE -
+				(__addr & VirtualMemory.PAGE_MASK);
+			if (count > __l)
+				count = __l;
+			
+			// Copy directly from the region, otherwise copy every byte
+			ReadableMemory page = (__addr < 0 ? null :
+				readPages[__addr >>> VirtualMemory.PAGE_SHIFT]);
+			if (page != null)
+				page.memReadBytes(__addr - page.memRegionOffset(),
+					__b, __o, count);
+			else
+				for (int i = 0; i < count; i++)
+					__b[__o + i] = (byte)this.memReadByte(__addr + i);
+			
+			__addr += count;
+			__o += count;
+			__l -= count;
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int memReadInt(int __addr)
+	{
+		// Use the region the page is in, if the value is in the same page
+		if (__addr >= 0 &&
+			(__addr & VirtualMemory.PAGE_MASK) <= VirtualMemory.PAGE_SIZE - 4)
+		{
+			ReadableMemory page =
+				this._readPages[__addr >>> VirtualMemory.PAGE_SHIFT];
+			if (page != null)
+				return page.memReadInt(__addr - page.memRegionOffset());
+		}
+		
+		return super.memReadInt(__addr);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int memReadShort(int __addr)
+	{
+		// Use the region the page is in, if the value is in the same page
+		if (__addr >= 0 &&
+			(__addr & VirtualMemory.PAGE_MASK) <= VirtualMemory.PAGE_SIZE - 2)
+		{
+			ReadableMemory page =
+				this._readPages[__addr >>> VirtualMemory.PAGE_SHIFT];
+			
+			// Regions differ on whether shorts are sign extended, so this
+			// is always unsigned like the byte by byte read
+			if (page != null)
+				return page.memReadShort(__addr - page.memRegionOffset()) &
+					0xFFFF;
+		}
+		
+		return super.memReadShort(__addr);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2019/04/21
@@ -105,6 +287,20 @@ public final class VirtualMemory
 	@Override
 	public final void memWriteByte(int __addr, int __v)
 	{
+		this.__codeWrite(__addr, 1);
+		
+		// Use the region the page is in
+		if (__addr >= 0)
+		{
+			WritableMemory page =
+				this._writePages[__addr >>> VirtualMemory.PAGE_SHIFT];
+			if (page != null)
+			{
+				page.memWriteByte(__addr - page.memRegionOffset(), __v);
+				return;
+			}
+		}
+		
 		// Find memory to write to
 		Memory[] cache = this._cache;
 		for (Memory c : cache)
@@ -127,5 +323,172 @@ public final class VirtualMemory
 		// memory! (The address; The value to write)}
 		throw new VMException(String.format("AE0j %08x %d", __addr, __v));
 	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void memWriteBytes(int __addr, byte[] __b, int __o, int __l)
+	{
+		if (__b == null)
+			throw new NullPointerException("NARG");
+		if (__o < 0 || __l < 0 || (__o + __l) > __b.length)
+			throw new IndexOutOfBoundsException("IOOB");
+		
+		this.__codeWrite(__addr, __l);
+		
+		// Copy the bytes a page at a time
+		WritableMemory[] writePages = this._writePages;
+		while (__l > 0)
+		{
+			// Do not cross over the end of the page
+			int count = VirtualMemory.PAGE_SIZE -
+				(__addr & VirtualMemory.PAGE_MASK);
+			if (count > __l)
+				count = __l;
+			
+			// Copy directly to the region, otherwise copy every byte
+			WritableMemory page = (__addr < 0 ? null :
+				writePages[__addr >>> VirtualMemory.PAGE_SHIFT]);
+			if (page != null)
+				page.memWriteBytes(__addr - page.memRegionOffset(),
+					__b, __o, count);
+			else
+				for (int i = 0; i < count; i++)
+					this.memWriteByte(__addr + i, __b[__o + i] & 0xFF);
+			
+			__addr += count;
+			__o += count;
+			__l -= count;
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void memWriteInt(int __addr, int __v)
+	{
+		this.__codeWrite(__addr, 4);
+		
+		// Use the region the page is in, if the value is in the same page
+		if (__addr >= 0 &&
+			(__addr & VirtualMemory.PAGE_MASK) <= VirtualMemory.PAGE_SIZE - 4)
+		{
+			WritableMemory page =
+				this._writePages[__addr >>> VirtualMemory.PAGE_SHIFT];
+			if (page != null)
+			{
+				page.memWriteInt(__addr - page.memRegionOffset(), __v);
+				return;
+			}
+		}
+		
+		super.memWriteInt(__addr, __v);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void memWriteShort(int __addr, int __v)
+	{
+		this.__codeWrite(__addr, 2);
+		
+		// Use the region the page is in, if the value is in the same page
+		if (__addr >= 0 &&
+			(__addr & VirtualMemory.PAGE_MASK) <= VirtualMemory.PAGE_SIZE - 2)
+		{
+			WritableMemory page =
+				this._writePages[__addr >>> VirtualMemory.PAGE_SHIFT];
+			if (page != null)
+			{
+				page.memWriteShort(__addr - page.memRegionOffset(), __v);
+				return;
+			}
+		}
+		
+		super.memWriteShort(__addr, __v);
+	}
+	
+	/**
+	 * Checks if code is being written to, if it is then the code epoch is
+	 * changed.
+	 *
+	 * @param __addr The address being written.
+	 * @param __len The number of bytes being written.
+	 * @since 2026/10/18
+	 */
+	private void __codeWrite(int __addr, int __len)
+	{
+		if (__addr < 0 || __len <= 0)
+			return;
+		
+		boolean[] codePages = this._codePages;
+		for (int p = __addr >>> VirtualMemory.PAGE_SHIFT,
+			n = VirtualMemory.__lastPage(__addr, __len); p <= n; p++)
+			if (codePages[p])
+			{
+				codePages[p] = false;
+				this._codeEpoch.incrementAndGet();
+			}
+	}
+	
+	/**
+	 * Returns the last page of the given span.
+	 *
+	 * @param __addr The address of the span, must not be negative.
+	 * @param __len The length of the span, must be positive.
+	 * @return The last page of the span.
+	 * @since 2026/10/18
+	 */
+	private static int __lastPage(int __addr, int __len)
+	{
+		long end = ((long)__addr + __len - 1) >>> VirtualMemory.PAGE_SHIFT;
+		return (int)Math.min(end, VirtualMemory.PAGE_COUNT - 1);
+	}
+	
+	/**
+	 * Returns the region which the given page is entirely within.
+	 *
+	 * @param <M> The type of region to find.
+	 * @param __cache The mapped regions, in the order they are searched.
+	 * @param __page The page to find the region of.
+	 * @param __cl The type of region to find.
+	 * @return The region the page is entirely within, or {@code null} if
+	 * no region or only part of a region is in the page.
+	 * @since 2026/10/18
+	 */
+	private static <M extends Memory> M __pageRegion(Memory[] __cache,
+		int __page, Class<M> __cl)
+	{
+		long pageStart = ((long)__page) << VirtualMemory.PAGE_SHIFT;
+		long pageEnd = pageStart + VirtualMemory.PAGE_SIZE;
+		
+		// The first region of the given type which touches the page is the
+		// one that would be found when searching the regions
+		for (Memory c : __cache)
+		{
+			if (!__cl.isInstance(c))
+				continue;
+			
+			long cbase = c.memRegionOffset();
+			long cend = cbase + c.memRegionSize();
+			
+			// Not in this page
+			if (cend <= pageStart || cbase >= pageEnd)
+				continue;
+			
+			// Only use it if the whole page is within the region
+			if (cbase <= pageStart && cend >= pageEnd)
+				return __cl.cast(c);
+			return null;
+		}
+		
+		return null;
+	}
 }
 
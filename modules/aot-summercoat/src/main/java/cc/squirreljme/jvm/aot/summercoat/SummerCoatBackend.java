@@ -16,11 +16,13 @@ import cc.squirreljme.jvm.aot.RomSettings;
 import cc.squirreljme.runtime.cldc.debug.Debugging;
 import cc.squirreljme.vm.SummerCoatJarLibrary;
 import cc.squirreljme.vm.VMClassLibrary;
+import dev.shadowtail.classfile.mini.MinimizerCache;
 import dev.shadowtail.packfile.PackMinimizer;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.nio.file.Paths;
 import java.util.Arrays;
 
 /**
@@ -136,8 +138,15 @@ public class SummerCoatBackend
 		// boot since it does not matter as the bootstrap should find the
 		// launcher or the correct program to load rather than having it
 		// baked into the ROM
-		PackMinimizer.minimize(__out, bootLib, new String[]{bootLib},
+		MinimizerCache cache = (__settings.cacheDir != null ?
+			new SummerCoatClassCache(Paths.get(__settings.cacheDir),
+				"optimize=false") : null);
+		PackMinimizer.minimize(__out, cache, bootLib, new String[]{bootLib},
 			"cc.squirreljme.jvm.summercoat.Bootstrap",
 			false, __libs);
+		
+		// Report on how much the cache was used
+		if (cache != null)
+			Debugging.debugNote("ROM: Cache %s", cache);
 	}
 }
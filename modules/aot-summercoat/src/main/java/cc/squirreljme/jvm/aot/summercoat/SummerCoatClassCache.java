@@ -0,0 +1,359 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.jvm.aot.summercoat;
+
+import dev.shadowtail.classfile.mini.MinimizerCache;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import net.multiphasicapps.io.CRC32Calculator;
+
+/**
+ * This is a cache of minimized classes which is stored on the disk, so that
+ * the same class does not have to be minimized again by later builds.
+ *
+ * Entries are stored by a hash of the class bytes, the settings, and the
+ * compiler itself. Since hashes can collide, each entry also contains the
+ * settings and the class bytes which must match exactly. Each entry ends
+ * with a checksum of the class and minimized class, so that an entry which
+ * was damaged is not used.
+ *
+ * Any failure to read or write the cache is treated as a cache miss.
+ *
+ * @since 2026/10/18
+ */
+public final class SummerCoatClassCache
+	implements MinimizerCache
+{
+	/** The magic number for cache entries. */
+	private static final int _MAGIC =
+		0x53514D43;
+	
+	/** The version of the cache, this must change when the format does. */
+	private static final int _VERSION =
+		2;
+	
+	/** The FNV-1a offset basis. */
+	private static final long _FNV_OFFSET =
+		0xCBF29CE484222325L;
+	
+	/** The FNV-1a prime. */
+	private static final long _FNV_PRIME =
+		0x100000001B3L;
+	
+	/** The directory where the cache is. */
+	protected final Path dir;
+	
+	/** The settings which change how classes are minimized. */
+	protected final String settings;
+	
+	/** The hash of the settings and the compiler. */
+	private final long _seed;
+	
+	/** The number of classes which were found in the cache. */
+	private int _hits;
+	
+	/** The number of classes which were not in the cache. */
+	private int _misses;
+	
+	/**
+	 * Initializes the cache.
+	 *
+	 * @param __dir The directory where the cache is.
+	 * @param __settings The settings which change how classes are
+	 * minimized.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public SummerCoatClassCache(Path __dir, String __settings)
+		throws NullPointerException
+	{
+		if (__dir == null || __settings == null)
+			throw new NullPointerException("NARG");
+		
+		this.dir = __dir;
+		this.settings = __settings;
+		
+		// The compiler changing changes the minimized classes, so it is
+		// part of every key
+		long seed = SummerCoatClassCache.__fnv(
+			SummerCoatClassCache._FNV_OFFSET,
+			SummerCoatClassCache._VERSION);
+		seed = SummerCoatClassCache.__fnv(seed, __settings);
+		this._seed = SummerCoatClassCache.__fnv(seed,
+			SummerCoatClassCache.__compiler());
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final byte[] get(byte[] __class)
+		throws NullPointerException
+	{
+		if (__class == null)
+			throw new NullPointerException("NARG");
+		
+		byte[] rv = null;
+		try (InputStream in = Files.newInputStream(this.__path(__class));
+			DataInputStream dis = new DataInputStream(in))
+		{
+			// The entry must be for this exact class and settings
+			if (dis.readInt() == SummerCoatClassCache._MAGIC &&
+				this.settings.equals(dis.readUTF()) &&
+				Arrays.equals(__class, SummerCoatClassCache.__read(dis)))
+			{
+				byte[] min = SummerCoatClassCache.__read(dis);
+				if (dis.readInt() == SummerCoatClassCache.__checksum(
+					__class, min))
+					rv = min;
+			}
+		}
+		catch (IOException e)
+		{
+			// Not cached or not readable
+		}
+		
+		synchronized (this)
+		{
+			if (rv != null)
+				this._hits++;
+			else
+				this._misses++;
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void put(byte[] __class, byte[] __min)
+		throws NullPointerException
+	{
+		if (__class == null || __min == null)
+			throw new NullPointerException("NARG");
+		
+		Path path = this.__path(__class);
+		Path temp = null;
+		try
+		{
+			// Build the entry
+			ByteArrayOutputStream baos = new ByteArrayOutputStream(
+				__class.length + __min.length + 64);
+			try (DataOutputStream dos = new DataOutputStream(baos))
+			{
+				dos.writeInt(SummerCoatClassCache._MAGIC);
+				dos.writeUTF(this.settings);
+				dos.writeInt(__class.length);
+				dos.write(__class);
+				dos.writeInt(__min.length);
+				dos.write(__min);
+				dos.writeInt(SummerCoatClassCache.__checksum(__class,
+					__min));
+			}
+			
+			// Write to a temporary file first, so that other builds using
+			// the cache never see a partially written entry
+			Path parent = path.getParent();
+			Files.createDirectories(parent);
+			temp = Files.createTempFile(parent, "class", ".tmp");
+			try (OutputStream out = Files.newOutputStream(temp))
+			{
+				out.write(baos.toByteArray());
+			}
+			
+			Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+			temp = null;
+		}
+		catch (IOException e)
+		{
+			// The class is just not cached
+		}
+		finally
+		{
+			if (temp != null)
+				try
+				{
+					Files.deleteIfExists(temp);
+				}
+				catch (IOException e)
+				{
+					// Ignore
+				}
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final String toString()
+	{
+		synchronized (this)
+		{
+			return String.format("%d hits, %d misses",
+				this._hits, this._misses);
+		}
+	}
+	
+	/**
+	 * Returns the path of the entry for the given class.
+	 *
+	 * @param __class The class bytes.
+	 * @return The path to the entry.
+	 * @since 2026/10/18
+	 */
+	private Path __path(byte[] __class)
+	{
+		long hash = this._seed;
+		for (byte b : __class)
+			hash = (hash ^ (b & 0xFF)) * SummerCoatClassCache._FNV_PRIME;
+		
+		// Spread entries over directories so that none becomes too large
+		String hex = Long.toHexString(hash);
+		while (hex.length() < 16)
+			hex = "0" + hex;
+		return this.dir.resolve(hex.substring(0, 2))
+			.resolve(hex + ".min");
+	}
+	
+	/**
+	 * Returns the checksum of an entry.
+	 *
+	 * @param __class The class bytes.
+	 * @param __min The minimized class.
+	 * @return The checksum.
+	 * @since 2026/10/18
+	 */
+	private static int __checksum(byte[] __class, byte[] __min)
+	{
+		CRC32Calculator crc = new CRC32Calculator(true, true,
+			0x04C11DB7, 0xFFFFFFFF, 0xFFFFFFFF);
+		crc.offer(__class, 0, __class.length);
+		crc.offer(__min, 0, __min.length);
+		return crc.checksum();
+	}
+	
+	/**
+	 * Returns a string which changes when the compiler does, this is the
+	 * size and modification time of everything on the class path.
+	 *
+	 * @return The compiler fingerprint.
+	 * @since 2026/10/18
+	 */
+	private static String __compiler()
+	{
+		String classPath = System.getProperty("java.class.path");
+		if (classPath == null)
+			return "";
+		
+		String sep = System.getProperty("path.separator");
+		if (sep == null || sep.isEmpty())
+			sep = ":";
+		
+		StringBuilder sb = new StringBuilder();
+		for (int at = 0, n = classPath.length(); at <= n;)
+		{
+			int end = classPath.indexOf(sep, at);
+			if (end < 0)
+				end = n;
+			
+			// Only files are checked, since the time of a directory changes
+			// whenever anything is created in it
+			String entry = classPath.substring(at, end);
+			sb.append(entry);
+			try
+			{
+				Path path = Paths.get(entry);
+				if (Files.exists(path) && !Files.isDirectory(path))
+				{
+					sb.append(':').append(Files.size(path));
+					sb.append(':').append(
+						Files.getLastModifiedTime(path).toMillis());
+				}
+			}
+			catch (IOException|RuntimeException e)
+			{
+				// Not a file that can be checked
+			}
+			sb.append(';');
+			
+			at = end + sep.length();
+		}
+		
+		return sb.toString();
+	}
+	
+	/**
+	 * Hashes the given value.
+	 *
+	 * @param __hash The current hash.
+	 * @param __v The value to hash.
+	 * @return The new hash.
+	 * @since 2026/10/18
+	 */
+	private static long __fnv(long __hash, int __v)
+	{
+		for (int i = 24; i >= 0; i -= 8)
+			__hash = (__hash ^ ((__v >>> i) & 0xFF)) *
+				SummerCoatClassCache._FNV_PRIME;
+		return __hash;
+	}
+	
+	/**
+	 * Hashes the given string.
+	 *
+	 * @param __hash The current hash.
+	 * @param __s The string to hash.
+	 * @return The new hash.
+	 * @since 2026/10/18
+	 */
+	private static long __fnv(long __hash, String __s)
+	{
+		for (int i = 0, n = __s.length(); i < n; i++)
+			__hash = SummerCoatClassCache.__fnv(__hash, __s.charAt(i));
+		return SummerCoatClassCache.__fnv(__hash, -1);
+	}
+	
+	/**
+	 * Reads a length prefixed array of bytes.
+	 *
+	 * @param __in The stream to read from.
+	 * @return The read bytes.
+	 * @throws IOException On read errors or if the length is not valid.
+	 * @since 2026/10/18
+	 */
+	private static byte[] __read(DataInputStream __in)
+		throws IOException
+	{
+		int len = __in.readInt();
+		// {@squirreljme.error AA02 Cache entry has a negative length.}
+		if (len < 0)
+			throw new IOException("AA02");
+		
+		byte[] rv = new byte[len];
+		__in.readFully(rv);
+		return rv;
+	}
+}
@@ -11,12 +11,17 @@ package cc.squirreljme.jvm.aot.summercoat;
 
 import cc.squirreljme.jvm.aot.CompileSettings;
 import cc.squirreljme.jvm.aot.LinkGlob;
+import cc.squirreljme.runtime.cldc.debug.Debugging;
 import cc.squirreljme.vm.InMemoryClassLibrary;
+import dev.shadowtail.classfile.mini.MinimizerCache;
+import dev.shadowtail.classfile.nncc.NativeCodeOptimizer;
+import dev.shadowtail.classfile.nncc.NativeCodePassStatistics;
 import dev.shadowtail.jarfile.JarMinimizer;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Paths;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -67,10 +72,29 @@ public class SummerCoatLinkGlob
 	public void finish()
 		throws IOException
 	{
+		// Only optimize code if requested
+		NativeCodeOptimizer optimizer = (this.settings.optimize ?
+			new NativeCodeOptimizer() : null);
+		
+		// Only cache classes if requested, the optimizer changes the
+		// minimized classes so it is part of the key
+		MinimizerCache cache = (this.settings.cacheDir != null ?
+			new SummerCoatClassCache(Paths.get(this.settings.cacheDir),
+				"optimize=" + this.settings.optimize) : null);
+		
 		// Perform bulk minimization, since SummerCoat has to do it all at
 		// the same time
-		JarMinimizer.minimize(this.settings.isBootLoader,
+		JarMinimizer.minimize(this.settings.isBootLoader, optimizer, cache,
 			new InMemoryClassLibrary(this.name, this._resources), this.out);
+		
+		// Report on how much the cache was used
+		if (cache != null)
+			Debugging.debugNote("%s: Cache %s", this.name, cache);
+		
+		// Report on how well the optimizer did
+		if (optimizer != null)
+			for (NativeCodePassStatistics stat : optimizer.statistics())
+				Debugging.debugNote("%s: %s", this.name, stat);
 	}
 	
 	/**
@@ -0,0 +1,72 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import cc.squirreljme.jvm.aot.summercoat.SummerCoatClassCache;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests that cache entries which are damaged or are for another class are
+ * treated as misses, and are replaced.
+ *
+ * @since 2026/10/18
+ */
+public class TestClassCacheCorrupt
+	extends __ClassCacheTest__
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void test(Path __dir)
+		throws Throwable
+	{
+		byte[][] none = __ClassCacheTest__.minimize(null, 1);
+		__ClassCacheTest__.minimize(new SummerCoatClassCache(__dir, "test"),
+			1);
+		
+		// Damage every entry in a different way
+		List<Path> entries = __ClassCacheTest__.entries(__dir);
+		this.secondary("entries", entries.size());
+		
+		byte[] first = __ClassCacheTest__.read(entries.get(0));
+		
+		// Cut off
+		__ClassCacheTest__.write(entries.get(0),
+			Arrays.copyOf(first, first.length / 2));
+		
+		// The minimized class no longer matches the checksum
+		byte[] data = __ClassCacheTest__.read(entries.get(1));
+		data[data.length - 5] ^= 0x55;
+		__ClassCacheTest__.write(entries.get(1), data);
+		
+		// Not a cache entry
+		data = __ClassCacheTest__.read(entries.get(2));
+		data[0] ^= 0x55;
+		__ClassCacheTest__.write(entries.get(2), data);
+		
+		// The entry of another class, as if the hashes collided
+		__ClassCacheTest__.write(entries.get(3), first);
+		
+		// None of the entries may be used
+		SummerCoatClassCache damaged = new SummerCoatClassCache(__dir,
+			"test");
+		this.secondary("damaged", __ClassCacheTest__.same(none,
+			__ClassCacheTest__.minimize(damaged, 1)));
+		this.secondary("damaged-stats", damaged.toString());
+		
+		// The entries were replaced
+		SummerCoatClassCache fixed = new SummerCoatClassCache(__dir, "test");
+		this.secondary("fixed", __ClassCacheTest__.same(none,
+			__ClassCacheTest__.minimize(fixed, 1)));
+		this.secondary("fixed-stats", fixed.toString());
+	}
+}
@@ -0,0 +1,46 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import cc.squirreljme.jvm.aot.summercoat.SummerCoatClassCache;
+import java.nio.file.Path;
+
+/**
+ * Tests that a library which is minimized with an empty cache and with a
+ * filled cache is the same as when no cache is used.
+ *
+ * @since 2026/10/18
+ */
+public class TestClassCacheOutput
+	extends __ClassCacheTest__
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void test(Path __dir)
+		throws Throwable
+	{
+		byte[][] none = __ClassCacheTest__.minimize(null, 1);
+		
+		// Nothing is cached yet
+		SummerCoatClassCache cold = new SummerCoatClassCache(__dir, "test");
+		this.secondary("cold", __ClassCacheTest__.same(none,
+			__ClassCacheTest__.minimize(cold, 1)));
+		this.secondary("cold-stats", cold.toString());
+		this.secondary("entries",
+			__ClassCacheTest__.entries(__dir).size());
+		
+		// Everything is cached, as if this were a later build
+		SummerCoatClassCache warm = new SummerCoatClassCache(__dir, "test");
+		this.secondary("warm", __ClassCacheTest__.same(none,
+			__ClassCacheTest__.minimize(warm, 4)));
+		this.secondary("warm-stats", warm.toString());
+	}
+}
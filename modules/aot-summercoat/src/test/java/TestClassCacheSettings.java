@@ -0,0 +1,60 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import cc.squirreljme.jvm.aot.summercoat.SummerCoatClassCache;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests that cache entries which were stored with other settings are not
+ * used, even if they are where the entry would be.
+ *
+ * @since 2026/10/18
+ */
+public class TestClassCacheSettings
+	extends __ClassCacheTest__
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void test(Path __dir)
+		throws Throwable
+	{
+		byte[] clazz = __ClassCacheTest__.library()[0];
+		byte[] alpha = {1, 2, 3, 4};
+		byte[] beta = {5, 6, 7, 8};
+		
+		SummerCoatClassCache a = new SummerCoatClassCache(__dir, "alpha");
+		a.put(clazz, alpha);
+		Path apath = __ClassCacheTest__.entries(__dir).get(0);
+		
+		this.secondary("alpha", Arrays.equals(alpha, a.get(clazz)));
+		
+		// Other settings use another entry
+		SummerCoatClassCache b = new SummerCoatClassCache(__dir, "beta");
+		this.secondary("beta-miss", b.get(clazz) == null);
+		
+		b.put(clazz, beta);
+		this.secondary("beta", Arrays.equals(beta, b.get(clazz)));
+		
+		// Place the entry for the other settings where this one is
+		List<Path> entries = __ClassCacheTest__.entries(__dir);
+		entries.remove(apath);
+		Files.copy(apath, entries.get(0),
+			StandardCopyOption.REPLACE_EXISTING);
+		
+		this.secondary("beta-swapped", b.get(clazz) == null);
+		this.secondary("alpha-kept", Arrays.equals(alpha, a.get(clazz)));
+	}
+}
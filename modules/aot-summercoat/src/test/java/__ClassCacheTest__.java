@@ -0,0 +1,268 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import cc.squirreljme.jvm.mle.RuntimeShelf;
+import cc.squirreljme.jvm.mle.constants.VMType;
+import dev.shadowtail.classfile.mini.MinimizedClassHeader;
+import dev.shadowtail.classfile.mini.Minimizer;
+import dev.shadowtail.classfile.mini.MinimizerCache;
+import dev.shadowtail.classfile.pool.DualClassRuntimePoolBuilder;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.multiphasicapps.tac.TestRunnable;
+import net.multiphasicapps.tac.UntestableException;
+
+/**
+ * Base class for tests of the class cache, which is given a new directory
+ * for the cache that is deleted when the test ends.
+ *
+ * @since 2026/10/18
+ */
+abstract class __ClassCacheTest__
+	extends TestRunnable
+{
+	/** The classes in the library which is minimized. */
+	private static final String[] _LIBRARY =
+		{
+			"/net/multiphasicapps/io/ByteDeque.class",
+			"/net/multiphasicapps/io/CRC32Calculator.class",
+			"/net/multiphasicapps/io/InflaterInputStream.class",
+			"/cc/squirreljme/jvm/aot/summercoat/SummerCoatClassCache.class",
+		};
+	
+	/** The size of the UUID in minimized classes. */
+	private static final int _UUID_SIZE =
+		8;
+	
+	/**
+	 * Runs the test with the given cache directory.
+	 *
+	 * @param __dir The directory for the cache.
+	 * @throws NullPointerException On null arguments.
+	 * @throws Throwable On any exception.
+	 * @since 2026/10/18
+	 */
+	public abstract void test(Path __dir)
+		throws NullPointerException, Throwable;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void test()
+		throws Throwable
+	{
+		// The cache is only used by the build, which needs Java SE
+		if (RuntimeShelf.vmType() != VMType.JAVA_SE)
+			throw new UntestableException("No file API.");
+		
+		Path dir = Files.createTempDirectory("class-cache");
+		try
+		{
+			this.test(dir);
+		}
+		finally
+		{
+			__ClassCacheTest__.__delete(dir);
+		}
+	}
+	
+	/**
+	 * Returns all of the cache entries in the given directory.
+	 *
+	 * @param __dir The cache directory.
+	 * @return The cache entries.
+	 * @throws IOException On read errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static List<Path> entries(Path __dir)
+		throws IOException, NullPointerException
+	{
+		if (__dir == null)
+			throw new NullPointerException("NARG");
+		
+		List<Path> rv = new ArrayList<>();
+		try (DirectoryStream<Path> dir = Files.newDirectoryStream(__dir))
+		{
+			for (Path sub : dir)
+				if (Files.isDirectory(sub))
+					rv.addAll(__ClassCacheTest__.entries(sub));
+				else if (sub.getFileName().toString().endsWith(".min"))
+					rv.add(sub);
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * Returns the classes of the library.
+	 *
+	 * @return The class bytes.
+	 * @throws IOException On read errors.
+	 * @since 2026/10/18
+	 */
+	static byte[][] library()
+		throws IOException
+	{
+		String[] names = __ClassCacheTest__._LIBRARY;
+		byte[][] rv = new byte[names.length][];
+		for (int i = 0; i < names.length; i++)
+			try (InputStream in = __ClassCacheTest__.class
+				.getResourceAsStream(names[i]))
+			{
+				rv[i] = __ClassCacheTest__.__readAll(in);
+			}
+		
+		return rv;
+	}
+	
+	/**
+	 * Minimizes the library with a new Jar pool, the UUIDs of the
+	 * resultant classes are cleared so that they can be compared.
+	 *
+	 * @param __cache The cache to use, may be {@code null}.
+	 * @param __threads The number of threads to use.
+	 * @return The minimized classes.
+	 * @throws IOException On read or write errors.
+	 * @since 2026/10/18
+	 */
+	static byte[][] minimize(MinimizerCache __cache, int __threads)
+		throws IOException
+	{
+		byte[][] rv = Minimizer.minimizeAll(
+			new DualClassRuntimePoolBuilder(), null, __cache, __threads,
+			__ClassCacheTest__.library());
+		
+		for (byte[] b : rv)
+			for (int i = 0; i < __ClassCacheTest__._UUID_SIZE; i++)
+				b[MinimizedClassHeader.UUID_OFFSET + i] = 0;
+		
+		return rv;
+	}
+	
+	/**
+	 * Reads all of the bytes in the given file.
+	 *
+	 * @param __file The file to read.
+	 * @return The file bytes.
+	 * @throws IOException On read errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static byte[] read(Path __file)
+		throws IOException, NullPointerException
+	{
+		if (__file == null)
+			throw new NullPointerException("NARG");
+		
+		try (InputStream in = Files.newInputStream(__file))
+		{
+			return __ClassCacheTest__.__readAll(in);
+		}
+	}
+	
+	/**
+	 * Checks if the minimized classes are the same.
+	 *
+	 * @param __a The first set of classes.
+	 * @param __b The second set of classes.
+	 * @return If they are the same.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static boolean same(byte[][] __a, byte[][] __b)
+		throws NullPointerException
+	{
+		if (__a == null || __b == null)
+			throw new NullPointerException("NARG");
+		
+		if (__a.length != __b.length)
+			return false;
+		
+		for (int i = 0, n = __a.length; i < n; i++)
+			if (!Arrays.equals(__a[i], __b[i]))
+				return false;
+		
+		return true;
+	}
+	
+	/**
+	 * Replaces the given file with the given bytes.
+	 *
+	 * @param __file The file to write.
+	 * @param __b The bytes to write.
+	 * @throws IOException On write errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static void write(Path __file, byte[] __b)
+		throws IOException, NullPointerException
+	{
+		if (__file == null || __b == null)
+			throw new NullPointerException("NARG");
+		
+		try (OutputStream out = Files.newOutputStream(__file))
+		{
+			out.write(__b);
+		}
+	}
+	
+	/**
+	 * Deletes the given file or directory and everything within it.
+	 *
+	 * @param __path The path to delete.
+	 * @throws IOException If it could not be deleted.
+	 * @since 2026/10/18
+	 */
+	private static void __delete(Path __path)
+		throws IOException
+	{
+		if (Files.isDirectory(__path))
+			try (DirectoryStream<Path> dir = Files.newDirectoryStream(__path))
+			{
+				for (Path sub : dir)
+					__ClassCacheTest__.__delete(sub);
+			}
+		
+		Files.deleteIfExists(__path);
+	}
+	
+	/**
+	 * Reads all of the bytes in the given stream.
+	 *
+	 * @param __in The stream to read from.
+	 * @return The read bytes.
+	 * @throws IOException On read errors.
+	 * @since 2026/10/18
+	 */
+	private static byte[] __readAll(InputStream __in)
+		throws IOException
+	{
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		byte[] buf = new byte[4096];
+		for (;;)
+		{
+			int rc = __in.read(buf);
+			if (rc < 0)
+				return baos.toByteArray();
+			
+			baos.write(buf, 0, rc);
+		}
+	}
+}
@@ -21,6 +21,12 @@ public final class CompileSettings
 	/** Is this a boot loader? */
 	public final boolean isBootLoader;
 	
+	/** Should the native code be optimized? */
+	public final boolean optimize;
+	
+	/** The directory where minimized classes are cached, may be null. */
+	public final String cacheDir;
+	
 	/**
 	 * Initializes the compilation settings.
 	 * 
@@ -28,8 +34,37 @@ public final class CompileSettings
 	 * @since 2020/11/23
 	 */
 	public CompileSettings(boolean __isBootLoader)
+	{
+		this(__isBootLoader, false);
+	}
+	
+	/**
+	 * Initializes the compilation settings.
+	 * 
+	 * @param __isBootLoader Is this a boot loader?
+	 * @param __optimize Should the native code be optimized?
+	 * @since 2026/10/18
+	 */
+	public CompileSettings(boolean __isBootLoader, boolean __optimize)
+	{
+		this(__isBootLoader, __optimize, null);
+	}
+	
+	/**
+	 * Initializes the compilation settings.
+	 * 
+	 * @param __isBootLoader Is this a boot loader?
+	 * @param __optimize Should the native code be optimized?
+	 * @param __cacheDir The directory where minimized classes are cached,
+	 * may be {@code null} to not use a cache.
+	 * @since 2026/10/18
+	 */
+	public CompileSettings(boolean __isBootLoader, boolean __optimize,
+		String __cacheDir)
 	{
 		this.isBootLoader = __isBootLoader;
+		this.optimize = __optimize;
+		this.cacheDir = __cacheDir;
 	}
 	
 	/**
@@ -48,19 +83,33 @@ public final class CompileSettings
 		
 		// Possible settings
 		boolean isBootLoader = false;
+		boolean optimize = false;
+		String cacheDir = null;
 		
 		// Parse settings
 		while (!__args.isEmpty())
 		{
 			String arg = __args.removeFirst();
 			
+			// Cache minimized classes in the given directory?
+			if (arg.startsWith("-cache:"))
+			{
+				cacheDir = arg.substring("-cache:".length());
+				continue;
+			}
+			
 			switch (arg)
 			{
 					// Is this a bootloader?
 				case "-boot":
 					isBootLoader = true;
 					break;
-				
+					
+					// Optimize the native code?
+				case "-optimize":
+					optimize = true;
+					break;
+					
 					// {@squirreljme.error AE06 Unknown compilation setting.
 					// (The argument)}
 				default:
@@ -69,6 +118,6 @@ public final class CompileSettings
 		}
 		
 		// Initialize final settings
-		return new CompileSettings(isBootLoader);
+		return new CompileSettings(isBootLoader, optimize, cacheDir);
 	}
 }
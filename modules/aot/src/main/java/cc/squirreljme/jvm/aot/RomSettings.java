@@ -18,6 +18,21 @@ import java.util.Deque;
  */
 public final class RomSettings
 {
+	/** The directory where minimized classes are cached, may be null. */
+	public final String cacheDir;
+	
+	/**
+	 * Initializes the ROM settings.
+	 * 
+	 * @param __cacheDir The directory where minimized classes are cached,
+	 * may be {@code null} to not use a cache.
+	 * @since 2026/10/18
+	 */
+	public RomSettings(String __cacheDir)
+	{
+		this.cacheDir = __cacheDir;
+	}
+	
 	/**
 	 * Parses the ROM settings.
 	 * 
@@ -33,6 +48,9 @@ public final class RomSettings
 		if (__args == null)
 			throw new NullPointerException("NARG");
 		
+		// Possible settings
+		String cacheDir = null;
+		
 		// Handle arguments
 		while (!__args.isEmpty())
 		{
@@ -45,10 +63,17 @@ public final class RomSettings
 				break;
 			}
 			
+			// Cache minimized classes in the given directory?
+			if (arg.startsWith("-cache:"))
+			{
+				cacheDir = arg.substring("-cache:".length());
+				continue;
+			}
+			
 			// {@squirreljme.error AE07 Unknown argument. (The argument)}
 			throw new IllegalArgumentException("AE07 " + arg);
 		}
 		
-		return new RomSettings();
+		return new RomSettings(cacheDir);
 	}
 }
@@ -0,0 +1,1482 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.runtime.cldc.util;
+
+/**
+ * Dual-pivot quicksort which operates directly on primitive arrays, so that
+ * values never need to be boxed or accessed through a wrapper.
+ *
+ * Each range is split into three parts by two pivots which are then sorted
+ * on their own, small ranges use insertion sort instead. If splitting goes
+ * badly for too long then heap sort is used, so sorting is never worse than
+ * {@code O(n log n)} and the stack does not grow too deep.
+ *
+ * Large {@code byte} arrays are sorted by counting the values instead.
+ *
+ * @since 2026/10/18
+ */
+public final class DualPivotQuickSort
+{
+	/** Ranges smaller than this use insertion sort. */
+	private static final int _INSERTION_THRESHOLD =
+		27;
+	
+	/** Byte ranges larger than this are sorted by counting. */
+	private static final int _COUNTING_THRESHOLD =
+		64;
+	
+	/**
+	 * Not used.
+	 *
+	 * @since 2026/10/18
+	 */
+	private DualPivotQuickSort()
+	{
+	}
+	
+	/**
+	 * Sorts the given range of the array.
+	 *
+	 * @param __a The array to sort.
+	 * @param __from The from index.
+	 * @param __to The to index, exclusive.
+	 * @throws ArrayIndexOutOfBoundsException If the from or to index are
+	 * outside of bounds.
+	 * @throws IllegalArgumentException If the from index is greater than
+	 * the to index.
+	 * @throws NullPointerException If no array was specified.
+	 * @since 2026/10/18
+	 */
+	public static void sort(byte[] __a, int __from, int __to)
+		throws ArrayIndexOutOfBoundsException, IllegalArgumentException,
+			NullPointerException
+	{
+		if (__a == null)
+			throw new NullPointerException("NARG");
+		
+		DualPivotQuickSort.__check(__a.length, __from, __to);
+		
+		// Counting is faster when there are more values than possible values
+		if (__to - __from > DualPivotQuickSort._COUNTING_THRESHOLD)
+		{
+			int[] count = new int[256];
+			for (int i = __from; i < __to; i++)
+				count[__a[i] & 0xFF]++;
+			
+			// Negative values come first
+			for (int v = Byte.MIN_VALUE, at = __from; v <= Byte.MAX_VALUE;
+				v++)
+				for (int n = count[v & 0xFF]; n > 0; n--)
+					__a[at++] = (byte)v;
+			
+			return;
+		}
+		
+		DualPivotQuickSort.__sort(__a, __from, __to - 1,
+			DualPivotQuickSort.__depth(__to - __from));
+	}
+	
+	/**
+	 * Sorts the given range of the array.
+	 *
+	 * @param __a The array to sort.
+	 * @param __from The from index.
+	 * @param __to The to index, exclusive.
+	 * @throws ArrayIndexOutOfBoundsException If the from or to index are
+	 * outside of bounds.
+	 * @throws IllegalArgumentException If the from index is greater than
+	 * the to index.
+	 * @throws NullPointerException If no array was specified.
+	 * @since 2026/10/18
+	 */
+	public static void sort(char[] __a, int __from, int __to)
+		throws ArrayIndexOutOfBoundsException, IllegalArgumentException,
+			NullPointerException
+	{
+		if (__a == null)
+			throw new NullPointerException("NARG");
+		
+		DualPivotQuickSort.__check(__a.length, __from, __to);
+		DualPivotQuickSort.__sort(__a, __from, __to - 1,
+			DualPivotQuickSort.__depth(__to - __from));
+	}
+	
+	/**
+	 * Sorts the given range of the array.
+	 *
+	 * @param __a The array to sort.
+	 * @param __from The from index.
+	 * @param __to The to index, exclusive.
+	 * @throws ArrayIndexOutOfBoundsException If the from or to index are
+	 * outside of bounds.
+	 * @throws IllegalArgumentException If the from index is greater than
+	 * the to index.
+	 * @throws NullPointerException If no array was specified.
+	 * @since 2026/10/18
+	 */
+	public static void sort(double[] __a, int __from, int __to)
+		throws ArrayIndexOutOfBoundsException, IllegalArgumentException,
+			NullPointerException
+	{
+		if (__a == null)
+			throw new NullPointerException("NARG");
+		
+		DualPivotQuickSort.__check(__a.length, __from, __to);
+		
+		// NaN is greater than every other value and is equal to itself, so
+		// these are just moved to the end
+		int hi = __to - 1;
+		for (int i = hi; i >= __from; i--)
+		{
+			double v = __a[i];
+			if (v != v)
+			{
+				__a[i] = __a[hi];
+				__a[hi--] = v;
+			}
+		}
+		
+		DualPivotQuickSort.__sort(__a, __from, hi,
+			DualPivotQuickSort.__depth(hi - __from + 1));
+		DualPivotQuickSort.__zeros(__a, __from, hi);
+	}
+	
+	/**
+	 * Sorts the given range of the array.
+	 *
+	 * @param __a The array to sort.
+	 * @param __from The from index.
+	 * @param __to The to index, exclusive.
+	 * @throws ArrayIndexOutOfBoundsException If the from or to index are
+	 * outside of bounds.
+	 * @throws IllegalArgumentException If the from index is greater than
+	 * the to index.
+	 * @throws NullPointerException If no array was specified.
+	 * @since 2026/10/18
+	 */
+	public static void sort(float[] __a, int __from, int __to)
+		throws ArrayIndexOutOfBoundsException, IllegalArgumentException,
+			NullPointerException
+	{
+		if (__a == null)
+			throw new NullPointerException("NARG");
+		
+		DualPivotQuickSort.__check(__a.length, __from, __to);
+		
+		// NaN is greater than every other value and is equal to itself, so
+		// these are just moved to the end
+		int hi = __to - 1;
+		for (int i = hi; i >= __from; i--)
+		{
+			float v = __a[i];
+			if (v != v)
+			{
+				__a[i] = __a[hi];
+				__a[hi--] = v;
+			}
+		}
+		
+		DualPivotQuickSort.__sort(__a, __from, hi,
+			DualPivotQuickSort.__depth(hi - __from + 1));
+		DualPivotQuickSort.__zeros(__a, __from, hi);
+	}
+	
+	/**
+	 * Sorts the given range of the array.
+	 *
+	 * @param __a The array to sort.
+	 * @param __from The from index.
+	 * @param __to The to index, exclusive.
+	 * @throws ArrayIndexOutOfBoundsException If the from or to index are
+	 * outside of bounds.
+	 * @throws IllegalArgumentException If the from index is greater than
+	 * the to index.
+	 * @throws NullPointerException If no array was specified.
+	 * @since 2026/10/18
+	 */
+	public static void sort(int[] __a, int __from, int __to)
+		throws ArrayIndexOutOfBoundsException, IllegalArgumentException,
+			NullPointerException
+	{
+		if (__a == null)
+			throw new NullPointerException("NARG");
+		
+		DualPivotQuickSort.__check(__a.length, __from, __to);
+		DualPivotQuickSort.__sort(__a, __from, __to - 1,
+			DualPivotQuickSort.__depth(__to - __from));
+	}
+	
+	/**
+	 * Sorts the given range of the array.
+	 *
+	 * @param __a The array to sort.
+	 * @param __from The from index.
+	 * @param __to The to index, exclusive.
+	 * @throws ArrayIndexOutOfBoundsException If the from or to index are
+	 * outside of bounds.
+	 * @throws IllegalArgumentException If the from index is greater than
+	 * the to index.
+	 * @throws NullPointerException If no array was specified.
+	 * @since 2026/10/18
+	 */
+	public static void sort(long[] __a, int __from, int __to)
+		throws ArrayIndexOutOfBoundsException, IllegalArgumentException,
+			NullPointerException
+	{
+		if (__a == null)
+			throw new NullPointerException("NARG");
+		
+		DualPivotQuickSort.__check(__a.length, __from, __to);
+		DualPivotQuickSort.__sort(__a, __from, __to - 1,
+			DualPivotQuickSort.__depth(__to - __from));
+	}
+	
+	/**
+	 * Sorts the given range of the array.
+	 *
+	 * @param __a The array to sort.
+	 * @param __from The from index.
+	 * @param __to The to index, exclusive.
+	 * @throws ArrayIndexOutOfBoundsException If the from or to index are
+	 * outside of bounds.
+	 * @throws IllegalArgumentException If the from index is greater than
+	 * the to index.
+	 * @throws NullPointerException If no array was specified.
+	 * @since 2026/10/18
+	 */
+	public static void sort(short[] __a, int __from, int __to)
+		throws ArrayIndexOutOfBoundsException, IllegalArgumentException,
+			NullPointerException
+	{
+		if (__a == null)
+			throw new NullPointerException("NARG");
+		
+		DualPivotQuickSort.__check(__a.length, __from, __to);
+		DualPivotQuickSort.__sort(__a, __from, __to - 1,
+			DualPivotQuickSort.__depth(__to - __from));
+	}
+	
+	/**
+	 * Checks the range to sort.
+	 *
+	 * @param __len The length of the array.
+	 * @param __from The from index.
+	 * @param __to The to index.
+	 * @throws ArrayIndexOutOfBoundsException If the from or to index are
+	 * outside of bounds.
+	 * @throws IllegalArgumentException If the from index is greater than
+	 * the to index.
+	 * @since 2026/10/18
+	 */
+	private static void __check(int __len, int __from, int __to)
+		throws ArrayIndexOutOfBoundsException, IllegalArgumentException
+	{
+		if (__from < 0 || __to > __len)
+			throw new ArrayIndexOutOfBoundsException("ZZ04");
+		if (__from > __to)
+			throw new IllegalArgumentException("ZZ2g");
+	}
+	
+	/**
+	 * Returns the number of times a range may be split before heap sort
+	 * is used.
+	 *
+	 * @param __n The number of values to sort.
+	 * @return The split limit.
+	 * @since 2026/10/18
+	 */
+	private static int __depth(int __n)
+	{
+		return (32 - Integer.numberOfLeadingZeros(__n)) << 1;
+	}
+	
+	/**
+	 * Sorts the given inclusive range with heap sort.
+	 *
+	 * @param __a The array to sort.
+	 * @param __lo The low index.
+	 * @param __hi The high index.
+	 * @since 2026/10/18
+	 */
+	private static void __heapSort(byte[] __a, int __lo, int __hi)
+	{
+		int n = __hi - __lo + 1;
+		
+		// Build the heap
+		for (int i = (n >>> 1) - 1; i >= 0; i--)
+			DualPivotQuickSort.__siftDown(__a, __lo, i, n);
+		
+		// Move the largest values to the end
+		for (int end = n - 1; end > 0; end--)
+		{
+			byte t = __a[__lo];
+			__a[__lo] = __a[__lo + end];
+			__a[__lo + end] = t;
+			
+			DualPivotQuickSort.__siftDown(__a, __lo, 0, end);
+		}
+	}
+	
+	/**
+	 * Sorts the given inclusive range with heap sort.
+	 *
+	 * @param __a The array to sort.
+	 * @param __lo The low index.
+	 * @param __hi The high index.
+	 * @since 2026/10/18
+	 */
+	private static void __heapSort(char[] __a, int __lo, int __hi)
+	{
+		int n = __hi - __lo + 1;
+		
+		// Build the heap
+		for (int i = (n >>> 1) - 1; i >= 0; i--)
+			DualPivotQuickSort.__siftDown(__a, __lo, i, n);
+		
+		// Move the largest values to the end
+		for (int end = n - 1; end > 0; end--)
+		{
+			char t = __a[__lo];
+			__a[__lo] = __a[__lo + end];
+			__a[__lo + end] = t;
+			
+			DualPivotQuickSort.__siftDown(__a, __lo, 0, end);
+		}
+	}
+	
+	/**
+	 * Sorts the given inclusive range with heap sort.
+	 *
+	 * @param __a The array to sort.
+	 * @param __lo The low index.
+	 * @param __hi The high index.
+	 * @since 2026/10/18
+	 */
+	private static void __heapSort(double[] __a, int __lo, int __hi)
+	{
+		int n = __hi - __lo + 1;
+		
+		// Build the heap
+		for (int i = (n >>> 1) - 1; i >= 0; i--)
+			DualPivotQuickSort.__siftDown(__a, __lo, i, n);
+		
+		// Move the largest values to the end
+		for (int end = n - 1; end > 0; end--)
+		{
+			double t = __a[__lo];
+			__a[__lo] = __a[__lo + end];
+			__a[__lo + end] = t;
+			
+			DualPivotQuickSort.__siftDown(__a, __lo, 0, end);
+		}
+	}
+	
+	/**
+	 * Sorts the given inclusive range with heap sort.
+	 *
+	 * @param __a The array to sort.
+	 * @param __lo The low index.
+	 * @param __hi The high index.
+	 * @since 2026/10/18
+	 */
+	private static void __heapSort(float[] __a, int __lo, int __hi)
+	{
+		int n = __hi - __lo + 1;
+		
+		// Build the heap
+		for (int i = (n >>> 1) - 1; i >= 0; i--)
+			DualPivotQuickSort.__siftDown(__a, __lo, i, n);
+		
+		// Move the largest values to the end
+		for (int end = n - 1; end > 0; end--)
+		{
+			float t = __a[__lo];
+			__a[__lo] = __a[__lo + end];
+			__a[__lo + end] = t;
+			
+			DualPivotQuickSort.__siftDown(__a, __lo, 0, end);
+		}
+	}
+	
+	/**
+	 * Sorts the given inclusive range with heap sort.
+	 *
+	 * @param __a The array to sort.
+	 * @param __lo The low index.
+	 * @param __hi The high index.
+	 * @since 2026/10/18
+	 */
+	private static void __heapSort(int[] __a, int __lo, int __hi)
+	{
+		int n = __hi - __lo + 1;
+		
+		// Build the heap
+		for (int i = (n >>> 1) - 1; i >= 0; i--)
+			DualPivotQuickSort.__siftDown(__a, __lo, i, n);
+		
+		// Move the largest values to the end
+		for (int end = n - 1; end > 0; end--)
+		{
+			int t = __a[__lo];
+			__a[__lo] = __a[__lo + end];
+			__a[__lo + end] = t;
+			
+			DualPivotQuickSort.__siftDown(__a, __lo, 0, end);
+		}
+	}
+	
+	/**
+	 * Sorts the given inclusive range with heap sort.
+	 *
+	 * @param __a The array to sort.
+	 * @param __lo The low index.
+	 * @param __hi The high index.
+	 * @since 2026/10/18
+	 */
+	private static void __heapSort(long[] __a, int __lo, int __hi)
+	{
+		int n = __hi - __lo + 1;
+		
+		// Build the heap
+		for (int i = (n >>> 1) - 1; i >= 0; i--)
+			DualPivotQuickSort.__siftDown(__a, __lo, i, n);
+		
+		// Move the largest values to the end
+		for (int end = n - 1; end > 0; end--)
+		{
+			long t = __a[__lo];
+			__a[__lo] = __a[__lo + end];
+			__a[__lo + end] = t;
+			
+			DualPivotQuickSort.__siftDown(__a, __lo, 0, end);
+		}
+	}
+	
+	/**
+	 * Sorts the given inclusive range with heap sort.
+	 *
+	 * @param __a The array to sort.
+	 * @param __lo The low index.
+	 * @param __hi The high index.
+	 * @since 2026/10/18
+	 */
+	private static void __heapSort(short[] __a, int __lo, int __hi)
+	{
+		int n = __hi - __lo + 1;
+		
+		// Build the heap
+		for (int i = (n >>> 1) - 1; i >= 0; i--)
+			DualPivotQuickSort.__siftDown(__a, __lo, i, n);
+		
+		// Move the largest values to the end
+		for (int end = n - 1; end > 0; end--)
+		{
+			short t = __a[__lo];
+			__a[__lo] = __a[__lo + end];
+			__a[__lo + end] = t;
+			
+			DualPivotQuickSort.__siftDown(__a, __lo, 0, end);
+		}
+	}
+	
+	/**
+	 * Moves a value down the heap until it is in place.
+	 *
+	 * @param __a The heap.
+	 * @param __lo The start of the heap.
+	 * @param __i The index of the value to move.
+	 * @param __n The size of the heap.
+	 * @since 2026/10/18
+	 */
+	private static void __siftDown(byte[] __a, int __lo, int __i, int __n)
+	{
+		byte v = __a[__lo + __i];
+		for (;;)
+		{
+			// Pick the larger child
+			int c = (__i << 1) + 1;
+			if (c >= __n)
+				break;
+			if (c + 1 < __n && __a[__lo + c] < __a[__lo + c + 1])
+				c++;
+			
+			// Stop if the value is not smaller than the child
+			byte cv = __a[__lo + c];
+			if (cv <= v)
+				break;
+			
+			__a[__lo + __i] = cv;
+			__i = c;
+		}
+		
+		__a[__lo + __i] = v;
+	}
+	
+	/**
+	 * Moves a value down the heap until it is in place.
+	 *
+	 * @param __a The heap.
+	 * @param __lo The start of the heap.
+	 * @param __i The index of the value to move.
+	 * @param __n The size of the heap.
+	 * @since 2026/10/18
+	 */
+	private static void __siftDown(char[] __a, int __lo, int __i, int __n)
+	{
+		char v = __a[__lo + __i];
+		for (;;)
+		{
+			// Pick the larger child
+			int c = (__i << 1) + 1;
+			if (c >= __n)
+				break;
+			if (c + 1 < __n && __a[__lo + c] < __a[__lo + c + 1])
+				c++;
+			
+			// Stop if the value is not smaller than the child
+			char cv = __a[__lo + c];
+			if (cv <= v)
+				break;
+			
+			__a[__lo + __i] = cv;
+			__i = c;
+		}
+		
+		__a[__lo + __i] = v;
+	}
+	
+	/**
+	 * Moves a value down the heap until it is in place.
+	 *
+	 * @param __a The heap.
+	 * @param __lo The start of the heap.
+	 * @param __i The index of the value to move.
+	 * @param __n The size of the heap.
+	 * @since 2026/10/18
+	 */
+	private static void __siftDown(double[] __a, int __lo, int __i, int __n)
+	{
+		double v = __a[__lo + __i];
+		for (;;)
+		{
+			// Pick the larger child
+			int c = (__i << 1) + 1;
+			if (c >= __n)
+				break;
+			if (c + 1 < __n && __a[__lo + c] < __a[__lo + c + 1])
+				c++;
+			
+			// Stop if the value is not smaller than the child
+			double cv = __a[__lo + c];
+			if (cv <= v)
+				break;
+			
+			__a[__lo + __i] = cv;
+			__i = c;
+		}
+		
+		__a[__lo + __i] = v;
+	}
+	
+	/**
+	 * Moves a value down the heap until it is in place.
+	 *
+	 * @param __a The heap.
+	 * @param __lo The start of the heap.
+	 * @param __i The index of the value to move.
+	 * @param __n The size of the heap.
+	 * @since 2026/10/18
+	 */
+	private static void __siftDown(float[] __a, int __lo, int __i, int __n)
+	{
+		float v = __a[__lo + __i];
+		for (;;)
+		{
+			// Pick the larger child
+			int c = (__i << 1) + 1;
+			if (c >= __n)
+				break;
+			if (c + 1 < __n && __a[__lo + c] < __a[__lo + c + 1])
+				c++;
+			
+			// Stop if the value is not smaller than the child
+			float cv = __a[__lo + c];
+			if (cv <= v)
+				break;
+			
+			__a[__lo + __i] = cv;
+			__i = c;
+		}
+		
+		__a[__lo + __i] = v;
+	}
+	
+	/**
+	 * Moves a value down the heap until it is in place.
+	 *
+	 * @param __a The heap.
+	 * @param __lo The start of the heap.
+	 * @param __i The index of the value to move.
+	 * @param __n The size of the heap.
+	 * @since 2026/10/18
+	 */
+	private static void __siftDown(int[] __a, int __lo, int __i, int __n)
+	{
+		int v = __a[__lo + __i];
+		for (;;)
+		{
+			// Pick the larger child
+			int c = (__i << 1) + 1;
+			if (c >= __n)
+				break;
+			if (c + 1 < __n && __a[__lo + c] < __a[__lo + c + 1])
+				c++;
+			
+			// Stop if the value is not smaller than the child
+			int cv = __a[__lo + c];
+			if (cv <= v)
+				break;
+			
+			__a[__lo + __i] = cv;
+			__i = c;
+		}
+		
+		__a[__lo + __i] = v;
+	}
+	
+	/**
+	 * Moves a value down the heap until it is in place.
+	 *
+	 * @param __a The heap.
+	 * @param __lo The start of the heap.
+	 * @param __i The index of the value to move.
+	 * @param __n The size of the heap.
+	 * @since 2026/10/18
+	 */
+	private static void __siftDown(long[] __a, int __lo, int __i, int __n)
+	{
+		long v = __a[__lo + __i];
+		for (;;)
+		{
+			// Pick the larger child
+			int c = (__i << 1) + 1;
+			if (c >= __n)
+				break;
+			if (c + 1 < __n && __a[__lo + c] < __a[__lo + c + 1])
+				c++;
+			
+			// Stop if the value is not smaller than the child
+			long cv = __a[__lo + c];
+			if (cv <= v)
+				break;
+			
+			__a[__lo + __i] = cv;
+			__i = c;
+		}
+		
+		__a[__lo + __i] = v;
+	}
+	
+	/**
+	 * Moves a value down the heap until it is in place.
+	 *
+	 * @param __a The heap.
+	 * @param __lo The start of the heap.
+	 * @param __i The index of the value to move.
+	 * @param __n The size of the heap.
+	 * @since 2026/10/18
+	 */
+	private static void __siftDown(short[] __a, int __lo, int __i, int __n)
+	{
+		short v = __a[__lo + __i];
+		for (;;)
+		{
+			// Pick the larger child
+			int c = (__i << 1) + 1;
+			if (c >= __n)
+				break;
+			if (c + 1 < __n && __a[__lo + c] < __a[__lo + c + 1])
+				c++;
+			
+			// Stop if the value is not smaller than the child
+			short cv = __a[__lo + c];
+			if (cv <= v)
+				break;
+			
+			__a[__lo + __i] = cv;
+			__i = c;
+		}
+		
+		__a[__lo + __i] = v;
+	}
+	
+	/**
+	 * Sorts the given inclusive range.
+	 *
+	 * @param __a The array to sort.
+	 * @param __lo The low index.
+	 * @param __hi The high index.
+	 * @param __depth The number of times the range may still be split
+	 * before heap sort is used.
+	 * @since 2026/10/18
+	 */
+	private static void __sort(byte[] __a, int __lo, int __hi, int __depth)
+	{
+		for (;;)
+		{
+			// Small ranges are faster with insertion sort
+			if (__hi - __lo < DualPivotQuickSort._INSERTION_THRESHOLD)
+			{
+				for (int i = __lo + 1; i <= __hi; i++)
+				{
+					byte v = __a[i];
+					int j = i - 1;
+					for (; j >= __lo && __a[j] > v; j--)
+						__a[j + 1] = __a[j];
+					__a[j + 1] = v;
+				}
+				
+				return;
+			}
+			
+			// Splitting has been going badly
+			if (--__depth < 0)
+			{
+				DualPivotQuickSort.__heapSort(__a, __lo, __hi);
+				return;
+			}
+			
+			// Use the values at the thirds as the pivots
+			int third = (__hi - __lo + 1) / 3;
+			int m1 = __lo + third,
+				m2 = __hi - third;
+			byte p = __a[m1],
+				q = __a[m2];
+			if (p > q)
+			{
+				byte t = p;
+				p = q;
+				q = t;
+			}
+			__a[m1] = __a[__lo];
+			__a[m2] = __a[__hi];
+			
+			// Move values lower than p to the start and values higher than
+			// q to the end
+			int lt = __lo + 1,
+				gt = __hi - 1;
+			for (int k = lt; k <= gt; k++)
+			{
+				byte v = __a[k];
+				if (v < p)
+				{
+					__a[k] = __a[lt];
+					__a[lt++] = v;
+				}
+				else if (v > q)
+				{
+					while (__a[gt] > q && k < gt)
+						gt--;
+					
+					__a[k] = __a[gt];
+					__a[gt--] = v;
+					
+					v = __a[k];
+					if (v < p)
+					{
+						__a[k] = __a[lt];
+						__a[lt++] = v;
+					}
+				}
+			}
+			
+			// Place the pivots between the parts
+			lt--;
+			gt++;
+			__a[__lo] = __a[lt];
+			__a[lt] = p;
+			__a[__hi] = __a[gt];
+			__a[gt] = q;
+			
+			// Sort the lower and middle parts, all of the middle values
+			// are equal if the pivots are
+			DualPivotQuickSort.__sort(__a, __lo, lt - 1, __depth);
+			if (p < q)
+				DualPivotQuickSort.__sort(__a, lt + 1, gt - 1, __depth);
+			
+			// Then the upper part
+			__lo = gt + 1;
+		}
+	}
+	
+	/**
+	 * Sorts the given inclusive range.
+	 *
+	 * @param __a The array to sort.
+	 * @param __lo The low index.
+	 * @param __hi The high index.
+	 * @param __depth The number of times the range may still be split
+	 * before heap sort is used.
+	 * @since 2026/10/18
+	 */
+	private static void __sort(char[] __a, int __lo, int __hi, int __depth)
+	{
+		for (;;)
+		{
+			// Small ranges are faster with insertion sort
+			if (__hi - __lo < DualPivotQuickSort._INSERTION_THRESHOLD)
+			{
+				for (int i = __lo + 1; i <= __hi; i++)
+				{
+					char v = __a[i];
+					int j = i - 1;
+					for (; j >= __lo && __a[j] > v; j--)
+						__a[j + 1] = __a[j];
+					__a[j + 1] = v;
+				}
+				
+				return;
+			}
+			
+			// Splitting has been going badly
+			if (--__depth < 0)
+			{
+				DualPivotQuickSort.__heapSort(__a, __lo, __hi);
+				return;
+			}
+			
+			// Use the values at the thirds as the pivots
+			int third = (__hi - __lo + 1) / 3;
+			int m1 = __lo + third,
+				m2 = __hi - third;
+			char p = __a[m1],
+				q = __a[m2];
+			if (p > q)
+			{
+				char t = p;
+				p = q;
+				q = t;
+			}
+			__a[m1] = __a[__lo];
+			__a[m2] = __a[__hi];
+			
+			// Move values lower than p to the start and values higher than
+			// q to the end
+			int lt = __lo + 1,
+				gt = __hi - 1;
+			for (int k = lt; k <= gt; k++)
+			{
+				char v = __a[k];
+				if (v < p)
+				{
+					__a[k] = __a[lt];
+					__a[lt++] = v;
+				}
+				else if (v > q)
+				{
+					while (__a[gt] > q && k < gt)
+						gt--;
+					
+					__a[k] = __a[gt];
+					__a[gt--] = v;
+					
+					v = __a[k];
+					if (v < p)
+					{
+						__a[k] = __a[lt];
+						__a[lt++] = v;
+					}
+				}
+			}
+			
+			// Place the pivots between the parts
+			lt--;
+			gt++;
+			__a[__lo] = __a[lt];
+			__a[lt] = p;
+			__a[__hi] = __a[gt];
+			__a[gt] = q;
+			
+			// Sort the lower and middle parts, all of the middle values
+			// are equal if the pivots are
+			DualPivotQuickSort.__sort(__a, __lo, lt - 1, __depth);
+			if (p < q)
+				DualPivotQuickSort.__sort(__a, lt + 1, gt - 1, __depth);
+			
+			// Then the upper part
+			__lo = gt + 1;
+		}
+	}
+	
+	/**
+	 * Sorts the given inclusive range.
+	 *
+	 * @param __a The array to sort.
+	 * @param __lo The low index.
+	 * @param __hi The high index.
+	 * @param __depth The number of times the range may still be split
+	 * before heap sort is used.
+	 * @since 2026/10/18
+	 */
+	private static void __sort(double[] __a, int __lo, int __hi, int __depth)
+	{
+		for (;;)
+		{
+			// Small ranges are faster with insertion sort
+			if (__hi - __lo < DualPivotQuickSort._INSERTION_THRESHOLD)
+			{
+				for (int i = __lo + 1; i <= __hi; i++)
+				{
+					double v = __a[i];
+					int j = i - 1;
+					for (; j >= __lo && __a[j] > v; j--)
+						__a[j + 1] = __a[j];
+					__a[j + 1] = v;
+				}
+				
+				return;
+			}
+			
+			// Splitting has been going badly
+			if (--__depth < 0)
+			{
+				DualPivotQuickSort.__heapSort(__a, __lo, __hi);
+				return;
+			}
+			
+			// Use the values at the thirds as the pivots
+			int third = (__hi - __lo + 1) / 3;
+			int m1 = __lo + third,
+				m2 = __hi - third;
+			double p = __a[m1],
+				q = __a[m2];
+			if (p > q)
+			{
+				double t = p;
+				p = q;
+				q = t;
+			}
+			__a[m1] = __a[__lo];
+			__a[m2] = __a[__hi];
+			
+			// Move values lower than p to the start and values higher than
+			// q to the end
+			int lt = __lo + 1,
+				gt = __hi - 1;
+			for (int k = lt; k <= gt; k++)
+			{
+				double v = __a[k];
+				if (v < p)
+				{
+					__a[k] = __a[lt];
+					__a[lt++] = v;
+				}
+				else if (v > q)
+				{
+					while (__a[gt] > q && k < gt)
+						gt--;
+					
+					__a[k] = __a[gt];
+					__a[gt--] = v;
+					
+					v = __a[k];
+					if (v < p)
+					{
+						__a[k] = __a[lt];
+						__a[lt++] = v;
+					}
+				}
+			}
+			
+			// Place the pivots between the parts
+			lt--;
+			gt++;
+			__a[__lo] = __a[lt];
+			__a[lt] = p;
+			__a[__hi] = __a[gt];
+			__a[gt] = q;
+			
+			// Sort the lower and middle parts, all of the middle values
+			// are equal if the pivots are
+			DualPivotQuickSort.__sort(__a, __lo, lt - 1, __depth);
+			if (p < q)
+				DualPivotQuickSort.__sort(__a, lt + 1, gt - 1, __depth);
+			
+			// Then the upper part
+			__lo = gt + 1;
+		}
+	}
+	
+	/**
+	 * Sorts the given inclusive range.
+	 *
+	 * @param __a The array to sort.
+	 * @param __lo The low index.
+	 * @param __hi The high index.
+	 * @param __depth The number of times the range may still be split
+	 * before heap sort is used.
+	 * @since 2026/10/18
+	 */
+	private static void __sort(float[] __a, int __lo, int __hi, int __depth)
+	{
+		for (;;)
+		{
+			// Small ranges are faster with insertion sort
+			if (__hi - __lo < DualPivotQuickSort._INSERTION_THRESHOLD)
+			{
+				for (int i = __lo + 1; i <= __hi; i++)
+				{
+					float v = __a[i];
+					int j = i - 1;
+					for (; j >= __lo && __a[j] > v; j--)
+						__a[j + 1] = __a[j];
+					__a[j + 1] = v;
+				}
+				
+				return;
+			}
+			
+			// Splitting has been going badly
+			if (--__depth < 0)
+			{
+				DualPivotQuickSort.__heapSort(__a, __lo, __hi);
+				return;
+			}
+			
+			// Use the values at the thirds as the pivots
+			int third = (__hi - __lo + 1) / 3;
+			int m1 = __lo + third,
+				m2 = __hi - third;
+			float p = __a[m1],
+				q = __a[m2];
+			if (p > q)
+			{
+				float t = p;
+				p = q;
+				q = t;
+			}
+			__a[m1] = __a[__lo];
+			__a[m2] = __a[__hi];
+			
+			// Move values lower than p to the start and values higher than
+			// q to the end
+			int lt = __lo + 1,
+				gt = __hi - 1;
+			for (int k = lt; k <= gt; k++)
+			{
+				float v = __a[k];
+				if (v < p)
+				{
+					__a[k] = __a[lt];
+					__a[lt++] = v;
+				}
+				else if (v > q)
+				{
+					while (__a[gt] > q && k < gt)
+						gt--;
+					
+					__a[k] = __a[gt];
+					__a[gt--] = v;
+					
+					v = __a[k];
+					if (v < p)
+					{
+						__a[k] = __a[lt];
+						__a[lt++] = v;
+					}
+				}
+			}
+			
+			// Place the pivots between the parts
+			lt--;
+			gt++;
+			__a[__lo] = __a[lt];
+			__a[lt] = p;
+			__a[__hi] = __a[gt];
+			__a[gt] = q;
+			
+			// Sort the lower and middle parts, all of the middle values
+			// are equal if the pivots are
+			DualPivotQuickSort.__sort(__a, __lo, lt - 1, __depth);
+			if (p < q)
+				DualPivotQuickSort.__sort(__a, lt + 1, gt - 1, __depth);
+			
+			// Then the upper part
+			__lo = gt + 1;
+		}
+	}
+	
+	/**
+	 * Sorts the given inclusive range.
+	 *
+	 * @param __a The array to sort.
+	 * @param __lo The low index.
+	 * @param __hi The high index.
+	 * @param __depth The number of times the range may still be split
+	 * before heap sort is used.
+	 * @since 2026/10/18
+	 */
+	private static void __sort(int[] __a, int __lo, int __hi, int __depth)
+	{
+		for (;;)
+		{
+			// Small ranges are faster with insertion sort
+			if (__hi - __lo < DualPivotQuickSort._INSERTION_THRESHOLD)
+			{
+				for (int i = __lo + 1; i <= __hi; i++)
+				{
+					int v = __a[i];
+					int j = i - 1;
+					for (; j >= __lo && __a[j] > v; j--)
+						__a[j + 1] = __a[j];
+					__a[j + 1] = v;
+				}
+				
+				return;
+			}
+			
+			// Splitting has been going badly
+			if (--__depth < 0)
+			{
+				DualPivotQuickSort.__heapSort(__a, __lo, __hi);
+				return;
+			}
+			
+			// Use the values at the thirds as the pivots
+			int third = (__hi - __lo + 1) / 3;
+			int m1 = __lo + third,
+				m2 = __hi - third;
+			int p = __a[m1],
+				q = __a[m2];
+			if (p > q)
+			{
+				int t = p;
+				p = q;
+				q = t;
+			}
+			__a[m1] = __a[__lo];
+			__a[m2] = __a[__hi];
+			
+			// Move values lower than p to the start and values higher than
+			// q to the end
+			int lt = __lo + 1,
+				gt = __hi - 1;
+			for (int k = lt; k <= gt; k++)
+			{
+				int v = __a[k];
+				if (v < p)
+				{
+					__a[k] = __a[lt];
+					__a[lt++] = v;
+				}
+				else if (v > q)
+				{
+					while (__a[gt] > q && k < gt)
+						gt--;
+					
+					__a[k] = __a[gt];
+					__a[gt--] = v;
+					
+					v = __a[k];
+					if (v < p)
+					{
+						__a[k] = __a[lt];
+						__a[lt++] = v;
+					}
+				}
+			}
+			
+			// Place the pivots between the parts
+			lt--;
+			gt++;
+			__a[__lo] = __a[lt];
+			__a[lt] = p;
+			__a[__hi] = __a[gt];
+			__a[gt] = q;
+			
+			// Sort the lower and middle parts, all of the middle values
+			// are equal if the pivots are
+			DualPivotQuickSort.__sort(__a, __lo, lt - 1, __depth);
+			if (p < q)
+				DualPivotQuickSort.__sort(__a, lt + 1, gt - 1, __depth);
+			
+			// Then the upper part
+			__lo = gt + 1;
+		}
+	}
+	
+	/**
+	 * Sorts the given inclusive range.
+	 *
+	 * @param __a The array to sort.
+	 * @param __lo The low index.
+	 * @param __hi The high index.
+	 * @param __depth The number of times the range may still be split
+	 * before heap sort is used.
+	 * @since 2026/10/18
+	 */
+	private static void __sort(long[] __a, int __lo, int __hi, int __depth)
+	{
+		for (;;)
+		{
+			// Small ranges are faster with insertion sort
+			if (__hi - __lo < DualPivotQuickSort._INSERTION_THRESHOLD)
+			{
+				for (int i = __lo + 1; i <= __hi; i++)
+				{
+					long v = __a[i];
+					int j = i - 1;
+					for (; j >= __lo && __a[j] > v; j--)
+						__a[j + 1] = __a[j];
+					__a[j + 1] = v;
+				}
+				
+				return;
+			}
+			
+			// Splitting has been going badly
+			if (--__depth < 0)
+			{
+				DualPivotQuickSort.__heapSort(__a, __lo, __hi);
+				return;
+			}
+			
+			// Use the values at the thirds as the pivots
+			int third = (__hi - __lo + 1) / 3;
+			int m1 = __lo + third,
+				m2 = __hi - third;
+			long p = __a[m1],
+				q = __a[m2];
+			if (p > q)
+			{
+				long t = p;
+				p = q;
+				q = t;
+			}
+			__a[m1] = __a[__lo];
+			__a[m2] = __a[__hi];
+			
+			// Move values lower than p to the start and values higher than
+			// q to the end
+			int lt = __lo + 1,
+				gt = __hi - 1;
+			for (int k = lt; k <= gt; k++)
+			{
+				long v = __a[k];
+				if (v < p)
+				{
+					__a[k] = __a[lt];
+					__a[lt++] = v;
+				}
+				else if (v > q)
+				{
+					while (__a[gt] > q && k < gt)
+						gt--;
+					
+					__a[k] = __a[gt];
+					__a[gt--] = v;
+					
+					v = __a[k];
+					if (v < p)
+					{
+						__a[k] = __a[lt];
+						__a[lt++] = v;
+					}
+				}
+			}
+			
+			// Place the pivots between the parts
+			lt--;
+			gt++;
+			__a[__lo] = __a[lt];
+			__a[lt] = p;
+			__a[__hi] = __a[gt];
+			__a[gt] = q;
+			
+			// Sort the lower and middle parts, all of the middle values
+			// are equal if the pivots are
+			DualPivotQuickSort.__sort(__a, __lo, lt - 1, __depth);
+			if (p < q)
+				DualPivotQuickSort.__sort(__a, lt + 1, gt - 1, __depth);
+			
+			// Then the upper part
+			__lo = gt + 1;
+		}
+	}
+	
+	/**
+	 * Sorts the given inclusive range.
+	 *
+	 * @param __a The array to sort.
+	 * @param __lo The low index.
+	 * @param __hi The high index.
+	 * @param __depth The number of times the range may still be split
+	 * before heap sort is used.
+	 * @since 2026/10/18
+	 */
+	private static void __sort(short[] __a, int __lo, int __hi, int __depth)
+	{
+		for (;;)
+		{
+			// Small ranges are faster with insertion sort
+			if (__hi - __lo < DualPivotQuickSort._INSERTION_THRESHOLD)
+			{
+				for (int i = __lo + 1; i <= __hi; i++)
+				{
+					short v = __a[i];
+					int j = i - 1;
+					for (; j >= __lo && __a[j] > v; j--)
+						__a[j + 1] = __a[j];
+					__a[j + 1] = v;
+				}
+				
+				return;
+			}
+			
+			// Splitting has been going badly
+			if (--__depth < 0)
+			{
+				DualPivotQuickSort.__heapSort(__a, __lo, __hi);
+				return;
+			}
+			
+			// Use the values at the thirds as the pivots
+			int third = (__hi - __lo + 1) / 3;
+			int m1 = __lo + third,
+				m2 = __hi - third;
+			short p = __a[m1],
+				q = __a[m2];
+			if (p > q)
+			{
+				short t = p;
+				p = q;
+				q = t;
+			}
+			__a[m1] = __a[__lo];
+			__a[m2] = __a[__hi];
+			
+			// Move values lower than p to the start and values higher than
+			// q to the end
+			int lt = __lo + 1,
+				gt = __hi - 1;
+			for (int k = lt; k <= gt; k++)
+			{
+				short v = __a[k];
+				if (v < p)
+				{
+					__a[k] = __a[lt];
+					__a[lt++] = v;
+				}
+				else if (v > q)
+				{
+					while (__a[gt] > q && k < gt)
+						gt--;
+					
+					__a[k] = __a[gt];
+					__a[gt--] = v;
+					
+					v = __a[k];
+					if (v < p)
+					{
+						__a[k] = __a[lt];
+						__a[lt++] = v;
+					}
+				}
+			}
+			
+			// Place the pivots between the parts
+			lt--;
+			gt++;
+			__a[__lo] = __a[lt];
+			__a[lt] = p;
+			__a[__hi] = __a[gt];
+			__a[gt] = q;
+			
+			// Sort the lower and middle parts, all of the middle values
+			// are equal if the pivots are
+			DualPivotQuickSort.__sort(__a, __lo, lt - 1, __depth);
+			if (p < q)
+				DualPivotQuickSort.__sort(__a, lt + 1, gt - 1, __depth);
+			
+			// Then the upper part
+			__lo = gt + 1;
+		}
+	}
+	
+	/**
+	 * Places negative zeros before positive zeros, since they are equal
+	 * when sorting but negative zero must be first.
+	 *
+	 * @param __a The sorted array.
+	 * @param __lo The low index.
+	 * @param __hi The high index.
+	 * @since 2026/10/18
+	 */
+	private static void __zeros(double[] __a, int __lo, int __hi)
+	{
+		// Find the first value which is not negative
+		int from = __lo,
+			to = __hi + 1;
+		while (from < to)
+		{
+			int mid = (from + to) >>> 1;
+			if (__a[mid] < 0.0D)
+				from = mid + 1;
+			else
+				to = mid;
+		}
+		
+		// Count the negative zeros
+		int neg = 0,
+			end = from;
+		for (; end <= __hi && __a[end] == 0.0D; end++)
+			if (Double.doubleToRawLongBits(__a[end]) < 0)
+				neg++;
+		
+		// Place them first
+		for (int i = from; i < end; i++)
+			__a[i] = (i - from < neg ? -0.0D : 0.0D);
+	}
+	
+	/**
+	 * Places negative zeros before positive zeros, since they are equal
+	 * when sorting but negative zero must be first.
+	 *
+	 * @param __a The sorted array.
+	 * @param __lo The low index.
+	 * @param __hi The high index.
+	 * @since 2026/10/18
+	 */
+	private static void __zeros(float[] __a, int __lo, int __hi)
+	{
+		// Find the first value which is not negative
+		int from = __lo,
+			to = __hi + 1;
+		while (from < to)
+		{
+			int mid = (from + to) >>> 1;
+			if (__a[mid] < 0.0F)
+				from = mid + 1;
+			else
+				to = mid;
+		}
+		
+		// Count the negative zeros
+		int neg = 0,
+			end = from;
+		for (; end <= __hi && __a[end] == 0.0F; end++)
+			if (Float.floatToRawIntBits(__a[end]) < 0)
+				neg++;
+		
+		// Place them first
+		for (int i = from; i < end; i++)
+			__a[i] = (i - from < neg ? -0.0F : 0.0F);
+	}
+}
@@ -0,0 +1,502 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.runtime.cldc.util;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * This is a stable merge sort which takes advantage of runs of values that
+ * are already in order.
+ *
+ * Runs which are too short are extended with binary insertion sort, the
+ * runs are then kept on a stack and merged so that the lengths of the runs
+ * on the stack shrink quickly. This is the same scheme as TimSort without
+ * galloping.
+ *
+ * https://en.wikipedia.org/wiki/Timsort
+ *
+ * @since 2026/10/18
+ */
+public final class TimSort
+{
+	/** Arrays smaller than this are sorted with just insertion sort. */
+	private static final int _MIN_MERGE =
+		32;
+	
+	/** The maximum number of runs which can be on the stack. */
+	private static final int _MAX_RUNS =
+		49;
+	
+	/** The array being sorted. */
+	private final Object[] _a;
+	
+	/** The comparator used. */
+	private final Comparator<Object> _comp;
+	
+	/** The start of each run. */
+	private final int[] _runBase =
+		new int[TimSort._MAX_RUNS];
+	
+	/** The length of each run. */
+	private final int[] _runLen =
+		new int[TimSort._MAX_RUNS];
+	
+	/** The number of runs on the stack. */
+	private int _runs;
+	
+	/** Temporary storage for merging. */
+	private Object[] _tmp;
+	
+	/**
+	 * Initializes the sorter.
+	 *
+	 * @param __a The array to sort.
+	 * @param __comp The comparator to use.
+	 * @since 2026/10/18
+	 */
+	private TimSort(Object[] __a, Comparator<Object> __comp)
+	{
+		this._a = __a;
+		this._comp = __comp;
+	}
+	
+	/**
+	 * Sorts the given range of the array.
+	 *
+	 * @param <T> The type to sort.
+	 * @param __a The array to sort.
+	 * @param __from The from index.
+	 * @param __to The to index, exclusive.
+	 * @param __comp The comparator to use, if {@code null} then the natural
+	 * order is used.
+	 * @throws ArrayIndexOutOfBoundsException If the from or to index are
+	 * outside of bounds.
+	 * @throws IllegalArgumentException If the from index is greater than
+	 * the to index.
+	 * @throws NullPointerException If no array was specified.
+	 * @since 2026/10/18
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> void sort(T[] __a, int __from, int __to,
+		Comparator<? super T> __comp)
+		throws ArrayIndexOutOfBoundsException, IllegalArgumentException,
+			NullPointerException
+	{
+		if (__a == null)
+			throw new NullPointerException("NARG");
+		if (__from < 0 || __to > __a.length)
+			throw new ArrayIndexOutOfBoundsException("ZZ04");
+		if (__from > __to)
+			throw new IllegalArgumentException("ZZ2g");
+		
+		// Use natural comparator?
+		Comparator<Object> comp = (Comparator<Object>)(__comp == null ?
+			NaturalComparator.<T>instance() : __comp);
+		
+		// Pointless sort?
+		int n = __to - __from;
+		if (n < 2)
+			return;
+		
+		// Small arrays are just extended as a single run
+		if (n < TimSort._MIN_MERGE)
+		{
+			int run = TimSort.__countRun(__a, __from, __to, comp);
+			TimSort.__binarySort(__a, __from, __to, __from + run, comp);
+			return;
+		}
+		
+		new TimSort(__a, comp).__sort(__from, __to);
+	}
+	
+	/**
+	 * Sorts the given list.
+	 *
+	 * @param <T> The type to sort.
+	 * @param __l The list to sort.
+	 * @param __comp The comparator to use, if {@code null} then the natural
+	 * order is used.
+	 * @throws NullPointerException If no list was specified.
+	 * @throws UnsupportedOperationException If the list cannot be set.
+	 * @since 2026/10/18
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> void sort(List<T> __l, Comparator<? super T> __comp)
+		throws NullPointerException, UnsupportedOperationException
+	{
+		if (__l == null)
+			throw new NullPointerException("NARG");
+		
+		// Sort a copy, since this is much faster than accessing lists which
+		// are not random access
+		Object[] copy = __l.toArray();
+		TimSort.<Object>sort(copy, 0, copy.length,
+			(Comparator<Object>)__comp);
+		
+		// Then store the sorted values
+		ListIterator<T> it = __l.listIterator();
+		for (Object v : copy)
+		{
+			it.next();
+			it.set((T)v);
+		}
+	}
+	
+	/**
+	 * Merges the runs at the given index and the one after it.
+	 *
+	 * @param __i The index of the first run.
+	 * @since 2026/10/18
+	 */
+	private void __mergeAt(int __i)
+	{
+		Object[] a = this._a;
+		Comparator<Object> comp = this._comp;
+		int[] runBase = this._runBase;
+		int[] runLen = this._runLen;
+		
+		int base1 = runBase[__i],
+			len1 = runLen[__i],
+			base2 = runBase[__i + 1],
+			len2 = runLen[__i + 1];
+		
+		// The merged run replaces both
+		runLen[__i] = len1 + len2;
+		if (__i == this._runs - 3)
+		{
+			runBase[__i + 1] = runBase[__i + 2];
+			runLen[__i + 1] = runLen[__i + 2];
+		}
+		this._runs--;
+		
+		// Values at the start of the first run which are not greater than
+		// the start of the second run are already in place
+		int skip = TimSort.__upper(a, a[base2], base1, base1 + len1, comp) -
+			base1;
+		base1 += skip;
+		len1 -= skip;
+		if (len1 == 0)
+			return;
+		
+		// Values at the end of the second run which are not less than the
+		// end of the first run are also in place
+		len2 = TimSort.__lower(a, a[base1 + len1 - 1], base2, base2 + len2,
+			comp) - base2;
+		if (len2 == 0)
+			return;
+		
+		// Copy the shorter run out of the way
+		if (len1 <= len2)
+			this.__mergeLo(base1, len1, base2, len2);
+		else
+			this.__mergeHi(base1, len1, base2, len2);
+	}
+	
+	/**
+	 * Merges runs until only one remains.
+	 *
+	 * @since 2026/10/18
+	 */
+	private void __mergeAll()
+	{
+		int[] runLen = this._runLen;
+		while (this._runs > 1)
+		{
+			int n = this._runs - 2;
+			if (n > 0 && runLen[n - 1] < runLen[n + 1])
+				n--;
+			
+			this.__mergeAt(n);
+		}
+	}
+	
+	/**
+	 * Merges runs on the stack until the lengths shrink quickly enough,
+	 * this keeps merges balanced and the stack small.
+	 *
+	 * @since 2026/10/18
+	 */
+	private void __mergeCollapse()
+	{
+		int[] runLen = this._runLen;
+		while (this._runs > 1)
+		{
+			int n = this._runs - 2;
+			if ((n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1]) ||
+				(n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1]))
+			{
+				if (runLen[n - 1] < runLen[n + 1])
+					n--;
+			}
+			else if (runLen[n] > runLen[n + 1])
+				break;
+			
+			this.__mergeAt(n);
+		}
+	}
+	
+	/**
+	 * Merges two runs where the first is not longer than the second, the
+	 * merge is done from the start.
+	 *
+	 * @param __base1 The start of the first run.
+	 * @param __len1 The length of the first run.
+	 * @param __base2 The start of the second run.
+	 * @param __len2 The length of the second run.
+	 * @since 2026/10/18
+	 */
+	private void __mergeLo(int __base1, int __len1, int __base2,
+		int __len2)
+	{
+		Object[] a = this._a;
+		Comparator<Object> comp = this._comp;
+		Object[] tmp = this.__tmp(__len1);
+		System.arraycopy(a, __base1, tmp, 0, __len1);
+		
+		// Values from the first run win ties, so the sort is stable
+		int dest = __base1,
+			c1 = 0,
+			c2 = __base2,
+			end2 = __base2 + __len2;
+		while (c1 < __len1 && c2 < end2)
+			if (comp.compare(a[c2], tmp[c1]) < 0)
+				a[dest++] = a[c2++];
+			else
+				a[dest++] = tmp[c1++];
+		
+		// Whatever remains of the second run is already in place
+		System.arraycopy(tmp, c1, a, dest, __len1 - c1);
+	}
+	
+	/**
+	 * Merges two runs where the second is shorter than the first, the
+	 * merge is done from the end.
+	 *
+	 * @param __base1 The start of the first run.
+	 * @param __len1 The length of the first run.
+	 * @param __base2 The start of the second run.
+	 * @param __len2 The length of the second run.
+	 * @since 2026/10/18
+	 */
+	private void __mergeHi(int __base1, int __len1, int __base2,
+		int __len2)
+	{
+		Object[] a = this._a;
+		Comparator<Object> comp = this._comp;
+		Object[] tmp = this.__tmp(__len2);
+		System.arraycopy(a, __base2, tmp, 0, __len2);
+		
+		// Values from the second run win ties, so the sort is stable
+		int dest = __base2 + __len2 - 1,
+			c1 = __base1 + __len1 - 1,
+			c2 = __len2 - 1;
+		while (c1 >= __base1 && c2 >= 0)
+			if (comp.compare(tmp[c2], a[c1]) < 0)
+				a[dest--] = a[c1--];
+			else
+				a[dest--] = tmp[c2--];
+		
+		// Whatever remains of the first run is already in place
+		System.arraycopy(tmp, 0, a, dest - c2, c2 + 1);
+	}
+	
+	/**
+	 * Sorts the given range.
+	 *
+	 * @param __from The from index.
+	 * @param __to The to index, exclusive.
+	 * @since 2026/10/18
+	 */
+	private void __sort(int __from, int __to)
+	{
+		Object[] a = this._a;
+		Comparator<Object> comp = this._comp;
+		int minRun = TimSort.__minRun(__to - __from);
+		
+		for (int lo = __from; lo < __to;)
+		{
+			// Extend short runs to the minimum length
+			int run = TimSort.__countRun(a, lo, __to, comp);
+			if (run < minRun)
+			{
+				int force = Math.min(minRun, __to - lo);
+				TimSort.__binarySort(a, lo, lo + force, lo + run, comp);
+				run = force;
+			}
+			
+			// Push the run and merge what needs merging
+			int at = this._runs++;
+			this._runBase[at] = lo;
+			this._runLen[at] = run;
+			this.__mergeCollapse();
+			
+			lo += run;
+		}
+		
+		this.__mergeAll();
+	}
+	
+	/**
+	 * Returns temporary storage of at least the given size.
+	 *
+	 * @param __n The needed size.
+	 * @return The temporary storage.
+	 * @since 2026/10/18
+	 */
+	private Object[] __tmp(int __n)
+	{
+		Object[] rv = this._tmp;
+		if (rv == null || rv.length < __n)
+			this._tmp = (rv = new Object[Math.max(__n,
+				Math.min(this._a.length >>> 1, 256))]);
+		return rv;
+	}
+	
+	/**
+	 * Sorts a range with binary insertion sort where the start of the
+	 * range is already sorted.
+	 *
+	 * @param __a The array to sort.
+	 * @param __lo The low index.
+	 * @param __hi The high index, exclusive.
+	 * @param __start The first value which is not sorted.
+	 * @param __comp The comparator.
+	 * @since 2026/10/18
+	 */
+	private static void __binarySort(Object[] __a, int __lo, int __hi,
+		int __start, Comparator<Object> __comp)
+	{
+		if (__start == __lo)
+			__start++;
+		
+		for (; __start < __hi; __start++)
+		{
+			// Insert after any equal values, so the sort is stable
+			Object pivot = __a[__start];
+			int at = TimSort.__upper(__a, pivot, __lo, __start, __comp);
+			
+			System.arraycopy(__a, at, __a, at + 1, __start - at);
+			__a[at] = pivot;
+		}
+	}
+	
+	/**
+	 * Returns the length of the run at the start of the range, if the run
+	 * is descending then it is reversed.
+	 *
+	 * @param __a The array.
+	 * @param __lo The low index.
+	 * @param __hi The high index, exclusive.
+	 * @param __comp The comparator.
+	 * @return The length of the run.
+	 * @since 2026/10/18
+	 */
+	private static int __countRun(Object[] __a, int __lo, int __hi,
+		Comparator<Object> __comp)
+	{
+		int at = __lo + 1;
+		if (at == __hi)
+			return 1;
+		
+		// Only strictly descending runs can be reversed, otherwise equal
+		// values would change order
+		if (__comp.compare(__a[at++], __a[__lo]) < 0)
+		{
+			while (at < __hi && __comp.compare(__a[at], __a[at - 1]) < 0)
+				at++;
+			
+			for (int i = __lo, j = at - 1; i < j; i++, j--)
+			{
+				Object t = __a[i];
+				__a[i] = __a[j];
+				__a[j] = t;
+			}
+		}
+		else
+			while (at < __hi && __comp.compare(__a[at], __a[at - 1]) >= 0)
+				at++;
+		
+		return at - __lo;
+	}
+	
+	/**
+	 * Returns the index of the first value which is not less than the key.
+	 *
+	 * @param __a The array.
+	 * @param __key The key.
+	 * @param __lo The low index.
+	 * @param __hi The high index, exclusive.
+	 * @param __comp The comparator.
+	 * @return The index.
+	 * @since 2026/10/18
+	 */
+	private static int __lower(Object[] __a, Object __key, int __lo,
+		int __hi, Comparator<Object> __comp)
+	{
+		while (__lo < __hi)
+		{
+			int mid = (__lo + __hi) >>> 1;
+			if (__comp.compare(__a[mid], __key) < 0)
+				__lo = mid + 1;
+			else
+				__hi = mid;
+		}
+		
+		return __lo;
+	}
+	
+	/**
+	 * Returns the minimum length of runs, this is chosen so that the number
+	 * of runs is close to a power of two.
+	 *
+	 * @param __n The number of values to sort.
+	 * @return The minimum run length.
+	 * @since 2026/10/18
+	 */
+	private static int __minRun(int __n)
+	{
+		int r = 0;
+		while (__n >= TimSort._MIN_MERGE)
+		{
+			r |= (__n & 1);
+			__n >>= 1;
+		}
+		
+		return __n + r;
+	}
+	
+	/**
+	 * Returns the index of the first value which is greater than the key.
+	 *
+	 * @param __a The array.
+	 * @param __key The key.
+	 * @param __lo The low index.
+	 * @param __hi The high index, exclusive.
+	 * @param __comp The comparator.
+	 * @return The index.
+	 * @since 2026/10/18
+	 */
+	private static int __upper(Object[] __a, Object __key, int __lo,
+		int __hi, Comparator<Object> __comp)
+	{
+		while (__lo < __hi)
+		{
+			int mid = (__lo + __hi) >>> 1;
+			if (__comp.compare(__key, __a[mid]) < 0)
+				__hi = mid;
+			else
+				__lo = mid + 1;
+		}
+		
+		return __lo;
+	}
+}
@@ -19,13 +19,8 @@ import cc.squirreljme.runtime.cldc.io.Encoder;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
-import java.lang.ref.Reference;
-import java.lang.ref.WeakReference;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Formatter;
-import java.util.Iterator;
-import java.util.LinkedList;
 
 /**
  * A {@link String} represents a sequence of characters which make up a group
@@ -57,8 +52,8 @@ public final class String
 		0b0000_0000__0000_0100;
 	
 	/** Intern string table, weakly cached to reduce memory use. */
-	private static final Collection<Reference<String>> _INTERNS =
-		new LinkedList<>();
+	private static final __InternTable__ _INTERNS =
+		new __InternTable__();
 	
 	/** String character data. */
 	private final char[] _chars;
@@ -466,7 +461,7 @@ public final class String
 		// Check
 		if (__s == null)
 			throw new NullPointerException("NARG");
-			
+		
 		// Get both character sources
 		char[] ac = this._chars,
 			bc = __s._chars;
@@ -852,13 +847,10 @@ public final class String
 	 * @return The unique string instance.
 	 * @since 2016/04/01
 	 */
-	@ImplementationNote("This method is a bit slow in SquirrelJME as it " +
-		"will search a list of weak reference to string. So despite this " +
-		"being a O(n) search it will allow any strings to be garbage " +
-		"collected when no longer used. Also the collection is a LinkedList " +
-		"since the __BucketMap__ is a complicated class. But do note that " +
-		"String.equals() checks the hashCode() so in-depth searches will " +
-		"only be performed for strings with the same hashCode().")
+	@ImplementationNote("Interned strings are kept in a hash table of " +
+		"weak references to strings, so that any strings may be garbage " +
+		"collected when no longer used. Slots for strings which were " +
+		"collected are reused or dropped when the table is rebuilt.")
 	public String intern()
 	{
 		// If this string is already interned then use this one instead
@@ -866,37 +858,18 @@ public final class String
 		if ((this._quickflags & String._QUICK_INTERN) != 0)
 			return this;
 		
-		// Search for string in the collection
-		Collection<Reference<String>> interns = String._INTERNS;
+		// Search for string in the table
+		__InternTable__ interns = String._INTERNS;
 		synchronized (interns)
 		{
-			// Same string that was internalized?
-			Iterator<Reference<String>> it = interns.iterator();
-			while (it.hasNext())
-			{
-				Reference<String> ref = it.next();
-				
-				// If the reference has been cleared, then delete it
-				String oth = ref.get();
-				if (oth == null)
-				{
-					it.remove();
-					continue;
-				}
-				
-				// If this matches the string, use that one
-				if (this.equals(oth))
-					return oth;
-			}
-			
-			// Not in the table, so add it
-			interns.add(new WeakReference<>(this));
+			String rv = interns.intern(this);
 			
-			// Also flag that this has been interned
-			this._quickflags |= String._QUICK_INTERN;
+			// Flag that this has been interned, if this is the string which
+			// was added
+			if (rv == this)
+				this._quickflags |= String._QUICK_INTERN;
 			
-			// This will be the intern string
-			return this;
+			return rv;
 		}
 	}
 	
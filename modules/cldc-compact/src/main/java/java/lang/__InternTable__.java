@@ -0,0 +1,192 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package java.lang;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+
+/**
+ * This is the table of interned strings, it uses open addressing with
+ * linear probing on the string hash code. The strings are weakly referenced
+ * so that they may be garbage collected, slots for strings which were
+ * collected are reused when they are found while probing and are dropped
+ * when the table is rebuilt.
+ *
+ * This class is not thread safe.
+ *
+ * @see String#intern()
+ * @since 2026/10/18
+ */
+final class __InternTable__
+{
+	/** The initial capacity of the table, must be a power of two. */
+	private static final int _INITIAL_CAPACITY =
+		256;
+	
+	/** References to the strings in each slot. */
+	private Reference<String>[] _refs;
+	
+	/** The hash code of the string in each slot. */
+	private int[] _hashes;
+	
+	/** The number of slots which are used, including cleared ones. */
+	private int _used;
+	
+	/**
+	 * Initializes the intern table.
+	 *
+	 * @since 2026/10/18
+	 */
+	__InternTable__()
+	{
+		int capacity = __InternTable__._INITIAL_CAPACITY;
+		
+		this._refs = __InternTable__.__newRefs(capacity);
+		this._hashes = new int[capacity];
+	}
+	
+	/**
+	 * Returns the string in the table which is equal to the given string,
+	 * if there is none then the given string is added.
+	 *
+	 * @param __s The string to intern.
+	 * @return The interned string.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final String intern(String __s)
+		throws NullPointerException
+	{
+		if (__s == null)
+			throw new NullPointerException("NARG");
+		
+		int hash = __s.hashCode();
+		Reference<String>[] refs = this._refs;
+		int[] hashes = this._hashes;
+		int mask = refs.length - 1;
+		
+		// Probe until an empty slot, since the string may be after a slot
+		// which was cleared
+		int stale = -1;
+		int at = __InternTable__.__slot(hash, mask);
+		for (;; at = (at + 1) & mask)
+		{
+			Reference<String> ref = refs[at];
+			if (ref == null)
+				break;
+			
+			// This string was collected, the first one found may be used to
+			// store the string if it is not in the table
+			String oth = ref.get();
+			if (oth == null)
+			{
+				if (stale < 0)
+					stale = at;
+				continue;
+			}
+			
+			// Is this the same string?
+			if (hashes[at] == hash && __s.equals(oth))
+				return oth;
+		}
+		
+		// Reuse the cleared slot, otherwise take the empty one
+		if (stale >= 0)
+			at = stale;
+		else
+			this._used++;
+		
+		refs[at] = new WeakReference<>(__s);
+		hashes[at] = hash;
+		
+		// Rebuild the table if it is getting full
+		if (this._used * 4 > refs.length * 3)
+			this.__rebuild();
+		
+		return __s;
+	}
+	
+	/**
+	 * Rebuilds the table, dropping any strings which were collected and
+	 * growing it if there are too many strings.
+	 *
+	 * @since 2026/10/18
+	 */
+	private void __rebuild()
+	{
+		Reference<String>[] oldrefs = this._refs;
+		int[] oldhashes = this._hashes;
+		
+		// Count the strings which still exist
+		int live = 0;
+		for (Reference<String> ref : oldrefs)
+			if (ref != null && ref.get() != null)
+				live++;
+		
+		// The table is kept at most half full after a rebuild
+		int capacity = __InternTable__._INITIAL_CAPACITY;
+		while (capacity < live * 2)
+			capacity <<= 1;
+		
+		// Move the strings over
+		Reference<String>[] refs = __InternTable__.__newRefs(capacity);
+		int[] hashes = new int[capacity];
+		int mask = capacity - 1;
+		for (int i = 0, n = oldrefs.length; i < n; i++)
+		{
+			Reference<String> ref = oldrefs[i];
+			if (ref == null || ref.get() == null)
+				continue;
+			
+			// Place in the first free slot
+			int hash = oldhashes[i];
+			int at = __InternTable__.__slot(hash, mask);
+			while (refs[at] != null)
+				at = (at + 1) & mask;
+			
+			refs[at] = ref;
+			hashes[at] = hash;
+		}
+		
+		// Use the new table, the count may be slightly off if a string was
+		// collected while this was being done which is harmless
+		this._refs = refs;
+		this._hashes = hashes;
+		this._used = live;
+	}
+	
+	/**
+	 * Creates a new array of references.
+	 *
+	 * @param __n The number of references.
+	 * @return The array.
+	 * @since 2026/10/18
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Reference<String>[] __newRefs(int __n)
+	{
+		return (Reference<String>[])((Object)new Reference[__n]);
+	}
+	
+	/**
+	 * Returns the initial slot for the given hash code, the upper bits are
+	 * mixed in since string hash codes for short strings differ mostly in
+	 * their lower bits.
+	 *
+	 * @param __hash The hash code.
+	 * @param __mask The mask for the table size.
+	 * @return The slot to start probing at.
+	 * @since 2026/10/18
+	 */
+	private static int __slot(int __hash, int __mask)
+	{
+		return (__hash ^ (__hash >>> 16)) & __mask;
+	}
+}
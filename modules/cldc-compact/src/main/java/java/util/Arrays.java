@@ -13,13 +13,11 @@ import cc.squirreljme.jvm.mle.ObjectShelf;
 import cc.squirreljme.jvm.mle.TypeShelf;
 import cc.squirreljme.runtime.cldc.util.ByteIntegerArray;
 import cc.squirreljme.runtime.cldc.util.CharacterIntegerArray;
-import cc.squirreljme.runtime.cldc.util.DoubleArrayList;
-import cc.squirreljme.runtime.cldc.util.FloatArrayList;
+import cc.squirreljme.runtime.cldc.util.DualPivotQuickSort;
 import cc.squirreljme.runtime.cldc.util.IntegerArrays;
 import cc.squirreljme.runtime.cldc.util.IntegerIntegerArray;
-import cc.squirreljme.runtime.cldc.util.LongArrayList;
-import cc.squirreljme.runtime.cldc.util.ShellSort;
 import cc.squirreljme.runtime.cldc.util.ShortIntegerArray;
+import cc.squirreljme.runtime.cldc.util.TimSort;
 
 /**
  * This class contains utility methods which operate on arrays.
@@ -1038,7 +1036,7 @@ public class Arrays
 		throws ArrayIndexOutOfBoundsException, IllegalArgumentException,
 			NullPointerException
 	{
-		IntegerArrays.sort(new IntegerIntegerArray(__a), __from, __to);
+		DualPivotQuickSort.sort(__a, __from, __to);
 	}
 	
 	/**
@@ -1075,21 +1073,7 @@ public class Arrays
 		throws ArrayIndexOutOfBoundsException, IllegalArgumentException,
 			NullPointerException
 	{
-		// Check
-		if (__a == null)
-			throw new NullPointerException("NARG");
-		int an = __a.length;
-		if (__from < 0 || __to > an)
-			throw new ArrayIndexOutOfBoundsException("ZZ04");
-		if (__from > __to)
-			throw new IllegalArgumentException("ZZ2g");
-		
-		// Pointless sort?
-		if (__from == __to)
-			return;
-		
-		// Non-common sort, use a helper wrapper
-		ShellSort.<Long>sort(new LongArrayList(__a), __from, __to, null);
+		DualPivotQuickSort.sort(__a, __from, __to);
 	}
 	
 	/**
@@ -1126,8 +1110,7 @@ public class Arrays
 		throws ArrayIndexOutOfBoundsException, IllegalArgumentException,
 			NullPointerException
 	{
-		// Use common sorting code
-		IntegerArrays.sort(new ShortIntegerArray(__a), __from, __to);
+		DualPivotQuickSort.sort(__a, __from, __to);
 	}
 	
 	/**
@@ -1164,8 +1147,7 @@ public class Arrays
 		throws ArrayIndexOutOfBoundsException, IllegalArgumentException,
 			NullPointerException
 	{
-		// Use common sorting code
-		IntegerArrays.sort(new CharacterIntegerArray(__a), __from, __to);
+		DualPivotQuickSort.sort(__a, __from, __to);
 	}
 	
 	/**
@@ -1202,8 +1184,7 @@ public class Arrays
 		throws ArrayIndexOutOfBoundsException, IllegalArgumentException,
 			NullPointerException
 	{
-		// Use common sorting code
-		IntegerArrays.sort(new ByteIntegerArray(__a), __from, __to);
+		DualPivotQuickSort.sort(__a, __from, __to);
 	}
 	
 	/**
@@ -1240,21 +1221,7 @@ public class Arrays
 		throws ArrayIndexOutOfBoundsException, IllegalArgumentException,
 			NullPointerException
 	{
-		// Check
-		if (__a == null)
-			throw new NullPointerException("NARG");
-		int an = __a.length;
-		if (__from < 0 || __to > an)
-			throw new ArrayIndexOutOfBoundsException("ZZ04");
-		if (__from > __to)
-			throw new IllegalArgumentException("ZZ2g");
-		
-		// Pointless sort?
-		if (__from == __to)
-			return;
-		
-		// Non-common sort, use a helper wrapper
-		ShellSort.<Float>sort(new FloatArrayList(__a), __from, __to, null);
+		DualPivotQuickSort.sort(__a, __from, __to);
 	}
 	
 	/**
@@ -1291,21 +1258,7 @@ public class Arrays
 		throws ArrayIndexOutOfBoundsException, IllegalArgumentException,
 			NullPointerException
 	{
-		// Check
-		if (__a == null)
-			throw new NullPointerException("NARG");
-		int an = __a.length;
-		if (__from < 0 || __to > an)
-			throw new ArrayIndexOutOfBoundsException("ZZ04");
-		if (__from > __to)
-			throw new IllegalArgumentException("ZZ2g");
-		
-		// Pointless sort?
-		if (__from == __to)
-			return;
-		
-		// Non-common sort, use a helper wrapper
-		ShellSort.<Double>sort(new DoubleArrayList(__a), __from, __to, null);
+		DualPivotQuickSort.sort(__a, __from, __to);
 	}
 	
 	/**
@@ -1391,22 +1344,7 @@ public class Arrays
 		if (__a == null)
 			throw new NullPointerException("NARG");
 		
-		// The thrown exception may need to be remapped
-		try
-		{
-			ShellSort.<T>sort(Arrays.<T>asList(__a), __from, __to, __comp);
-		}
-		
-		// {@squirreljme.error ZZ2h Out of bounds access when sorting array.}
-		catch (IndexOutOfBoundsException e)
-		{
-			if (e instanceof ArrayIndexOutOfBoundsException)
-				throw e;
-			
-			RuntimeException t = new ArrayIndexOutOfBoundsException("ZZ2h");
-			t.initCause(e);
-			throw t;
-		}
+		TimSort.<T>sort(__a, __from, __to, __comp);
 	}
 }
 
@@ -10,7 +10,7 @@
 package java.util;
 
 import cc.squirreljme.runtime.cldc.util.NaturalComparator;
-import cc.squirreljme.runtime.cldc.util.ShellSort;
+import cc.squirreljme.runtime.cldc.util.TimSort;
 
 public class Collections
 {
@@ -256,7 +256,7 @@ public class Collections
 		if (__a == null)
 			throw new NullPointerException("NARG");
 		
-		ShellSort.<T>sort(__a, 0, __a.size(), null);
+		TimSort.<T>sort(__a, null);
 	}
 	
 	/**
@@ -274,7 +274,7 @@ public class Collections
 		if (__a == null)
 			throw new NullPointerException("NARG");
 		
-		ShellSort.<T>sort(__a, 0, __a.size(), __comp);
+		TimSort.<T>sort(__a, __comp);
 	}
 	
 	public static void swap(List<?> __a, int __b, int __c)
@@ -168,7 +168,7 @@ public class HashSet<E>
 	public boolean remove(Object __v)
 	{
 		// Return true if there was an entry for this key
-		__BucketMapEntry__<E, Object> rv = this._map.removeEntry(__v, false);
+		__BucketMapEntry__<E, Object> rv = this._map.removeEntry(__v);
 		return rv != null;
 	}
 	
@@ -218,7 +218,13 @@ final class __AbstractListListIterator__<E>
 		// Check modification
 		this.__checkConcurrent();
 		
-		throw new todo.TODO();
+		// There must be an element to replace, see ZZ2c in remove()
+		int rmdx = this._rmdx;
+		if (rmdx < 0)
+			throw new IllegalStateException("ZZ2c");
+		
+		// Replace the element, this is not a structural modification
+		this.owner.set(rmdx, __v);
 	}
 	
 	/**
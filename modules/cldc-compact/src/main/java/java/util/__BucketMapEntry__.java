@@ -28,6 +28,15 @@ final class __BucketMapEntry__<K, V>
 	/** The value here. */
 	V _value;		
 	
+	/** The next entry in the same bucket. */
+	__BucketMapEntry__<K, V> _chain;
+	
+	/** The entry before this one, in linked order. */
+	__BucketMapEntry__<K, V> _before;
+	
+	/** The entry after this one, in linked order. */
+	__BucketMapEntry__<K, V> _after;
+	
 	/**
 	 * Initializes the entry.
 	 *
@@ -36,26 +36,27 @@ final class __BucketMap__<K, V>
 	static final float _DEFAULT_LOAD =
 		0.75F;
 	
+	/** The maximum number of buckets. */
+	private static final int _MAX_BUCKETS =
+		0x4000_0000;
+	
 	/** Is this bucket map ordered? */
 	protected final boolean ordered;
 	
 	/** Is this bucket map in accessed order? */
 	protected final boolean accessorder;
 	
-	/** Track put order? */
-	protected final boolean trackputorder;
-	
 	/** The load factor. */
 	protected final float loadfactor;
 	
-	/** Linked order of entries. */
-	final LinkedList<__BucketMapEntry__<K, V>> _links;
+	/** The entry chains for each bucket, the length is a power of two. */
+	__BucketMapEntry__<K, V>[] _buckets;
 	
-	/** The entry chains for each element. */
-	__BucketMapEntry__<K, V>[][] _buckets;
+	/** The first entry in linked order, the eldest entry. */
+	__BucketMapEntry__<K, V> _head;
 	
-	/** The hashcode divisor for buckets. */
-	int _bucketdiv;
+	/** The last entry in linked order, the youngest entry. */
+	__BucketMapEntry__<K, V> _tail;
 	
 	/** The number of elements in the map. */
 	int _size;
@@ -121,21 +122,37 @@ final class __BucketMap__<K, V>
 			throw new IllegalArgumentException("ZZ37");
 		
 		this.ordered = __o;
-		this.accessorder = (__ao = (__o && __ao));
-		this.trackputorder = (__o && !__ao);
+		this.accessorder = (__o && __ao);
 		this.loadfactor = __load;
-		this._buckets = __BucketMap__.<K, V>__newBucket(__cap);
-		this._bucketdiv = __cap;
-		this._capacity = __cap;
-		this._loadthreshold = (int)(__cap * __load);
-		
-		// Set linked list for ordered storage if it is used
-		this._links = ((__o || __ao) ?
-			new LinkedList<__BucketMapEntry__<K, V>>() : null);
+		
+		// Use the next power of two so buckets can be masked
+		int n = 1;
+		while (n < __cap && n < __BucketMap__._MAX_BUCKETS)
+			n <<= 1;
+		
+		this._buckets = __BucketMap__.<K, V>__newBucket(n);
+		this._capacity = n;
+		this._loadthreshold = (int)(n * __load);
+	}
+	
+	/**
+	 * Gets the entry for the given key and if this map is in access order
+	 * then the entry becomes the youngest entry.
+	 *
+	 * @param __k The key to get.
+	 * @return The entry for the given or {@code null} if none exists.
+	 * @since 2026/10/18
+	 */
+	public final __BucketMapEntry__<K, V> accessEntry(Object __k)
+	{
+		__BucketMapEntry__<K, V> rv = this.getEntry(__k);
+		if (rv != null && this.accessorder)
+			this.__access(rv);
+		return rv;
 	}
 	
 	/**
-	 * Gets the entry for the given key.
+	 * Gets the entry for the given key, the order of entries is not changed.
 	 *
 	 * @param __k The key to get.
 	 * @return The entry for the given or {@code null} if none exists.
@@ -145,34 +162,13 @@ final class __BucketMap__<K, V>
 	{
 		// Where to look in the table?
 		int hash = (__k == null ? 0 : __k.hashCode());
-		int div = (hash & 0x7FFF_FFFF) % this._bucketdiv;
-		
-		// If the chain does not exist then do not bother at all
-		__BucketMapEntry__<K, V>[] chain = this._buckets[div];
-		if (chain == null)
-			return null;
+		__BucketMapEntry__<K, V>[] buckets = this._buckets;
 		
 		// Go through the chain and find the matching entry
-		for (__BucketMapEntry__<K, V> e : chain)
-		{
-			// Ignore blank entries
-			if (e == null)
-				continue;
-			
-			// Has the wrong hashcode
-			if (hash != e._keyhash)
-				continue;
-			
-			// If the objects actually match, it is found
-			if (Objects.equals(e._key, __k))
-			{
-				// In access order?
-				if (this.accessorder)
-					throw new todo.TODO();	
-				
+		for (__BucketMapEntry__<K, V> e = buckets[__BucketMap__.__index(
+			hash, buckets.length)]; e != null; e = e._chain)
+			if (hash == e._keyhash && Objects.equals(e._key, __k))
 				return e;
-			}
-		}
 		
 		// Not found
 		return null;
@@ -189,7 +185,8 @@ final class __BucketMap__<K, V>
 	}
 	
 	/**
-	 * Returns the chain that the hashed object is within for the bucket.
+	 * Returns the entry for the given key, if there is no entry then one is
+	 * created.
 	 *
 	 * @param __k The key.
 	 * @return The key for the given entry.
@@ -197,174 +194,38 @@ final class __BucketMap__<K, V>
 	 */
 	public final __BucketMapEntry__<K, V> putEntry(K __k)
 	{
-		__BucketMapEntry__<K, V>[][] buckets = this._buckets;
-		int bucketdiv = this._bucketdiv;
-		
-		// Used to determine if we rebuild
-		int size = this._size,
-			nextsize = size + 1;
-		
-		// Hypothetically putting a new entry could cause the threshold to be
-		// hit, so just in this case a new entry would be put so rebuild
-		// the hash table. The buckets need to remain the same object
-		// references for iteration.
-		if (nextsize >= this._loadthreshold)
-		{
-			// Increase rehash count
-			this._numrehash++;
-			
-			// Double the number of buckets
-			int newbucketdiv = (bucketdiv * 2);
-			__BucketMapEntry__<K, V>[][] newbuckets =
-				__BucketMap__.<K, V>__newBucket(newbucketdiv);
-			
-			// Go through every source bucket and redistribute entries
-			for (int i = 0; i < bucketdiv; i++)
-			{
-				// Ignore empty chains
-				__BucketMapEntry__<K, V>[] chain = buckets[i];
-				if (chain == null)
-					continue;
-				
-				// Go through chain and re-add entries, we do not need to
-				// worry about object equality since if something is in the
-				// map it is already unique!
-				for (__BucketMapEntry__<K, V> e : chain)
-				{
-					// Was an entry which was removed, ignore
-					if (e == null)
-						continue;
-					
-					// Determine the new placement for it
-					int hash = e._keyhash,
-						div = (hash & 0x7FFF_FFFF) % newbucketdiv;
-					
-					// Get the new chain for it
-					__BucketMapEntry__<K, V>[] newchain = newbuckets[div];
-					if (newchain == null)
-						newchain = __BucketMap__.<K, V>__newChain(1);
-					else
-					{
-						// Need to setup new chain
-						int cn = newchain.length;
-						__BucketMapEntry__<K, V>[] newnewchain =
-							__BucketMap__.<K, V>__newChain(cn + 1);
-						
-						// Copy all the old chain stuff over
-						for (int j = 0; j < cn; j++)
-							newnewchain[j] = newchain[j];
-						
-						// Use this chain
-						newchain = newnewchain;
-					}
-					
-					// Store entry in the last spot
-					newchain[newchain.length - 1] = e;
-					
-					// New chain was created so update it naturally
-					newbuckets[div] = newchain;
-				}
-			}
-			
-			// Map was modified, in case hashCode() fails!
-			this._modcount++;
-			
-			// Store new data for later
-			this._buckets = newbuckets;
-			this._bucketdiv = newbucketdiv;
-			this._capacity = newbucketdiv;
-			this._loadthreshold = (int)(newbucketdiv * this.loadfactor);
-			
-			// Use these new properties and continue on
-			buckets = newbuckets;
-			bucketdiv = newbucketdiv;
-		}
-		
 		// Where to look in the table?
 		int hash = (__k == null ? 0 : __k.hashCode());
-		int div = (hash & 0x7FFF_FFFF) % bucketdiv;
-		
-		// This will be set depending on the situation
-		__BucketMapEntry__<K, V> rv;
+		__BucketMapEntry__<K, V>[] buckets = this._buckets;
+		int div = __BucketMap__.__index(hash, buckets.length);
 		
-		// No entries exist in the chain, we can just create one
-		__BucketMapEntry__<K, V>[] chain = buckets[div];
-		if (chain == null)
-		{
-			// Setup chain
-			chain = __BucketMap__.<K, V>__newChain(1);
-			buckets[div] = chain;
-			
-			// Fill
-			chain[0] = (rv = new __BucketMapEntry__<K, V>(__k));
-			
-			// Add to order?
-			if (this.trackputorder)
-				this._links.add(rv);
-			
-			// Map is modified
-			this._modcount++;
-			
-			// Size would have been increased at this point
-			this._size = nextsize;
-			
-			return rv;
-		}
-		
-		// Go through and find if there was a pre-existing item
-		int nulldx = -1,
-			n = chain.length;
-		for (int i = 0; i < n; i++)
-		{
-			__BucketMapEntry__<K, V> e = chain[i];
-			
-			// If no entry is here remember this blank spot in the event
-			// nothing is ever found
-			if (e == null)
+		// Use a pre-existing entry if there is one
+		for (__BucketMapEntry__<K, V> e = buckets[div]; e != null;
+			e = e._chain)
+			if (hash == e._keyhash && Objects.equals(__k, e._key))
 			{
-				if (nulldx < 0)
-					nulldx = i;
-				continue;
-			}
-			
-			// Has the wrong hashcode
-			if (hash != e._keyhash)
-				continue;
-			
-			// If the objects actually match, it is found
-			if (Objects.equals(__k, e._key))
+				// Putting a value is an access
+				if (this.accessorder)
+					this.__access(e);
+				
 				return e;
-		}
+			}
 		
-		// Found a blank spot, we can just put the entry here
-		if (nulldx >= 0)
-			chain[nulldx] = (rv = new __BucketMapEntry__<K, V>(__k));
+		// Put the entry at the start of the chain
+		__BucketMapEntry__<K, V> rv = new __BucketMapEntry__<K, V>(__k);
+		rv._chain = buckets[div];
+		buckets[div] = rv;
 		
-		// Otherwise, increase the chain and use that instead
-		else
-		{
-			// Copy the old chain over
-			__BucketMapEntry__<K, V>[] dup =
-				__BucketMap__.<K, V>__newChain(n + 1);
-			for (int i = 0; i < n; i++)
-				dup[i] = chain[i];
-			
-			// Set at end
-			dup[n] = (rv = new __BucketMapEntry__<K, V>(__k));
-			
-			// Use this chain again
-			buckets[div] = dup;
-		}
+		// New entries are always the youngest
+		if (this.ordered)
+			this.__linkLast(rv);
 		
 		// Map has been modified
 		this._modcount++;
 		
-		// Add to order?
-		if (this.trackputorder)
-			this._links.add(rv);
-		
-		// Size would have been increased at this point
-		this._size = nextsize;
+		// Rebuild the table if there are too many entries
+		if (++this._size > this._loadthreshold)
+			this.__rehash();
 		
 		return rv;
 	}
@@ -376,7 +237,7 @@ final class __BucketMap__<K, V>
 	@Override
 	public final V remove(Object __k)
 	{
-		__BucketMapEntry__<K, V> rv = this.removeEntry(__k, false);
+		__BucketMapEntry__<K, V> rv = this.removeEntry(__k);
 		if (rv != null)
 			return rv._value;
 		return null;
@@ -385,67 +246,44 @@ final class __BucketMap__<K, V>
 	/**
 	 * Removes the specified key from this map.
 	 *
-	 * Note that because iterators need to keep the same order, the entries
-	 * cannot be shuffled or the map rebuilt.
-	 *
 	 * @param __k The key to remove.
-	 * @param __preunlinked If this is true then the link chain will not have
-	 * the entry removed by this method, it is assumed it was already
-	 * removed by an iterator.
 	 * @return The removed map entry or {@code null} if one did not exist.
 	 * @since 2018/11/04
 	 */
-	public final __BucketMapEntry__<K, V> removeEntry(Object __k,
-		boolean __preunlinked)
+	public final __BucketMapEntry__<K, V> removeEntry(Object __k)
 	{
 		// Where to look in the table?
 		int hash = (__k == null ? 0 : __k.hashCode());
-		int div = (hash & 0x7FFF_FFFF) % this._bucketdiv;
-		
-		// If the chain does not exist then do not bother at all
-		__BucketMapEntry__<K, V>[] chain = this._buckets[div];
-		if (chain == null)
-			return null;
+		__BucketMapEntry__<K, V>[] buckets = this._buckets;
+		int div = __BucketMap__.__index(hash, buckets.length);
 		
 		// Go through the chain and find the matching entry
-		for (int i = 0, n = chain.length; i < n; i++)
+		for (__BucketMapEntry__<K, V> e = buckets[div], prev = null;
+			e != null; prev = e, e = e._chain)
 		{
-			// Ignore blank entries
-			__BucketMapEntry__<K, V> e = chain[i];
-			if (e == null)
+			// Not this entry
+			if (hash != e._keyhash || !Objects.equals(e._key, __k))
 				continue;
 			
-			// Has the wrong hashcode
-			if (hash != e._keyhash)
-				continue;
+			// Remove from the chain, the next link of the entry is kept so
+			// that iterators which are on this entry may continue
+			if (prev == null)
+				buckets[div] = e._chain;
+			else
+				prev._chain = e._chain;
 			
-			// If the objects actually match, it is found so it must be
-			// removed
-			if (Objects.equals(e._key, __k))
-			{
-				// Removing an entry from the chain is as simple as just
-				// setting it to null. We do not need to move entries around
-				// since that can be a bit slow
-				chain[i] = null;
-				
-				// If this was not pre-unlinked from the iterator call then
-				// it will be removed from the chain accordingly
-				if (!__preunlinked)
-				{
-					Collection<__BucketMapEntry__<K, V>> links = this._links;
-					if (links != null)
-						links.remove(e);
-				}	
-				
-				// Size goes down
-				this._size--;
-				
-				// Map has been modified
-				this._modcount++;
-				
-				// This entry was removed, so it gets returned by the map
-				return e;
-			}
+			// And from the linked order
+			if (this.ordered)
+				this.__unlink(e);
+			
+			// Size goes down
+			this._size--;
+			
+			// Map has been modified
+			this._modcount++;
+			
+			// This entry was removed, so it gets returned by the map
+			return e;
 		}
 		
 		// Not found
@@ -462,6 +300,25 @@ final class __BucketMap__<K, V>
 		return this._size;
 	}
 	
+	/**
+	 * Makes the given entry the youngest entry.
+	 *
+	 * @param __e The entry which was accessed.
+	 * @since 2026/10/18
+	 */
+	private void __access(__BucketMapEntry__<K, V> __e)
+	{
+		// Already the youngest
+		if (this._tail == __e)
+			return;
+		
+		this.__unlink(__e);
+		this.__linkLast(__e);
+		
+		// Access ordered maps are structurally modified by accesses
+		this._modcount++;
+	}
+	
 	/**
 	 * Clears the bucket map.
 	 *
@@ -470,17 +327,16 @@ final class __BucketMap__<K, V>
 	final void __clear()
 	{
 		// Set all buckets to null so they are empty
-		__BucketMapEntry__<K, V>[][] buckets = this._buckets;
+		__BucketMapEntry__<K, V>[] buckets = this._buckets;
 		for (int i = 0, n = buckets.length; i < n; i++)
 			buckets[i] = null;
 		
 		// Set size to zero
 		this._size = 0;
 		
-		// Clear the linked list if there is one
-		LinkedList<__BucketMapEntry__<K, V>> links = this._links;
-		if (links != null)
-			links.clear();
+		// There are no entries to be linked
+		this._head = null;
+		this._tail = null;
 		
 		// Modification count goes up
 		this._modcount++;
@@ -500,23 +356,106 @@ final class __BucketMap__<K, V>
 	}
 	
 	/**
-	 * Creates a new bucket array.
+	 * Links the entry as the last entry in linked order.
 	 *
-	 * @param <K> Key type.
-	 * @param <V> Value type.
-	 * @param __n The length.
-	 * @return The array.
-	 * @since 2018/10/08
+	 * @param __e The entry to link.
+	 * @since 2026/10/18
 	 */
-	@SuppressWarnings({"unchecked"})
-	private static <K, V> __BucketMapEntry__<K, V>[][] __newBucket(int __n)
+	private void __linkLast(__BucketMapEntry__<K, V> __e)
+	{
+		__BucketMapEntry__<K, V> tail = this._tail;
+		
+		__e._before = tail;
+		__e._after = null;
+		
+		if (tail == null)
+			this._head = __e;
+		else
+			tail._after = __e;
+		this._tail = __e;
+	}
+	
+	/**
+	 * Doubles the number of buckets and redistributes the entries.
+	 *
+	 * @since 2026/10/18
+	 */
+	private void __rehash()
+	{
+		__BucketMapEntry__<K, V>[] buckets = this._buckets;
+		int n = buckets.length;
+		if (n >= __BucketMap__._MAX_BUCKETS)
+			return;
+		
+		// Increase rehash count
+		this._numrehash++;
+		
+		// Move every entry to the new table, entries keep their keys so
+		// they never need to be compared
+		int newn = n << 1;
+		__BucketMapEntry__<K, V>[] newbuckets =
+			__BucketMap__.<K, V>__newBucket(newn);
+		for (int i = 0; i < n; i++)
+			for (__BucketMapEntry__<K, V> e = buckets[i], next; e != null;
+				e = next)
+			{
+				next = e._chain;
+				
+				int div = __BucketMap__.__index(e._keyhash, newn);
+				e._chain = newbuckets[div];
+				newbuckets[div] = e;
+			}
+		
+		// Map was modified
+		this._modcount++;
+		
+		// Store new data for later
+		this._buckets = newbuckets;
+		this._capacity = newn;
+		this._loadthreshold = (int)(newn * this.loadfactor);
+	}
+	
+	/**
+	 * Removes the entry from the linked order.
+	 *
+	 * @param __e The entry to unlink.
+	 * @since 2026/10/18
+	 */
+	private void __unlink(__BucketMapEntry__<K, V> __e)
 	{
-		return (__BucketMapEntry__<K, V>[][])
-			((Object)new __BucketMapEntry__[__n][]);
+		__BucketMapEntry__<K, V> before = __e._before,
+			after = __e._after;
+		
+		if (before == null)
+			this._head = after;
+		else
+			before._after = after;
+		
+		if (after == null)
+			this._tail = before;
+		else
+			after._before = before;
+		
+		__e._before = null;
+		__e._after = null;
 	}
 	
 	/**
-	 * Creates a new chain array.
+	 * Returns the bucket for the given hash code, the upper bits are mixed
+	 * into the lower bits since only the lower bits select the bucket.
+	 *
+	 * @param __hash The hash code.
+	 * @param __n The number of buckets, a power of two.
+	 * @return The bucket index.
+	 * @since 2026/10/18
+	 */
+	private static int __index(int __hash, int __n)
+	{
+		return (__hash ^ (__hash >>> 16)) & (__n - 1);
+	}
+	
+	/**
+	 * Creates a new bucket array.
 	 *
 	 * @param <K> Key type.
 	 * @param <V> Value type.
@@ -525,7 +464,7 @@ final class __BucketMap__<K, V>
 	 * @since 2018/10/08
 	 */
 	@SuppressWarnings({"unchecked"})
-	private static <K, V> __BucketMapEntry__<K, V>[] __newChain(int __n)
+	private static <K, V> __BucketMapEntry__<K, V>[] __newBucket(int __n)
 	{
 		return (__BucketMapEntry__<K, V>[])
 			((Object)new __BucketMapEntry__[__n]);
@@ -606,12 +545,9 @@ final class __BucketMap__<K, V>
 	final class __IteratorBucketOrder__
 		extends __IteratorBase__
 	{
-		/** The current bucket this is at. */
+		/** The next bucket to look in. */
 		int _bucketat;
 		
-		/** The current chain link this is at. */
-		int _chainat;
-		
 		/** The cached next entry. */
 		__BucketMapEntry__<K, V> _next;
 		
@@ -632,62 +568,23 @@ final class __BucketMap__<K, V>
 			if (this._next != null)
 				return true;
 			
-			// No more buckets remain?
-			int bucketat = this._bucketat,
-				bucketdiv = __BucketMap__.this._bucketdiv;
-			if (bucketat >= bucketdiv)
-				return false;
-			
-			// Get the current chain
-			__BucketMapEntry__<K, V>[][] buckets = __BucketMap__.this._buckets;
-			
-			// We can store the current location parameters at the end rather
-			// than every time (keeps everything in locals)
-			int chainat = this._chainat;
-			try
+			// Find the next bucket which has a chain
+			__BucketMapEntry__<K, V>[] buckets = __BucketMap__.this._buckets;
+			for (int bucketat = this._bucketat, n = buckets.length;
+				bucketat < n;)
 			{
-				// We might try looking at the next bucket if we reach the end
-				// of this chain.
-				for (;;)
+				__BucketMapEntry__<K, V> link = buckets[bucketat++];
+				if (link != null)
 				{
-					__BucketMapEntry__<K, V>[] chain = buckets[bucketat];
-					
-					// No more chain links remain? Or there is no chain?
-					int chaindiv = (chain == null ? -1 : chain.length);
-					if (chainat >= chaindiv)
-					{
-						// Reset to start of next bucket
-						bucketat++;
-						chainat = 0;
-						
-						// No more buckets to look in
-						if (bucketat >= bucketdiv)
-							return false;
-						
-						// Try again
-						continue;
-					}
-					
-					// Will use the next chain
-					int oldchainat = chainat++;
-					
-					// If no link was here try again
-					__BucketMapEntry__<K, V> link = chain[oldchainat];
-					if (link == null)
-						continue;
-					
-					// Cache that link for returning
+					this._bucketat = bucketat;
 					this._next = link;
 					return true;
 				}
 			}
 			
-			// Store properties
-			finally
-			{
-				this._bucketat = bucketat;
-				this._chainat = chainat;
-			}
+			// No more buckets remain
+			this._bucketat = buckets.length;
+			return false;
 		}
 		
 		/**
@@ -702,9 +599,9 @@ final class __BucketMap__<K, V>
 			if (!this.hasNext())
 				throw new NoSuchElementException("ZZ39");
 			
-			// hasNext() caches this
+			// hasNext() caches this, continue along the chain
 			__BucketMapEntry__<K, V> rv = this._next;
-			this._next = null;
+			this._next = rv._chain;
 			this._last = rv;
 			return rv;
 		}
@@ -724,9 +621,12 @@ final class __BucketMap__<K, V>
 			if (last == null)
 				throw new IllegalStateException("NSEE");
 			
-			// Remove from the map but we never unlinked it, so if there is
-			// a link it will be scanned and removed accordingly
-			if (__BucketMap__.this.removeEntry(last.getKey(), false) != last)
+			// Clear last because it will be invalid
+			this._last = null;
+			
+			// The entry being mismatched to the key should not happen ever
+			// but if it does then something is very wrong
+			if (__BucketMap__.this.removeEntry(last._key) != last)
 				throw new todo.OOPS();
 			
 			// The map likely was structurally modified so use the new state
@@ -742,9 +642,9 @@ final class __BucketMap__<K, V>
 	final class __IteratorLinkedOrder__
 		extends __IteratorBase__
 	{
-		/** The iterator for entries in linked order. */
-		final Iterator<__BucketMapEntry__<K, V>> _iterator =
-			__BucketMap__.this._links.iterator();
+		/** The next entry to return. */
+		__BucketMapEntry__<K, V> _next =
+			__BucketMap__.this._head;
 		
 		/** The last returned entry, for removal. */
 		__BucketMapEntry__<K, V> _last;
@@ -759,8 +659,7 @@ final class __BucketMap__<K, V>
 			// Check for modification
 			this.__checkModified();
 			
-			// Just if it has a next anyway
-			return this._iterator.hasNext();
+			return this._next != null;
 		}
 		
 		/**
@@ -769,12 +668,17 @@ final class __BucketMap__<K, V>
 		 */
 		@Override
 		public final Map.Entry<K, V> next()
+			throws NoSuchElementException
 		{
 			// Check for modification
 			this.__checkModified();
 			
-			// Use the direct next entry
-			__BucketMapEntry__<K, V> rv = this._iterator.next();
+			// No more entries remain
+			__BucketMapEntry__<K, V> rv = this._next;
+			if (rv == null)
+				throw new NoSuchElementException("ZZ39");
+			
+			this._next = rv._after;
 			this._last = rv;
 			return rv;
 		}
@@ -797,26 +701,9 @@ final class __BucketMap__<K, V>
 			// Clear last because it will be invalid
 			this._last = null;
 			
-			// Try removing it from the link first, if the state is bad then
-			// we cannot remove the link. Has to be removed from the iterator
-			// because otherwise there will be a concurrent modification
-			// exception thrown when modification is detected.
-			try
-			{
-				this._iterator.remove();
-			}
-			
-			// Just rethrow this, this means the entry was already removed
-			catch (IllegalStateException e)
-			{
-				throw e;
-			}
-			
-			// Otherwise, remove the entry from the map but hint that it was
-			// already removed from the ordered list
 			// The entry being mismatched to the key should not happen ever
 			// but if it does then something is very wrong
-			if (__BucketMap__.this.removeEntry(last.getKey(), true) != last)
+			if (__BucketMap__.this.removeEntry(last._key) != last)
 				throw new todo.OOPS();
 			
 			// The map likely was structurally modified so use the new state
@@ -824,4 +711,3 @@ final class __BucketMap__<K, V>
 		}
 	}
 }
-
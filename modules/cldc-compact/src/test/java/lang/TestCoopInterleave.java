@@ -0,0 +1,92 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package lang;
+
+import cc.squirreljme.jvm.mle.ThreadShelf;
+import cc.squirreljme.jvm.mle.constants.ThreadModelType;
+import net.multiphasicapps.tac.TestRunnable;
+import net.multiphasicapps.tac.UntestableException;
+
+/**
+ * Tests that when threads take turns, two threads which yield to each other
+ * strictly alternate.
+ *
+ * @since 2026/10/18
+ */
+public class TestCoopInterleave
+	extends TestRunnable
+{
+	/** The number of turns each thread takes. */
+	public static final int TURNS =
+		8;
+	
+	/** The order in which the threads ran. */
+	final char[] _order =
+		new char[TestCoopInterleave.TURNS * 2];
+	
+	/** The next place in the order. */
+	int _at;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void test()
+	{
+		// The order is only defined when threads take turns
+		if (ThreadShelf.model() != ThreadModelType.SINGLE_COOP_THREAD)
+			throw new UntestableException();
+		
+		Thread t = new Thread(new __Sub__(), "CoopInterleave");
+		t.start();
+		
+		// Wait for the other thread to take its first turn, since how
+		// many turns it takes to start is not known
+		char[] order = this._order;
+		while (this._at == 0)
+			Thread.yield();
+		
+		// Take turns with the other thread
+		for (int i = 0; i < TestCoopInterleave.TURNS; i++)
+		{
+			order[this._at++] = 'a';
+			Thread.yield();
+		}
+		
+		this.secondary("order", new String(order, 0, this._at));
+	}
+	
+	/**
+	 * The other thread which takes turns.
+	 *
+	 * @since 2026/10/18
+	 */
+	final class __Sub__
+		implements Runnable
+	{
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public void run()
+		{
+			TestCoopInterleave self = TestCoopInterleave.this;
+			char[] order = self._order;
+			
+			for (int i = 0; i < TestCoopInterleave.TURNS; i++)
+			{
+				order[self._at++] = 'b';
+				Thread.yield();
+			}
+		}
+	}
+}
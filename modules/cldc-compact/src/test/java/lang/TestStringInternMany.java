@@ -0,0 +1,54 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package lang;
+
+import net.multiphasicapps.tac.TestRunnable;
+
+/**
+ * Tests that interning many strings, including ones with the same hash
+ * code, still results in the same unique strings.
+ *
+ * @since 2026/10/18
+ */
+public class TestStringInternMany
+	extends TestRunnable
+{
+	/** The number of strings to intern. */
+	public static final int COUNT =
+		1000;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void test()
+	{
+		// Intern many strings so the table needs to grow
+		String[] interned = new String[TestStringInternMany.COUNT];
+		for (int i = 0; i < TestStringInternMany.COUNT; i++)
+			interned[i] = ("squirrel" + i).intern();
+		
+		// Copies of these should all be the same interned string
+		int same = 0;
+		for (int i = 0; i < TestStringInternMany.COUNT; i++)
+			if (interned[i] == new String("squirrel" + i).intern())
+				same++;
+		this.secondary("same", same);
+		
+		// These strings all have the same hash code
+		String aa = new String("Aa").intern();
+		String bb = new String("BB").intern();
+		this.secondary("hash", aa.hashCode() == bb.hashCode());
+		this.secondary("collide", aa == bb);
+		this.secondary("aa", aa == new String("Aa").intern());
+		this.secondary("bb", bb == new String("BB").intern());
+	}
+}
@@ -0,0 +1,122 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import net.multiphasicapps.tac.TestRunnable;
+
+/**
+ * Tests that access ordered maps move accessed entries to the end, so that
+ * they may be used as caches.
+ *
+ * @since 2026/10/18
+ */
+public class TestLinkedHashMapAccessOrder
+	extends TestRunnable
+{
+	/** Maximum entries in the map. */
+	public static final int MAX_ENTRIES =
+		5;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void test()
+	{
+		Map<Integer, String> map = new CacheMap();
+		
+		// Fill the cache
+		for (int i = 0; i < TestLinkedHashMapAccessOrder.MAX_ENTRIES; i++)
+			map.put(i, "Value" + i);
+		this.secondary("fill",
+			map.keySet().<Integer>toArray(new Integer[map.size()]));
+		
+		// Getting and putting existing entries makes them the youngest,
+		// checking if a key exists does not
+		map.get(1);
+		map.put(3, "Again3");
+		map.containsKey(0);
+		map.get(99);
+		this.secondary("access",
+			map.keySet().<Integer>toArray(new Integer[map.size()]));
+		
+		// Adding more entries removes the least recently used ones
+		map.put(5, "Value5");
+		map.put(6, "Value6");
+		this.secondary("evict",
+			map.keySet().<Integer>toArray(new Integer[map.size()]));
+		this.secondary("values",
+			map.values().<String>toArray(new String[map.size()]));
+		
+		// Removing in the middle keeps the order of the others
+		map.remove(1);
+		Iterator<Integer> it = map.keySet().iterator();
+		it.next();
+		it.next();
+		it.remove();
+		this.secondary("remove",
+			map.keySet().<Integer>toArray(new Integer[map.size()]));
+		
+		// Many entries to rehash the map several times
+		Map<Integer, Integer> big = new LinkedHashMap<>(2, 0.75F, true);
+		for (int i = 0; i < 1000; i++)
+			big.put(i * 7919, i);
+		for (int i = 0; i < 1000; i += 2)
+			big.get(i * 7919);
+		for (int i = 0; i < 1000; i += 4)
+			big.remove(i * 7919);
+		
+		// Odd values are first then every other even one
+		int at = 0;
+		boolean order = true;
+		for (Map.Entry<Integer, Integer> e : big.entrySet())
+		{
+			int expect = (at < 500 ? (at * 2) + 1 : ((at - 500) * 4) + 2);
+			if (e.getValue() != expect || e.getKey() != expect * 7919)
+				order = false;
+			at++;
+		}
+		this.secondary("bigsize", big.size());
+		this.secondary("bigorder", order);
+	}
+	
+	/**
+	 * Map which only holds the most recently used entries.
+	 *
+	 * @since 2026/10/18
+	 */
+	public static final class CacheMap
+		extends LinkedHashMap<Integer, String>
+	{
+		/**
+		 * Initializes the map in access order.
+		 *
+		 * @since 2026/10/18
+		 */
+		public CacheMap()
+		{
+			super(16, 0.75F, true);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, String> __e)
+		{
+			return this.size() > TestLinkedHashMapAccessOrder.MAX_ENTRIES;
+		}
+	}
+}
@@ -0,0 +1,300 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import net.multiphasicapps.tac.TestRunnable;
+
+/**
+ * Tests sorting of larger primitive arrays along with special floating
+ * point values, and that sorting of objects is stable.
+ *
+ * @since 2026/10/18
+ */
+public class TestSortingPrimitive
+	extends TestRunnable
+{
+	/** Random seed. */
+	public static final int SEED =
+		987654321;
+	
+	/** The number of elements to sort through. */
+	private static final int[] _COUNTS =
+		new int[]{50, 300, 1000};
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void test()
+	{
+		for (int count : TestSortingPrimitive._COUNTS)
+		{
+			Random rand = new Random(TestSortingPrimitive.SEED + count);
+			String cid = String.format("%04d", count);
+			
+			// Byte, large enough to be counted
+			byte[] ab = new byte[count];
+			long[] kb = new long[count];
+			for (int i = 0; i < count; i++)
+				kb[i] = (ab[i] = (byte)rand.nextInt());
+			Arrays.sort(ab);
+			this.secondary("byte" + cid, TestSortingPrimitive.__check(kb,
+				TestSortingPrimitive.__keys(ab)));
+			
+			// Integer, with many equal values
+			int[] ai = new int[count];
+			long[] ki = new long[count];
+			for (int i = 0; i < count; i++)
+				ki[i] = (ai[i] = rand.nextInt(4));
+			Arrays.sort(ai);
+			this.secondary("int" + cid, TestSortingPrimitive.__check(ki,
+				TestSortingPrimitive.__keys(ai)));
+			
+			// Long, in a descending run followed by random values
+			long[] al = new long[count];
+			long[] kl = new long[count];
+			for (int i = 0; i < count; i++)
+				kl[i] = (al[i] = (i < count / 2 ? -i : rand.nextLong()));
+			Arrays.sort(al);
+			this.secondary("long" + cid, TestSortingPrimitive.__check(kl,
+				al.clone()));
+			
+			// Float, any bits which includes NaN and infinity
+			float[] af = new float[count];
+			long[] kf = new long[count];
+			for (int i = 0; i < count; i++)
+			{
+				af[i] = Float.intBitsToFloat((i % 7) == 0 ?
+					((i & 1) << 31) : rand.nextInt());
+				kf[i] = TestSortingPrimitive.__key(af[i]);
+			}
+			Arrays.sort(af);
+			this.secondary("float" + cid, TestSortingPrimitive.__check(kf,
+				TestSortingPrimitive.__keys(af)));
+			
+			// Double, any bits which includes NaN and infinity
+			double[] ad = new double[count];
+			long[] kd = new long[count];
+			for (int i = 0; i < count; i++)
+			{
+				ad[i] = Double.longBitsToDouble((i % 5) == 0 ?
+					((long)(i & 1) << 63) : rand.nextLong());
+				kd[i] = TestSortingPrimitive.__key(ad[i]);
+			}
+			Arrays.sort(ad);
+			this.secondary("double" + cid, TestSortingPrimitive.__check(kd,
+				TestSortingPrimitive.__keys(ad)));
+			
+			// Objects, equal values must keep their order
+			Integer[] ao = new Integer[count];
+			for (int i = 0; i < count; i++)
+				ao[i] = (i < count / 2 ? i : count - i) * 10 +
+					rand.nextInt(10);
+			Integer[] ar = ao.clone();
+			Arrays.sort(ao, new __Tens__());
+			this.secondary("object" + cid,
+				TestSortingPrimitive.__stable(ao, ar));
+			
+			// Lists, which are not random access
+			List<Integer> lo = new LinkedList<>(Arrays.asList(ar));
+			Collections.sort(lo, new __Tens__());
+			this.secondary("list" + cid,
+				TestSortingPrimitive.__stable(lo.toArray(new Integer[count]),
+					ar));
+		}
+		
+		// Zeros and NaN have a specific order
+		float[] sf = new float[]{Float.NaN, 0.0F, 1.0F, -0.0F, -1.0F,
+			Float.NEGATIVE_INFINITY, -0.0F, 0.0F, Float.POSITIVE_INFINITY};
+		Arrays.sort(sf);
+		int[] rf = new int[sf.length];
+		for (int i = 0; i < sf.length; i++)
+			rf[i] = Float.floatToRawIntBits(sf[i]);
+		this.secondary("floatspecial", rf);
+		
+		double[] sd = new double[]{0.0D, Double.NaN, -0.0D, 0.0D, -1.0D,
+			Double.NaN, -0.0D, 1.0D};
+		Arrays.sort(sd, 1, sd.length);
+		long[] rd = new long[sd.length];
+		for (int i = 0; i < sd.length; i++)
+			rd[i] = Double.doubleToRawLongBits(sd[i]);
+		this.secondary("doublespecial", rd);
+	}
+	
+	/**
+	 * Checks that the keys are sorted and that they are the same keys as
+	 * before the sort.
+	 *
+	 * @param __was The keys before sorting, in any order.
+	 * @param __now The keys after sorting.
+	 * @return If the keys are valid.
+	 * @since 2026/10/18
+	 */
+	private static boolean __check(long[] __was, long[] __now)
+	{
+		// Must be in order
+		for (int i = 1; i < __now.length; i++)
+			if (__now[i - 1] > __now[i])
+				return false;
+		
+		// The sums and exclusive or of keys must be the same
+		long sum = 0, xor = 0;
+		for (int i = 0; i < __was.length; i++)
+		{
+			sum += __was[i] - __now[i];
+			xor ^= __was[i] ^ __now[i];
+		}
+		
+		return sum == 0 && xor == 0;
+	}
+	
+	/**
+	 * Returns a key for the float which sorts as it should.
+	 *
+	 * @param __v The value.
+	 * @return The key for the value.
+	 * @since 2026/10/18
+	 */
+	private static long __key(float __v)
+	{
+		int bits = Float.floatToIntBits(__v);
+		return bits ^ ((bits >> 31) & 0x7FFFFFFF);
+	}
+	
+	/**
+	 * Returns a key for the double which sorts as it should.
+	 *
+	 * @param __v The value.
+	 * @return The key for the value.
+	 * @since 2026/10/18
+	 */
+	private static long __key(double __v)
+	{
+		long bits = Double.doubleToLongBits(__v);
+		return bits ^ ((bits >> 63) & 0x7FFFFFFFFFFFFFFFL);
+	}
+	
+	/**
+	 * Returns the keys for the given values.
+	 *
+	 * @param __v The values.
+	 * @return The keys.
+	 * @since 2026/10/18
+	 */
+	private static long[] __keys(byte[] __v)
+	{
+		long[] rv = new long[__v.length];
+		for (int i = 0; i < __v.length; i++)
+			rv[i] = __v[i];
+		return rv;
+	}
+	
+	/**
+	 * Returns the keys for the given values.
+	 *
+	 * @param __v The values.
+	 * @return The keys.
+	 * @since 2026/10/18
+	 */
+	private static long[] __keys(int[] __v)
+	{
+		long[] rv = new long[__v.length];
+		for (int i = 0; i < __v.length; i++)
+			rv[i] = __v[i];
+		return rv;
+	}
+	
+	/**
+	 * Returns the keys for the given values.
+	 *
+	 * @param __v The values.
+	 * @return The keys.
+	 * @since 2026/10/18
+	 */
+	private static long[] __keys(float[] __v)
+	{
+		long[] rv = new long[__v.length];
+		for (int i = 0; i < __v.length; i++)
+			rv[i] = TestSortingPrimitive.__key(__v[i]);
+		return rv;
+	}
+	
+	/**
+	 * Returns the keys for the given values.
+	 *
+	 * @param __v The values.
+	 * @return The keys.
+	 * @since 2026/10/18
+	 */
+	private static long[] __keys(double[] __v)
+	{
+		long[] rv = new long[__v.length];
+		for (int i = 0; i < __v.length; i++)
+			rv[i] = TestSortingPrimitive.__key(__v[i]);
+		return rv;
+	}
+	
+	/**
+	 * Checks that the values were sorted by their tens and that values
+	 * with the same tens are in the same order as they originally were.
+	 *
+	 * @param __now The sorted values.
+	 * @param __was The values before sorting.
+	 * @return If the sort is valid and stable.
+	 * @since 2026/10/18
+	 */
+	private static boolean __stable(Integer[] __now, Integer[] __was)
+	{
+		// Every value with the same tens must be taken from the original
+		// in order
+		int[] next = new int[__was.length];
+		for (int i = 0; i < __now.length; i++)
+		{
+			int tens = __now[i] / 10;
+			if (i > 0 && __now[i - 1] / 10 > tens)
+				return false;
+			
+			int at = next[tens];
+			while (at < __was.length && __was[at] / 10 != tens)
+				at++;
+			if (at >= __was.length || __was[at] != __now[i].intValue())
+				return false;
+			next[tens] = at + 1;
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Compares only the tens of values.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final class __Tens__
+		implements Comparator<Integer>
+	{
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public int compare(Integer __a, Integer __b)
+		{
+			return (__a / 10) - (__b / 10);
+		}
+	}
+}
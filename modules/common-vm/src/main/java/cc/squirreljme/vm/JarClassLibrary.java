@@ -9,26 +9,68 @@
 
 package cc.squirreljme.vm;
 
+import cc.squirreljme.runtime.cldc.util.StreamUtils;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
-import net.multiphasicapps.zip.streamreader.ZipStreamReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.multiphasicapps.zip.blockreader.FileChannelBlockAccessor;
+import net.multiphasicapps.zip.blockreader.ZipBlockEntry;
+import net.multiphasicapps.zip.blockreader.ZipBlockReader;
 
 /**
  * A class library which is backed by a JAR file on the disk.
  *
+ * Only the central directory of the JAR is read when the library is first
+ * used, resources are then decompressed when they are requested. The most
+ * recently used resources are kept in memory up to a limit.
+ *
+ * The JAR is kept open while it is used, but only a limited number of
+ * libraries may be open at once. When too many are open, the least recently
+ * used one is closed and it is opened again when it is next read.
+ *
  * @since 2020/04/19
  */
 public class JarClassLibrary
-	implements VMClassLibrary
+	implements Closeable, VMClassLibrary
 {
+	/** The maximum number of bytes of resources to keep in memory. */
+	private static final int _CACHE_LIMIT =
+		1048576;
+	
+	/** The maximum number of libraries which may be open at once. */
+	private static final int _OPEN_LIMIT =
+		16;
+	
+	/** The libraries which are open, in order of use. */
+	private static final Map<JarClassLibrary, Boolean> _OPEN =
+		new LinkedHashMap<>(16, 0.75F, true);
+	
 	/** The path of the library. */
 	protected final Path path;
 	
-	/** The base class library as loaded into memory. */
-	private VMClassLibrary _loaded;
+	/** Recently used resource data, in order of use. */
+	private final Map<String, byte[]> _cache =
+		new LinkedHashMap<>(16, 0.75F, true);
+	
+	/** The number of bytes in the cache. */
+	private int _cacheSize;
+	
+	/** The names of all of the resources. */
+	private String[] _names;
+	
+	/** The open ZIP, if it is open. */
+	private ZipBlockReader _zip;
+	
+	/** The entries within the open ZIP, by name. */
+	private Map<String, ZipBlockEntry> _entries;
 	
 	/**
 	 * Initializes the class library.
@@ -46,6 +88,38 @@ public class JarClassLibrary
 		this.path = __path;
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void close()
+		throws IOException
+	{
+		try
+		{
+			synchronized (this)
+			{
+				ZipBlockReader zip = this._zip;
+				
+				this._zip = null;
+				this._entries = null;
+				
+				if (zip != null)
+					zip.close();
+			}
+		}
+		
+		// No longer open
+		finally
+		{
+			synchronized (JarClassLibrary._OPEN)
+			{
+				JarClassLibrary._OPEN.remove(this);
+			}
+		}
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2020/04/19
@@ -55,13 +129,31 @@ public class JarClassLibrary
 	{
 		try
 		{
-			return this.__load().listResources();
+			synchronized (this)
+			{
+				// The names are kept even if the JAR is closed
+				String[] rv = this._names;
+				if (rv == null)
+				{
+					Map<String, ZipBlockEntry> entries = this.__entries();
+					this._names = (rv = entries.keySet().<String>toArray(
+						new String[entries.size()]));
+				}
+				
+				return rv.clone();
+			}
 		}
 		catch (IOException e)
 		{
 			// {@squirreljme.error AK01 Could not read contents. (Jar Path)}
 			throw new RuntimeException("AK01 " + this.path, e);
 		}
+		
+		// Keep the number of open libraries bounded
+		finally
+		{
+			JarClassLibrary.__used(this);
+		}
 	}
 	
 	/**
@@ -92,7 +184,64 @@ public class JarClassLibrary
 	public InputStream resourceAsStream(String __rc)
 		throws IOException, NullPointerException
 	{
-		return this.__load().resourceAsStream(__rc);
+		if (__rc == null)
+			throw new NullPointerException("NARG");
+		
+		// Was this recently used?
+		Map<String, byte[]> cache = this._cache;
+		synchronized (this)
+		{
+			byte[] rv = cache.get(__rc);
+			if (rv != null)
+				return new ByteArrayInputStream(rv);
+		}
+		
+		// Decompress the entry, the lock is held so that the JAR is not
+		// closed while it is being read
+		byte[] rv;
+		try
+		{
+			synchronized (this)
+			{
+		// Does not exist?
+		ZipBlockEntry entry = this.__entries().get(__rc);
+		if (entry == null)
+			return null;
+		
+		try (InputStream in = entry.open())
+		{
+			rv = StreamUtils.readAll(in);
+		}
+			}
+		}
+		
+		// Keep the number of open libraries bounded
+		finally
+		{
+			JarClassLibrary.__used(this);
+		}
+		
+		// Cache it, dropping the least recently used resources if there are
+		// too many
+		int limit = JarClassLibrary._CACHE_LIMIT;
+		if (rv.length <= limit)
+			synchronized (this)
+			{
+				byte[] old = cache.put(__rc, rv);
+				int size = this._cacheSize + rv.length -
+					(old == null ? 0 : old.length);
+				
+				for (Iterator<byte[]> it = cache.values().iterator();
+					size > limit && it.hasNext();)
+				{
+					size -= it.next().length;
+					it.remove();
+				}
+				
+				this._cacheSize = size;
+			}
+		
+		return new ByteArrayInputStream(rv);
 	}
 	
 	/**
@@ -106,29 +255,63 @@ public class JarClassLibrary
 	}
 	
 	/**
-	 * Loads the library into memory.
+	 * Returns the entries within the JAR, the JAR is opened and its central
+	 * directory is read if it is not open. The lock on this library must be
+	 * held.
 	 *
-	 * @return The loaded library.
+	 * @return The entries within the JAR.
 	 * @throws IOException If it could not be read.
-	 * @since 2020/04/19
+	 * @since 2026/10/18
 	 */
-	private VMClassLibrary __load()
+	private Map<String, ZipBlockEntry> __entries()
 		throws IOException
 	{
-		// Already pre-cached?
-		VMClassLibrary rv = this._loaded;
-		if (rv != null)
+		// Already open?
+			Map<String, ZipBlockEntry> rv = this._entries;
+			if (rv != null)
+				return rv;
+			
+		// Open the ZIP, this is kept open by the entries so that they may be
+		// read when they are needed
+			FileChannelBlockAccessor accessor =
+				new FileChannelBlockAccessor(this.path);
+			ZipBlockReader zip;
+			try
+			{
+				zip = new ZipBlockReader(accessor);
+			}
+			catch (IOException e)
+			{
+				accessor.close();
+				throw e;
+			}
+			
+			// Index every entry by name, since the reader only has a linear
+		// search, directories are included as they are resources as well
+			rv = new LinkedHashMap<>();
+			for (ZipBlockEntry entry : zip)
+					rv.put(entry.name(), entry);
+			
+		this._zip = zip;
+			this._entries = rv;
 			return rv;
-		
-		Path path = this.path;
-		try (InputStream in = Files.newInputStream(path,
-			StandardOpenOption.READ);
-			ZipStreamReader zip = new ZipStreamReader(in))
+		}
+	
+	/**
+	 * Closes every library which is open, they will be opened again if they
+	 * are used.
+	 *
+	 * @since 2026/10/18
+	 */
+	public static void closeAll()
+	{
+		List<JarClassLibrary> open;
+		synchronized (JarClassLibrary._OPEN)
 		{
-			this._loaded = (rv = InMemoryClassLibrary.loadZip(
-				path.getFileName().toString(), zip));
-			return rv;
+			open = new ArrayList<>(JarClassLibrary._OPEN.keySet());
 		}
+		
+		JarClassLibrary.__close(open);
 	}
 	
 	/**
@@ -186,4 +369,56 @@ public class JarClassLibrary
 			return new DirectoryClassLibrary(__path);
 		return new JarClassLibrary(__path);
 	}
+	
+	/**
+	 * Closes the given libraries.
+	 *
+	 * @param __libs The libraries to close.
+	 * @since 2026/10/18
+	 */
+	private static void __close(List<JarClassLibrary> __libs)
+	{
+		for (JarClassLibrary lib : __libs)
+			try
+			{
+				lib.close();
+			}
+			catch (IOException ignored)
+			{
+				// There is nothing left to do with the library, and it will
+				// be opened again if it is used
+			}
+	}
+	
+	/**
+	 * Marks the given library as being used, if too many libraries are open
+	 * then the least recently used ones are closed.
+	 *
+	 * @param __lib The library which was used.
+	 * @since 2026/10/18
+	 */
+	private static void __used(JarClassLibrary __lib)
+	{
+		// Libraries are closed outside of the lock, since closing waits for
+		// any read of the library to finish
+		List<JarClassLibrary> evict = null;
+		synchronized (JarClassLibrary._OPEN)
+		{
+			Map<JarClassLibrary, Boolean> open = JarClassLibrary._OPEN;
+			open.put(__lib, Boolean.TRUE);
+			
+			for (Iterator<JarClassLibrary> it = open.keySet().iterator();
+				open.size() > JarClassLibrary._OPEN_LIMIT && it.hasNext();)
+			{
+				if (evict == null)
+					evict = new ArrayList<>();
+				
+				evict.add(it.next());
+				it.remove();
+			}
+		}
+		
+		if (evict != null)
+			JarClassLibrary.__close(evict);
+	}
 }
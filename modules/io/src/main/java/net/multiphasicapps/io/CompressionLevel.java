@@ -55,21 +55,113 @@ public enum CompressionLevel
 	{
 		switch (this)
 		{
-				// Fast has no sliding window
-			case FASTEST:	return 64;
-			case FASTER:	return 128;
-			case FAST:		return 256;
-			
+				// Fast uses smaller blocks
+			case FASTEST:	return 8192;
+			case FASTER:	return 16384;
+			case FAST:		return 16384;
+				
 				// Slow algorithms compress in more chunks
-			case SLOW:		return 256;
-			case SLOWER:	return 512;
-			case SLOWEST:	return 1024;
+			case SLOW:		return 32768;
+			case SLOWER:	return 32768;
+			case SLOWEST:	return 32768;
 			
 			default:
 				throw new todo.OOPS();
 		}
 	}
 	
+	/**
+	 * Should lazy matching be used? If it is then before a match is used
+	 * the next byte is checked to see if it has a longer match.
+	 *
+	 * @return If lazy matching should be used.
+	 * @since 2026/10/18
+	 */
+	public final boolean lazyMatching()
+	{
+		switch (this)
+		{
+			case FASTEST:
+			case FASTER:
+			case FAST:
+				return false;
+			
+			default:
+				return true;
+		}
+	}
+	
+	/**
+	 * Returns the length of a match which is considered good enough, where
+	 * no other matches are searched for.
+	 *
+	 * @return The nice match length.
+	 * @since 2026/10/18
+	 */
+	public final int niceLength()
+	{
+		switch (this)
+		{
+			case FASTEST:	return 16;
+			case FASTER:	return 32;
+			case FAST:		return 64;
+			case SLOW:		return 128;
+			case SLOWER:	return 258;
+			case SLOWEST:	return 258;
+			
+				// {@squirreljme.error BD3r Unknown compression level for the
+				// nice match length. (The compression level)}
+			default:
+				throw new Error("BD3r " + this);
+		}
+	}
+	
+	/**
+	 * Returns the maximum number of earlier positions which are checked when
+	 * searching for a match.
+	 *
+	 * @return The search depth.
+	 * @since 2026/10/18
+	 */
+	public final int searchDepth()
+	{
+		switch (this)
+		{
+			case FASTEST:	return 4;
+			case FASTER:	return 8;
+			case FAST:		return 16;
+			case SLOW:		return 32;
+			case SLOWER:	return 128;
+			case SLOWEST:	return 1024;
+			
+				// {@squirreljme.error BD3s Unknown compression level for the
+				// search depth. (The compression level)}
+			default:
+				throw new Error("BD3s " + this);
+		}
+	}
+	
+	/**
+	 * Returns the size of the sliding window, which is how far back matches
+	 * may be.
+	 *
+	 * @return The window size.
+	 * @since 2026/10/18
+	 */
+	public final int windowSize()
+	{
+		switch (this)
+		{
+			case FASTEST:	return 4096;
+			case FASTER:	return 8192;
+			case FAST:		return 16384;
+				
+				// Slow algorithms use the entire window
+			default:
+				return 32768;
+		}
+	}
+	
 	/**
 	 * Converts a ZIP compression 1-10 scale index to compression level.
 	 *
@@ -96,7 +188,7 @@ public enum CompressionLevel
 			case 9:		return CompressionLevel.SLOWER;
 			
 			case 10:	return CompressionLevel.SLOWEST;
-			
+				
 				// Out of range, so just treat as capped
 			default:
 				return (__i <= 0 ? CompressionLevel.FASTEST :
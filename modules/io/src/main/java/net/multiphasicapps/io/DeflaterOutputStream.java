@@ -11,12 +11,18 @@ package net.multiphasicapps.io;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Arrays;
 
 /**
  * This is used to compress to standard deflate streams.
  *
  * Associated standards: https://www.ietf.org/rfc/rfc1951.txt.
  *
+ * Input is split into blocks, each block has matches to earlier data in
+ * the sliding window found with hash chains and is then written with
+ * whichever of no compression, the fixed huffman table, or a dynamic
+ * huffman table is the smallest.
+ *
  * This class is not thread safe.
  *
  * @since 2018/11/10
@@ -25,17 +31,177 @@ public class DeflaterOutputStream
 	extends OutputStream
 	implements CompressionStream
 {
+	/** The maximum size of the sliding window. */
+	private static final int _WINDOW_SIZE =
+		32768;
+	
+	/** The mask for positions in the window. */
+	private static final int _WINDOW_MASK =
+		DeflaterOutputStream._WINDOW_SIZE - 1;
+	
+	/** The minimum length of a match. */
+	private static final int _MIN_MATCH =
+		3;
+	
+	/** The maximum length of a match. */
+	private static final int _MAX_MATCH =
+		258;
+	
+	/** The number of bits in the hash. */
+	private static final int _HASH_BITS =
+		15;
+	
+	/** The mask for the hash. */
+	private static final int _HASH_MASK =
+		(1 << DeflaterOutputStream._HASH_BITS) - 1;
+	
+	/** Positions above this cause the hash chains to be reset. */
+	private static final int _POSITION_LIMIT =
+		0x3FFFFFFF;
+	
+	/** The end of block symbol. */
+	private static final int _END_OF_BLOCK =
+		256;
+	
+	/** The number of literal and length codes. */
+	private static final int _NUM_LITERAL_CODES =
+		286;
+	
+	/** The number of literal and length codes for the fixed table. */
+	private static final int _NUM_FIXED_LITERAL_CODES =
+		288;
+	
+	/** The number of distance codes. */
+	private static final int _NUM_DISTANCE_CODES =
+		30;
+	
+	/** The number of code length codes. */
+	private static final int _NUM_CODE_LENGTH_CODES =
+		19;
+	
+	/** The maximum number of bits for literal and distance codes. */
+	private static final int _MAX_BITS =
+		15;
+	
+	/** The maximum number of bits for code length codes. */
+	private static final int _MAX_CODE_LENGTH_BITS =
+		7;
+	
+	/** The size of the output buffer. */
+	private static final int _OUTPUT_SIZE =
+		4096;
+	
+	/** The base length for each length code. */
+	private static final int[] _LENGTH_BASE =
+		{3, 4, 5, 6, 7, 8, 9, 10, 11, 13, 15, 17, 19, 23, 27, 31, 35, 43, 51,
+		59, 67, 83, 99, 115, 131, 163, 195, 227, 258};
+	
+	/** The extra bits for each length code. */
+	private static final int[] _LENGTH_EXTRA =
+		{0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 1, 1, 2, 2, 2, 2, 3, 3, 3, 3, 4, 4, 4,
+		4, 5, 5, 5, 5, 0};
+	
+	/** The base distance for each distance code. */
+	private static final int[] _DISTANCE_BASE =
+		{1, 2, 3, 4, 5, 7, 9, 13, 17, 25, 33, 49, 65, 97, 129, 193, 257, 385,
+		513, 769, 1025, 1537, 2049, 3073, 4097, 6145, 8193, 12289, 16385,
+		24577};
+	
+	/** The extra bits for each distance code. */
+	private static final int[] _DISTANCE_EXTRA =
+		{0, 0, 0, 0, 1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8, 8, 9, 9, 10,
+		10, 11, 11, 12, 12, 13, 13};
+	
+	/** The order code length code lengths are written in. */
+	private static final int[] _CODE_LENGTH_ORDER =
+		{16, 17, 18, 0, 8, 7, 9, 6, 10, 5, 11, 4, 12, 3, 13, 2, 14, 1, 15};
+	
+	/** The length code for every match length. */
+	private static final byte[] _LENGTH_CODE;
+	
+	/**
+	 * The distance code for distances, the first 256 are for the distances
+	 * up to 256 and the rest are for every 128 distances after that.
+	 */
+	private static final byte[] _DISTANCE_CODE;
+	
+	/** Code lengths of the fixed literal table. */
+	private static final int[] _FIXED_LITERAL_LENS;
+	
+	/** Codes of the fixed literal table. */
+	private static final int[] _FIXED_LITERAL_CODES;
+	
+	/** Code lengths of the fixed distance table. */
+	private static final int[] _FIXED_DISTANCE_LENS;
+	
+	/** Codes of the fixed distance table. */
+	private static final int[] _FIXED_DISTANCE_CODES;
+	
 	/** Stream to write compressed data to. */
 	protected final OutputStream out;
 	
 	/** The block size to compress for. */
 	private final int _blocksize;
 	
-	/** The bytes to process first. */
-	private final byte[] _fill;
+	/** How far back matches may be. */
+	private final int _windowsize;
+	
+	/** How many positions are checked for a match. */
+	private final int _searchdepth;
+	
+	/** Matches at least this long stop the search. */
+	private final int _nicelength;
+	
+	/** Is lazy matching used? */
+	private final boolean _lazy;
+	
+	/** The sliding window, which also contains the current block. */
+	private final byte[] _window =
+		new byte[DeflaterOutputStream._WINDOW_SIZE * 2];
+	
+	/** The most recent position for each hash. */
+	private final int[] _head =
+		new int[1 << DeflaterOutputStream._HASH_BITS];
+	
+	/** The previous position with the same hash, by position. */
+	private final int[] _prev =
+		new int[DeflaterOutputStream._WINDOW_SIZE];
 	
-	/** The number of bytes in the fill. */
-	private int _fillbytes;
+	/** Literal or match length of each symbol in the block. */
+	private final int[] _symlengths;
+	
+	/** Match distance of each symbol in the block, zero for literals. */
+	private final int[] _symdistances;
+	
+	/** Literal and length code frequencies. */
+	private final int[] _litfreq =
+		new int[DeflaterOutputStream._NUM_LITERAL_CODES];
+	
+	/** Distance code frequencies. */
+	private final int[] _distfreq =
+		new int[DeflaterOutputStream._NUM_DISTANCE_CODES];
+	
+	/** Output bytes waiting to be written. */
+	private final byte[] _output =
+		new byte[DeflaterOutputStream._OUTPUT_SIZE];
+	
+	/** The number of bytes in the output. */
+	private int _outputcount;
+	
+	/** The end of the data in the window. */
+	private int _windowend;
+	
+	/** The start of the current block in the window. */
+	private int _blockstart;
+	
+	/** The stream position of the start of the window. */
+	private int _windowbase;
+	
+	/** The number of symbols in the block. */
+	private int _numsyms;
+	
+	/** The distance of the last found match. */
+	private int _matchdistance;
 	
 	/** Has this been closed? */
 	private boolean _closed;
@@ -47,11 +213,65 @@ public class DeflaterOutputStream
 	private long _nuncompressed;
 	
 	/** The temporary bits for output. */
-	private int _wout;
+	private long _wout;
 	
 	/** The number to bits available to the output. */
 	private int _wbits;
 	
+	static
+	{
+		// Length codes for every match length
+		byte[] lengthcode = new byte[DeflaterOutputStream._MAX_MATCH + 1];
+		for (int c = 0; c < DeflaterOutputStream._LENGTH_BASE.length; c++)
+			for (int i = 0, n = 1 << DeflaterOutputStream._LENGTH_EXTRA[c];
+				i < n; i++)
+			{
+				int len = DeflaterOutputStream._LENGTH_BASE[c] + i;
+				if (len <= DeflaterOutputStream._MAX_MATCH)
+					lengthcode[len] = (byte)c;
+			}
+		
+		// Distance codes, the short distances map directly while the long
+		// distances are grouped by 128
+		byte[] distcode = new byte[512];
+		int at = 0;
+		int c = 0;
+		for (; c < 16; c++)
+			for (int i = 0, n = 1 << DeflaterOutputStream._DISTANCE_EXTRA[c];
+				i < n; i++)
+				distcode[at++] = (byte)c;
+		for (at >>= 7; c < DeflaterOutputStream._NUM_DISTANCE_CODES; c++)
+			for (int i = 0,
+				n = 1 << (DeflaterOutputStream._DISTANCE_EXTRA[c] - 7);
+				i < n; i++)
+				distcode[256 + (at++)] = (byte)c;
+		
+		// Fixed literal table
+		int[] fixedlitlens =
+			new int[DeflaterOutputStream._NUM_FIXED_LITERAL_CODES];
+		for (int i = 0; i < fixedlitlens.length; i++)
+			fixedlitlens[i] = (i < 144 ? 8 : (i < 256 ? 9 : (i < 280 ? 7 : 8)));
+		int[] fixedlitcodes = new int[fixedlitlens.length];
+		DeflaterOutputStream.__canonicalCodes(fixedlitlens,
+			fixedlitlens.length, fixedlitcodes);
+		
+		// Fixed distance table
+		int[] fixeddistlens =
+			new int[DeflaterOutputStream._NUM_DISTANCE_CODES];
+		for (int i = 0; i < fixeddistlens.length; i++)
+			fixeddistlens[i] = 5;
+		int[] fixeddistcodes = new int[fixeddistlens.length];
+		DeflaterOutputStream.__canonicalCodes(fixeddistlens,
+			fixeddistlens.length, fixeddistcodes);
+		
+		_LENGTH_CODE = lengthcode;
+		_DISTANCE_CODE = distcode;
+		_FIXED_LITERAL_LENS = fixedlitlens;
+		_FIXED_LITERAL_CODES = fixedlitcodes;
+		_FIXED_DISTANCE_LENS = fixeddistlens;
+		_FIXED_DISTANCE_CODES = fixeddistcodes;
+	}
+	
 	/**
 	 * Initializes the deflation stream.
 	 *
@@ -81,14 +301,25 @@ public class DeflaterOutputStream
 		
 		this.out = __os;
 		
-		// Process data by blocks for efficiency
-		int blocksize = __cl.blockSize();
-		this._fill = new byte[blocksize];
+		// Process data by blocks for efficiency, the block must fit in the
+		// second half of the window
+		int blocksize = Math.min(__cl.blockSize(),
+			DeflaterOutputStream._WINDOW_SIZE);
 		this._blocksize = blocksize;
+		this._symlengths = new int[blocksize];
+		this._symdistances = new int[blocksize];
+		
+		// Matching parameters
+		this._windowsize = Math.min(__cl.windowSize(),
+			DeflaterOutputStream._WINDOW_SIZE);
+		this._searchdepth = Math.max(1, __cl.searchDepth());
+		this._nicelength = Math.min(__cl.niceLength(),
+			DeflaterOutputStream._MAX_MATCH);
+		this._lazy = __cl.lazyMatching();
 		
-		// Since compression is not actually implemented, say it should
-		// actually be done here!
-		todo.TODO.note("Implement fixed and dynamic huffman!");
+		// No positions are in the hash chains yet
+		Arrays.fill(this._head, -1);
+		Arrays.fill(this._prev, -1);
 	}
 	
 	/**
@@ -105,19 +336,25 @@ public class DeflaterOutputStream
 			// Is closed
 			this._closed = true;
 			
-			// Process any fill remaining so it gets compressed
-			if (this._fillbytes > 0)
-				this.__processFill();
-			
-			// Mark final block
-			this.__bitOut(1, 1, false);
-			
-			// Fixed huffman
-			this.__bitOut(InflaterInputStream._TYPE_FIXED_HUFFMAN, 2, false);
+			// Process any fill remaining so it gets compressed, this will
+			// be the final block
+			if (this._windowend > this._blockstart)
+				this.__processFill(true);
 			
-			// Write code 256 which means to end processing the data, this
-			// is just 0b000 + 0b0000 for the offset value
-			this.__bitOut(0b000_0000, 7, true);
+			// Otherwise an empty final block is needed
+			else
+			{
+				// Mark final block
+				this.__bitOut(1, 1, false);
+				
+				// Fixed huffman
+				this.__bitOut(InflaterInputStream._TYPE_FIXED_HUFFMAN, 2,
+					false);
+				
+				// Write code 256 which means to end processing the data,
+				// this is just 0b000 + 0b0000 for the offset value
+				this.__bitOut(0b000_0000, 7, true);
+			}
 			
 			// Pad to 8 bytes so partial bits for the end are not lost
 			this.__bitPad(8);
@@ -152,6 +389,7 @@ public class DeflaterOutputStream
 	{
 		// Flush all the bits
 		this.__bitFlush();
+		this.__outputDrain();
 		
 		// Then flush the stream itself
 		this.out.flush();
@@ -175,8 +413,12 @@ public class DeflaterOutputStream
 	public final void write(int __b)
 		throws IOException
 	{
-		// Just forward write call since it is easier
-		this.write(new byte[]{(byte)__b}, 0, 1);
+		this._window[this._windowend++] = (byte)__b;
+		this._nuncompressed++;
+		
+		// Process entire block of bytes
+		if (this._windowend - this._blockstart == this._blocksize)
+			this.__processFill(false);
 	}
 	
 	/**
@@ -204,52 +446,30 @@ public class DeflaterOutputStream
 		if (__o < 0 || __l < 0 || (__o + __l) > __b.length)
 			throw new IndexOutOfBoundsException("IOOB");
 		
-		byte[] fill = this._fill;
-		int blocksize = this._blocksize,
-			fillbytes = this._fillbytes;
+		// These original bytes were added
+		this._nuncompressed += __l;
 		
-		// Write into the fill buffer, but do fill in chunks since that is
-		// more optimized
-		boolean addedfill = false;
+		// Write into the window, in chunks up to the end of the block
+		byte[] window = this._window;
+		int blocksize = this._blocksize;
 		while (__l > 0)
 		{
-			// We can only fit so many bytes in the fill before it is full
-			int leftinfill = blocksize - fillbytes;
+			// We can only fit so many bytes in the block before it is full
+			int windowend = this._windowend;
+			int leftinfill = blocksize - (windowend - this._blockstart);
 			if (__l < leftinfill)
 				leftinfill = __l;
 			
-			// Copy bytes into the fill
-			for (int i = 0; i < leftinfill; i++)
-				fill[fillbytes++] = __b[__o++];
-			
-			// Length is dropped by the fill
+			// Copy bytes into the window
+			System.arraycopy(__b, __o, window, windowend, leftinfill);
+			this._windowend = (windowend += leftinfill);
+			__o += leftinfill;
 			__l -= leftinfill;
 			
 			// Process entire block of bytes
-			if (fillbytes == blocksize)
-			{
-				// Need to store the number of bytes written before we
-				// continue
-				this._fillbytes = fillbytes;
-				this.__processFill();
-				
-				// Since the entire fill was drained, this would have been
-				// reset
-				fillbytes = 0;
-			}
-			
-			// Fill would have been added, so need to say that there are
-			// bytes in here currently
-			else
-				addedfill = true;
+			if (windowend - this._blockstart == blocksize)
+				this.__processFill(false);
 		}
-		
-		// These original bytes were added
-		this._nuncompressed += __l;
-		
-		// Bytes were added to the fill, record those
-		if (addedfill)
-			this._fillbytes = fillbytes;
 	}
 	
 	/**
@@ -265,15 +485,24 @@ public class DeflaterOutputStream
 		int wbits = this._wbits;
 		if (wbits >= 8)
 		{
-			OutputStream out = this.out;
-			int wout = this._wout;
+			byte[] output = this._output;
+			int outputcount = this._outputcount;
+			long wout = this._wout;
 			long ncompressed = this._ncompressed;
 			
 			// Send to the output
 			while (wbits >= 8)
 			{
+				// Make room in the output
+				if (outputcount == DeflaterOutputStream._OUTPUT_SIZE)
+				{
+					this._outputcount = outputcount;
+					this.__outputDrain();
+					outputcount = 0;
+				}
+				
 				// Send to output
-				out.write(wout & 0xFF);
+				output[outputcount++] = (byte)wout;
 				
 				// Clip down
 				wout >>>= 8;
@@ -284,6 +513,7 @@ public class DeflaterOutputStream
 			}
 			
 			// Store new values
+			this._outputcount = outputcount;
 			this._wbits = wbits;
 			this._wout = wout;
 			this._ncompressed = ncompressed;
@@ -307,14 +537,14 @@ public class DeflaterOutputStream
 			__v = Integer.reverse(__v) >>> (32 - __n);
 		
 		// Bit storage
-		int wout = this._wout,
-			wbits = this._wbits;
+		long wout = this._wout;
+		int wbits = this._wbits;
 		
 		// Need to mask off so sign values do not mess anything up above
 		int mask = (1 << __n) - 1;
 		
 		// Add the new value to the top of the bits
-		wout |= (__v & mask) << wbits;
+		wout |= ((long)(__v & mask)) << wbits;
 		wbits += __n;
 		
 		// Store for next cycle (or out flush)
@@ -323,7 +553,7 @@ public class DeflaterOutputStream
 		
 		// There are too many bits in the output, so send them to the stream
 		// accordingly
-		if (wbits >= 24)
+		if (wbits >= 32)
 			this.__bitFlush();
 	}
 	
@@ -343,59 +573,747 @@ public class DeflaterOutputStream
 		// we just take 2 from 8 and we get 6.
 		int wbits = this._wbits,
 			rem = wbits % __n;
-		this._wbits = wbits + (__n - rem);
+		if (rem != 0)
+			this._wbits = wbits + (__n - rem);
 	}
 	
 	/**
-	 * Processes the bytes which are in the fill buffer.
+	 * Processes the bytes which are in the current block.
 	 *
+	 * @param __final Is this the final block?
 	 * @throws IOException On write errors.
 	 * @since 2018/11/10
 	 */
-	final void __processFill()
+	final void __processFill(boolean __final)
 		throws IOException
 	{
-		// Get fill parameters
-		byte[] fill = this._fill;
-		int fillbytes = this._fillbytes;
+		int start = this._blockstart,
+			end = this._windowend;
+		
+		// Find matches then write the block
+		this.__match(start, end);
+		this.__writeBlock(start, end, __final);
 		
-		// Determine the best way to handle this block
-		int hufftype = 0;
+		// The next block starts after this one
+		this._blockstart = end;
 		
-		// Compress with fixed table
-		if (hufftype == 1)
+		// If another block will not fit, slide the window down so that only
+		// the maximum window of history remains
+		byte[] window = this._window;
+		if (end + this._blocksize > window.length)
 		{
-			throw new todo.TODO();
+			int shift = end - DeflaterOutputStream._WINDOW_SIZE;
+			System.arraycopy(window, shift, window, 0,
+				DeflaterOutputStream._WINDOW_SIZE);
+			
+			this._windowend = DeflaterOutputStream._WINDOW_SIZE;
+			this._blockstart = DeflaterOutputStream._WINDOW_SIZE;
+			
+			// Positions in the hash chains are stream positions so they do
+			// not need to be adjusted, unless they would overflow
+			int windowbase = this._windowbase + shift;
+			if (windowbase > DeflaterOutputStream._POSITION_LIMIT)
+			{
+				Arrays.fill(this._head, -1);
+				Arrays.fill(this._prev, -1);
+				windowbase = 0;
+			}
+			this._windowbase = windowbase;
 		}
+	}
+	
+	/**
+	 * Adds a symbol to the block.
+	 *
+	 * @param __len The literal byte or the match length.
+	 * @param __dist The match distance, zero for literals.
+	 * @since 2026/10/18
+	 */
+	private void __addSymbol(int __len, int __dist)
+	{
+		int at = this._numsyms++;
+		this._symlengths[at] = __len;
+		this._symdistances[at] = __dist;
 		
-		// Compress with dynamically generated table
-		else if (hufftype == 2)
+		// Count frequencies for the huffman tables
+		if (__dist == 0)
+			this._litfreq[__len]++;
+		else
 		{
-			throw new todo.TODO();
+			this._litfreq[257 +
+				DeflaterOutputStream._LENGTH_CODE[__len]]++;
+			this._distfreq[DeflaterOutputStream.__distanceCode(__dist)]++;
 		}
+	}
+	
+	/**
+	 * Returns the hash of the three bytes at the given position.
+	 *
+	 * @param __at The position in the window.
+	 * @return The hash.
+	 * @since 2026/10/18
+	 */
+	private int __hash(int __at)
+	{
+		byte[] window = this._window;
+		return (((window[__at] & 0xFF) << 10) ^
+			((window[__at + 1] & 0xFF) << 5) ^
+			(window[__at + 2] & 0xFF)) & DeflaterOutputStream._HASH_MASK;
+	}
+	
+	/**
+	 * Inserts the given position into the hash chains.
+	 *
+	 * @param __at The position in the window.
+	 * @since 2026/10/18
+	 */
+	private void __insert(int __at)
+	{
+		int h = this.__hash(__at);
+		int pos = this._windowbase + __at;
 		
-		// No compression used
+		int[] head = this._head;
+		this._prev[pos & DeflaterOutputStream._WINDOW_MASK] = head[h];
+		head[h] = pos;
+	}
+	
+	/**
+	 * Finds the longest match for the given position, the position must
+	 * not have been inserted yet.
+	 *
+	 * @param __at The position in the window.
+	 * @param __end The end of the data which may be matched.
+	 * @return The match length or zero if there is no match, the distance
+	 * is stored in {@link #_matchdistance}.
+	 * @since 2026/10/18
+	 */
+	private int __longestMatch(int __at, int __end)
+	{
+		int maxlen = __end - __at;
+		if (maxlen > DeflaterOutputStream._MAX_MATCH)
+			maxlen = DeflaterOutputStream._MAX_MATCH;
+		
+		byte[] window = this._window;
+		int[] prev = this._prev;
+		int windowbase = this._windowbase;
+		int nicelength = this._nicelength;
+		
+		// Matches cannot be before the window or the start of the data
+		int pos = windowbase + __at;
+		int minpos = Math.max(pos - this._windowsize, windowbase);
+		
+		// Go through the chain and find the longest match
+		int bestlen = DeflaterOutputStream._MIN_MATCH - 1;
+		int bestdist = 0;
+		int cur = this._head[this.__hash(__at)];
+		for (int chain = this._searchdepth; cur >= minpos && cur < pos &&
+			chain > 0; chain--)
+		{
+			int ci = cur - windowbase;
+			
+			// Quickly check the byte which would make this match longer
+			// along with the first bytes
+			if (window[ci + bestlen] == window[__at + bestlen] &&
+				window[ci] == window[__at] &&
+				window[ci + 1] == window[__at + 1])
+			{
+				int len = 2;
+				while (len < maxlen && window[ci + len] == window[__at + len])
+					len++;
+				
+				// Use the longer match, stop if it is good enough
+				if (len > bestlen)
+				{
+					bestlen = len;
+					bestdist = pos - cur;
+					
+					if (len >= nicelength || len >= maxlen)
+						break;
+				}
+			}
+			
+			// Chains only go back, if they do not then this is an old
+			// position that was replaced
+			int next = prev[cur & DeflaterOutputStream._WINDOW_MASK];
+			if (next >= cur)
+				break;
+			cur = next;
+		}
+		
+		// No match was found
+		if (bestlen < DeflaterOutputStream._MIN_MATCH)
+			return 0;
+		
+		this._matchdistance = bestdist;
+		return bestlen;
+	}
+	
+	/**
+	 * Finds matches within the block and stores the symbols for it.
+	 *
+	 * @param __start The start of the block.
+	 * @param __end The end of the block.
+	 * @since 2026/10/18
+	 */
+	private void __match(int __start, int __end)
+	{
+		// Clear the block symbols
+		this._numsyms = 0;
+		Arrays.fill(this._litfreq, 0);
+		Arrays.fill(this._distfreq, 0);
+		
+		byte[] window = this._window;
+		int minmatch = DeflaterOutputStream._MIN_MATCH;
+		
+		// Lazy matching, a match is only used if the next position does not
+		// have a longer match
+		if (this._lazy)
+		{
+			int prevlen = 0,
+				prevdist = 0;
+			boolean prevavail = false;
+			for (int at = __start; at < __end;)
+			{
+				int len = 0,
+					dist = 0;
+				if (__end - at >= minmatch)
+				{
+					len = this.__longestMatch(at, __end);
+					dist = this._matchdistance;
+					this.__insert(at);
+				}
+				
+				// The previous match is better, so use that
+				if (prevavail && prevlen >= minmatch && len <= prevlen)
+				{
+					this.__addSymbol(prevlen, prevdist);
+					
+					// Insert every position which was matched, the previous
+					// match started at the last position
+					int stop = at - 1 + prevlen;
+					for (int i = at + 1; i < stop && __end - i >= minmatch;
+						i++)
+						this.__insert(i);
+					
+					at = stop;
+					prevavail = false;
+					prevlen = 0;
+				}
+				
+				// Otherwise the previous position is a literal, and this
+				// match is checked against the next position
+				else
+				{
+					if (prevavail)
+						this.__addSymbol(window[at - 1] & 0xFF, 0);
+					
+					prevavail = true;
+					prevlen = len;
+					prevdist = dist;
+					at++;
+				}
+			}
+			
+			// The last position is always a literal
+			if (prevavail)
+				this.__addSymbol(window[__end - 1] & 0xFF, 0);
+		}
+		
+		// Greedy matching, matches are always used
 		else
+			for (int at = __start; at < __end;)
+			{
+				int len = 0;
+				if (__end - at >= minmatch)
+				{
+					len = this.__longestMatch(at, __end);
+					this.__insert(at);
+				}
+				
+				// Use the match and insert all the matched positions
+				if (len >= minmatch)
+				{
+					this.__addSymbol(len, this._matchdistance);
+					
+					int stop = at + len;
+					for (int i = at + 1; i < stop && __end - i >= minmatch;
+						i++)
+						this.__insert(i);
+					
+					at = stop;
+				}
+				
+				// Otherwise a literal
+				else
+					this.__addSymbol(window[at++] & 0xFF, 0);
+			}
+	}
+	
+	/**
+	 * Writes all of the bytes in the output buffer to the stream.
+	 *
+	 * @throws IOException On write errors.
+	 * @since 2026/10/18
+	 */
+	private void __outputDrain()
+		throws IOException
+	{
+		int outputcount = this._outputcount;
+		if (outputcount > 0)
 		{
-			// Write all the bytes with no compression at all
-			// Write no-compression marker, stream not ended yet
-			this.__bitOut(0, 1, false);
-			this.__bitOut(InflaterInputStream._TYPE_NO_COMPRESSION, 2, false);
+			this.out.write(this._output, 0, outputcount);
+			this._outputcount = 0;
+		}
+	}
+	
+	/**
+	 * Writes the block with the smallest encoding.
+	 *
+	 * @param __start The start of the block.
+	 * @param __end The end of the block.
+	 * @param __final Is this the final block?
+	 * @throws IOException On write errors.
+	 * @since 2026/10/18
+	 */
+	private void __writeBlock(int __start, int __end, boolean __final)
+		throws IOException
+	{
+		int[] litfreq = this._litfreq;
+		int[] distfreq = this._distfreq;
+		
+		// The end of the block is always used
+		litfreq[DeflaterOutputStream._END_OF_BLOCK]++;
+		
+		// Extra bits are the same for either huffman table
+		long extrabits = 0;
+		for (int i = 0; i < DeflaterOutputStream._LENGTH_EXTRA.length; i++)
+			extrabits += (long)litfreq[257 + i] *
+				DeflaterOutputStream._LENGTH_EXTRA[i];
+		for (int i = 0; i < DeflaterOutputStream._NUM_DISTANCE_CODES; i++)
+			extrabits += (long)distfreq[i] *
+				DeflaterOutputStream._DISTANCE_EXTRA[i];
+		
+		// Size with the fixed table
+		long fixedbits = 3 + extrabits;
+		for (int i = 0; i < DeflaterOutputStream._NUM_LITERAL_CODES; i++)
+			fixedbits += (long)litfreq[i] *
+				DeflaterOutputStream._FIXED_LITERAL_LENS[i];
+		for (int i = 0; i < DeflaterOutputStream._NUM_DISTANCE_CODES; i++)
+			fixedbits += (long)distfreq[i] *
+				DeflaterOutputStream._FIXED_DISTANCE_LENS[i];
+		
+		// Build the dynamic tables
+		int[] litlens = new int[DeflaterOutputStream._NUM_LITERAL_CODES];
+		int[] distlens = new int[DeflaterOutputStream._NUM_DISTANCE_CODES];
+		DeflaterOutputStream.__huffmanLengths(litfreq, litlens.length,
+			DeflaterOutputStream._MAX_BITS, litlens);
+		DeflaterOutputStream.__huffmanLengths(distfreq, distlens.length,
+			DeflaterOutputStream._MAX_BITS, distlens);
+		
+		// Trailing unused codes are not written
+		int numlit = DeflaterOutputStream._NUM_LITERAL_CODES;
+		while (numlit > 257 && litlens[numlit - 1] == 0)
+			numlit--;
+		int numdist = DeflaterOutputStream._NUM_DISTANCE_CODES;
+		while (numdist > 1 && distlens[numdist - 1] == 0)
+			numdist--;
+		
+		// The code lengths are run length encoded
+		int[] clsyms = new int[numlit + numdist];
+		int numclsyms = DeflaterOutputStream.__runLength(litlens, numlit,
+			clsyms, 0);
+		numclsyms = DeflaterOutputStream.__runLength(distlens, numdist,
+			clsyms, numclsyms);
+		
+		// Which are then encoded with their own table
+		int[] clfreq = new int[DeflaterOutputStream._NUM_CODE_LENGTH_CODES];
+		for (int i = 0; i < numclsyms; i++)
+			clfreq[clsyms[i] & 0xFF]++;
+		int[] cllens = new int[DeflaterOutputStream._NUM_CODE_LENGTH_CODES];
+		DeflaterOutputStream.__huffmanLengths(clfreq, cllens.length,
+			DeflaterOutputStream._MAX_CODE_LENGTH_BITS, cllens);
+		
+		// Trailing unused code length codes are not written
+		int numcl = DeflaterOutputStream._NUM_CODE_LENGTH_CODES;
+		while (numcl > 4 && cllens[DeflaterOutputStream._CODE_LENGTH_ORDER[
+			numcl - 1]] == 0)
+			numcl--;
+		
+		// Size with the dynamic table
+		long dynamicbits = 3 + 5 + 5 + 4 + (3 * numcl) + extrabits +
+			(2 * clfreq[16]) + (3 * clfreq[17]) + (7 * clfreq[18]);
+		for (int i = 0; i < DeflaterOutputStream._NUM_CODE_LENGTH_CODES; i++)
+			dynamicbits += (long)clfreq[i] * cllens[i];
+		for (int i = 0; i < numlit; i++)
+			dynamicbits += (long)litfreq[i] * litlens[i];
+		for (int i = 0; i < numdist; i++)
+			dynamicbits += (long)distfreq[i] * distlens[i];
+		
+		// Size with no compression, including the worst case padding
+		long storedbits = 3 + 7 + 32 + (8L * (__end - __start));
+		
+		// No compression is smallest
+		if (storedbits <= fixedbits && storedbits <= dynamicbits)
+		{
+			this.__writeStored(__start, __end, __final);
+			return;
+		}
+		
+		// Block header
+		this.__bitOut((__final ? 1 : 0), 1, false);
+		
+		// Use the fixed table
+		int[] litcodes;
+		int[] distcodes;
+		if (fixedbits <= dynamicbits)
+		{
+			this.__bitOut(InflaterInputStream._TYPE_FIXED_HUFFMAN, 2, false);
 			
-			// Pad because byte boundary
-			this.__bitPad(8);
+			litlens = DeflaterOutputStream._FIXED_LITERAL_LENS;
+			litcodes = DeflaterOutputStream._FIXED_LITERAL_CODES;
+			distlens = DeflaterOutputStream._FIXED_DISTANCE_LENS;
+			distcodes = DeflaterOutputStream._FIXED_DISTANCE_CODES;
+		}
+		
+		// Use the dynamic table
+		else
+		{
+			this.__bitOut(InflaterInputStream._TYPE_DYNAMIC_HUFFMAN, 2,
+				false);
+			
+			// Table sizes
+			this.__bitOut(numlit - 257, 5, false);
+			this.__bitOut(numdist - 1, 5, false);
+			this.__bitOut(numcl - 4, 4, false);
+			
+			// Code length table
+			for (int i = 0; i < numcl; i++)
+				this.__bitOut(cllens[DeflaterOutputStream._CODE_LENGTH_ORDER[i]],
+					3, false);
+			
+			// Literal and distance code lengths
+			int[] clcodes =
+				new int[DeflaterOutputStream._NUM_CODE_LENGTH_CODES];
+			DeflaterOutputStream.__canonicalCodes(cllens, cllens.length,
+				clcodes);
+			for (int i = 0; i < numclsyms; i++)
+			{
+				int sym = clsyms[i] & 0xFF,
+					extra = clsyms[i] >>> 8;
+				
+				this.__bitOut(clcodes[sym], cllens[sym], false);
+				
+				// Repeat counts
+				if (sym == 16)
+					this.__bitOut(extra, 2, false);
+				else if (sym == 17)
+					this.__bitOut(extra, 3, false);
+				else if (sym == 18)
+					this.__bitOut(extra, 7, false);
+			}
+			
+			litcodes = new int[litlens.length];
+			DeflaterOutputStream.__canonicalCodes(litlens, litlens.length,
+				litcodes);
+			distcodes = new int[distlens.length];
+			DeflaterOutputStream.__canonicalCodes(distlens, distlens.length,
+				distcodes);
+		}
+		
+		// Write every symbol
+		int[] symlengths = this._symlengths;
+		int[] symdistances = this._symdistances;
+		for (int i = 0, n = this._numsyms; i < n; i++)
+		{
+			int len = symlengths[i],
+				dist = symdistances[i];
+			
+			// Literal
+			if (dist == 0)
+			{
+				this.__bitOut(litcodes[len], litlens[len], false);
+				continue;
+			}
+			
+			// Length and its extra bits
+			int lc = DeflaterOutputStream._LENGTH_CODE[len];
+			this.__bitOut(litcodes[257 + lc], litlens[257 + lc], false);
+			int lextra = DeflaterOutputStream._LENGTH_EXTRA[lc];
+			if (lextra > 0)
+				this.__bitOut(len - DeflaterOutputStream._LENGTH_BASE[lc],
+					lextra, false);
+			
+			// Distance and its extra bits
+			int dc = DeflaterOutputStream.__distanceCode(dist);
+			this.__bitOut(distcodes[dc], distlens[dc], false);
+			int dextra = DeflaterOutputStream._DISTANCE_EXTRA[dc];
+			if (dextra > 0)
+				this.__bitOut(dist - DeflaterOutputStream._DISTANCE_BASE[dc],
+					dextra, false);
+		}
+		
+		// End of the block
+		int eob = DeflaterOutputStream._END_OF_BLOCK;
+		this.__bitOut(litcodes[eob], litlens[eob], false);
+	}
+	
+	/**
+	 * Writes a block with no compression, the bytes are copied directly to
+	 * the output since they are byte aligned.
+	 *
+	 * @param __start The start of the block.
+	 * @param __end The end of the block.
+	 * @param __final Is this the final block?
+	 * @throws IOException On write errors.
+	 * @since 2026/10/18
+	 */
+	private void __writeStored(int __start, int __end, boolean __final)
+		throws IOException
+	{
+		int len = __end - __start;
+		
+		// Write no-compression marker
+		this.__bitOut((__final ? 1 : 0), 1, false);
+		this.__bitOut(InflaterInputStream._TYPE_NO_COMPRESSION, 2, false);
+		
+		// Pad because byte boundary
+		this.__bitPad(8);
+		
+		// Length and complement of that
+		this.__bitOut(len, 16, false);
+		this.__bitOut(len ^ 0xFFFF, 16, false);
+		
+		// Everything is byte aligned, so all of the bits get flushed
+		this.__bitFlush();
+		
+		// Copy the bytes to the output, large blocks go right to the stream
+		if (this._outputcount + len > DeflaterOutputStream._OUTPUT_SIZE)
+		{
+			this.__outputDrain();
+			this.out.write(this._window, __start, len);
+		}
+		else
+		{
+			System.arraycopy(this._window, __start, this._output,
+				this._outputcount, len);
+			this._outputcount += len;
+		}
+		
+		this._ncompressed += len;
+	}
+	
+	/**
+	 * Calculates the canonical huffman codes for the given code lengths, the
+	 * codes are bit reversed so that they may be written least significant
+	 * bit first.
+	 *
+	 * @param __lens The code lengths.
+	 * @param __n The number of codes.
+	 * @param __codes The output codes.
+	 * @since 2026/10/18
+	 */
+	private static void __canonicalCodes(int[] __lens, int __n,
+		int[] __codes)
+	{
+		// Count the number of codes for each length
+		int[] blcount = new int[DeflaterOutputStream._MAX_BITS + 1];
+		for (int i = 0; i < __n; i++)
+			blcount[__lens[i]]++;
+		blcount[0] = 0;
+		
+		// Find the smallest code for each code length
+		int[] nextcode = new int[DeflaterOutputStream._MAX_BITS + 1];
+		int code = 0;
+		for (int bits = 1; bits <= DeflaterOutputStream._MAX_BITS; bits++)
+		{
+			code = (code + blcount[bits - 1]) << 1;
+			nextcode[bits] = code;
+		}
+		
+		// Assign codes
+		for (int i = 0; i < __n; i++)
+		{
+			int len = __lens[i];
+			if (len != 0)
+				__codes[i] = Integer.reverse(nextcode[len]++) >>> (32 - len);
+		}
+	}
+	
+	/**
+	 * Returns the distance code for the given distance.
+	 *
+	 * @param __dist The distance.
+	 * @return The distance code.
+	 * @since 2026/10/18
+	 */
+	private static int __distanceCode(int __dist)
+	{
+		int d = __dist - 1;
+		return (d < 256 ? DeflaterOutputStream._DISTANCE_CODE[d] :
+			DeflaterOutputStream._DISTANCE_CODE[256 + (d >>> 7)]);
+	}
+	
+	/**
+	 * Calculates the huffman code lengths for the given frequencies, the
+	 * lengths will not exceed the given limit.
+	 *
+	 * @param __freq The frequency of each symbol.
+	 * @param __n The number of symbols.
+	 * @param __limit The maximum code length.
+	 * @param __lens The output code lengths.
+	 * @since 2026/10/18
+	 */
+	private static void __huffmanLengths(int[] __freq, int __n, int __limit,
+		int[] __lens)
+	{
+		// Find the used symbols
+		int[] syms = new int[__n];
+		int used = 0;
+		for (int i = 0; i < __n; i++)
+		{
+			__lens[i] = 0;
+			if (__freq[i] > 0)
+				syms[used++] = i;
+		}
+		
+		// With less than two symbols there is no tree to build, but the tree
+		// is made complete with another symbol
+		if (used < 2)
+		{
+			int sym = (used == 0 ? 0 : syms[0]);
+			__lens[sym] = 1;
+			__lens[(sym == 0 ? 1 : 0)] = 1;
+			return;
+		}
+		
+		// Frequencies are reduced if the tree ends up too deep
+		int[] weights = new int[used];
+		for (int i = 0; i < used; i++)
+			weights[i] = __freq[syms[i]];
+		
+		// Nodes, the leaves are first followed by the merged nodes
+		int numnodes = (used * 2) - 1;
+		long[] nodeweight = new long[numnodes];
+		int[] parent = new int[numnodes];
+		int[] depth = new int[numnodes];
+		int[] order = new int[used];
+		for (;;)
+		{
+			// Sort the leaves by weight, the symbol is in the low bits and
+			// weights never exceed the block size
+			for (int i = 0; i < used; i++)
+				order[i] = (weights[i] << 9) | i;
+			Arrays.sort(order);
+			for (int i = 0; i < used; i++)
+				nodeweight[i] = order[i] >>> 9;
+			
+			// Merge the two lightest nodes, since merged nodes are made in
+			// increasing weight they only need to be compared to the front
+			// of the leaves
+			int leaf = 0,
+				node = used;
+			for (int at = used; at < numnodes; at++)
+			{
+				int a, b;
+				if (leaf < used && (node >= at ||
+					nodeweight[leaf] <= nodeweight[node]))
+					a = leaf++;
+				else
+					a = node++;
+				if (leaf < used && (node >= at ||
+					nodeweight[leaf] <= nodeweight[node]))
+					b = leaf++;
+				else
+					b = node++;
+				
+				nodeweight[at] = nodeweight[a] + nodeweight[b];
+				parent[a] = at;
+				parent[b] = at;
+			}
+			
+			// The depth of each node is one more than its parent
+			int maxdepth = 0;
+			depth[numnodes - 1] = 0;
+			for (int i = numnodes - 2; i >= 0; i--)
+			{
+				depth[i] = depth[parent[i]] + 1;
+				if (i < used && depth[i] > maxdepth)
+					maxdepth = depth[i];
+			}
+			
+			// The tree fits
+			if (maxdepth <= __limit)
+			{
+				for (int i = 0; i < used; i++)
+					__lens[syms[order[i] & 0x1FF]] = depth[i];
+				return;
+			}
+			
+			// Flatten the weights and try again
+			for (int i = 0; i < used; i++)
+				weights[i] = (weights[i] >>> 1) | 1;
+		}
+	}
+	
+	/**
+	 * Run length encodes code lengths into code length symbols, the symbol
+	 * is in the low eight bits and the repeat value is above it.
+	 *
+	 * @param __lens The code lengths.
+	 * @param __n The number of code lengths.
+	 * @param __out The output symbols.
+	 * @param __at The position to write symbols at.
+	 * @return The position after the last written symbol.
+	 * @since 2026/10/18
+	 */
+	private static int __runLength(int[] __lens, int __n, int[] __out,
+		int __at)
+	{
+		for (int i = 0; i < __n;)
+		{
+			// Count the run of the same length
+			int len = __lens[i];
+			int run = 1;
+			while (i + run < __n && __lens[i + run] == len)
+				run++;
+			i += run;
 			
-			// Length and complement of that
-			this.__bitOut(fillbytes, 16, false);
-			this.__bitOut(fillbytes ^ 0xFFFF, 16, false);
+			// Zero lengths have their own repeat codes
+			if (len == 0)
+			{
+				while (run >= 11)
+				{
+					int count = Math.min(run, 138);
+					__out[__at++] = 18 | ((count - 11) << 8);
+					run -= count;
+				}
+				
+				if (run >= 3)
+				{
+					__out[__at++] = 17 | ((run - 3) << 8);
+					run = 0;
+				}
+			}
+			
+			// Otherwise the length is repeated after it is used once
+			else
+			{
+				__out[__at++] = len;
+				run--;
+				
+				while (run >= 3)
+				{
+					int count = Math.min(run, 6);
+					__out[__at++] = 16 | ((count - 3) << 8);
+					run -= count;
+				}
+			}
 			
-			// Then write every individual byte
-			for (int i = 0; i < fillbytes; i++)
-				this.__bitOut(fill[i], 8, false);
+			// Any remaining lengths are written individually
+			for (; run > 0; run--)
+				__out[__at++] = len;
 		}
 		
-		// Remove the fill
-		this._fillbytes = 0;
+		return __at;
 	}
 }
-
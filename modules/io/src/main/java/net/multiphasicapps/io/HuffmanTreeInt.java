@@ -28,16 +28,16 @@ import java.util.NoSuchElementException;
 public class HuffmanTreeInt
 {
 	/** The huffman table. */
-	private volatile int[] _table;
+	private int[] _table;
 	
 	/** Stored tree values. */
-	private volatile int[] _values;
+	private int[] _values;
 	
 	/** Modification count. */
-	private volatile int _modcount;
+	private int _modcount;
 	
 	/** Maximum used bits. */
-	private volatile int _maxbits;
+	private int _maxbits;
 	
 	/**
 	 * Initializes a basic blank huffman tree.
@@ -11,15 +11,18 @@ package net.multiphasicapps.io;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.ref.Reference;
-import java.lang.ref.WeakReference;
-import java.util.NoSuchElementException;
 
 /**
  * This is used to decompress standard deflate compressed stream.
  *
  * Associated standards: https://www.ietf.org/rfc/rfc1951.txt.
  *
+ * Huffman codes are decoded with lookup tables several bits at a time and
+ * the decompressed bytes are placed directly into the window, which is
+ * twice the size of the sliding window so that it is also used as the
+ * output buffer. Input bytes are only read when a code needs them so that
+ * no bytes past the end of the compressed data are ever read.
+ *
  * This class is not thread safe.
  *
  * @since 2017/02/24
@@ -47,9 +50,37 @@ public class InflaterInputStream
 	static final int _TYPE_ERROR =
 		0b11;
 	
-	/** The maximum number of bits in the code length tree. */
-	private static final int _MAX_BITS =
-		15;
+	/** Reading the header of the next block. */
+	private static final byte _STATE_HEADER =
+		0;
+	
+	/** Copying uncompressed bytes. */
+	private static final byte _STATE_STORED =
+		1;
+	
+	/** Decoding huffman codes. */
+	private static final byte _STATE_HUFFMAN =
+		2;
+	
+	/** The end of the stream was reached. */
+	private static final byte _STATE_DONE =
+		3;
+	
+	/** The largest distance that deflate can refer back to. */
+	private static final int _MAX_DISTANCE =
+		32768;
+	
+	/** The number of bits for the primary literal and length table. */
+	private static final int _LITERAL_BITS =
+		9;
+	
+	/** The number of bits for the primary distance table. */
+	private static final int _DISTANCE_BITS =
+		6;
+	
+	/** The number of bits for the primary code length table. */
+	private static final int _CODE_LENGTH_BITS =
+		7;
 	
 	/** Shuffled bit values when reading values. */
 	private static final int[] _SHUFFLE_BITS =
@@ -58,52 +89,86 @@ public class InflaterInputStream
 			16, 17, 18, 0, 8, 7, 9, 6, 10, 5, 11, 4, 12, 3, 13, 2, 14, 1, 15
 		};
 	
-	/** The deflated compressed stream to be decompressed. */
-	protected final InputStream in;
+	/** The base lengths for each length code. */
+	private static final short[] _LENGTH_BASE =
+		new short[]
+		{
+			3, 4, 5, 6, 7, 8, 9, 10, 11, 13, 15, 17, 19, 23, 27, 31, 35, 43,
+			51, 59, 67, 83, 99, 115, 131, 163, 195, 227, 258
+		};
 	
-	/** Sliding window for accessing old bytes. */
-	protected final SlidingByteWindow window;
+	/** The extra bits for each length code. */
+	private static final byte[] _LENGTH_EXTRA =
+		new byte[]
+		{
+			0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 1, 1, 2, 2, 2, 2, 3, 3, 3, 3, 4, 4,
+			4, 4, 5, 5, 5, 5, 0
+		};
 	
-	/** If the output cannot be filled, bytes are written here instead. */
-	protected final ByteDeque overflow =
-		new ByteDeque();
+	/** The base distances for each distance code. */
+	private static final int[] _DISTANCE_BASE =
+		new int[]
+		{
+			1, 2, 3, 4, 5, 7, 9, 13, 17, 25, 33, 49, 65, 97, 129, 193, 257,
+			385, 513, 769, 1025, 1537, 2049, 3073, 4097, 6145, 8193, 12289,
+			16385, 24577
+		};
 	
-	/** When bytes are read, a checkum will be calculated for it, optional. */
-	protected final Checksum checksum;
+	/** The extra bits for each distance code. */
+	private static final byte[] _DISTANCE_EXTRA =
+		new byte[]
+		{
+			0, 0, 0, 0, 1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8, 8, 9, 9,
+			10, 10, 11, 11, 12, 12, 13, 13
+		};
 	
-	/** Single byte read. */
-	private final byte[] _solo =
-		new byte[1];
+	/** The fixed literal and length table. */
+	private static final __HuffmanTable__ _FIXED_LITERAL;
+	
+	/** The fixed distance table. */
+	private static final __HuffmanTable__ _FIXED_DISTANCE;
 	
-	/** The read-in buffer which is used to bulk read input bytes. */
-	private final byte[] _readin =
-		new byte[4];
+	/** The deflated compressed stream to be decompressed. */
+	protected final InputStream in;
 	
-	/** The bit source for reading. */
-	private final BitSource _bitsource =
-		new __BitSource__();
+	/** When bytes are read, a checkum will be calculated for it, optional. */
+	protected final Checksum checksum;
 	
 	/**
-	 * Raw code lengths (allocated once), the size is the max code length
-	 * count.
+	 * The window, this contains the history of decompressed bytes followed
+	 * by bytes which have not been read yet.
 	 */
+	private final byte[] _window;
+	
+	/** The maximum distance back in the window that may be referred to. */
+	private final int _maxdistance;
+	
+	/** The single byte read. */
+	private final byte[] _solo =
+		new byte[1];
+	
+	/** Raw code lengths, the size is the max code length count. */
 	private final int[] _rawcodelens =
 		new int[19];
 	
 	/**
-	 * Raw literal and distances (allocated once), the size is the total of
-	 * both the maximum length count and distance count.
+	 * Raw literal and distances, the size is the total of both the maximum
+	 * length count and distance count.
 	 */
 	private final int[] _rawlitdistlens =
 		new int[322];
 	
-	/** Used to store bit length counts. */
-	private final int[] _blcount =
-		new int[InflaterInputStream._MAX_BITS + 1];
+	/** The code length table. */
+	private final __HuffmanTable__ _codelentable =
+		new __HuffmanTable__(InflaterInputStream._CODE_LENGTH_BITS);
+	
+	/** The dynamic literal and length table. */
+	private final __HuffmanTable__ _dynamicliteral =
+		new __HuffmanTable__(InflaterInputStream._LITERAL_BITS);
 	
-	/** Used to store the next code. */
-	private final int[] _nextcode =
-		new int[InflaterInputStream._MAX_BITS + 1];
+	/** The dynamic distance table. */
+	private final __HuffmanTable__ _dynamicdistance =
+		new __HuffmanTable__(InflaterInputStream._DISTANCE_BITS);
 	
 	/** The number of compressed bytes. */
 	private long _compressedsize;
@@ -111,46 +176,56 @@ public class InflaterInputStream
 	/** The number of uncompressed bytes. */
 	private long _uncompressedsize;
 	
-	/** The code length tree. */
-	private Reference<HuffmanTreeInt> _codelentree;
+	/** The bits which have been read but not used yet. */
+	private long _bitbuf;
 	
-	/** The literal tree. */
-	private Reference<HuffmanTreeInt> _literaltree;
+	/** The number of bits in the bit buffer. */
+	private int _bitcount;
 	
-	/** The distance tree. */
-	private Reference<HuffmanTreeInt> _distancetree;
+	/** The current state. */
+	private byte _state;
 	
-	/** Window reader. */
-	private Reference<byte[]> _readwindow;
-	
-	/**
-	 * The miniature read window, it stores a 32-bit value and is given input
-	 * bytes to read along with being used as output. This is an int because it
-	 * is faster to work with integer values rather than bytes. It also means
-	 * that it is much simpler to work with.
-	 */
-	private int _miniwindow;
+	/** Is this the final block? */
+	private boolean _final;
 	
-	/** Represents the number of bits in the mini window. */
-	private int _minisize;
+	/** The number of uncompressed bytes left in the stored block. */
+	private int _storedleft;
 	
-	/** The output write window, this is used to shift out writes as needed. */
-	private int _writewindow;
+	/** The literal and length table for the current block. */
+	private __HuffmanTable__ _literal;
 	
-	/** The number of bits in the write window. */
-	private int _writesize;
+	/** The distance table for the current block. */
+	private __HuffmanTable__ _distance;
 	
-	/** EOF has been reached? */
-	private boolean _eof;
+	/** The position in the window where the next byte is written. */
+	private int _writepos;
 	
-	/** The target byte array for writes. */
-	private byte[] _targ;
+	/** The number of bytes in the window which have not been read. */
+	private int _pending;
 	
-	/** The target offset for writes. */
-	private int _targoff;
+	/** The number of bytes in the window which may be referred to. */
+	private int _history;
 	
-	/** The target end offset for writes. */
-	private int _targend;
+	static
+	{
+		// Literal and length codes
+		int[] lens = new int[288];
+		for (int i = 0; i < 288; i++)
+			lens[i] = (i < 144 ? 8 : (i < 256 ? 9 : (i < 280 ? 7 : 8)));
+		__HuffmanTable__ literal = new __HuffmanTable__(
+			InflaterInputStream._LITERAL_BITS);
+		literal.build(lens, 0, 288);
+		
+		// Distance codes
+		for (int i = 0; i < 30; i++)
+			lens[i] = 5;
+		__HuffmanTable__ distance = new __HuffmanTable__(
+			InflaterInputStream._DISTANCE_BITS);
+		distance.build(lens, 0, 30);
+		
+		_FIXED_LITERAL = literal;
+		_FIXED_DISTANCE = distance;
+	}
 	
 	/**
 	 * Initializes the deflate compression stream inflater.
@@ -204,21 +279,41 @@ public class InflaterInputStream
 	 * @param __checksum If not {@code null} then when bytes are read from this
 	 * stream they will have their checksum calculated. The checksum is
 	 * calculated on the uncompressed bytes.
+	 * @throws IllegalArgumentException If the sliding window size is zero
+	 * or negative.
 	 * @throws NullPointerException On null arguments, except for
 	 * {@code __checksum}.
 	 * @since 2017/08/22
 	 */
 	public InflaterInputStream(InputStream __in, int __sls,
 		Checksum __checksum)
+		throws IllegalArgumentException, NullPointerException
 	{
 		// Check
 		if (__in == null)
 			throw new NullPointerException("NARG");
 		
+		// Same check as SlidingByteWindow, which documents BD1t
+		if (__sls <= 0)
+			throw new IllegalArgumentException(String.format("BD1t %d",
+				__sls));
+		
+		// Deflate can never refer back further than the maximum distance,
+		// so the window never needs to be larger than that
+		int maxdistance = Math.min(__sls, InflaterInputStream._MAX_DISTANCE);
+		
+		// The window is a power of two which is large enough to hold all of
+		// the history along with the longest length which can be written at
+		// once
+		int windowsize = 512;
+		while (windowsize < maxdistance)
+			windowsize <<= 1;
+		
 		// Set
 		this.in = __in;
-		this.window = new SlidingByteWindow(__sls);
 		this.checksum = __checksum;
+		this._maxdistance = maxdistance;
+		this._window = new byte[windowsize << 1];
 	}
 	
 	/**
@@ -231,7 +326,7 @@ public class InflaterInputStream
 	{
 		// Use the number of bytes that are able to be read quickly without
 		// requiring decompression
-		return this.overflow.available();
+		return this._pending;
 	}
 	
 	/**
@@ -321,40 +416,35 @@ public class InflaterInputStream
 		if (__o < 0 || __l < 0 || (__o + __l) > bl)
 			throw new ArrayIndexOutOfBoundsException("AIOB");
 		
-		// If there are bytes in the overflow buffer, read them first into the
-		// output because they are the result of previous decompression.
-		ByteDeque overflow = this.overflow;
-		int ovn = overflow.available(),
-			ovr = (Math.min(ovn, __l));
-		int c = overflow.removeFirst(__b, __o, __l);
-		
-		// More bytes can be read from the input compressed data because the
-		// overflow buffer has been emptied
-		boolean eof = this._eof;
-		if (!eof && c < __l)
+		// Try to fit as many bytes as possible into the output
+		byte[] window = this._window;
+		int windowsize = window.length;
+		int c = 0;
+		while (c < __l)
 		{
-			// Store write information
-			this._targ = __b;
-		
-			// Try to fit as many bytes as possible into the output
-			while (c < __l)
+			// Nothing is left in the window, so decompress more
+			int pending = this._pending;
+			if (pending == 0)
 			{
-				// Decompress
-				int base;
-				this._targoff = (base = __o + c);
-				this._targend = base + (__l - c);
-				int rv = this.__decompress();
-			
-				// Ended?
-				if (rv < 0)
-				{
-					this._eof = true;
+				// Nothing more can be decompressed
+				if (this._state == InflaterInputStream._STATE_DONE)
 					break;
-				}
-			
-				// Otherwise add those bytes
-				c += rv;
+				
+				// Do not decompress more than what is wanted or what can
+				// fit in the window without overwriting the history
+				this.__inflate(Math.min(__l - c, this._maxdistance));
+				continue;
 			}
+			
+			// Copy the pending bytes, which may wrap around the end of the
+			// window
+			int from = (this._writepos - pending) & (windowsize - 1);
+			int count = Math.min(Math.min(pending, __l - c),
+				windowsize - from);
+			System.arraycopy(window, from, __b, __o + c, count);
+			
+			c += count;
+			this._pending = pending - count;
 		}
 		
 		// Calculate CRC for this output data
@@ -368,8 +458,8 @@ public class InflaterInputStream
 		
 		// Return the read count or end of file if the end of the stream has
 		// been reached
-		// But never leave bytes waiting in the overflow buffer ever
-		return (c == 0 && eof && overflow.isEmpty() ? -1 : c);
+		return (c == 0 && __l > 0 &&
+			this._state == InflaterInputStream._STATE_DONE ? -1 : c);
 	}
 	
 	/**
@@ -383,177 +473,114 @@ public class InflaterInputStream
 	}
 	
 	/**
-	 * Reads the input and performs decompression on the data.
+	 * Copies bytes from earlier in the window to the end of the window.
 	 *
-	 * @return The number of stored bytes or a negative value if the stream
-	 * has terminated.
-	 * @throws IOException On read or decompression errors.
-	 * @since 2017/02/25
+	 * @param __dist The distance back to copy from.
+	 * @param __len The number of bytes to copy.
+	 * @throws IOException If the distance is not valid.
+	 * @since 2026/10/18
 	 */
-	private int __decompress()
+	private void __copyWindow(int __dist, int __len)
 		throws IOException
 	{
-		// Do nothing on EOF
-		if (this._eof)
-			return -1;
-		
-		// The target offset on entry
-		int enteroff = this._targoff;
-		
-		// Read the final bit which determines if this is the last block
-		int finalhit = this.__readBits(1, false);
-		
-		// Read the window type
-		int type = this.__readBits(2, false);
-		switch (type)
+		// {@squirreljme.error BD1d Window access out of range.
+		// (The distance; The length)}
+		if (__dist > this._history || __dist > this._maxdistance)
+			throw new IOException(String.format(
+				"BD1d %d %d", __dist, __len));
+		
+		byte[] window = this._window;
+		int windowsize = window.length;
+		int mask = windowsize - 1;
+		int writepos = this._writepos;
+		
+		// If the length is longer than the distance then the bytes repeat,
+		// but every copy makes the repeated span larger so it takes only a
+		// few copies
+		int from = (writepos - __dist) & mask;
+		for (int left = __len, span = __dist; left > 0;)
 		{
-				// None
-			case InflaterInputStream._TYPE_NO_COMPRESSION:
-				this.__decompressNone();
-				break;
-				
-				// Fixed huffman
-			case InflaterInputStream._TYPE_FIXED_HUFFMAN:
-				this.__decompressFixed();
-				break;
-				
-				// Dynamic huffman
-			case InflaterInputStream._TYPE_DYNAMIC_HUFFMAN:
-				this.__decompressDynamic();
-				break;
+			int count = Math.min(Math.min(left, span),
+				Math.min(windowsize - from, windowsize - writepos));
+			System.arraycopy(window, from, window, writepos, count);
 			
-				// Error or unknown
-			case InflaterInputStream._TYPE_ERROR:
-			default:
-				// {@squirreljme.error BD17 Unknown type or the error type
-				// was reached. (The type code used in the stream)}
-				throw new IOException(String.format("BD17 %d", type));
-		}
-		
-		// If this was the last block to read, then return EOF if no data
-		// was actually read, but mark EOF otherwise
-		int rv = (this._targoff - enteroff);
-		if (finalhit != 0)
-		{
-			this._eof = true;
-			return (rv == 0 ? -1 : rv);
+			writepos = (writepos + count) & mask;
+			left -= count;
+			
+			// Copying everything doubles the span, otherwise the copy
+			// stopped at the end of the window
+			if (count == span)
+				span <<= 1;
+			else
+				from = (from + count) & mask;
 		}
 		
-		// Just the read count
-		else
-			return rv;
+		this._writepos = writepos;
+		this.__written(__len);
 	}
 	
 	/**
-	 * Decompress dynamic huffman code.
+	 * Decodes a single huffman code.
 	 *
-	 * @throws IOException On read or decompression errors.
-	 * @since 2017/02/25
+	 * @param __table The table to decode with.
+	 * @return The decoded symbol.
+	 * @throws IOException On read errors or if the code is not valid.
+	 * @since 2026/10/18
 	 */
-	private void __decompressDynamic()
+	private int __decode(__HuffmanTable__ __table)
 		throws IOException
 	{
-		// Read the code length parameters
-		int dhlit = this.__readBits(5, false) + 257;
-		int dhdist = this.__readBits(5, false) + 1;
-		int dhclen = this.__readBits(4, false) + 4;
-		
-		// Read the code length tree
-		HuffmanTreeInt codelentree = this.__decompressDynamicLoadLenTree(dhclen);
-		
-		// Read the literal and distance trees
-		HuffmanTreeInt literaltree = this.__obtainLiteralTree(),
-			distancetree = this.__obtainDistanceTree();
-		this.__decompressDynamicLoadLitDistTree(codelentree, dhlit, dhdist,
-			literaltree, distancetree);
+		int[] table = __table._table;
+		int bits = __table._bits;
+		int mask = (1 << bits) - 1;
 		
-		// Decode input
 		for (;;)
 		{
-			// Read code
-			int code = literaltree.getValue(this._bitsource);
+			// Lookup the code, any bits which are not yet read are zero
+			long bitbuf = this._bitbuf;
+			int bitcount = this._bitcount;
+			int entry = table[(int)bitbuf & mask];
+			if ((entry & __HuffmanTable__._LINK) != 0)
+				entry = table[(entry >>> 16) + ((int)(bitbuf >>> bits) &
+					((1 << ((entry >>> 8) & 0xF)) - 1))];
 			
-			// Literal byte value
-			if (code >= 0 && code <= 255)
-				this.__write(code, 8, false);
-		
-			// Stop processing
-			else if (code == 256)
-				return;
-		
-			// Window based result
-			else if (code >= 257 && code <= 285)
-				this.__decompressWindow(this.__handleLength(code),
-					distancetree.getValue(this._bitsource));
+			// If all of the bits of the code are known, then it is valid
+			int len = entry & 0x1F;
+			if (len != 0 && len <= bitcount)
+			{
+				this._bitbuf = bitbuf >>> len;
+				this._bitcount = bitcount - len;
+				return entry >>> 16;
+			}
 			
-			// {@squirreljme.error BD18 Illegal dynamic huffman code. (The
-			// code.)}
-			else
-				throw new IOException(String.format("BD18 %d", code));
-		}
-	}
-	
-	/**
-	 * Reads the literal and distance trees.
-	 *
-	 * @param __cltree The code length tree.
-	 * @param __dhlit The literal count.
-	 * @param __dhdist The distance count.
-	 * @param __ltree The literal tree.
-	 * @param __dtree The distance tree.
-	 * @throws IOException On read errors.
-	 * @since 2017/02/25
-	 */
-	private void __decompressDynamicLoadLitDistTree(HuffmanTreeInt __cltree,
-		int __dhlit, int __dhdist, HuffmanTreeInt __ltree,
-		HuffmanTreeInt __dtree)
-		throws IOException
-	{
-		// Determine the maximum bit count that is used when reading values
-		int total = __dhlit + __dhdist;
-		
-		// Cached, erase the data because later reads may have less
-		int[] rawlitdistlens = this._rawlitdistlens;
-		for (int i = 0, n = rawlitdistlens.length; i < n; i++)
-			rawlitdistlens[i] = 0;
-		
-		// Read every code
-		try
-		{
-			for (int next = 0; next < total;)
-				next += this.__readCodeBits(__cltree, rawlitdistlens, next);
-		}
-
-		// {@squirreljme.error BD19 The compressed stream is
-		// damaged by being too short or having an illegal tree
-		// access.}				
-		catch (NoSuchElementException e)
-		{
-			throw new IOException("BD19", e);
+			// {@squirreljme.error BD2i Invalid huffman code in the
+			// compressed stream.}
+			if (bitcount >= __HuffmanTable__._MAX_BITS)
+				throw new IOException("BD2i");
+			
+			// Need another byte to know what the code is
+			this.__fill(bitcount + 1);
 		}
-		
-		// Initialize both trees
-		this.__thunkCodeLengthTree(__ltree, rawlitdistlens, 0, __dhlit);
-		this.__thunkCodeLengthTree(__dtree, rawlitdistlens, __dhlit, __dhdist);
 	}
 	
 	/**
-	 * Reads the code length tree.
+	 * Reads the table for a dynamic huffman block.
 	 *
-	 * @param __dhclen The code length size.
-	 * @throws IOException On read errors.
+	 * @throws IOException On read errors or if the table is not valid.
 	 * @since 2017/02/25
 	 */
-	private HuffmanTreeInt __decompressDynamicLoadLenTree(int __dhclen)
+	private void __dynamicTables()
 		throws IOException
 	{
-		// Target tree
-		HuffmanTreeInt codelentree = this.__obtainCodeLenTree();
+		// Read the code length parameters
+		int dhlit = this.__readBits(5) + 257;
+		int dhdist = this.__readBits(5) + 1;
+		int dhclen = this.__readBits(4) + 4;
 		
 		// {@squirreljme.error BD1a There may only be at most 19 used
 		// code lengths. (The number of code lengths)}
-		if (__dhclen > 19)
-			throw new IOException(String.format("BD1a %d", __dhclen));
+		if (dhclen > 19)
+			throw new IOException(String.format("BD1a %d", dhclen));
 		
 		// The same array is used for reading code lengths but the next time
 		// around it is possible that less code lengths are read, so if the
@@ -565,655 +592,385 @@ public class InflaterInputStream
 		// Read lengths, they are just 3 bits but their placement values are
 		// shuffled since some sequences are more common than others
 		int[] hsbits = InflaterInputStream._SHUFFLE_BITS;
-		for (int next = 0; next < __dhclen; next++)
-			rawcodelens[hsbits[next]] = this.__readBits(3, false);
+		for (int next = 0; next < dhclen; next++)
+			rawcodelens[hsbits[next]] = this.__readBits(3);
 		
-		// Thunk the tree and return it
-		return this.__thunkCodeLengthTree(codelentree, rawcodelens, 0,
-			rawcodelens.length);
-	}
-	
-	/**
-	 * Decodes decompressed data stored with the fixed huffman table and
-	 * decompresses it.
-	 *
-	 * @throws IOException On read or decompression errors.
-	 * @since 2017/02/25
-	 */
-	private void __decompressFixed()
-		throws IOException
-	{
-		// Read until the sequence has ended
-		for (;;)
+		// {@squirreljme.error BD19 The compressed stream is damaged by
+		// having an illegal huffman table.}
+		__HuffmanTable__ codelentable = this._codelentable;
+		if (!codelentable.build(rawcodelens, 0, rawcodelens.length))
+			throw new IOException("BD19");
+		
+		// Read every literal and distance length
+		int total = dhlit + dhdist;
+		int[] rawlitdistlens = this._rawlitdistlens;
+		for (int next = 0; next < total;)
 		{
-			// Read code
-			int code = this.__readFixedHuffman();
+			int code = this.__decode(codelentable);
+			
+			// Literal length, the input is used
+			if (code < 16)
+			{
+				rawlitdistlens[next++] = code;
+				continue;
+			}
+			
+			// Repeat this value and for this many lengths
+			int repval;
+			int repfor;
+			
+			// Repeat the previous length 3-6 times
+			if (code == 16)
+			{
+				// {@squirreljme.error BD1h A repeat code was specified,
+				// however this is the first entry. (The last length index)}
+				int lastlendx = next - 1;
+				if (lastlendx < 0)
+					throw new IOException(String.format("BD1h %d",
+						lastlendx));
 				
-			// Literal byte value
-			if (code >= 0 && code <= 255)
-				this.__write(code, 8, false);
-		
-			// Stop processing
-			else if (code == 256)
-				return;
-		
-			// Window based result
-			else if (code >= 257 && code <= 285)
-				this.__decompressWindow(this.__handleLength(code), Integer.MIN_VALUE);
-		
-			// {@squirreljme.error BD1b Illegal fixed huffman code. (The
-			// code.)}
+				repval = rawlitdistlens[lastlendx];
+				repfor = 3 + this.__readBits(2);
+			}
+			
+			// Repeat zero for 3-10 times
+			else if (code == 17)
+			{
+				repval = 0;
+				repfor = 3 + this.__readBits(3);
+			}
+			
+			// Repeat zero for 11-138 times
+			else if (code == 18)
+			{
+				repval = 0;
+				repfor = 11 + this.__readBits(7);
+			}
+			
+			// {@squirreljme.error BD1i Illegal code. (The code)}
 			else
-				throw new IOException(String.format("BD1b %d", code));
+				throw new IOException(String.format("BD1i %d", code));
+			
+			// {@squirreljme.error BD1j Out of bounds index read.}
+			if (next + repfor > total)
+				throw new IOException("BD1j");
+			
+			// Place in repeated values
+			for (int i = 0; i < repfor; i++)
+				rawlitdistlens[next++] = repval;
 		}
-	}
-	
-	/**
-	 * Decompresses uncompressed data.
-	 *
-	 * @throws IOException On read errors.
-	 * @since 2017/02/25
-	 */
-	private void __decompressNone()
-		throws IOException
-	{
-		// Throw out bits that have been read so that the following reads are
-		// aligned to byte boundaries
-		int minisub = this._minisize & 7;
-		if (minisub > 0)
-			this.__readBits(minisub, false);
 		
-		// Read length and the one's complement of it
-		int len = this.__readBits(16, false);
-		int com = this.__readBits(16, false);
+		// Initialize both tables
+		__HuffmanTable__ literal = this._dynamicliteral;
+		__HuffmanTable__ distance = this._dynamicdistance;
+		if (!literal.build(rawlitdistlens, 0, dhlit) ||
+			!distance.build(rawlitdistlens, dhlit, dhdist))
+			throw new IOException("BD19");
 		
-		// The complemented length must be equal to the complement
-		// {@squirreljme.error BD1c Value mismatch reading the number of
-		// uncompressed symbols that exist. (The length; The complement;
-		// The complemented input length; The complemented input complement)}
-		if ((len ^ 0xFFFF) != com)
-			throw new IOException(String.format("BD1c %04x %04x %04x %04x",
-				len, com, len ^ 0xFFFF, com ^ 0xFFFF));
-		
-		// Read all bytes
-		for (int i = 0; i < len; i++)
-			this.__write(this.__readBits(8, false), 8, false);
+		this._literal = literal;
+		this._distance = distance;
 	}
 	
 	/**
-	 * Handles decompressing window data.
+	 * Reads bytes from the input until the bit buffer has at least the given
+	 * number of bits.
 	 *
-	 * @param __len The length to read, must be prehandled.
-	 * @param __dist The distance to read.
+	 * @param __n The number of bits which are needed.
 	 * @throws IOException On read errors.
-	 * @since 2017/02/25
+	 * @since 2026/10/18
 	 */
-	private void __decompressWindow(int __len, int __dist)
+	private void __fill(int __n)
 		throws IOException
 	{
-		// Handle distance
-		__dist = this.__handleDistance(__dist);
-	
-		// Get the maximum valid length, so for example if the length
-		// is 5 and the distance is two, then only read two bytes.
-		int maxlen = Math.min(__dist, __len);
+		InputStream in = this.in;
+		long bitbuf = this._bitbuf;
+		int bitcount = this._bitcount;
 		
-		// Create a byte array from the sliding window data
-		byte[] winb = new byte[maxlen];
-		try
-		{
-			this.window.get(__dist, winb, 0, maxlen);
-		}
-	
-		// Bad window read
-		catch (IndexOutOfBoundsException ioobe)
+		while (bitcount < __n)
 		{
-			// {@squirreljme.error BD1d Window access out of range.
-			// (The distance; The length)}
-			throw new IOException(String.format(
-				"BD1d %d %d", __dist, __len), ioobe);
+			// {@squirreljme.error BD1g Reached EOF while reading bytes to
+			// decompress. (Bits in the queue; Requested number of bits)}
+			int b = in.read();
+			if (b < 0)
+				throw new IOException(String.format("BD1g %d %d", bitcount,
+					__n));
+			
+			// Shift in the read byte to the higher positions
+			bitbuf |= ((long)b) << bitcount;
+			bitcount += 8;
+			
+			// Count the number of compressed bytes
+			this._compressedsize++;
 		}
-	
-		// Add those bytes to the output, handle wrapping around if the
-		// length is greater than the current position
-		for (int i = 0, v = 0; i < __len; i++)
-		{
-			// Write byte
-			this.__write(winb[v], 8, false);
 		
-			// Wrap around
-			if ((++v) >= maxlen)
-				v = 0;
-		}
+		this._bitbuf = bitbuf;
+		this._bitcount = bitcount;
 	}
 	
 	/**
-	 * Handles fixed huffman distance.
+	 * Decodes huffman codes in the current block.
 	 *
-	 * @param __code The input code.
-	 * @return The ditsance read.
-	 * @throws IOException On read errors.
-	 * @since 2017/02/25
+	 * @param __want The number of pending bytes wanted.
+	 * @throws IOException On read or decompression errors.
+	 * @since 2026/10/18
 	 */
-	private int __handleDistance(int __code)
+	private void __huffman(int __want)
 		throws IOException
 	{
-		// Read distance
-		if (__code == Integer.MIN_VALUE)
-			__code = this.__readBits(5, true);
-		
-		// {@squirreljme.error BD1e Illegal fixed distance code. (The distance
-		// code)}
-		if (__code > 29)
-			throw new IOException(String.format("BD1e %d", __code));
+		__HuffmanTable__ literal = this._literal;
+		__HuffmanTable__ distance = this._distance;
+		byte[] window = this._window;
+		int mask = window.length - 1;
 		
-		// Calculate the required distance to use
-		int rv = 1;
-		for (int i = 0; i < __code; i++)
+		while (this._pending < __want)
 		{
-			// This uses a similar pattern to the length code, however the
-			// division is half the size (so there are groups of 2 now).
-			int v = ((i / 2) - 1);
-			if (v >= 0)
-				rv += (1 << v);
+			int code = this.__decode(literal);
+			
+			// Literal byte value
+			if (code < 256)
+			{
+				int writepos = this._writepos;
+				window[writepos] = (byte)code;
+				this._writepos = (writepos + 1) & mask;
+				this.__written(1);
+			}
+			
+			// Stop processing
+			else if (code == 256)
+			{
+				this._state = InflaterInputStream._STATE_HEADER;
+				return;
+			}
+			
+			// Window based result
 			else
-				rv++;
+			{
+				// {@squirreljme.error BD1f Illegal length code. (The length
+				// code)}
+				int lencode = code - 257;
+				if (lencode >= 29)
+					throw new IOException(String.format("BD1f %d", code));
+				int len = InflaterInputStream._LENGTH_BASE[lencode] +
+					this.__readBits(
+						InflaterInputStream._LENGTH_EXTRA[lencode]);
+				
+				// {@squirreljme.error BD1e Illegal distance code. (The
+				// distance code)}
+				int distcode = this.__decode(distance);
+				if (distcode >= 30)
+					throw new IOException(String.format("BD1e %d",
+						distcode));
+				int dist = InflaterInputStream._DISTANCE_BASE[distcode] +
+					this.__readBits(
+						InflaterInputStream._DISTANCE_EXTRA[distcode]);
+				
+				this.__copyWindow(dist, len);
+			}
 		}
-		
-		// Determine the number of extra bits that make up the distance which
-		// is used as an additional distance value
-		int extrabits = ((__code / 2) - 1);
-		if (extrabits > 0)
-			rv += this.__readBits(extrabits, false);
-		
-		// Return it
-		return rv;
 	}
 	
 	/**
-	 * Reads length codes from the input.
+	 * Decompresses until there are the given number of pending bytes or the
+	 * end of the stream is reached.
 	 *
-	 * @param __c Input code value.
-	 * @throws IOException On read/write errors.
-	 * @since 2016/03/12
+	 * @param __want The number of pending bytes wanted, this must not exceed
+	 * the maximum distance.
+	 * @throws IOException On read or decompression errors.
+	 * @since 2017/02/25
 	 */
-	private int __handleLength(int __c)
+	private void __inflate(int __want)
 		throws IOException
 	{
-		// The maximum length that can ever be used is 258, it has no bits also
-		if (__c == 285)
-			return 258;
-		
-		// Get the base code
-		int base = __c - 257;
-		
-		// {@squirreljme.error BD1f Illegal length code. (The length code)}
-		if (base < 0)
-			throw new IOException(String.format("BD1f %d", __c));
-		
-		// Calculate the required length to use
-		int rv = 3;
-		for (int i = 0; i < base; i++)
-		{
-			// Determine how many groups of 4 the code is long. Since zero
-			// appears as items then subtract 1 to make it longer. However
-			// after the first 8 it goes up in a standard pattern.
-			int v = ((i / 4) - 1);
-			if (v > 0)
-				rv += (1 << v);
-			else
-				rv++;
-		}
-		
-		// Add extra bits which are used to modify the amount of data read
-		int extrabits = (base / 4) - 1;
-		if (extrabits > 0)
-			rv += (extrabits = this.__readBits(extrabits, false));
-		
-		// Return the length
-		return rv;
-	}
-	
-	/**
-	 * Obtains the code length tree.
-	 *
-	 * @return The code length tree.
-	 * @since 2017/02/27
-	 */
-	private HuffmanTreeInt __obtainCodeLenTree()
-	{
-		Reference<HuffmanTreeInt> ref = this._codelentree;
-		HuffmanTreeInt rv;
-		
-		if (ref == null || null == (rv = ref.get()))
-			this._codelentree = new WeakReference<>(
-				(rv = new HuffmanTreeInt()));
-		
-		// Clear before return
-		rv.clear();
-		return rv;
-	}
-	
-	/**
-	 * Obtains the distance tree.
-	 *
-	 * @return The distance tree.
-	 * @since 2017/02/27
-	 */
-	private HuffmanTreeInt __obtainDistanceTree()
-	{
-		Reference<HuffmanTreeInt> ref = this._distancetree;
-		HuffmanTreeInt rv;
-		
-		if (ref == null || null == (rv = ref.get()))
-			this._distancetree = new WeakReference<>(
-				(rv = new HuffmanTreeInt()));
-		
-		// Clear before return
-		rv.clear();
-		return rv;
-	}
-	
-	/**
-	 * Obtains the literal tree.
-	 *
-	 * @return The literal tree.
-	 * @since 2017/02/27
-	 */
-	private HuffmanTreeInt __obtainLiteralTree()
-	{
-		Reference<HuffmanTreeInt> ref = this._literaltree;
-		HuffmanTreeInt rv;
-		
-		if (ref == null || null == (rv = ref.get()))
-			this._literaltree = new WeakReference<>(
-				(rv = new HuffmanTreeInt()));
-		
-		// Clear before return
-		rv.clear();
-		return rv;
-	}
-	
-	/**
-	 * Obtains the read window.
-	 *
-	 * @return The read window.
-	 * @since 2017/02/26
-	 */
-	private byte[] __obtainReadWindow()
-	{
-		Reference<byte[]> ref = this._readwindow;
-		byte[] rv;
-		
-		if (ref == null || null == (rv = ref.get()))
-			this._readwindow = new WeakReference<>(
-				(rv = new byte[128]));
-		
-		return rv;
+		while (this._pending < __want)
+			switch (this._state)
+			{
+				case InflaterInputStream._STATE_HEADER:
+					// The last block was the final one
+					if (this._final)
+					{
+						this._state = InflaterInputStream._STATE_DONE;
+						return;
+					}
+					
+					// Read the final bit which determines if this is the
+					// last block
+					this._final = (this.__readBits(1) != 0);
+					
+					// Read the window type
+					int type = this.__readBits(2);
+					switch (type)
+					{
+							// None
+						case InflaterInputStream._TYPE_NO_COMPRESSION:
+							this.__stored();
+							break;
+							
+							// Fixed huffman
+						case InflaterInputStream._TYPE_FIXED_HUFFMAN:
+							this._literal =
+								InflaterInputStream._FIXED_LITERAL;
+							this._distance =
+								InflaterInputStream._FIXED_DISTANCE;
+							this._state = InflaterInputStream._STATE_HUFFMAN;
+							break;
+							
+							// Dynamic huffman
+						case InflaterInputStream._TYPE_DYNAMIC_HUFFMAN:
+							this.__dynamicTables();
+							this._state = InflaterInputStream._STATE_HUFFMAN;
+							break;
+							
+							// Error or unknown
+						case InflaterInputStream._TYPE_ERROR:
+						default:
+							// {@squirreljme.error BD17 Unknown type or the
+							// error type was reached. (The type code used in
+							// the stream)}
+							throw new IOException(String.format("BD17 %d",
+								type));
+					}
+					break;
+					
+					// Uncompressed bytes
+				case InflaterInputStream._STATE_STORED:
+					this.__storedCopy(__want);
+					break;
+					
+					// Huffman codes
+				case InflaterInputStream._STATE_HUFFMAN:
+					this.__huffman(__want);
+					break;
+					
+					// Nothing more to decompress
+				default:
+					return;
+			}
 	}
 	
 	/**
-	 * Reads bits from the input stream.
+	 * Reads bits from the input stream, the first bit is the lowest.
 	 *
 	 * @param __n The number of bits to read.
-	 * @param __msb If {@code true} the most significant bits are first
 	 * @return The read data.
 	 * @throws IOException On read errors.
 	 * @since 2017/02/25
 	 */
-	int __readBits(int __n, boolean __msb)
+	private int __readBits(int __n)
 		throws IOException
 	{
 		// Nothing to read
 		if (__n == 0)
 			return 0;
 		
-		// Get the mini window information
-		int miniwindow = this._miniwindow,
-			minisize = this._minisize;
-		
 		// Not enough bits to read the value
-		while (minisize < __n)
-		{
-			// The number of bytes to be read
-			int bc = (__n - minisize) / 8;
-			if (bc == 0)
-				bc = 1;
-			
-			// Read input bytes
-			byte[] readin = this._readin;
-			int rc = this.in.read(readin, 0, bc);
-			
-			// {@squirreljme.error BD1g Reached EOF while reading bytes to
-			// decompress. (Bits in the queue; Requested number of bits)}
-			if (rc < 0)
-				throw new IOException(String.format("BD1g %d %d", minisize,
-					__n));
-			
-			// Shift in the read bytes to the higher positions
-			for (int i = 0; i < rc; i++)
-			{
-				miniwindow |= ((readin[i] & 0xFF) << minisize);
-				minisize += 8;
-			}
-			
-			// Count the number of compressed bytes
-			this._compressedsize += rc;
-		}
+		if (this._bitcount < __n)
+			this.__fill(__n);
 		
 		// Mask in the value, which is always at the lower bits
-		int rv = miniwindow & ((1 << __n) - 1);
-		
-		// Shift down the mini window for the next read
-		// Make sure the shift down is unsigned so that zeroes are in the
-		// higher bits for the filling OR operation.
-		miniwindow >>>= __n;
-		minisize -= __n;
+		long bitbuf = this._bitbuf;
+		int rv = (int)bitbuf & ((1 << __n) - 1);
 		
-		// Store for next run
-		this._miniwindow = miniwindow;
-		this._minisize = minisize;
+		// Shift down for the next read
+		this._bitbuf = bitbuf >>> __n;
+		this._bitcount -= __n;
 		
-		// Want MSB to be first, need to swap all the bits so the lowest ones
-		// are at the highest positions
-		// Luckily such a method already exists and it could potentially be
-		// inlined by the JVM or converted to native code if such an
-		// instruction exists.
-		if (__msb)
-			return Integer.reverse(rv) >>> (32 - __n);
-		
-		// Return read result
 		return rv;
 	}
 	
 	/**
-	 * Reads code bits using the given huffman tree and into the specified
-	 * array.
+	 * Starts a block of uncompressed data.
 	 *
-	 * @param __codes The huffman tree which contains the length codes which
-	 * the values being read are encoded with.
-	 * @param __out The output array.
-	 * @param __next The next value to read.
-	 * @throws IOException On read or decompression errors.
-	 * @throws NullPointerException On null arguments.
-	 * @since 2016/03/28
-	 */
-	private int __readCodeBits(HuffmanTreeInt __codes, int[] __out,
-		int __next)
-		throws IOException, NullPointerException
-	{
-		// Check
-		if (__codes == null || __out == null)
-			throw new NullPointerException("NARG");
-		
-		// Read in code based on an input huffman tree
-		int basenext = __next;
-		int code = __codes.getValue(this._bitsource);
-		
-		// Literal length, the input is used
-		if (code >= 0 && code < 16)
-			__out[__next++] = code;
-		
-		// Repeating
-		else
-		{
-			// Repeat this value and for this many lengths
-			int repval;
-			int repfor;
-			
-			// Repeat the previous length 3-6 times
-			if (code == 16)
-			{
-				// {@squirreljme.error BD1h A repeat code was specified,
-				// however this is the first entry. (The last length index)}
-				int lastlendx = __next - 1;
-				if (lastlendx < 0)
-					throw new IOException(String.format("BD1h %d",
-						lastlendx));
-				
-				// Read the last
-				repval = __out[lastlendx];
-				
-				// Read the repeat count
-				repfor = 3 + this.__readBits(2, false);
-			}
-			
-			// Repeat zero for 3-10 times
-			else if (code == 17)
-			{
-				// Use zero
-				repval = 0;
-				
-				// Read 3 bits
-				repfor = 3 + this.__readBits(3, false);
-			}
-			
-			// Repeat zero for 11-138 times
-			else if (code == 18)
-			{
-				// Use zero
-				repval = 0;
-				
-				// Read 7 bits
-				repfor = 11 + this.__readBits(7, false);
-			}
-			
-			// {@squirreljme.error BD1i Illegal code. (The code)}
-			else
-				throw new IOException(String.format("BD1i %d", code));
-			
-			// Could fail
-			try
-			{
-				// Place in repeated values
-				for (int i = 0; i < repfor; i++)
-					__out[__next++] = repval;
-			}
-			
-			// Out of bounds entry
-			catch (IndexOutOfBoundsException ioobe)
-			{
-				// {@squirreljme.error BD1j Out of bounds index read.}
-				throw new IOException("BD1j", ioobe);
-			}
-		}
-		
-		// Skip count
-		return __next - basenext;
-	}
-	
-	/**
-	 * Reads a fixed huffman code for use by the {@code _TYPE_FIXED_HUFFMAN}
-	 * state. This method does not traverse a huffman tree so to speak, but it
-	 * instead uses many if statements. Initially every consideration was made
-	 * but now instead it uses ranges once it keeps deep enough into the tree.
-	 * This method is faster and provides a built-in huffman tree while not
-	 * taking up too many bytes in the byte code.
-	 *
-	 * @return The read value.
 	 * @throws IOException On read errors.
-	 * @since 2016/03/10
+	 * @since 2017/02/25
 	 */
-	private int __readFixedHuffman()
+	private void __stored()
 		throws IOException
 	{
-		// The long if statement block
-		if (this.__readBits(1, true) != 0)
-			if (this.__readBits(1, true) != 0)
-				if (this.__readBits(1, true) != 0)
-					return 192 + this.__readBits(6, true);
-				else
-					if (this.__readBits(1, true) != 0)
-						return 160 + this.__readBits(5, true);
-					else
-						if (this.__readBits(1, true) != 0)
-							return 144 + this.__readBits(4, true);
-						else
-							return 280 + this.__readBits(3, true);
-			else
-				return 80 + this.__readBits(6, true);
-		else
-			if (this.__readBits(1, true) != 0)
-				return 16 + this.__readBits(6, true);
-			else
-				if (this.__readBits(1, true) != 0)
-					if (this.__readBits(1, true) != 0)
-						return 0 + this.__readBits(4, true);
-					else
-						return 272 + this.__readBits(3, true);
-				else
-					return 256 + this.__readBits(4, true);
-	}
-	
-	/**
-	 * Creates a huffman tree from the given code lengths. These generate
-	 * symbols which are used to determine how the dynamic huffman data is to
-	 * be decoded.
-	 *
-	 * @param __tree The tree to output.
-	 * @param __lens The input code lengths.
-	 * @param __o The starting offset.
-	 * @param __l The number of lengths to decode.
-	 * @return A huffman tree from the code length input.
-	 * @throws NullPointerException On null arguments.
-	 * @since 2016/03/28
-	 */
-	private HuffmanTreeInt __thunkCodeLengthTree(HuffmanTreeInt __tree,
-		int[] __lens, int __o, int __l)
-		throws NullPointerException
-	{
-		// Check
-		if (__lens == null)
-			throw new NullPointerException("NARG");
-		
-		// Initialize both arrays with zero
-		int[] bl_count = this._blcount;
-		int[] next_code = this._nextcode;
-		for (int i = 0, n = bl_count.length; i < n; i++)
-		{
-			bl_count[i] = 0;
-			next_code[i] = 0;
-		}
-		
-		// Determine the bitlength count for all of the inputs
-		for (int i = 0, p = __o; i < __l; i++, p++)
-			bl_count[__lens[p]]++;
-		bl_count[0] = 0;
+		// Throw out bits that have been read so that the following reads are
+		// aligned to byte boundaries
+		int minisub = this._bitcount & 7;
+		if (minisub > 0)
+			this.__readBits(minisub);
 		
-		// Find the numerical value of the smallest code for each code
-		// length.
-		int code = 0;
-		for (int bits = 1; bits <= InflaterInputStream._MAX_BITS; bits++)
-		{
-			code = (code + bl_count[bits - 1]) << 1;
-			next_code[bits] = code;
-		}
-	
-		// Assign values to all codes
-		__tree.clear();
-		for (int q = 0, p = __o; q < __l; q++, p++)
-		{
-			// Get length
-			int len = __lens[p];
+		// Read length and the one's complement of it
+		int len = this.__readBits(16);
+		int com = this.__readBits(16);
 		
-			// Add code length to the huffman tree
-			if (len != 0)
-				__tree.add(q, (next_code[len])++, (1 << len) - 1);
-		}
+		// The complemented length must be equal to the complement
+		// {@squirreljme.error BD1c Value mismatch reading the number of
+		// uncompressed symbols that exist. (The length; The complement;
+		// The complemented input length; The complemented input complement)}
+		if ((len ^ 0xFFFF) != com)
+			throw new IOException(String.format("BD1c %04x %04x %04x %04x",
+				len, com, len ^ 0xFFFF, com ^ 0xFFFF));
 		
-		// Return it
-		return __tree;
+		this._storedleft = len;
+		this._state = InflaterInputStream._STATE_STORED;
 	}
 	
 	/**
-	 * Writes the specified value to the output.
+	 * Copies uncompressed bytes into the window.
 	 *
-	 * @param __v The value to write.
-	 * @param __bits The number of bits to write.
-	 * @param __msb Most significant bits first?
-	 * @throws IOException On write errors.
-	 * @since 2017/02/25
+	 * @param __want The number of pending bytes wanted.
+	 * @throws IOException On read errors.
+	 * @since 2026/10/18
 	 */
-	private void __write(int __v, int __bits, boolean __msb)
+	private void __storedCopy(int __want)
 		throws IOException
 	{
-		// Calculate the mask
-		int mask = (1 << __bits) - 1;
-		
-		// Write LSB value, need to swap bits if writing MSB
-		__v &= mask;
-		if (__msb)
-			__v = Integer.reverse(__v) >>> (32 - __bits);
-		
-		// Get the current write window
-		int writewindow = this._writewindow,
-			writesize = this._writesize;
-		
-		// Add bits to write
-		writewindow |= (__v & mask) << writesize;
-		writesize += __bits;
+		byte[] window = this._window;
+		int windowsize = window.length;
 		
-		// Enough bytes to write to the output?
-		if (writesize >= 8)
+		while (this._pending < __want)
 		{
-			// Write to a byte array first
-			byte[] targ = this._targ;
-			int targoff = this._targoff,
-				targend = this._targend;
+			// End of the block
+			int left = this._storedleft;
+			if (left == 0)
+			{
+				this._state = InflaterInputStream._STATE_HEADER;
+				return;
+			}
 			
-			// But if writes overflow then add to the overflow buffer
-			ByteDeque overflow = this.overflow;
+			// Use any whole bytes which are still in the bit buffer first
+			int writepos = this._writepos;
+			if (this._bitcount >= 8)
+			{
+				window[writepos] = (byte)this.__readBits(8);
+				this._writepos = (writepos + 1) & (windowsize - 1);
+				this._storedleft = left - 1;
+				this.__written(1);
+				continue;
+			}
 			
-			// Any bytes written are appended to the sliding window
-			SlidingByteWindow window = this.window;
+			// Otherwise read as many bytes at once directly into the window
+			int count = Math.min(Math.min(left, __want - this._pending),
+				windowsize - writepos);
+			int rc = this.in.read(window, writepos, count);
 			
-			// Write bytes
-			do
-			{
-				// Read input byte
-				byte b = (byte)writewindow;
-				writewindow >>>= 8;
-				writesize -= 8;
-				
-				// Can fit in the output buffer
-				if (targoff < targend)
-					targ[targoff++] = b;
-				
-				// Overflows
-				else
-					overflow.offerLast(b);
-				
-				// Append to the window
-				window.append(b);
-			} while (writesize >= 8);
+			// EOF in a stored block, see BD1g in the bit reader above
+			if (rc < 0)
+				throw new IOException(String.format("BD1g %d %d",
+					this._bitcount, count * 8));
 			
-			// Store new position
-			this._targoff = targoff;
+			this._compressedsize += rc;
+			this._writepos = (writepos + rc) & (windowsize - 1);
+			this._storedleft = left - rc;
+			this.__written(rc);
 		}
-		
-		// Store the write window info
-		this._writewindow = writewindow;
-		this._writesize = writesize;
 	}
 	
 	/**
-	 * Bit source for huffman reads.
+	 * Records that bytes were written to the window.
 	 *
-	 * @since 2017/02/25
+	 * @param __n The number of written bytes.
+	 * @since 2026/10/18
 	 */
-	private final class __BitSource__
-		implements BitSource
+	private void __written(int __n)
 	{
-		/**
-		 * {@inheritDoc}
-		 * @since 2017/02/25
-		 */
-		@Override
-		public boolean nextBit()
-			throws IOException
-		{
-			return 0 != InflaterInputStream.this.__readBits(1, true);
-		}
+		this._pending += __n;
+		
+		// The history only needs to go back as far as the largest distance
+		int history = this._history + __n;
+		this._history = Math.min(history, this._maxdistance);
 	}
 }
-
@@ -0,0 +1,225 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package net.multiphasicapps.io;
+
+/**
+ * This is a lookup table for decoding canonical huffman codes, such as the
+ * ones used by deflate, several bits at a time.
+ *
+ * The primary table is indexed by the next bits of input with the first bit
+ * being the least significant. Codes which are longer than the primary table
+ * have their entry link to a sub-table which is indexed by the bits which
+ * follow.
+ *
+ * Each entry has the symbol (or for links, the sub-table offset) in the
+ * upper 16 bits and the total code length in the lowest bits. Entries with
+ * a length of zero and no link are not valid codes.
+ *
+ * This class is not thread safe.
+ *
+ * @since 2026/10/18
+ */
+final class __HuffmanTable__
+{
+	/** Flag used to indicate a link to a sub-table. */
+	static final int _LINK =
+		0x8000;
+	
+	/** The maximum number of bits a code may use. */
+	static final int _MAX_BITS =
+		15;
+	
+	/** The number of bits the primary table may use at most. */
+	protected final int primarybits;
+	
+	/** The number of codes of each length. */
+	private final int[] _count =
+		new int[__HuffmanTable__._MAX_BITS + 1];
+	
+	/** The next code for each length. */
+	private final int[] _next =
+		new int[__HuffmanTable__._MAX_BITS + 1];
+	
+	/** The reversed code for each symbol. */
+	private int[] _codes =
+		new int[0];
+	
+	/** The sub-table width for each primary entry. */
+	private int[] _subs =
+		new int[0];
+	
+	/** The table entries. */
+	int[] _table =
+		new int[0];
+	
+	/** The number of bits used to index the primary table. */
+	int _bits;
+	
+	/**
+	 * Initializes the table.
+	 *
+	 * @param __primaryBits The maximum number of bits the primary table
+	 * may use.
+	 * @since 2026/10/18
+	 */
+	__HuffmanTable__(int __primaryBits)
+	{
+		this.primarybits = __primaryBits;
+	}
+	
+	/**
+	 * Builds the table from the given code lengths, the symbol for each code
+	 * is its position relative to the offset.
+	 *
+	 * @param __lens The code lengths, zero means that a symbol is not used.
+	 * @param __o The offset into the lengths.
+	 * @param __l The number of lengths.
+	 * @return If the lengths form a valid set of codes, if they do not then
+	 * there are more codes than can be represented.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	boolean build(int[] __lens, int __o, int __l)
+		throws NullPointerException
+	{
+		if (__lens == null)
+			throw new NullPointerException("NARG");
+		
+		// Count the number of codes for each length
+		int[] count = this._count;
+		int[] next = this._next;
+		for (int i = 0, n = count.length; i < n; i++)
+			count[i] = 0;
+		int maxlen = 0;
+		for (int i = 0, p = __o; i < __l; i++, p++)
+		{
+			int len = __lens[p];
+			count[len]++;
+			if (len > maxlen)
+				maxlen = len;
+		}
+		count[0] = 0;
+		
+		// No codes at all, so nothing can ever be decoded
+		if (maxlen == 0)
+		{
+			if (this._table.length < 2)
+				this._table = new int[2];
+			this._table[0] = 0;
+			this._table[1] = 0;
+			this._bits = 1;
+			return true;
+		}
+		
+		// There cannot be more codes of a given length than there are spots
+		// left for them
+		for (int bits = 1, left = 1; bits <= __HuffmanTable__._MAX_BITS;
+			bits++)
+		{
+			left = (left << 1) - count[bits];
+			if (left < 0)
+				return false;
+		}
+		
+		// Find the numerical value of the smallest code for each length
+		for (int bits = 1, code = 0; bits <= __HuffmanTable__._MAX_BITS;
+			bits++)
+		{
+			code = (code + count[bits - 1]) << 1;
+			next[bits] = code;
+		}
+		
+		// The primary table never needs to be larger than the longest code
+		int pbits = Math.min(this.primarybits, maxlen);
+		int psize = 1 << pbits;
+		int pmask = psize - 1;
+		
+		// Assign codes to every symbol, the bits are reversed because the
+		// table is indexed by the first bit being the lowest
+		int[] codes = this._codes;
+		if (codes.length < __l)
+			this._codes = (codes = new int[__l]);
+		int[] subs = this._subs;
+		if (subs.length < psize)
+			this._subs = (subs = new int[psize]);
+		for (int i = 0; i < psize; i++)
+			subs[i] = 0;
+		for (int i = 0, p = __o; i < __l; i++, p++)
+		{
+			int len = __lens[p];
+			if (len == 0)
+				continue;
+			
+			int code = Integer.reverse(next[len]++) >>> (32 - len);
+			codes[i] = code;
+			
+			// Long codes need a sub-table big enough for the longest of
+			// them with the same prefix
+			if (len > pbits)
+			{
+				int prefix = code & pmask;
+				subs[prefix] = Math.max(subs[prefix], len - pbits);
+			}
+		}
+		
+		// Determine the size of the table with every sub-table
+		int size = psize;
+		for (int i = 0; i < psize; i++)
+			if (subs[i] > 0)
+				size += (1 << subs[i]);
+		
+		// Setup the table, where everything is initially invalid
+		int[] table = this._table;
+		if (table.length < size)
+			this._table = (table = new int[size]);
+		for (int i = 0; i < size; i++)
+			table[i] = 0;
+		
+		// Link the sub-tables
+		for (int i = 0, at = psize; i < psize; i++)
+			if (subs[i] > 0)
+			{
+				table[i] = (at << 16) | __HuffmanTable__._LINK |
+					(subs[i] << 8);
+				at += (1 << subs[i]);
+			}
+		
+		// Place in every code, since the codes are indexed by the lowest bits
+		// first every entry which ends with the code is filled
+		for (int i = 0, p = __o; i < __l; i++, p++)
+		{
+			int len = __lens[p];
+			if (len == 0)
+				continue;
+			
+			int code = codes[i];
+			int entry = (i << 16) | len;
+			
+			// Fits in the primary table
+			if (len <= pbits)
+				for (int j = code; j < psize; j += (1 << len))
+					table[j] = entry;
+			
+			// Goes in a sub-table
+			else
+			{
+				int link = table[code & pmask];
+				int base = link >>> 16;
+				int subsize = 1 << ((link >>> 8) & 0xF);
+				for (int j = code >>> pbits; j < subsize;
+					j += (1 << (len - pbits)))
+					table[base + j] = entry;
+			}
+		}
+		
+		this._bits = pbits;
+		return true;
+	}
+}
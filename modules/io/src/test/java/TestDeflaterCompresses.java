@@ -0,0 +1,132 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import net.multiphasicapps.io.CompressionLevel;
+import net.multiphasicapps.io.DeflaterOutputStream;
+import net.multiphasicapps.io.InflaterInputStream;
+import net.multiphasicapps.tac.TestSupplier;
+
+/**
+ * Tests that the deflater actually compresses repetitive data and that
+ * random data, which does not compress, still decompresses properly.
+ *
+ * @since 2026/10/18
+ */
+public class TestDeflaterCompresses
+	extends TestSupplier<Boolean>
+{
+	/** The size of the test data. */
+	public static final int SIZE =
+		20000;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public Boolean test()
+		throws IOException
+	{
+		Random rand = new Random(0xCAFE_BABE_DEAD_BEEFL);
+		
+		// Repetitive data, made of a few words in random order
+		String[] words = {"squirrel", "acorn", "tree", "nut", "branch "};
+		StringBuilder sb = new StringBuilder();
+		while (sb.length() < TestDeflaterCompresses.SIZE)
+			sb.append(words[rand.nextInt(words.length)]);
+		byte[] repetitive = sb.toString().getBytes("utf-8");
+		
+		// Random data
+		byte[] random = new byte[TestDeflaterCompresses.SIZE];
+		rand.nextBytes(random);
+		
+		boolean rv = true;
+		for (CompressionLevel cl : CompressionLevel.values())
+		{
+			// Repetitive data should be much smaller
+			byte[] compressed = TestDeflaterCompresses.__compress(repetitive,
+				cl);
+			if (compressed.length >= repetitive.length / 2)
+			{
+				this.secondary("big-" + cl, compressed.length);
+				rv = false;
+			}
+			
+			// Everything must decompress to the same data
+			for (byte[] data : new byte[][]{repetitive, random, new byte[0]})
+				if (!Arrays.equals(data, TestDeflaterCompresses.__decompress(
+					TestDeflaterCompresses.__compress(data, cl))))
+				{
+					this.secondary("bad-" + cl + "-" + data.length, true);
+					rv = false;
+				}
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * Compresses the given data.
+	 *
+	 * @param __data The data to compress.
+	 * @param __cl The compression level.
+	 * @return The compressed data.
+	 * @throws IOException On write errors.
+	 * @since 2026/10/18
+	 */
+	private static byte[] __compress(byte[] __data, CompressionLevel __cl)
+		throws IOException
+	{
+		try (ByteArrayOutputStream baos = new ByteArrayOutputStream())
+		{
+			try (DeflaterOutputStream dos = new DeflaterOutputStream(baos,
+				__cl))
+			{
+				dos.write(__data);
+			}
+			
+			return baos.toByteArray();
+		}
+	}
+	
+	/**
+	 * Decompresses the given data.
+	 *
+	 * @param __data The data to decompress.
+	 * @return The decompressed data.
+	 * @throws IOException On read errors.
+	 * @since 2026/10/18
+	 */
+	private static byte[] __decompress(byte[] __data)
+		throws IOException
+	{
+		try (InflaterInputStream iis = new InflaterInputStream(
+			new ByteArrayInputStream(__data));
+			ByteArrayOutputStream baos = new ByteArrayOutputStream())
+		{
+			byte[] buf = new byte[512];
+			for (;;)
+			{
+				int rc = iis.read(buf);
+				
+				if (rc < 0)
+					break;
+				
+				baos.write(buf, 0, rc);
+			}
+			
+			return baos.toByteArray();
+		}
+	}
+}
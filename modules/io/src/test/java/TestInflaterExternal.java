@@ -0,0 +1,98 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import net.multiphasicapps.io.InflaterInputStream;
+import net.multiphasicapps.tac.TestRunnable;
+
+/**
+ * Tests that data which was compressed by another implementation is
+ * decompressed, this has long codes, long runs, and uncompressed blocks. It
+ * also checks that no bytes after the compressed data are read.
+ *
+ * @since 2026/10/18
+ */
+public class TestInflaterExternal
+	extends TestRunnable
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void test()
+		throws Throwable
+	{
+		byte[] deflated = TestInflaterExternal.__inflate("deflated");
+		byte[] stored = TestInflaterExternal.__inflate("stored");
+		
+		this.secondary("length", deflated.length);
+		this.secondary("hash", TestInflaterExternal.__hash(deflated));
+		this.secondary("same", new String(deflated, "iso-8859-1")
+			.equals(new String(stored, "iso-8859-1")));
+	}
+	
+	/**
+	 * Calculates a hash of the given bytes.
+	 *
+	 * @param __b The bytes to hash.
+	 * @return The hash.
+	 * @since 2026/10/18
+	 */
+	private static int __hash(byte[] __b)
+	{
+		int rv = 0;
+		for (byte b : __b)
+			rv = (rv * 31) + (b & 0xFF);
+		return rv;
+	}
+	
+	/**
+	 * Decompresses the given resource, the bytes after the compressed data
+	 * must not have been read.
+	 *
+	 * @param __rc The resource to decompress.
+	 * @return The decompressed bytes.
+	 * @throws IOException On read errors.
+	 * @since 2026/10/18
+	 */
+	private static byte[] __inflate(String __rc)
+		throws IOException
+	{
+		try (InputStream in = TestInflaterExternal.class
+				.getResourceAsStream(__rc);
+			ByteArrayOutputStream baos = new ByteArrayOutputStream())
+		{
+			// Read with many different sizes so that reads stop in the
+			// middle of lengths and blocks
+			InflaterInputStream iis = new InflaterInputStream(in);
+			byte[] buf = new byte[1024];
+			for (int i = 0;; i++)
+			{
+				int rc = iis.read(buf, 0, 1 + ((i * 37) % buf.length));
+				
+				if (rc < 0)
+					break;
+				
+				baos.write(buf, 0, rc);
+			}
+			
+			// The marker after the compressed data must still be there
+			byte[] trailer = new byte[6];
+			int rc = in.read(trailer);
+			if (rc != 6 || !"XERXER".equals(new String(trailer, 0, rc,
+				"iso-8859-1")))
+				throw new IOException("Read past end: " + __rc);
+			
+			return baos.toByteArray();
+		}
+	}
+}
@@ -69,7 +69,7 @@ public class TestZlibCompressorDecompressor
 			try (ByteArrayOutputStream baos = new ByteArrayOutputStream(gn))
 			{
 				// Compress the input message
-				try (ZLibCompressor dos = new ZLibCompressor(baos))
+				try (ZLibCompressor dos = new ZLibCompressor(baos, cl))
 				{
 					dos.write(message);
 				}
@@ -91,9 +91,9 @@ public class RecordStore
 				(VinylRecord)Class.forName(vclass).newInstance());
 		}
 		
-		// If it fails to initialize, just use a blank one
-		catch (ClassNotFoundException|IllegalAccessException|
-			InstantiationException e)
+		// If it fails to initialize, just use a blank one, this includes
+		// when the record uses an API which is not implemented
+		catch (Exception|todo.TODO e)
 		{
 			vr = new TemporaryVinylRecord();
 		}
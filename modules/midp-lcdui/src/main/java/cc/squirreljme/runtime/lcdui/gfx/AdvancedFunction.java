@@ -9,14 +9,13 @@
 
 package cc.squirreljme.runtime.lcdui.gfx;
 
-import cc.squirreljme.runtime.cldc.debug.Debugging;
-
 /**
  * This contains the various functions that may be set by
  * {@link AdvancedGraphics} and called accordingly when needed.
  *
  * All functions operate on pixels which are backed by a 32-bit integer
- * array.
+ * array. Each kind of primitive has its own entry point, a function only
+ * implements the entry point for the primitive it draws.
  *
  * @since 2019/03/24
  */
@@ -27,10 +26,42 @@ public enum AdvancedFunction
 	{
 		/**
 		 * {@inheritDoc}
-		 * @since 2019/03/24
+		 * @since 2026/10/18
+		 */
+		@Override
+		public void charBitmap(AdvancedGraphics __ag, int __color, int __dsx,
+			int __dsy, byte[] __bmp, int __bytesperscan, int __scanoff,
+			int __scanlen, int __lineoff, int __linelen)
+		{
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public void fillRect(AdvancedGraphics __ag, int __x, int __y,
+			int __ex, int __ey, int __w, int __h)
+		{
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public void line(AdvancedGraphics __ag, int __x1, int __y1, int __x2,
+			int __y2)
+		{
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
 		 */
 		@Override
-		public void function(AdvancedGraphics __ag, int[] __vi, Object[] __va)
+		public void tile(AdvancedGraphics __ag, int[] __b, int __o, int __l,
+			int __x, int __y, int __w, int __h, int __subX, int __subY)
 		{
 		}
 	},
@@ -43,23 +74,31 @@ public enum AdvancedFunction
 		 * @since 2019/03/24
 		 */
 		@Override
-		public void function(AdvancedGraphics __ag, int[] __vi, Object[] __va)
+		public void fillRect(AdvancedGraphics __ag, int __x, int __y,
+			int __ex, int __ey, int __w, int __h)
 		{
+			if (__w <= 0 || __y >= __ey)
+				return;
+			
 			int pac = __ag.paintcolorhigh;
 			int[] buffer = __ag.buffer;
-			int pitch = __ag.pitch,
-				offset = __ag.offset,
-				__x = __vi[0],
-				__y = __vi[1],
-				__ex = __vi[2],
-				__ey = __vi[3],
-				__w = __vi[4],
-				__h = __vi[5];
+			int pitch = __ag.pitch;
+			int first = __ag.offset + (__y * pitch) + __x;
+			
+			// Narrow rectangles are cheaper to fill directly
+			if (__w < AdvancedFunction._SPAN_COPY_MIN)
+			{
+				for (int y = __y, row = first; y < __ey; y++, row += pitch)
+					for (int dest = row, pex = row + __w; dest < pex; dest++)
+						buffer[dest] = pac;
+				return;
+			}
 			
-			for (int y = __y; y < __ey; y++)
-				for (int dest = offset + (y * pitch) + __x, pex = dest + __w;
-					dest < pex; dest++)
-					buffer[dest] = pac;
+			// Fill the first row, then copy it to the rows below
+			AdvancedFunction.__fillSpan(buffer, first, __w, pac);
+			for (int y = __y + 1, row = first + pitch; y < __ey;
+				y++, row += pitch)
+				System.arraycopy(buffer, first, buffer, row, __w);
 		}
 	},
 	
@@ -71,28 +110,21 @@ public enum AdvancedFunction
 		 * @since 2019/03/24
 		 */
 		@Override
-		public void function(AdvancedGraphics __ag, int[] __vi, Object[] __va)
+		public void fillRect(AdvancedGraphics __ag, int __x, int __y,
+			int __ex, int __ey, int __w, int __h)
 		{
 			int pac = __ag.paintalphacolor;
 			int[] buffer = __ag.buffer;
 			int pitch = __ag.pitch,
-				offset = __ag.offset,
-				__x = __vi[0],
-				__y = __vi[1],
-				__ex = __vi[2],
-				__ey = __vi[3],
-				__w = __vi[4],
-				__h = __vi[5],
 				sa = __ag.paintalpha,
 				na = (sa ^ 0xFF),
 				srb = ((pac & 0xFF00FF) * sa),
 				sgg = (((pac >>> 8) & 0xFF) * sa);
 			
 			// Blend each color
-			int mod = 0;
-			for (int y = __y; y < __ey; y++)
-				for (int dest = offset + (y * pitch) + __x, pex = dest + __w;
-					dest < pex; dest++)
+			for (int y = __y, row = __ag.offset + (__y * pitch) + __x;
+				y < __ey; y++, row += pitch)
+				for (int dest = row, pex = row + __w; dest < pex; dest++)
 				{
 					int dcc = buffer[dest],
 						xrb = (srb + ((dcc & 0xFF00FF) * na)) >>> 8,
@@ -112,52 +144,37 @@ public enum AdvancedFunction
 		 * @since 2019/03/24
 		 */
 		@Override
-		public void function(AdvancedGraphics __ag, int[] __vi, Object[] __va)
+		public void charBitmap(AdvancedGraphics __ag, int __color, int __dsx,
+			int __dsy, byte[] __bmp, int __bytesperscan, int __scanoff,
+			int __scanlen, int __lineoff, int __linelen)
 		{
-			int __color = __vi[0] | 0xFF_000000,
-				__dsx = __vi[1],
-				__dsy = __vi[2],
-				__bytesperscan = __vi[3],
-				__scanoff = __vi[4],
-				__scanlen = __vi[5],
-				__lineoff = __vi[6],
-				__linelen = __vi[7];
-			byte[] __bmp = (byte[])__va[0];
-			
+			int color = __color | 0xFF_000000;
 			int[] data = __ag.buffer;
-			int offset = __ag.offset,
-				pitch = __ag.pitch;
+			int pitch = __ag.pitch;
 			
 			// Treat lens as end indexes
-			int origscanlen = __scanlen;
 			__scanlen += __scanoff;
 			__linelen += __lineoff;
 			
-			// Remember the old scan offset, because we reset
-			int resetscanoff = __scanoff;
-			
 			// Determine the draw pointer for this line
-			int basep = offset + (__dsy * pitch) + __dsx;
+			int basep = __ag.offset + (__dsy * pitch) + __dsx;
 			
 			// Base source offset line according to the line offset
 			int bi = __lineoff * __bytesperscan;
 			
 			// Drew each line
-			for (; __lineoff < __linelen; __lineoff++, __dsy++)
+			for (; __lineoff < __linelen; __lineoff++)
 			{
-				// Reset parameters for this line
-				int p = basep;
-				__scanoff = resetscanoff;
-				
 				// Draw each scan from the bitmap
-				for (; __scanoff < __scanlen; __scanoff++, p++)
+				for (int scan = __scanoff, p = basep; scan < __scanlen;
+					scan++, p++)
 				{
 					// Get the byte that represents the scan here
-					byte b = __bmp[bi + (__scanoff >>> 3)];	
+					byte b = __bmp[bi + (scan >>> 3)];
 					
 					// If there is a pixel here, draw it
-					if ((b & (1 << (__scanoff & 0x7))) != 0)
-						data[p] = __color;
+					if ((b & (1 << (scan & 0x7))) != 0)
+						data[p] = color;
 				}
 				
 				// Move the source and dest pointers to the next line
@@ -175,10 +192,14 @@ public enum AdvancedFunction
 		 * @since 2019/03/24
 		 */
 		@Override
-		public void function(AdvancedGraphics __ag, int[] __vi, Object[] __va)
+		public void charBitmap(AdvancedGraphics __ag, int __color, int __dsx,
+			int __dsy, byte[] __bmp, int __bytesperscan, int __scanoff,
+			int __scanlen, int __lineoff, int __linelen)
 		{
 			// Not implemented, use basic function
-			AdvancedFunction.CHARBITMAP_NOBLEND.function(__ag, __vi, __va);
+			AdvancedFunction.CHARBITMAP_NOBLEND.charBitmap(__ag, __color,
+				__dsx, __dsy, __bmp, __bytesperscan, __scanoff, __scanlen,
+				__lineoff, __linelen);
 		}
 	},
 	
@@ -190,13 +211,9 @@ public enum AdvancedFunction
 		 * @since 2019/03/24
 		 */
 		@Override
-		public void function(AdvancedGraphics __ag, int[] __vi, Object[] __va)
+		public void line(AdvancedGraphics __ag, int __x1, int __y1, int __x2,
+			int __y2)
 		{
-			int __x1 = __vi[0],
-				__y1 = __vi[1],
-				__x2 = __vi[2],
-				__y2 = __vi[3];
-			
 			int[] data = __ag.buffer;
 			int iw = __ag.pitch,
 				dx = __x2 - __x1;
@@ -204,7 +221,7 @@ public enum AdvancedFunction
 			int dy = __y2 - __y1;
 			boolean neg;
 			if ((neg = dy < 0))
-				dy = -dy;	
+				dy = -dy;
 			
 			int sy = (__y1 < __y2 ? 1 : -1),
 				ssy = iw * sy,
@@ -229,7 +246,7 @@ public enum AdvancedFunction
 					__x1++;
 					dest++;
 				}
-		
+				
 				// Increase Y
 				if (brr < dy)
 				{
@@ -249,13 +266,9 @@ public enum AdvancedFunction
 		 * @since 2019/03/24
 		 */
 		@Override
-		public void function(AdvancedGraphics __ag, int[] __vi, Object[] __va)
+		public void line(AdvancedGraphics __ag, int __x1, int __y1, int __x2,
+			int __y2)
 		{
-			int __x1 = __vi[0],
-				__y1 = __vi[1],
-				__x2 = __vi[2],
-				__y2 = __vi[3];
-			
 			int[] data = __ag.buffer;
 			int iw = __ag.pitch,
 				dx = __x2 - __x1;
@@ -263,7 +276,7 @@ public enum AdvancedFunction
 			int dy = __y2 - __y1;
 			boolean neg;
 			if ((neg = dy < 0))
-				dy = -dy;	
+				dy = -dy;
 			
 			int sy = (__y1 < __y2 ? 1 : -1),
 				ssy = iw * sy,
@@ -271,7 +284,6 @@ public enum AdvancedFunction
 				color = __ag.paintcolorhigh,
 				dest = __ag.offset + (iw * __y1) + __x1;
 			
-			/*for (boolean blip = true;; blip = !blip)*/
 			for (int blip = 0, nblip = ~0;; nblip = blip, blip = ~blip)
 			{
 				// Nothing left to draw?
@@ -279,8 +291,6 @@ public enum AdvancedFunction
 					((neg && __y1 <= __y2) || (!neg && __y1 >= __y2)))
 					break;
 				
-				/*if (blip)
-					data[dest] = color;*/
 				data[dest] = (data[dest] & blip) | (color & nblip);
 				
 				// Increase X
@@ -291,7 +301,7 @@ public enum AdvancedFunction
 					__x1++;
 					dest++;
 				}
-		
+				
 				// Increase Y
 				if (brr < dy)
 				{
@@ -311,36 +321,12 @@ public enum AdvancedFunction
 		 * @since 2019/03/24
 		 */
 		@Override
-		public void function(AdvancedGraphics __ag, int[] __vi, Object[] __va)
+		public void line(AdvancedGraphics __ag, int __x1, int __y1, int __x2,
+			int __y2)
 		{
 			// Not implemented, use basic function
-			if (true)
-			{
-				AdvancedFunction.LINE_NOBLEND_NODOT.function(__ag, __vi, __va);
-				return;
-			}
-			
-			int __x1 = __vi[0],
-				__y1 = __vi[1],
-				__x2 = __vi[2],
-				__y2 = __vi[3];
-			
-			int[] data = __ag.buffer;
-			int iw = __ag.pitch,
-				dx = __x2 - __x1;
-			
-			int dy = __y2 - __y1;
-			boolean neg;
-			if ((neg = dy < 0))
-				dy = -dy;	
-			
-			int sy = (__y1 < __y2 ? 1 : -1),
-				ssy = iw * sy,
-				err = (dx > dy ? dx : -dy) >> 2,
-				color = __ag.paintalphacolor,
-				dest = __ag.offset + (iw * __y1) + __x1;
-			
-			throw new todo.TODO();
+			AdvancedFunction.LINE_NOBLEND_NODOT.line(__ag, __x1, __y1,
+				__x2, __y2);
 		}
 	},
 	
@@ -352,36 +338,12 @@ public enum AdvancedFunction
 		 * @since 2019/03/24
 		 */
 		@Override
-		public void function(AdvancedGraphics __ag, int[] __vi, Object[] __va)
+		public void line(AdvancedGraphics __ag, int __x1, int __y1, int __x2,
+			int __y2)
 		{
 			// Not implemented, use basic function
-			if (true)
-			{
-				AdvancedFunction.LINE_NOBLEND_DOT.function(__ag, __vi, __va);
-				return;
-			}
-			
-			int __x1 = __vi[0],
-				__y1 = __vi[1],
-				__x2 = __vi[2],
-				__y2 = __vi[3];
-			
-			int[] data = __ag.buffer;
-			int iw = __ag.pitch,
-				dx = __x2 - __x1;
-			
-			int dy = __y2 - __y1;
-			boolean neg;
-			if ((neg = dy < 0))
-				dy = -dy;	
-			
-			int sy = (__y1 < __y2 ? 1 : -1),
-				ssy = iw * sy,
-				err = (dx > dy ? dx : -dy) >> 2,
-				color = __ag.paintalphacolor,
-				dest = __ag.offset + (iw * __y1) + __x1;
-			
-			throw new todo.TODO();
+			AdvancedFunction.LINE_NOBLEND_DOT.line(__ag, __x1, __y1,
+				__x2, __y2);
 		}
 	},
 	
@@ -393,47 +355,29 @@ public enum AdvancedFunction
 		 * @since 2019/03/24
 		 */
 		@Override
-		public void function(AdvancedGraphics __ag, int[] __vi, Object[] __va)
+		public void tile(AdvancedGraphics __ag, int[] __b, int __o, int __l,
+			int __x, int __y, int __w, int __h, int __subX, int __subY)
 		{
-			int __o = __vi[0],
-				__l = __vi[1],
-				__x = __vi[2],
-				__y = __vi[3],
-				__w = __vi[4],
-				__h = __vi[5],
-				__subX = __vi[6],
-				__subY = __vi[7];
-			int[] __b = (int[])__va[0];
-			
 			int[] data = __ag.buffer;
 			int iw = __ag.pitch;
+			int dest = __ag.offset + (__y * iw) + __x;
+			int src = __o + __subX + (__subY * __l);
 			
-			// The distance from the end of a row to the scanline, this way the
-			// source variable does not need an extra copy
-			int eosa = __l - __w;
+			// If the buffer has no alpha channel then its upper bits are
+			// never used, so rows can be copied as they are
+			if (!__ag.hasalphachannel &&
+				__w >= AdvancedFunction._SPAN_COPY_MIN)
+			{
+				for (int y = 0; y < __h; y++, dest += iw, src += __l)
+					System.arraycopy(__b, src, data, dest, __w);
+				return;
+			}
 			
-			// Draw tile data
-			int dest = __ag.offset + (__y * iw) + __x;
-			int src = __o + __subX + (__subY * iw);
-			int ey = __y + __h;
-			for (; __y < ey; __y++, dest += iw, src += eosa)
-				for (int spend = src + __w, dp = dest; src < spend;
-					dp++, src++)
-					try
-					{
-						data[dp] = __b[src] | 0xFF_000000;
-					}
-					catch (IndexOutOfBoundsException e)
-					{
-						Debugging.debugNote("Oops: " +
-							"__o=%d, __l=%d, __x=%d, __y=%d, " +
-							"__w=%d, __h=%d, __subX=%d, __subY=%d, " +
-							"__b[%d]=%s, data[%d]=%s, iw=%d, eosa=%d, " +
-							"dest=%d, src=%d, ey=%d, spend=%d !!",
-							__o, __l, __x, __y, __w, __h, __subX, __subY,
-							__b.length, __b, data.length, data, iw, eosa,
-							dest, src, ey, spend);
-					}
+			// Otherwise force every pixel to be opaque
+			for (int y = 0; y < __h; y++, dest += iw, src += __l)
+				for (int sp = src, dp = dest, spend = src + __w; sp < spend;
+					sp++, dp++)
+					data[dp] = __b[sp] | 0xFF_000000;
 		}
 	},
 	
@@ -445,40 +389,24 @@ public enum AdvancedFunction
 		 * @since 2019/03/24
 		 */
 		@Override
-		public void function(AdvancedGraphics __ag, int[] __vi, Object[] __va)
+		public void tile(AdvancedGraphics __ag, int[] __b, int __o, int __l,
+			int __x, int __y, int __w, int __h, int __subX, int __subY)
 		{
-			int __o = __vi[0],
-				__l = __vi[1],
-				__x = __vi[2],
-				__y = __vi[3],
-				__w = __vi[4],
-				__h = __vi[5],
-				__subX = __vi[6],
-				__subY = __vi[7];
-			int[] __b = (int[])__va[0];
-			
 			int[] data = __ag.buffer;
 			int iw = __ag.pitch;
-			
-			// The distance from the end of a row to the scanline, this way the
-			// source variable does not need an extra copy
-			int eosa = __l - __w;
-			
-			// Draw tile data
 			int dest = __ag.offset + (__y * iw) + __x;
-			int src = __o + __subX + (__subY * iw);
-			int ey = __y + __h;
-			for (; __y < ey; __y++, dest += iw, src += eosa)
-				for (int spend = src + __w, dp = dest; src < spend;
-					dp++, src++)
+			int src = __o + __subX + (__subY * __l);
+			
+			// Every source pixel is opaque so nothing of the destination is
+			// kept, it is just overwritten
+			for (int y = 0; y < __h; y++, dest += iw, src += __l)
+				for (int sp = src, dp = dest, spend = src + __w; sp < spend;
+					sp++, dp++)
 				{
-					int pac = __b[src] | 0xFF_000000,
-						srb = ((pac & 0xFF00FF) * 0xFF),
-						sgg = (((pac >>> 8) & 0xFF) * 0xFF),
-						dcc = data[dp],
-						xrb = (srb + ((dcc & 0xFF00FF) * 0x00)) >>> 8,
-						xgg = (((sgg +
-							(((dcc >>> 8) & 0xFF) * 0x00)) + 1) * 257) >>> 16;
+					int pac = __b[sp],
+						xrb = ((pac & 0xFF00FF) * 0xFF) >>> 8,
+						xgg = (((((pac >>> 8) & 0xFF) * 0xFF) + 1) * 257)
+							>>> 16;
 					
 					data[dp] = ((xrb & 0xFF00FF) | ((xgg & 0xFF) << 8));
 				}
@@ -493,45 +421,11 @@ public enum AdvancedFunction
 		 * @since 2019/03/24
 		 */
 		@Override
-		public void function(AdvancedGraphics __ag, int[] __vi, Object[] __va)
+		public void tile(AdvancedGraphics __ag, int[] __b, int __o, int __l,
+			int __x, int __y, int __w, int __h, int __subX, int __subY)
 		{
-			int __o = __vi[0],
-				__l = __vi[1],
-				__x = __vi[2],
-				__y = __vi[3],
-				__w = __vi[4],
-				__h = __vi[5],
-				__subX = __vi[6],
-				__subY = __vi[7];
-			int[] __b = (int[])__va[0];
-			
-			int[] data = __ag.buffer;
-			int iw = __ag.pitch;
-			
-			// The distance from the end of a row to the scanline, this way the
-			// source variable does not need an extra copy
-			int eosa = __l - __w;
-			
-			// Draw tile data
-			int dest = __ag.offset + (__y * iw) + __x;
-			int src = __o + __subX + (__subY * iw);
-			int ey = __y + __h;
-			for (; __y < ey; __y++, dest += iw, src += eosa)
-				for (int spend = src + __w, dp = dest; src < spend;
-					dp++, src++)
-				{
-					int pac = __b[src],
-						sa = pac >>> 24,
-						na = (sa ^ 0xFF),
-						srb = ((pac & 0xFF00FF) * sa),
-						sgg = (((pac >>> 8) & 0xFF) * sa),
-						dcc = data[dp] | 0xFF_000000,
-						xrb = (srb + ((dcc & 0xFF00FF) * na)) >>> 8,
-						xgg = (((sgg + (((dcc >>> 8) & 0xFF) * na)) + 1) * 257)
-							>>> 16;
-					
-					data[dp] = ((xrb & 0xFF00FF) | ((xgg & 0xFF) << 8));
-				}
+			AdvancedFunction.__argbTile(__ag, __b, __o, __l, __x, __y, __w,
+				__h, __subX, __subY, 0xFF_000000);
 		}
 	},
 	
@@ -543,60 +437,194 @@ public enum AdvancedFunction
 		 * @since 2019/03/24
 		 */
 		@Override
-		public void function(AdvancedGraphics __ag, int[] __vi, Object[] __va)
+		public void tile(AdvancedGraphics __ag, int[] __b, int __o, int __l,
+			int __x, int __y, int __w, int __h, int __subX, int __subY)
 		{
-			int __o = __vi[0],
-				__l = __vi[1],
-				__x = __vi[2],
-				__y = __vi[3],
-				__w = __vi[4],
-				__h = __vi[5],
-				__subX = __vi[6],
-				__subY = __vi[7];
-			int[] __b = (int[])__va[0];
-			
-			int[] data = __ag.buffer;
-			int iw = __ag.pitch;
-			
-			// The distance from the end of a row to the scanline, this way the
-			// source variable does not need an extra copy
-			int eosa = __l - __w;
-			
-			// Draw tile data
-			int dest = __ag.offset + (__y * iw) + __x;
-			int src = __o + __subX + (__subY * iw);
-			int ey = __y + __h;
-			for (; __y < ey; __y++, dest += iw, src += eosa)
-				for (int spend = src + __w, dp = dest; src < spend;
-					dp++, src++)
-				{
-					int pac = __b[src],
-						sa = pac >>> 24,
-						na = (sa ^ 0xFF),
-						srb = ((pac & 0xFF00FF) * sa),
-						sgg = (((pac >>> 8) & 0xFF) * sa),
-						dcc = data[dp],
-						xrb = (srb + ((dcc & 0xFF00FF) * na)) >>> 8,
-						xgg = (((sgg + (((dcc >>> 8) & 0xFF) * na)) + 1) * 257)
-							>>> 16;
-					
-					data[dp] = ((xrb & 0xFF00FF) | ((xgg & 0xFF) << 8));
-				}
+			AdvancedFunction.__argbTile(__ag, __b, __o, __l, __x, __y, __w,
+				__h, __subX, __subY, 0);
 		}
 	},
 	
 	/** End. */
 	;
 	
+	/** Spans at least this long are filled and copied with array copies. */
+	private static final int _SPAN_COPY_MIN =
+		16;
+	
+	/**
+	 * Draws a single character bitmap.
+	 *
+	 * @param __ag The advanced graphics state.
+	 * @param __color The color to draw with.
+	 * @param __dsx The destination X coordinate.
+	 * @param __dsy The destination Y coordinate.
+	 * @param __bmp The character bitmap.
+	 * @param __bytesperscan The number of bytes per scanline in the bitmap.
+	 * @param __scanoff The first scan to draw.
+	 * @param __scanlen The number of scans to draw.
+	 * @param __lineoff The first line to draw.
+	 * @param __linelen The number of lines to draw.
+	 * @throws IllegalStateException If this does not draw characters.
+	 * @since 2026/10/18
+	 */
+	public void charBitmap(AdvancedGraphics __ag, int __color, int __dsx,
+		int __dsy, byte[] __bmp, int __bytesperscan, int __scanoff,
+		int __scanlen, int __lineoff, int __linelen)
+		throws IllegalStateException
+	{
+		throw this.__wrongPrimitive();
+	}
+	
+	/**
+	 * Fills a rectangle, the rectangle is already clipped.
+	 *
+	 * @param __ag The advanced graphics state.
+	 * @param __x The starting X coordinate.
+	 * @param __y The starting Y coordinate.
+	 * @param __ex The ending X coordinate.
+	 * @param __ey The ending Y coordinate.
+	 * @param __w The width.
+	 * @param __h The height.
+	 * @throws IllegalStateException If this does not fill rectangles.
+	 * @since 2026/10/18
+	 */
+	public void fillRect(AdvancedGraphics __ag, int __x, int __y, int __ex,
+		int __ey, int __w, int __h)
+		throws IllegalStateException
+	{
+		throw this.__wrongPrimitive();
+	}
+	
+	/**
+	 * Draws a line which always goes to the right, it is already clipped.
+	 *
+	 * @param __ag The advanced graphics state.
+	 * @param __x1 The starting X coordinate.
+	 * @param __y1 The starting Y coordinate.
+	 * @param __x2 The ending X coordinate.
+	 * @param __y2 The ending Y coordinate.
+	 * @throws IllegalStateException If this does not draw lines.
+	 * @since 2026/10/18
+	 */
+	public void line(AdvancedGraphics __ag, int __x1, int __y1, int __x2,
+		int __y2)
+		throws IllegalStateException
+	{
+		throw this.__wrongPrimitive();
+	}
+	
 	/**
-	 * Executes the graphics function.
+	 * Draws a tile of RGB data, the tile is already clipped.
 	 *
 	 * @param __ag The advanced graphics state.
-	 * @param __vi Integer arguments.
-	 * @param __va Object arguments.
-	 * @since 2019/03/24
+	 * @param __b The source pixels.
+	 * @param __o The offset into the source pixels.
+	 * @param __l The scanline length of the source pixels.
+	 * @param __x The destination X coordinate.
+	 * @param __y The destination Y coordinate.
+	 * @param __w The width to draw.
+	 * @param __h The height to draw.
+	 * @param __subX The X offset into the source, from clipping.
+	 * @param __subY The Y offset into the source, from clipping.
+	 * @throws IllegalStateException If this does not draw tiles.
+	 * @since 2026/10/18
+	 */
+	public void tile(AdvancedGraphics __ag, int[] __b, int __o, int __l,
+		int __x, int __y, int __w, int __h, int __subX, int __subY)
+		throws IllegalStateException
+	{
+		throw this.__wrongPrimitive();
+	}
+	
+	/**
+	 * Returns the exception for when this function is used for the wrong
+	 * kind of primitive.
+	 *
+	 * @return The exception to throw.
+	 * @since 2026/10/18
 	 */
-	public abstract void function(AdvancedGraphics __ag, int[] __vi,
-		Object[] __va);
+	private IllegalStateException __wrongPrimitive()
+	{
+		// {@squirreljme.error EB3w This function cannot draw this kind of
+		// primitive. (The function)}
+		return new IllegalStateException("EB3w " + this.name());
+	}
+	
+	/**
+	 * Draws a tile of ARGB data which is alpha blended onto the
+	 * destination.
+	 *
+	 * @param __ag The advanced graphics state.
+	 * @param __b The source pixels.
+	 * @param __o The offset into the source pixels.
+	 * @param __l The scanline length of the source pixels.
+	 * @param __x The destination X coordinate.
+	 * @param __y The destination Y coordinate.
+	 * @param __w The width to draw.
+	 * @param __h The height to draw.
+	 * @param __subX The X offset into the source, from clipping.
+	 * @param __subY The Y offset into the source, from clipping.
+	 * @param __dmask The mask to set on destination pixels before they are
+	 * blended.
+	 * @since 2026/10/18
+	 */
+	private static void __argbTile(AdvancedGraphics __ag, int[] __b,
+		int __o, int __l, int __x, int __y, int __w, int __h, int __subX,
+		int __subY, int __dmask)
+	{
+		int[] data = __ag.buffer;
+		int iw = __ag.pitch;
+		int dest = __ag.offset + (__y * iw) + __x;
+		int src = __o + __subX + (__subY * __l);
+		
+		for (int y = 0; y < __h; y++, dest += iw, src += __l)
+			for (int sp = src, dp = dest, spend = src + __w; sp < spend;
+				sp++, dp++)
+			{
+				int pac = __b[sp],
+					sa = pac >>> 24;
+				
+				// Fully transparent pixels leave the destination as is
+				if (sa == 0)
+					continue;
+				
+				// Fully opaque pixels replace the destination
+				if (sa == 0xFF)
+				{
+					data[dp] = pac;
+					continue;
+				}
+				
+				int na = (sa ^ 0xFF),
+					srb = ((pac & 0xFF00FF) * sa),
+					sgg = (((pac >>> 8) & 0xFF) * sa),
+					dcc = data[dp] | __dmask,
+					xrb = (srb + ((dcc & 0xFF00FF) * na)) >>> 8,
+					xgg = (((sgg + (((dcc >>> 8) & 0xFF) * na)) + 1) * 257)
+						>>> 16;
+				
+				data[dp] = ((xrb & 0xFF00FF) | ((xgg & 0xFF) << 8));
+			}
+	}
+	
+	/**
+	 * Fills a span of pixels with the given color, the span is filled by
+	 * copying the already filled part of the span onto the rest of it.
+	 *
+	 * @param __buf The buffer to fill.
+	 * @param __off The offset of the span.
+	 * @param __len The length of the span, must be at least one.
+	 * @param __color The color to fill with.
+	 * @since 2026/10/18
+	 */
+	private static void __fillSpan(int[] __buf, int __off, int __len,
+		int __color)
+	{
+		__buf[__off] = __color;
+		for (int done = 1; done < __len; done <<= 1)
+			System.arraycopy(__buf, __off, __buf, __off + done,
+				Math.min(done, __len - done));
+	}
 }
 
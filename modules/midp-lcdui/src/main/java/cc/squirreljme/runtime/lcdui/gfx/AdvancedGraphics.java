@@ -150,6 +150,16 @@ public class AdvancedGraphics
 	/** ARGB tile. */
 	protected AdvancedFunction funcargbtile;
 	
+	/** The state used when drawing text, reused between draws. */
+	private __TextState__ _textState;
+	
+	/** Pixels read from images when drawing regions, grown as needed. */
+	private int[] _regionPixels;
+	
+	/** Dimensions from transforming regions. */
+	private final int[] _regionDim =
+		new int[4];
+	
 	/**
 	 * Initializes the graphics.
 	 *
@@ -521,9 +531,7 @@ public class AdvancedGraphics
 		// Forward depending on blending and/or dots
 		try
 		{
-			this.funcline.function(this,
-				new int[]{__x1, __y1, __x2, __y2},
-				null);
+			this.funcline.line(this, __x1, __y1, __x2, __y2);
 		}
 		
 		// Exception happened when drawing a line
@@ -589,13 +597,11 @@ public class AdvancedGraphics
 		try
 		{
 			if (__alpha)
-				this.funcargbtile.function(this,
-					new int[]{__off, __scanlen, __x, __y, tw, th, subX, subY},
-					new Object[]{__data});
+				this.funcargbtile.tile(this, __data, __off, __scanlen,
+					__x, __y, tw, th, subX, subY);
 			else
-				this.funcrgbtile.function(this,
-					new int[]{__off, __scanlen, __x, __y, tw, th, subX, subY},
-					new Object[]{__data});
+				this.funcrgbtile.tile(this, __data, __off, __scanlen,
+					__x, __y, tw, th, subX, subY);
 		}
 		catch (IndexOutOfBoundsException e)
 		{
@@ -802,9 +808,7 @@ public class AdvancedGraphics
 		__h = ey - __y;
 		
 		// Call function
-		this.funcfillrect.function(this,
-			new int[]{__x, __y, ex, ey, __w, __h},
-			null);
+		this.funcfillrect.fillRect(this, __x, __y, ex, ey, __w, __h);
 	}
 	
 	/**
@@ -1365,13 +1369,20 @@ public class AdvancedGraphics
 		// Is alpha used?
 		boolean alpha = __src.hasAlpha();
 		
-		// Extract image pixel data
+		// Extract image pixel data, the buffer is kept for later draws since
+		// images are drawn very often
 		int numpixels = __wsrc * __hsrc;
-		int[] data = new int[numpixels];
+		int[] data = this._regionPixels;
+		if (data == null || data.length < numpixels)
+			this._regionPixels = (data = new int[numpixels]);
 		__src.getRGB(data, 0, __wsrc, __xsrc, __ysrc, __wsrc, __hsrc);
 		
 		// Perform the transformation, possibly returning a new data buffer
-		int[] transdim = new int[]{__wsrc, __hsrc, __wdest, __hdest};
+		int[] transdim = this._regionDim;
+		transdim[0] = __wsrc;
+		transdim[1] = __hsrc;
+		transdim[2] = __wdest;
+		transdim[3] = __hdest;
 		data = this.__transform(__trans, data, __wsrc, __hsrc, transdim,
 			__dswap);
 		
@@ -1458,8 +1469,10 @@ public class AdvancedGraphics
 		__x += this.transx;
 		__y += this.transy;
 		
-		// Setup text state
-		__TextState__ ts = new __TextState__();
+		// Setup text state, this is reused since text is drawn often
+		__TextState__ ts = this._textState;
+		if (ts == null)
+			this._textState = (ts = new __TextState__());
 		
 		// Anchoring
 		ts.textw = __t.getWidth();
@@ -1503,7 +1516,7 @@ public class AdvancedGraphics
 		// Cache the default font in the event it is never changed ever
 		ts.lastfont = __t.getFont();
 		ts.sqf = SQFFont.cacheFont(ts.lastfont);
-		ts.bmp = new byte[ts.sqf.charbitmapsize];
+		ts.loadBitmap(ts.sqf.charbitmapsize);
 		ts.pixelheight = ts.sqf.pixelheight;
 		ts.bitsperscan = ts.sqf.bitsperscan;
 		
@@ -1534,7 +1547,7 @@ public class AdvancedGraphics
 				{
 					ts.lastfont = drawfont;
 					ts.sqf = SQFFont.cacheFont(ts.lastfont);
-					ts.bmp = new byte[ts.sqf.charbitmapsize];
+					ts.loadBitmap(ts.sqf.charbitmapsize);
 					ts.pixelheight = ts.sqf.pixelheight;
 					ts.bitsperscan = ts.sqf.bitsperscan;
 				}
@@ -1603,18 +1616,17 @@ public class AdvancedGraphics
 					this.setAlphaColor(ts.bgcol);
 					
 					// Perform draw operation
-					this.funcfillrect.function(this, ts.loadIntArgs(dsx, dsy,
+					this.funcfillrect.fillRect(this, dsx, dsy,
 						dsx + (scanlen - scanoff), dsy + (linelen - lineoff),
-						scanlen - scanoff, linelen - lineoff), ts.chobj);
+						scanlen - scanoff, linelen - lineoff);
 				}
 				
 				// Set color to the foreground color of this character
 				this.setAlphaColor(__t.getForegroundColor(i));
 				
 				// Setup the draw and do it
-				this.funccharbmp.function(this, ts.loadIntArgs(this.color, dsx, dsy,
-					bps, scanoff, scanlen, lineoff, linelen),
-					ts.loadObject(ts.bmp));
+				this.funccharbmp.charBitmap(this, this.color, dsx, dsy,
+					ts.bmp, bps, scanoff, scanlen, lineoff, linelen);
 			}
 		}
 		
@@ -9,19 +9,205 @@
 
 package cc.squirreljme.runtime.lcdui.image;
 
-import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
 import java.io.InputStream;
 import javax.microedition.lcdui.Image;
 
 /**
- * This class is used to process JPEG image files.
+ * This class is used to process JPEG image files, both baseline and
+ * progressive images are supported.
+ *
+ * Baseline images which have every component in a single scan are placed
+ * directly into the resultant image a row of MCUs at a time. Otherwise the
+ * coefficients of every block are kept until the end of the image.
+ *
+ * Images may be scaled down by 2, 4, or 8 as they are decoded, in which
+ * case the full size image is never created.
+ *
+ * JPEG specifications:
+ *  * https://www.w3.org/Graphics/JPEG/itu-t81.pdf
+ *  * https://www.w3.org/Graphics/JPEG/jfif3.pdf
  *
  * @since 2019/05/06
  */
 public final class JPEGReader
 {
+	/** The position in the block of each coefficient in zig-zag order. */
+	private static final byte[] _ZIGZAG =
+		new byte[]
+		{
+			0, 1, 8, 16, 9, 2, 3, 10, 17, 24, 32, 25, 18, 11, 4, 5, 12, 19,
+			26, 33, 40, 48, 41, 34, 27, 20, 13, 6, 7, 14, 21, 28, 35, 42, 49,
+			56, 57, 50, 43, 36, 29, 22, 15, 23, 30, 37, 44, 51, 58, 59, 52,
+			45, 38, 31, 39, 46, 53, 60, 61, 54, 47, 55, 62, 63
+		};
+	
+	/** Scaling factors for the AAN inverse DCT, in 14-bit fixed point. */
+	private static final short[] _AAN_SCALES =
+		new short[]
+		{
+			16384, 22725, 21407, 19266, 16384, 12873, 8867, 4520,
+			22725, 31521, 29692, 26722, 22725, 17855, 12299, 6270,
+			21407, 29692, 27969, 25172, 21407, 16819, 11585, 5906,
+			19266, 26722, 25172, 22654, 19266, 15137, 10426, 5315,
+			16384, 22725, 21407, 19266, 16384, 12873, 8867, 4520,
+			12873, 17855, 16819, 15137, 12873, 10114, 6967, 3552,
+			8867, 12299, 11585, 10426, 8867, 6967, 4799, 2446,
+			4520, 6270, 5906, 5315, 4520, 3552, 2446, 1247
+		};
+	
+	/** 1.082392200 in 8-bit fixed point. */
+	private static final int _FIX_1_082392200 =
+		277;
+	
+	/** 1.414213562 in 8-bit fixed point. */
+	private static final int _FIX_1_414213562 =
+		362;
+	
+	/** 1.847759065 in 8-bit fixed point. */
+	private static final int _FIX_1_847759065 =
+		473;
+	
+	/** 2.613125930 in 8-bit fixed point. */
+	private static final int _FIX_2_613125930 =
+		669;
+	
+	/** The red value for each Cr value. */
+	private static final int[] _CR_R;
+	
+	/** The blue value for each Cb value. */
+	private static final int[] _CB_B;
+	
+	/** The green value for each Cr value, in 16-bit fixed point. */
+	private static final int[] _CR_G;
+	
+	/** The green value for each Cb value, in 16-bit fixed point. */
+	private static final int[] _CB_G;
+	
 	/** The input data. */
-	protected final DataInputStream in;
+	protected final InputStream in;
+	
+	/** The amount the image is scaled down by. */
+	protected final int scale;
+	
+	/** The input buffer. */
+	private final byte[] _buf =
+		new byte[4096];
+	
+	/** Quantization tables, already scaled for the inverse DCT. */
+	private final int[][] _quant =
+		new int[4][];
+	
+	/** DC huffman tables. */
+	private final __JPEGHuffman__[] _dctables =
+		new __JPEGHuffman__[4];
+	
+	/** AC huffman tables. */
+	private final __JPEGHuffman__[] _actables =
+		new __JPEGHuffman__[4];
+	
+	/** The coefficients of a single block. */
+	private final short[] _block =
+		new short[64];
+	
+	/** The inverse DCT workspace. */
+	private final int[] _workspace =
+		new int[64];
+	
+	/** Full size samples of a block, used when scaling. */
+	private final byte[] _samples =
+		new byte[64];
+	
+	/** The position in the input buffer. */
+	private int _bufpos;
+	
+	/** The number of bytes in the input buffer. */
+	private int _buflen;
+	
+	/** The components of the image. */
+	private __JPEGComponent__[] _components;
+	
+	/** The image width. */
+	private int _width;
+	
+	/** The image height. */
+	private int _height;
+	
+	/** The largest horizontal sampling factor. */
+	private int _hmax;
+	
+	/** The largest vertical sampling factor. */
+	private int _vmax;
+	
+	/** The number of MCUs in each row. */
+	private int _mcusx;
+	
+	/** The number of MCU rows. */
+	private int _mcusy;
+	
+	/** Is this a progressive image? */
+	private boolean _progressive;
+	
+	/** The number of MCUs between each restart marker. */
+	private int _restartinterval;
+	
+	/** The color transform from the Adobe marker, negative if none. */
+	private int _adobetransform =
+		-1;
+	
+	/** The bits which have been read but not used yet. */
+	private int _bitbuf;
+	
+	/** The number of bits in the bit buffer. */
+	private int _bitcount;
+	
+	/** The marker which ended the entropy coded data, negative if none. */
+	private int _marker =
+		-1;
+	
+	/** The number of blocks left in the current band which are empty. */
+	private int _eobrun;
+	
+	/** The resultant image. */
+	private int[] _argb;
+	
+	/** The width of the resultant image. */
+	private int _outwidth;
+	
+	/** The height of the resultant image. */
+	private int _outheight;
+	
+	/** Was the image placed into the resultant image while decoding? */
+	private boolean _streamed;
+	
+	/** Are the coefficients of every block being kept? */
+	private boolean _buffered;
+	
+	static
+	{
+		int[] crr = new int[256],
+			cbb = new int[256],
+			crg = new int[256],
+			cbg = new int[256];
+		
+		// JFIF YCbCr conversion, the green values are summed before they
+		// are shifted
+		for (int i = 0; i < 256; i++)
+		{
+			int x = i - 128;
+			
+			crr[i] = ((91881 * x) + 32768) >> 16;
+			cbb[i] = ((116130 * x) + 32768) >> 16;
+			crg[i] = -46802 * x;
+			cbg[i] = (-22554 * x) + 32768;
+		}
+		
+		_CR_R = crr;
+		_CB_B = cbb;
+		_CR_G = crg;
+		_CB_G = cbg;
+	}
 	
 	/**
 	 * Initializes the reader.
@@ -32,25 +218,1379 @@ public final class JPEGReader
 	 */
 	public JPEGReader(InputStream __in)
 		throws NullPointerException
+	{
+		this(__in, 1);
+	}
+	
+	/**
+	 * Initializes the reader which scales the image down as it is decoded.
+	 *
+	 * @param __in The stream to read from.
+	 * @param __scale The amount to scale the image down by, this must be
+	 * 1, 2, 4, or 8.
+	 * @throws IllegalArgumentException If the scale is not valid.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public JPEGReader(InputStream __in, int __scale)
+		throws IllegalArgumentException, NullPointerException
 	{
 		if (__in == null)
 			throw new NullPointerException("NARG");
 		
-		this.in = new DataInputStream(__in);
+		// {@squirreljme.error EB44 The JPEG scale must be 1, 2, 4, or 8.
+		// (The scale)}
+		if (__scale != 1 && __scale != 2 && __scale != 4 && __scale != 8)
+			throw new IllegalArgumentException("EB44 " + __scale);
+		
+		this.in = __in;
+		this.scale = __scale;
 	}
 	
 	/**
 	 * Parses the JPEG.
 	 *
 	 * @return The resulting image.
+	 * @throws IOException On read errors.
 	 * @since 2019/05/06
 	 */
 	public Image parse()
+		throws IOException
+	{
+		// {@squirreljme.error EB3x Image is not a JPEG.}
+		if (this.__read() != 0xFF || this.__read() != 0xD8)
+			throw new IOException("EB3x");
+		
+		// Handle every marker until the end of the image
+		for (boolean eoi = false; !eoi;)
+		{
+			int marker = this.__nextMarker();
+			switch (marker)
+			{
+					// Baseline, extended, and progressive huffman
+				case 0xC0:
+				case 0xC1:
+				case 0xC2:
+					this.__parseFrame(marker == 0xC2);
+					break;
+					
+					// Huffman tables
+				case 0xC4:
+					this.__parseHuffman();
+					break;
+					
+					// Quantization tables
+				case 0xDB:
+					this.__parseQuantization();
+					break;
+					
+					// Restart interval
+				case 0xDD:
+					this.__readShort();
+					this._restartinterval = this.__readShort();
+					break;
+					
+					// Start of scan
+				case 0xDA:
+					this.__parseScan();
+					break;
+					
+					// Adobe
+				case 0xEE:
+					this.__parseAdobe();
+					break;
+					
+					// End of image
+				case 0xD9:
+					eoi = true;
+					break;
+					
+					// These have no data
+				case 0x01:
+				case 0xD0:
+				case 0xD1:
+				case 0xD2:
+				case 0xD3:
+				case 0xD4:
+				case 0xD5:
+				case 0xD6:
+				case 0xD7:
+				case 0xD8:
+					break;
+					
+					// Skip anything else
+				default:
+					// {@squirreljme.error EB3y Unsupported JPEG coding
+					// process, only huffman coded images are supported.
+					// (The marker)}
+					if (marker >= 0xC3 && marker <= 0xCF)
+						throw new IOException(
+							String.format("EB3y %02x", marker));
+					
+					this.__skip(this.__readShort() - 2);
+					break;
+			}
+		}
+		
+		// {@squirreljme.error EB43 The JPEG has no image data.}
+		int[] argb = this._argb;
+		if (argb == null || (!this._streamed && !this._buffered))
+			throw new IOException("EB43");
+		
+		// Output everything now that all the coefficients are known
+		if (this._buffered)
+			this.__outputBuffered();
+		
+		return Image.createRGBImage(argb, this._outwidth, this._outheight,
+			false);
+	}
+	
+	/**
+	 * Decodes the coefficients of a single baseline block.
+	 *
+	 * @param __c The component.
+	 * @param __coefs The coefficients, these must be zero.
+	 * @param __o The offset of the block.
+	 * @throws IOException On read errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private void __decodeBlock(__JPEGComponent__ __c, short[] __coefs,
+		int __o)
+		throws IOException, NullPointerException
+	{
+		if (__c == null || __coefs == null)
+			throw new NullPointerException("NARG");
+		
+		// The DC value is relative to the previous block
+		int t = this.__huffman(__c.dc),
+			dc = __c.dcpred + (t == 0 ? 0 : this.__receive(t));
+		__c.dcpred = dc;
+		__coefs[__o] = (short)dc;
+		
+		// Each AC code is the number of zeros before it and the size of
+		// its value
+		__JPEGHuffman__ ac = __c.ac;
+		byte[] zigzag = JPEGReader._ZIGZAG;
+		for (int k = 1; k < 64;)
+		{
+			int rs = this.__huffman(ac),
+				s = rs & 0xF,
+				r = rs >>> 4;
+			
+			// End of block, or sixteen zeros
+			if (s == 0)
+			{
+				if (r != 15)
+					break;
+				
+				k += 16;
+				continue;
+			}
+			
+			k += r;
+			if (k > 63)
+				break;
+			
+			__coefs[__o + zigzag[k]] = (short)this.__receive(s);
+			k++;
+		}
+	}
+	
+	/**
+	 * Decodes the coefficients of a block which are kept until the end of
+	 * the image.
+	 *
+	 * @param __c The component.
+	 * @param __o The offset of the block.
+	 * @param __ss The start of the spectral selection.
+	 * @param __se The end of the spectral selection.
+	 * @param __ah The previous successive approximation bit.
+	 * @param __al The current successive approximation bit.
+	 * @throws IOException On read errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private void __decodeCoefficients(__JPEGComponent__ __c, int __o,
+		int __ss, int __se, int __ah, int __al)
+		throws IOException, NullPointerException
+	{
+		if (__c == null)
+			throw new NullPointerException("NARG");
+		
+		short[] coefs = __c.coefs;
+		
+		// Baseline images with multiple scans
+		if (!this._progressive)
+		{
+			this.__decodeBlock(__c, coefs, __o);
+			return;
+		}
+		
+		// DC scans
+		if (__ss == 0)
+		{
+			// First scan
+			if (__ah == 0)
+			{
+				int t = this.__huffman(__c.dc),
+					dc = __c.dcpred + (t == 0 ? 0 : this.__receive(t));
+				__c.dcpred = dc;
+				coefs[__o] = (short)(dc * (1 << __al));
+			}
+			
+			// Later scans add a single bit
+			else if (this.__bits(1) != 0)
+				coefs[__o] |= (short)(1 << __al);
+			
+			return;
+		}
+		
+		// AC scans
+		__JPEGHuffman__ ac = __c.ac;
+		byte[] zigzag = JPEGReader._ZIGZAG;
+		int k = __ss;
+		
+		// First scan
+		if (__ah == 0)
+		{
+			// This block is in a run of empty blocks
+			if (this._eobrun > 0)
+			{
+				this._eobrun--;
+				return;
+			}
+			
+			while (k <= __se)
+			{
+				int rs = this.__huffman(ac),
+					s = rs & 0xF,
+					r = rs >>> 4;
+				
+				if (s == 0)
+				{
+					// Sixteen zeros
+					if (r == 15)
+					{
+						k += 16;
+						continue;
+					}
+					
+					// The end of this and possibly the next blocks
+					this._eobrun = (1 << r) - 1 +
+						(r == 0 ? 0 : this.__bits(r));
+					break;
+				}
+				
+				k += r;
+				if (k > __se)
+					break;
+				
+				coefs[__o + zigzag[k]] =
+					(short)(this.__receive(s) * (1 << __al));
+				k++;
+			}
+			
+			return;
+		}
+		
+		// Later scans add a single bit to coefficients which are not zero,
+		// and possibly add new coefficients which are now one
+		int p1 = 1 << __al,
+			m1 = -1 << __al;
+		if (this._eobrun == 0)
+			for (; k <= __se; k++)
+			{
+				int rs = this.__huffman(ac),
+					s = rs & 0xF,
+					r = rs >>> 4;
+				
+				// A new coefficient
+				if (s != 0)
+					s = (this.__bits(1) != 0 ? p1 : m1);
+				
+				// The end of this and possibly the next blocks
+				else if (r != 15)
+				{
+					this._eobrun = (1 << r) + (r == 0 ? 0 : this.__bits(r));
+					break;
+				}
+				
+				// Skip over zero coefficients, refining the ones which are
+				// not zero
+				for (; k <= __se; k++)
+				{
+					int z = __o + zigzag[k];
+					int coef = coefs[z];
+					
+					if (coef != 0)
+					{
+						if (this.__bits(1) != 0 && (coef & p1) == 0)
+							coefs[z] = (short)(coef + (coef >= 0 ? p1 : m1));
+					}
+					
+					// Reached the target zero coefficient
+					else if (--r < 0)
+						break;
+				}
+				
+				if (s != 0 && k <= __se)
+					coefs[__o + zigzag[k]] = (short)s;
+			}
+		
+		// Refine the rest of the coefficients in a block within a run of
+		// empty blocks
+		if (this._eobrun > 0)
+		{
+			for (; k <= __se; k++)
+			{
+				int z = __o + zigzag[k];
+				int coef = coefs[z];
+				
+				if (coef != 0 && this.__bits(1) != 0 && (coef & p1) == 0)
+					coefs[z] = (short)(coef + (coef >= 0 ? p1 : m1));
+			}
+			
+			this._eobrun--;
+		}
+	}
+	
+	/**
+	 * Decodes the given huffman code.
+	 *
+	 * @param __h The table to decode with.
+	 * @return The decoded symbol.
+	 * @throws IOException If the code is not valid.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private int __huffman(__JPEGHuffman__ __h)
+		throws IOException, NullPointerException
+	{
+		if (__h == null)
+			throw new NullPointerException("NARG");
+		
+		if (this._bitcount < 16)
+			this.__fill();
+		
+		int bitbuf = this._bitbuf,
+			bitcount = this._bitcount;
+		
+		// Most codes are short enough for a single lookup
+		int entry = __h.fast[(bitbuf >>> (bitcount -
+			__JPEGHuffman__.FAST_BITS)) &
+			((1 << __JPEGHuffman__.FAST_BITS) - 1)];
+		if (entry != 0)
+		{
+			this._bitcount = bitcount - (entry >>> 8);
+			return entry & 0xFF;
+		}
+		
+		// Otherwise find the length of the code
+		int[] maxcode = __h.maxcode;
+		for (int len = __JPEGHuffman__.FAST_BITS + 1; len <= 16; len++)
+		{
+			int code = (bitbuf >>> (bitcount - len)) & ((1 << len) - 1);
+			if (code <= maxcode[len])
+			{
+				this._bitcount = bitcount - len;
+				return __h.symbols[code + __h.valoffset[len]] & 0xFF;
+			}
+		}
+		
+		// {@squirreljme.error EB42 Invalid huffman code in JPEG.}
+		throw new IOException("EB42");
+	}
+	
+	/**
+	 * Performs the inverse DCT on a block and places the samples in the
+	 * plane of the component.
+	 *
+	 * @param __c The component.
+	 * @param __coefs The coefficients.
+	 * @param __co The offset of the block.
+	 * @param __po The offset in the plane.
+	 * @throws IOException If the quantization table is not defined.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private void __idct(__JPEGComponent__ __c, short[] __coefs, int __co,
+		int __po)
+		throws IOException, NullPointerException
+	{
+		if (__c == null || __coefs == null)
+			throw new NullPointerException("NARG");
+		
+		// {@squirreljme.error EB41 JPEG refers to a table or component which
+		// was not defined. (The table or component)}
+		int[] quant = this._quant[__c.tq];
+		if (quant == null)
+			throw new IOException("EB41 " + __c.tq);
+		
+		byte[] plane = __c.plane;
+		int planew = __c.planew,
+			scale = this.scale;
+		
+		// Only the average of the block is needed
+		if (scale == 8)
+		{
+			plane[__po] = (byte)JPEGReader.__clamp(
+				(((__coefs[__co] * quant[0]) + 16) >> 5) + 128);
+			return;
+		}
+		
+		// Full size
+		if (scale == 1)
+		{
+			this.__idct8(__coefs, __co, quant, plane, __po, planew);
+			return;
+		}
+		
+		// Otherwise average the full size samples
+		byte[] samples = this._samples;
+		this.__idct8(__coefs, __co, quant, samples, 0, 8);
+		
+		int bs = 8 / scale,
+			shift = (scale == 2 ? 2 : 4),
+			round = 1 << (shift - 1);
+		for (int y = 0; y < bs; y++)
+			for (int x = 0; x < bs; x++)
+			{
+				int sum = 0;
+				for (int sy = 0, s = ((y * scale) << 3) + (x * scale);
+					sy < scale; sy++, s += 8)
+					for (int sx = 0; sx < scale; sx++)
+						sum += samples[s + sx] & 0xFF;
+				
+				plane[__po + (y * planew) + x] = (byte)((sum + round) >>
+					shift);
+			}
+	}
+	
+	/**
+	 * Performs the AAN inverse DCT on a block.
+	 *
+	 * @param __coefs The coefficients.
+	 * @param __co The offset of the block.
+	 * @param __quant The quantization table, scaled for this inverse DCT.
+	 * @param __out The output samples.
+	 * @param __oo The offset of the output.
+	 * @param __os The scanline length of the output.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private void __idct8(short[] __coefs, int __co, int[] __quant,
+		byte[] __out, int __oo, int __os)
+		throws NullPointerException
+	{
+		if (__coefs == null || __quant == null || __out == null)
+			throw new NullPointerException("NARG");
+		
+		int[] ws = this._workspace;
+		
+		// Columns, the results have two extra bits of precision
+		for (int col = 0; col < 8; col++)
+		{
+			int c = __co + col;
+			
+			// Columns with only a DC value are very common
+			if (__coefs[c + 8] == 0 && __coefs[c + 16] == 0 &&
+				__coefs[c + 24] == 0 && __coefs[c + 32] == 0 &&
+				__coefs[c + 40] == 0 && __coefs[c + 48] == 0 &&
+				__coefs[c + 56] == 0)
+			{
+				int dc = __coefs[c] * __quant[col];
+				for (int i = col; i < 64; i += 8)
+					ws[i] = dc;
+				continue;
+			}
+			
+			// Even part
+			int tmp0 = __coefs[c] * __quant[col],
+				tmp1 = __coefs[c + 16] * __quant[col + 16],
+				tmp2 = __coefs[c + 32] * __quant[col + 32],
+				tmp3 = __coefs[c + 48] * __quant[col + 48];
+			
+			int tmp10 = tmp0 + tmp2,
+				tmp11 = tmp0 - tmp2,
+				tmp13 = tmp1 + tmp3,
+				tmp12 = (((tmp1 - tmp3) * JPEGReader._FIX_1_414213562) >>
+					8) - tmp13;
+			
+			tmp0 = tmp10 + tmp13;
+			tmp3 = tmp10 - tmp13;
+			tmp1 = tmp11 + tmp12;
+			tmp2 = tmp11 - tmp12;
+			
+			// Odd part
+			int tmp4 = __coefs[c + 8] * __quant[col + 8],
+				tmp5 = __coefs[c + 24] * __quant[col + 24],
+				tmp6 = __coefs[c + 40] * __quant[col + 40],
+				tmp7 = __coefs[c + 56] * __quant[col + 56];
+			
+			int z13 = tmp6 + tmp5,
+				z10 = tmp6 - tmp5,
+				z11 = tmp4 + tmp7,
+				z12 = tmp4 - tmp7;
+			
+			tmp7 = z11 + z13;
+			tmp11 = ((z11 - z13) * JPEGReader._FIX_1_414213562) >> 8;
+			
+			int z5 = ((z10 + z12) * JPEGReader._FIX_1_847759065) >> 8;
+			tmp10 = ((z12 * JPEGReader._FIX_1_082392200) >> 8) - z5;
+			tmp12 = ((z10 * -JPEGReader._FIX_2_613125930) >> 8) + z5;
+			
+			tmp6 = tmp12 - tmp7;
+			tmp5 = tmp11 - tmp6;
+			tmp4 = tmp10 + tmp5;
+			
+			ws[col] = tmp0 + tmp7;
+			ws[col + 56] = tmp0 - tmp7;
+			ws[col + 8] = tmp1 + tmp6;
+			ws[col + 48] = tmp1 - tmp6;
+			ws[col + 16] = tmp2 + tmp5;
+			ws[col + 40] = tmp2 - tmp5;
+			ws[col + 32] = tmp3 + tmp4;
+			ws[col + 24] = tmp3 - tmp4;
+		}
+		
+		// Rows, the extra precision and the scale of 8 are removed
+		for (int row = 0, w = 0, o = __oo; row < 8; row++, w += 8,
+			o += __os)
+		{
+			// Even part
+			int tmp10 = ws[w] + ws[w + 4],
+				tmp11 = ws[w] - ws[w + 4],
+				tmp13 = ws[w + 2] + ws[w + 6],
+				tmp12 = (((ws[w + 2] - ws[w + 6]) *
+					JPEGReader._FIX_1_414213562) >> 8) - tmp13;
+			
+			int tmp0 = tmp10 + tmp13,
+				tmp3 = tmp10 - tmp13,
+				tmp1 = tmp11 + tmp12,
+				tmp2 = tmp11 - tmp12;
+			
+			// Odd part
+			int z13 = ws[w + 5] + ws[w + 3],
+				z10 = ws[w + 5] - ws[w + 3],
+				z11 = ws[w + 1] + ws[w + 7],
+				z12 = ws[w + 1] - ws[w + 7];
+			
+			int tmp7 = z11 + z13;
+			tmp11 = ((z11 - z13) * JPEGReader._FIX_1_414213562) >> 8;
+			
+			int z5 = ((z10 + z12) * JPEGReader._FIX_1_847759065) >> 8;
+			tmp10 = ((z12 * JPEGReader._FIX_1_082392200) >> 8) - z5;
+			tmp12 = ((z10 * -JPEGReader._FIX_2_613125930) >> 8) + z5;
+			
+			int tmp6 = tmp12 - tmp7,
+				tmp5 = tmp11 - tmp6,
+				tmp4 = tmp10 + tmp5;
+			
+			__out[o] = (byte)JPEGReader.__clamp(
+				((tmp0 + tmp7 + 16) >> 5) + 128);
+			__out[o + 7] = (byte)JPEGReader.__clamp(
+				((tmp0 - tmp7 + 16) >> 5) + 128);
+			__out[o + 1] = (byte)JPEGReader.__clamp(
+				((tmp1 + tmp6 + 16) >> 5) + 128);
+			__out[o + 6] = (byte)JPEGReader.__clamp(
+				((tmp1 - tmp6 + 16) >> 5) + 128);
+			__out[o + 2] = (byte)JPEGReader.__clamp(
+				((tmp2 + tmp5 + 16) >> 5) + 128);
+			__out[o + 5] = (byte)JPEGReader.__clamp(
+				((tmp2 - tmp5 + 16) >> 5) + 128);
+			__out[o + 4] = (byte)JPEGReader.__clamp(
+				((tmp3 + tmp4 + 16) >> 5) + 128);
+			__out[o + 3] = (byte)JPEGReader.__clamp(
+				((tmp3 - tmp4 + 16) >> 5) + 128);
+		}
+	}
+	
+	/**
+	 * Fills the bit buffer with entropy coded data.
+	 *
+	 * @throws IOException On read errors.
+	 * @since 2026/10/18
+	 */
+	private void __fill()
+		throws IOException
+	{
+		int bitbuf = this._bitbuf,
+			bitcount = this._bitcount;
+		
+		while (bitcount <= 24)
+		{
+			// Once a marker is hit there is no more data, so this is just
+			// zero
+			int b = 0;
+			if (this._marker < 0)
+			{
+				b = this.__read();
+				
+				// A marker or a stuffed zero byte follows
+				if (b == 0xFF)
+				{
+					int next;
+					do
+					{
+						next = this.__read();
+					} while (next == 0xFF);
+					
+					if (next != 0)
+					{
+						this._marker = (next < 0 ? 0xD9 : next);
+						b = 0;
+					}
+				}
+				
+				// End of the data, treat as the end of the image
+				else if (b < 0)
+				{
+					this._marker = 0xD9;
+					b = 0;
+				}
+			}
+			
+			bitbuf = (bitbuf << 8) | b;
+			bitcount += 8;
+		}
+		
+		this._bitbuf = bitbuf;
+		this._bitcount = bitcount;
+	}
+	
+	/**
+	 * Returns the next marker.
+	 *
+	 * @return The next marker, the end of the data is treated as the end of
+	 * the image.
+	 * @throws IOException On read errors.
+	 * @since 2026/10/18
+	 */
+	private int __nextMarker()
+		throws IOException
+	{
+		// A marker was hit while reading entropy coded data
+		int marker = this._marker;
+		if (marker >= 0)
+		{
+			this._marker = -1;
+			return marker;
+		}
+		
+		// Skip anything which is not a marker
+		for (;;)
+		{
+			int b = this.__read();
+			if (b < 0)
+				return 0xD9;
+			if (b != 0xFF)
+				continue;
+			
+			// There may be any number of fill bytes
+			do
+			{
+				b = this.__read();
+			} while (b == 0xFF);
+			
+			if (b < 0)
+				return 0xD9;
+			if (b != 0)
+				return b;
+		}
+	}
+	
+	/**
+	 * Places the given row of MCUs into the resultant image.
+	 *
+	 * @param __my The MCU row.
+	 * @since 2026/10/18
+	 */
+	private void __output(int __my)
+	{
+		__JPEGComponent__[] components = this._components;
+		int[] argb = this._argb;
+		int outwidth = this._outwidth,
+			vmax = this._vmax,
+			rows = vmax * (8 / this.scale),
+			y0 = __my * rows,
+			y1 = Math.min(y0 + rows, this._outheight);
+		
+		// Grayscale
+		int n = components.length;
+		if (n == 1)
+		{
+			byte[] plane = components[0].plane;
+			int planew = components[0].planew;
+			
+			for (int y = y0, o = y0 * outwidth, p = 0; y < y1;
+				y++, p += planew)
+				for (int x = 0; x < outwidth; x++, o++)
+					argb[o] = 0xFF_000000 | ((plane[p + x] & 0xFF) * 0x010101);
+			
+			return;
+		}
+		
+		__JPEGComponent__ c0 = components[0],
+			c1 = components[1],
+			c2 = components[2],
+			c3 = (n == 4 ? components[3] : null);
+		byte[] p0 = c0.plane,
+			p1 = c1.plane,
+			p2 = c2.plane,
+			p3 = (c3 != null ? c3.plane : null);
+		int[] x0 = c0.xmap,
+			x1 = c1.xmap,
+			x2 = c2.xmap,
+			x3 = (c3 != null ? c3.xmap : null);
+		
+		// Determine how the colors are converted, without an Adobe marker
+		// four components are CMYK and the component identifiers might say
+		// that this is RGB
+		int transform = this._adobetransform;
+		boolean ycc = (transform < 0 ? (n == 3 && (c0.id != 'R' ||
+			c1.id != 'G' || c2.id != 'B')) : transform != 0);
+		
+		int[] crr = JPEGReader._CR_R,
+			cbb = JPEGReader._CB_B,
+			crg = JPEGReader._CR_G,
+			cbg = JPEGReader._CB_G;
+		for (int y = y0, o = y0 * outwidth; y < y1; y++)
+		{
+			int ly = y - y0,
+				r0 = ((ly * c0.v) / vmax) * c0.planew,
+				r1 = ((ly * c1.v) / vmax) * c1.planew,
+				r2 = ((ly * c2.v) / vmax) * c2.planew,
+				r3 = (c3 != null ? ((ly * c3.v) / vmax) * c3.planew : 0);
+			
+			for (int x = 0; x < outwidth; x++, o++)
+			{
+				int a = p0[r0 + x0[x]] & 0xFF,
+					b = p1[r1 + x1[x]] & 0xFF,
+					c = p2[r2 + x2[x]] & 0xFF;
+				
+				// Convert to RGB
+				int r, g;
+				if (ycc)
+				{
+					r = JPEGReader.__clamp(a + crr[c]);
+					g = JPEGReader.__clamp(a + ((cbg[b] + crg[c]) >> 16));
+					b = JPEGReader.__clamp(a + cbb[b]);
+				}
+				else
+				{
+					r = a;
+					g = b;
+					b = c;
+				}
+				
+				// Adobe CMYK is stored inverted, so the black is removed
+				// by just multiplying
+				if (p3 != null)
+				{
+					int k = p3[r3 + x3[x]] & 0xFF;
+					
+					r = ((r * k) + 127) / 255;
+					g = ((g * k) + 127) / 255;
+					b = ((b * k) + 127) / 255;
+				}
+				
+				argb[o] = 0xFF_000000 | (r << 16) | (g << 8) | b;
+			}
+		}
+	}
+	
+	/**
+	 * Performs the inverse DCT on all of the kept coefficients and places
+	 * them into the resultant image.
+	 *
+	 * @throws IOException If a quantization table is not defined.
+	 * @since 2026/10/18
+	 */
+	private void __outputBuffered()
+		throws IOException
 	{
-		DataInputStream in = this.in;
+		__JPEGComponent__[] components = this._components;
+		int bs = 8 / this.scale;
 		
-		todo.TODO.note("Implement JPEG decoding");
-		return Image.createRGBImage(new int[16], 4, 4, false);
+		for (int my = 0, mcusy = this._mcusy; my < mcusy; my++)
+		{
+			for (__JPEGComponent__ c : components)
+			{
+				int blocksw = c.blocksw,
+					planew = c.planew;
+				
+				for (int by = 0; by < c.v; by++)
+					for (int bx = 0; bx < blocksw; bx++)
+						this.__idct(c, c.coefs,
+							((((my * c.v) + by) * blocksw) + bx) << 6,
+							(by * bs * planew) + (bx * bs));
+			}
+			
+			this.__output(my);
+		}
+	}
+	
+	/**
+	 * Parses the Adobe marker.
+	 *
+	 * @throws IOException On read errors.
+	 * @since 2026/10/18
+	 */
+	private void __parseAdobe()
+		throws IOException
+	{
+		int len = this.__readShort() - 2;
+		
+		// Not long enough to be the Adobe marker
+		if (len < 12)
+		{
+			this.__skip(len);
+			return;
+		}
+		
+		// Is this actually the Adobe marker?
+		boolean adobe = (this.__readByte() == 'A' &&
+			this.__readByte() == 'd' && this.__readByte() == 'o' &&
+			this.__readByte() == 'b' && this.__readByte() == 'e');
+		
+		// Ignore the version and flags
+		this.__skip(6);
+		
+		int transform = this.__readByte();
+		if (adobe)
+			this._adobetransform = transform;
+		
+		this.__skip(len - 12);
+	}
+	
+	/**
+	 * Parses the start of a frame.
+	 *
+	 * @param __progressive Is this a progressive image?
+	 * @throws IOException On read errors or the frame is not valid.
+	 * @since 2026/10/18
+	 */
+	private void __parseFrame(boolean __progressive)
+		throws IOException
+	{
+		this.__readShort();
+		int precision = this.__readByte(),
+			height = this.__readShort(),
+			width = this.__readShort(),
+			n = this.__readByte();
+		
+		// {@squirreljme.error EB3z Unsupported JPEG frame. (The precision;
+		// The width; The height; The number of components)}
+		if (precision != 8 || width <= 0 || height <= 0 ||
+			(n != 1 && n != 3 && n != 4) || this._components != null)
+			throw new IOException(String.format("EB3z %d %d %d %d",
+				precision, width, height, n));
+		
+		// Read in all the components
+		__JPEGComponent__[] components = new __JPEGComponent__[n];
+		int hmax = 1,
+			vmax = 1;
+		for (int i = 0; i < n; i++)
+		{
+			int id = this.__readByte(),
+				hv = this.__readByte(),
+				tq = this.__readByte(),
+				h = hv >>> 4,
+				v = hv & 0xF;
+			
+			// {@squirreljme.error EB45 Invalid JPEG component. (The
+			// horizontal sampling; The vertical sampling; The quantization
+			// table)}
+			if (h < 1 || h > 4 || v < 1 || v > 4 || tq > 3)
+				throw new IOException(String.format("EB45 %d %d %d",
+					h, v, tq));
+			
+			// A single component is never interleaved, so its sampling does
+			// not matter
+			if (n == 1)
+				h = v = 1;
+			
+			components[i] = new __JPEGComponent__(id, h, v, tq);
+			hmax = Math.max(hmax, h);
+			vmax = Math.max(vmax, v);
+		}
+		
+		// Determine the number of MCUs
+		int mcusx = (width + ((8 * hmax) - 1)) / (8 * hmax),
+			mcusy = (height + ((8 * vmax) - 1)) / (8 * vmax);
+		
+		// The size of the resultant image
+		int scale = this.scale,
+			bs = 8 / scale,
+			outwidth = (width + (scale - 1)) / scale,
+			outheight = (height + (scale - 1)) / scale;
+		
+		// Setup the planes which hold a single row of MCUs
+		for (__JPEGComponent__ c : components)
+		{
+			int planew = mcusx * c.h * bs;
+			
+			c.blocksw = mcusx * c.h;
+			c.planew = planew;
+			c.plane = new byte[planew * c.v * bs];
+			
+			int[] xmap = new int[outwidth];
+			for (int x = 0; x < outwidth; x++)
+				xmap[x] = (x * c.h) / hmax;
+			c.xmap = xmap;
+		}
+		
+		this._progressive = __progressive;
+		this._width = width;
+		this._height = height;
+		this._components = components;
+		this._hmax = hmax;
+		this._vmax = vmax;
+		this._mcusx = mcusx;
+		this._mcusy = mcusy;
+		this._outwidth = outwidth;
+		this._outheight = outheight;
+		this._argb = new int[outwidth * outheight];
+	}
+	
+	/**
+	 * Parses huffman tables.
+	 *
+	 * @throws IOException On read errors or the tables are not valid.
+	 * @since 2026/10/18
+	 */
+	private void __parseHuffman()
+		throws IOException
+	{
+		for (int left = this.__readShort() - 2; left > 0;)
+		{
+			// {@squirreljme.error EB46 Invalid JPEG huffman table. (The
+			// class and identifier)}
+			int tc = this.__readByte();
+			if ((tc >>> 4) > 1 || (tc & 0xF) > 3)
+				throw new IOException(String.format("EB46 %02x", tc));
+			
+			// The number of codes of each length
+			int[] counts = new int[16];
+			int total = 0;
+			for (int i = 0; i < 16; i++)
+				total += (counts[i] = this.__readByte());
+			
+			if (total > 256)
+				throw new IOException(String.format("EB46 %02x", tc));
+			
+			byte[] symbols = new byte[total];
+			for (int i = 0; i < total; i++)
+				symbols[i] = (byte)this.__readByte();
+			
+			__JPEGHuffman__ table = new __JPEGHuffman__(counts, symbols);
+			if ((tc >>> 4) == 0)
+				this._dctables[tc & 0xF] = table;
+			else
+				this._actables[tc & 0xF] = table;
+			
+			left -= 17 + total;
+		}
+	}
+	
+	/**
+	 * Parses quantization tables.
+	 *
+	 * @throws IOException On read errors or the tables are not valid.
+	 * @since 2026/10/18
+	 */
+	private void __parseQuantization()
+		throws IOException
+	{
+		byte[] zigzag = JPEGReader._ZIGZAG;
+		short[] aan = JPEGReader._AAN_SCALES;
+		
+		for (int left = this.__readShort() - 2; left > 0;)
+		{
+			// {@squirreljme.error EB47 Invalid JPEG quantization table.
+			// (The precision and identifier)}
+			int pq = this.__readByte(),
+				precision = pq >>> 4;
+			if (precision > 1 || (pq & 0xF) > 3)
+				throw new IOException(String.format("EB47 %02x", pq));
+			
+			// The values are multiplied by the scale for the inverse DCT so
+			// it does not need to be done later, the result has two extra
+			// bits of precision
+			int[] quant = new int[64];
+			for (int k = 0; k < 64; k++)
+			{
+				int q = (precision == 0 ? this.__readByte() :
+					this.__readShort()),
+					z = zigzag[k];
+				
+				quant[z] = ((q * aan[z]) + 2048) >> 12;
+			}
+			
+			this._quant[pq & 0xF] = quant;
+			left -= 1 + (64 << precision);
+		}
+	}
+	
+	/**
+	 * Parses the start of a scan and decodes the scan.
+	 *
+	 * @throws IOException On read errors or the scan is not valid.
+	 * @since 2026/10/18
+	 */
+	private void __parseScan()
+		throws IOException
+	{
+		this.__readShort();
+		int ns = this.__readByte();
+		
+		// The scan cannot have more components than the frame, EB41 is
+		// used for every undefined table or component
+		__JPEGComponent__[] components = this._components;
+		if (components == null || ns < 1 || ns > components.length)
+			throw new IOException("EB41 " + ns);
+		
+		// Find the components which are in this scan
+		__JPEGComponent__[] scan = new __JPEGComponent__[ns];
+		for (int i = 0; i < ns; i++)
+		{
+			int cs = this.__readByte(),
+				tdta = this.__readByte();
+			
+			for (__JPEGComponent__ c : components)
+				if (c.id == cs)
+					scan[i] = c;
+			
+			__JPEGComponent__ c = scan[i];
+			if (c == null)
+				throw new IOException("EB41 " + cs);
+			
+			c.dc = this._dctables[(tdta >>> 4) & 3];
+			c.ac = this._actables[tdta & 3];
+		}
+		
+		int ss = this.__readByte(),
+			se = this.__readByte(),
+			ahal = this.__readByte(),
+			ah = ahal >>> 4,
+			al = ahal & 0xF;
+		
+		// Baseline scans always have every coefficient
+		boolean progressive = this._progressive;
+		if (!progressive)
+		{
+			ss = 0;
+			se = 63;
+		}
+		
+		// {@squirreljme.error EB48 Invalid JPEG spectral selection. (The
+		// start; The end; The number of components)}
+		if (ss > se || se > 63 || (ss == 0 && progressive && se != 0) ||
+			(ss > 0 && ns != 1))
+			throw new IOException(String.format("EB48 %d %d %d",
+				ss, se, ns));
+		
+		// Make sure that every table that is needed exists
+		for (__JPEGComponent__ c : scan)
+			if ((ss == 0 && ah == 0 && c.dc == null) ||
+				((!progressive || ss > 0) && c.ac == null))
+				throw new IOException("EB41 " + c.id);
+		
+		// Reset the entropy decoder
+		this._bitbuf = 0;
+		this._bitcount = 0;
+		this._eobrun = 0;
+		for (__JPEGComponent__ c : scan)
+			c.dcpred = 0;
+		
+		// If every component is in this one scan, then the image can be
+		// placed into the resultant image as it is decoded
+		if (!progressive && ns == components.length && !this._buffered)
+		{
+			// There should never be another scan, but ignore it if there is
+			if (!this._streamed)
+			{
+				this._streamed = true;
+				this.__scanStreamed(scan);
+			}
+			
+			return;
+		}
+		
+		// Otherwise the coefficients have to be kept
+		if (this._streamed)
+			return;
+		if (!this._buffered)
+		{
+			for (__JPEGComponent__ c : components)
+				c.coefs = new short[(this._mcusy * c.v * c.blocksw) << 6];
+			
+			this._buffered = true;
+		}
+		
+		this.__scanBuffered(scan, ss, se, ah, al);
+	}
+	
+	/**
+	 * Reads a single byte.
+	 *
+	 * @return The read byte or {@code -1} on EOF.
+	 * @throws IOException On read errors.
+	 * @since 2026/10/18
+	 */
+	private int __read()
+		throws IOException
+	{
+		if (this._bufpos >= this._buflen)
+		{
+			int rc = this.in.read(this._buf, 0, this._buf.length);
+			if (rc <= 0)
+				return -1;
+			
+			this._bufpos = 0;
+			this._buflen = rc;
+		}
+		
+		return this._buf[this._bufpos++] & 0xFF;
+	}
+	
+	/**
+	 * Reads the given number of bits.
+	 *
+	 * @param __n The number of bits to read, at most 16.
+	 * @return The read bits.
+	 * @throws IOException On read errors.
+	 * @since 2026/10/18
+	 */
+	private int __bits(int __n)
+		throws IOException
+	{
+		if (this._bitcount < __n)
+			this.__fill();
+		
+		int bitcount = this._bitcount - __n;
+		this._bitcount = bitcount;
+		return (this._bitbuf >>> bitcount) & ((1 << __n) - 1);
+	}
+	
+	/**
+	 * Reads a single byte, the end of the data is not permitted.
+	 *
+	 * @return The read byte.
+	 * @throws IOException On read errors or EOF.
+	 * @since 2026/10/18
+	 */
+	private int __readByte()
+		throws IOException
+	{
+		int rv = this.__read();
+		if (rv < 0)
+			throw new EOFException("EOFF");
+		return rv;
+	}
+	
+	/**
+	 * Reads a big endian short.
+	 *
+	 * @return The read value.
+	 * @throws IOException On read errors or EOF.
+	 * @since 2026/10/18
+	 */
+	private int __readShort()
+		throws IOException
+	{
+		return (this.__readByte() << 8) | this.__readByte();
+	}
+	
+	/**
+	 * Reads a value of the given size, values which have the highest bit
+	 * clear are negative.
+	 *
+	 * @param __s The size of the value.
+	 * @return The read value.
+	 * @throws IOException On read errors.
+	 * @since 2026/10/18
+	 */
+	private int __receive(int __s)
+		throws IOException
+	{
+		int rv = this.__bits(__s);
+		if (rv < (1 << (__s - 1)))
+			rv += (-1 << __s) + 1;
+		return rv;
+	}
+	
+	/**
+	 * Handles a restart marker, which resets the entropy decoder.
+	 *
+	 * @param __scan The components in the scan.
+	 * @throws IOException On read errors.
+	 * @since 2026/10/18
+	 */
+	private void __restart(__JPEGComponent__[] __scan)
+		throws IOException
+	{
+		this._bitbuf = 0;
+		this._bitcount = 0;
+		this._eobrun = 0;
+		for (__JPEGComponent__ c : __scan)
+			c.dcpred = 0;
+		
+		// If this is not a restart marker then the data is corrupt or
+		// ended early, so keep it
+		int marker = this.__nextMarker();
+		if (marker < 0xD0 || marker > 0xD7)
+			this._marker = marker;
+	}
+	
+	/**
+	 * Decodes a scan where the coefficients are kept.
+	 *
+	 * @param __scan The components in the scan.
+	 * @param __ss The start of the spectral selection.
+	 * @param __se The end of the spectral selection.
+	 * @param __ah The previous successive approximation bit.
+	 * @param __al The current successive approximation bit.
+	 * @throws IOException On read errors.
+	 * @since 2026/10/18
+	 */
+	private void __scanBuffered(__JPEGComponent__[] __scan, int __ss,
+		int __se, int __ah, int __al)
+		throws IOException
+	{
+		int restart = this._restartinterval,
+			todo = restart;
+		
+		// A single component is not interleaved, each block is an MCU and
+		// only the blocks within the image are used
+		if (__scan.length == 1)
+		{
+			__JPEGComponent__ c = __scan[0];
+			int hmax = this._hmax,
+				vmax = this._vmax,
+				bw = ((((this._width * c.h) + (hmax - 1)) / hmax) + 7) >> 3,
+				bh = ((((this._height * c.v) + (vmax - 1)) / vmax) + 7) >> 3;
+			
+			for (int by = 0; by < bh; by++)
+				for (int bx = 0; bx < bw; bx++)
+				{
+					if (restart > 0)
+					{
+						if (todo == 0)
+						{
+							this.__restart(__scan);
+							todo = restart;
+						}
+						todo--;
+					}
+					
+					this.__decodeCoefficients(c,
+						((by * c.blocksw) + bx) << 6, __ss, __se, __ah, __al);
+				}
+			
+			return;
+		}
+		
+		// Otherwise each MCU has the blocks of every component
+		for (int my = 0, mcusy = this._mcusy; my < mcusy; my++)
+			for (int mx = 0, mcusx = this._mcusx; mx < mcusx; mx++)
+			{
+				if (restart > 0)
+				{
+					if (todo == 0)
+					{
+						this.__restart(__scan);
+						todo = restart;
+					}
+					todo--;
+				}
+				
+				for (__JPEGComponent__ c : __scan)
+					for (int by = 0; by < c.v; by++)
+						for (int bx = 0; bx < c.h; bx++)
+							this.__decodeCoefficients(c,
+								((((my * c.v) + by) * c.blocksw) +
+								(mx * c.h) + bx) << 6,
+								__ss, __se, __ah, __al);
+			}
+	}
+	
+	/**
+	 * Decodes a scan which contains every component, each row of MCUs is
+	 * placed into the resultant image as soon as it is decoded.
+	 *
+	 * @param __scan The components in the scan.
+	 * @throws IOException On read errors.
+	 * @since 2026/10/18
+	 */
+	private void __scanStreamed(__JPEGComponent__[] __scan)
+		throws IOException
+	{
+		short[] block = this._block;
+		int restart = this._restartinterval,
+			todo = restart,
+			bs = 8 / this.scale;
+		
+		for (int my = 0, mcusy = this._mcusy; my < mcusy; my++)
+		{
+			for (int mx = 0, mcusx = this._mcusx; mx < mcusx; mx++)
+			{
+				if (restart > 0)
+				{
+					if (todo == 0)
+					{
+						this.__restart(__scan);
+						todo = restart;
+					}
+					todo--;
+				}
+				
+				for (__JPEGComponent__ c : __scan)
+					for (int by = 0; by < c.v; by++)
+						for (int bx = 0; bx < c.h; bx++)
+						{
+							for (int i = 0; i < 64; i++)
+								block[i] = 0;
+							
+							this.__decodeBlock(c, block, 0);
+							this.__idct(c, block, 0,
+								(by * bs * c.planew) +
+								(((mx * c.h) + bx) * bs));
+						}
+			}
+			
+			this.__output(my);
+		}
+	}
+	
+	/**
+	 * Skips the given number of bytes.
+	 *
+	 * @param __n The number of bytes to skip.
+	 * @throws IOException On read errors or EOF.
+	 * @since 2026/10/18
+	 */
+	private void __skip(int __n)
+		throws IOException
+	{
+		for (int i = 0; i < __n; i++)
+			this.__readByte();
+	}
+	
+	/**
+	 * Clamps the value to a sample.
+	 *
+	 * @param __v The value to clamp.
+	 * @return The clamped value.
+	 * @since 2026/10/18
+	 */
+	private static int __clamp(int __v)
+	{
+		if (__v < 0)
+			return 0;
+		if (__v > 255)
+			return 255;
+		return __v;
 	}
 }
-
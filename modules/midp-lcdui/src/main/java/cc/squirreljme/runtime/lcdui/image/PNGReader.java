@@ -14,7 +14,6 @@ import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Arrays;
 import javax.microedition.lcdui.Image;
 import net.multiphasicapps.io.ByteDeque;
 import net.multiphasicapps.io.CRC32Calculator;
@@ -25,6 +24,10 @@ import net.multiphasicapps.io.ZLibDecompressor;
 /**
  * This class parses PNG images.
  *
+ * The image data is inflated and unfiltered a single scanline at a time
+ * and each scanline is placed directly into the resultant image, so only
+ * the current and previous scanline are ever kept.
+ *
  * PNG specifications:
  *  * http://www.libpng.org/pub/png/pngdocs.html
  *  * http://www.libpng.org/pub/png/spec/iso/index-object.html
@@ -35,6 +38,22 @@ import net.multiphasicapps.io.ZLibDecompressor;
  */
 public class PNGReader
 {
+	/** The starting column of each Adam7 pass. */
+	private static final byte[] _ADAM7_X =
+		new byte[]{0, 4, 0, 2, 0, 1, 0};
+	
+	/** The starting row of each Adam7 pass. */
+	private static final byte[] _ADAM7_Y =
+		new byte[]{0, 0, 4, 0, 2, 0, 1};
+	
+	/** The column step of each Adam7 pass. */
+	private static final byte[] _ADAM7_DX =
+		new byte[]{8, 8, 4, 4, 2, 2, 1};
+	
+	/** The row step of each Adam7 pass. */
+	private static final byte[] _ADAM7_DY =
+		new byte[]{8, 8, 8, 4, 4, 2, 2};
+	
 	/** The input source. */
 	protected final DataInputStream in;
 	
@@ -53,6 +72,9 @@ public class PNGReader
 	/** The color type. */
 	private int _colortype;
 	
+	/** The number of channels. */
+	private int _channels;
+	
 	/** Is adam7 interlacing being used? */
 	private boolean _adamseven;
 	
@@ -65,11 +87,12 @@ public class PNGReader
 	/** Was an alpha channel used? */
 	private boolean _hasalpha;
 	
-	/** Initial value for read Y position, for multiple IDAT chunks. */
-	private int _initvy;
-	
-	/** Initial value for read X position, for multiple IDAT chunks. */
-	private int _initvx;
+	/**
+	 * The grayscale or RGB samples which are transparent, this is only used
+	 * for images without a palette, otherwise this is negative.
+	 */
+	private long _transkey =
+		-1;
 	
 	/** The number of colors used. */
 	private int _numcolors;
@@ -120,9 +143,9 @@ public class PNGReader
 		
 		// Some J2ME games such as Bobby Carrot have invalid PNG files that
 		// contain a tRNS chunk after the IDAT chunk. This violates the PNG
-		// standard so the image chunk has to cached and process later,
-		// otherwise the images will be corrupt.
-		byte[] imageChunk = null;
+		// standard so the compressed image data has to cached and processed
+		// later, otherwise the images will be corrupt.
+		ByteDeque imageChunk = new ByteDeque();
 		
 		// Keep reading chunks in the file
 		for (;;)
@@ -167,31 +190,7 @@ public class PNGReader
 						// There may be multiple consecutive IDAT chunks which
 						// just continue where the previous one left off, so
 						// just smash them together
-						if (imageChunk != null)
-						{
-							// Read chunk data, decompress the data
-							// additionally so that the decoder does not need
-							// to worry about the data being compressed at
-							// all...
-							byte[] xtrachunk = PNGReader.__chunkLater(data);
-							
-							// Setup new array which contains the original
-							// data but has more space
-							int gn = imageChunk.length,
-								xn = xtrachunk.length,
-								nl = gn + xn;
-							imageChunk = Arrays.copyOf(imageChunk, nl);
-							
-							// Write in all the data
-							// for (int i = 0, o = gn; i < xn; i++, o++)
-							// 	imageChunk[o] = xtrachunk[i];
-							System.arraycopy(xtrachunk, 0,
-								imageChunk, gn, xn);
-						}
-						
-						// The first chunk
-						else
-							imageChunk = PNGReader.__chunkLater(data);
+						PNGReader.__chunkLater(data, imageChunk);
 						break;
 						
 						// Transparency information
@@ -216,54 +215,31 @@ public class PNGReader
 		
 		// {@squirreljme.error EB0v No image data has been loaded.}
 		int[] argb = this._argb;
-		if (argb == null)
+		if (argb == null || imageChunk.isEmpty())
 			throw new IOException("EB0v");
 		
-		// Is an alpha channel being used?
+		// Make all pixels opaque in the palette if there is no alpha channel
 		if (!this._hasalpha)
 		{
-			// Force all pixels to opaque
-			for (int i = 0, n = argb.length; i < n; i++)
-				argb[i] = 0xFF_000000;
-			
-			// Make all pixels opaque in the palette
 			int[] palette = this._palette;
 			if (palette != null)
 				for (int i = 0, n = palette.length; i < n; i++)
 					palette[i] |= 0xFF_000000;
 		}
 		
-		// {@squirreljme.error EB0w Unsupported bit-depth. (The bitdepth)}
-		int bitdepth = this._bitdepth;
-		if (Integer.bitCount(bitdepth) != 1 || bitdepth > 8)
-			throw new IOException("EB0w " + bitdepth);
-		
-		// {@squirreljme.error EB0x Adam7 interlacing not supported.}
-		if (this._adamseven)
-			throw new IOException("EB0x");
-		
 		// {@squirreljme.error EB0y Paletted PNG image has no palette.}
 		if (this._colortype == 3 && this._palette == null)
 			throw new IOException("EB0y");
 		
-		// Process the image chunk now that the other information was read
-		// Note that the chunk needs to be unfiltered first
-		try (InputStream data = new ByteArrayInputStream(this.__unfilter(
-			new ZLibDecompressor(new ByteArrayInputStream(imageChunk)))))
+		// Process the image chunk now that the other information was read,
+		// the image is decompressed as it is being unfiltered
+		try (InputStream data = new ZLibDecompressor(
+			new ByteArrayInputStream(imageChunk.toByteArray())))
 		{
-			int colortype = this._colortype;
-			
-			// Grayscale or Indexed
-			if (colortype == 0 || colortype == 3)
-				this.__pixelIndexed(data, (colortype == 3));
+			// The compressed data is no longer needed
+			imageChunk.clear();
 			
-			// RGB(A)
-			else if (colortype == 2 || colortype == 6)
-				this.__pixelsRGB(data, (colortype == 6));
-			
-			// YA (Grayscale + Alpha)
-			else
-				this.__pixelsYA(data);
+			this.__decode(data);
 		}
 		
 		// Create image
@@ -271,6 +247,82 @@ public class PNGReader
 			this._hasalpha);
 	}
 	
+	/**
+	 * Decodes the image data, one scanline at a time.
+	 *
+	 * @param __in The decompressed image data.
+	 * @throws IOException On read errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private void __decode(InputStream __in)
+		throws IOException, NullPointerException
+	{
+		if (__in == null)
+			throw new NullPointerException("NARG");
+		
+		int width = this._width,
+			height = this._height,
+			bitsperpixel = this._channels * this._bitdepth;
+		
+		// Filters operate on the byte which belongs to the same part of the
+		// previous pixel, for sub-byte pixels this is the previous byte
+		int bpp = Math.max(1, bitsperpixel >>> 3);
+		
+		// The first byte of each scanline is the filter type, these are
+		// big enough for any scanline in any pass
+		byte[] cur = new byte[1 + this._scanlen],
+			prev = new byte[1 + this._scanlen];
+		
+		// Without interlacing the entire image is a single pass
+		boolean adamseven = this._adamseven;
+		for (int pass = 0, numpasses = (adamseven ? 7 : 1);
+			pass < numpasses; pass++)
+		{
+			int x0 = (adamseven ? PNGReader._ADAM7_X[pass] : 0),
+				y0 = (adamseven ? PNGReader._ADAM7_Y[pass] : 0),
+				dx = (adamseven ? PNGReader._ADAM7_DX[pass] : 1),
+				dy = (adamseven ? PNGReader._ADAM7_DY[pass] : 1);
+			
+			// Passes which contain no pixels are not in the data at all
+			if (x0 >= width || y0 >= height)
+				continue;
+			
+			// Determine the size of this pass
+			int count = ((width - x0) + (dx - 1)) / dx,
+				rowlen = 1 + (((count * bitsperpixel) + 7) >>> 3);
+			
+			// The scanline before the first scanline is all zero
+			for (int i = 0; i < rowlen; i++)
+				prev[i] = 0;
+			
+			for (int y = y0; y < height; y += dy)
+			{
+				// Stop if the image data is short, the remaining pixels are
+				// left as they are
+				if (StreamUtils.readMostly(__in, cur, 0, rowlen) != rowlen)
+					return;
+				
+				// {@squirreljme.error EB16 Unknown filter type. (The type;
+				// The scanline base coordinate; The scan line length;
+				// Image size)}
+				int type = cur[0];
+				if (type < 0 || type > 4)
+					throw new IOException(String.format(
+						"EB16 %d (%d, %d) %d [%d, %d]",
+						type, x0, y, rowlen - 1, width, height));
+				
+				PNGReader.__unfilter(type, cur, prev, rowlen, bpp);
+				this.__pixels(cur, count, (y * width) + x0, dx);
+				
+				// The current scanline becomes the previous one
+				byte[] swap = prev;
+				prev = cur;
+				cur = swap;
+			}
+		}
+	}
+	
 	/**
 	 * Parses the alpha transparency data.
 	 *
@@ -289,35 +341,40 @@ public class PNGReader
 		
 		int[] palette = this._palette;
 		int colortype = this._colortype,
-			numpals = (palette != null ? palette.length : 0),
 			numcolors = this._numcolors;
 		
 		// Force alpha channel to be set
 		this._hasalpha = true;
 		
-		// Alpha values for grayscale or true-color
+		// A single grayscale value is transparent
 		if (colortype == 0)
 		{
-			// Read double-byte values
-			for (int at = 0;;)
+			int key = __in.readUnsignedShort();
+			
+			// If there is a palette then that color is just transparent
+			if (palette != null)
 			{
-				// Read in color
-				int col = __in.read(),
-					ign = __in.read();
-				
-				// EOF?
-				if ((col | ign) < 0)
-					break;
-				
-				// Find color to remove the alpha channel from the palette
-				for (int p = 0; p < numpals; p++)
-					if (palette[p] == col)
-						palette[p] &= 0xFFFFFF;
+				if (key < palette.length)
+					palette[key] &= 0xFFFFFF;
 			}
+			
+			// Otherwise check each pixel
+			else
+				this._transkey = key;
+		}
+		
+		// A single true-color value is transparent
+		else if (colortype == 2)
+		{
+			long r = __in.readUnsignedShort(),
+				g = __in.readUnsignedShort(),
+				b = __in.readUnsignedShort();
+			
+			this._transkey = (r << 32) | (g << 16) | b;
 		}
 		
 		// Alpha values for indexed values
-		else if (colortype == 3)
+		else if (colortype == 3 && palette != null)
 		{
 			// Read as many entries as possible
 			int i = 0;
@@ -383,8 +440,10 @@ public class PNGReader
 		
 		// {@squirreljme.error EB12 Invalid PNG bit depth and color type
 		// combination. (The color type; The bit depth)}
-		if ((bitdepth < 8 && (colortype != 0 && colortype != 3)) ||
-			(bitdepth > 8 && colortype != 3))
+		if ((colortype != 0 && colortype != 2 && colortype != 3 &&
+			colortype != 4 && colortype != 6) ||
+			(bitdepth < 8 && (colortype != 0 && colortype != 3)) ||
+			(bitdepth > 8 && colortype == 3))
 			throw new IOException(String.format("EB12 %d %d", colortype,
 				bitdepth));
 			
@@ -394,14 +453,13 @@ public class PNGReader
 		
 		// These two color types have alpha, this field may be set later on
 		// if a transparency chunk was found
-		boolean hasalpha;
-		this._hasalpha = (hasalpha = (colortype == 4 || colortype == 6));
+		this._hasalpha = (colortype == 4 || colortype == 6);
 		
 		// Determine number of channels
 		int channels = (colortype == 0 || colortype == 3 ? 1 :
 			(colortype == 2 ? 3 :
-			(colortype == 4 ? 2 :
-			(colortype == 6 ? 4 : 1))));
+			(colortype == 4 ? 2 : 4)));
+		this._channels = channels;
 		
 		// Scan length, 7 extra bits are added for any needed padding if there
 		// is any
@@ -431,8 +489,9 @@ public class PNGReader
 		
 		// If this is grayscale, then force a palette to be initialized so the
 		// colors are more easily read without needing to process them further
-		// So all values are treated as indexed
-		if (colortype == 0)
+		// So all values are treated as indexed, 16-bit grayscale is too big
+		// for this
+		if (colortype == 0 && bitdepth <= 8)
 		{
 			// 2^d colors available
 			int numcolors = (1 << bitdepth);
@@ -441,7 +500,7 @@ public class PNGReader
 			// later
 			int[] palette = new int[numcolors];
 			for (int i = 0; i < numcolors; i++)
-				palette[i] = ((int)(((double)i / (double)numcolors) * 255.0)) |
+				palette[i] = ((i * 255) / (numcolors - 1)) * 0x010101 |
 					0xFF_000000;
 			
 			// Set
@@ -495,262 +554,124 @@ public class PNGReader
 	}
 	
 	/**
-	 * Decodes grayscale/indexed image data.
+	 * Places the pixels of an unfiltered scanline into the image.
 	 *
-	 * @param __dis Input Stream.
-	 * @param __idx Indexed colors instead of just grayscale?
-	 * @throws IOException On read errors.
+	 * @param __row The scanline, the first byte is the filter type.
+	 * @param __count The number of pixels in the scanline.
+	 * @param __o The offset of the first pixel in the image.
+	 * @param __dx The distance between pixels in the image.
 	 * @throws NullPointerException On null arguments.
-	 * @since 2019/04/15
+	 * @since 2026/10/18
 	 */
-	private final void __pixelIndexed(InputStream __dis, boolean __idx)
-		throws IOException, NullPointerException
+	private void __pixels(byte[] __row, int __count, int __o, int __dx)
+		throws NullPointerException
 	{
-		if (__dis == null)
+		if (__row == null)
 			throw new NullPointerException("NARG");
 			
 		int[] argb = this._argb;
 		int[] palette = this._palette;
-		int width = this._width,
-			height = this._height,
-			limit = width * height,
-			bitdepth = this._bitdepth,
-			bitmask = (1 << bitdepth) - 1,
-			numpals = (palette != null ? palette.length : 0),
-			hishift = (8 - bitdepth),
-			himask = bitmask << hishift;
-		
-		// Read of multiple bits
-		for (int o = 0;;)
-		{
-			// Read and check EOF
-			int v = __dis.read();
-			if (v < 0)
-				break;
-			
-			// Handle each bit
-			for (int b = 0; b < 8 && o < limit; b += bitdepth, v <<= bitdepth)
-				argb[o++] = palette[((v & himask) >>> hishift) % numpals];
-		}
-	}
-	
-	/**
-	 * Decodes RGB or RGBA image data.
-	 *
-	 * @param __dis Input Stream.
-	 * @param __alpha RGBA is used?
-	 * @throws IOException On read errors.
-	 * @throws NullPointerException On null arguments.
-	 * @since 2019/04/15
-	 */
-	private final void __pixelsRGB(InputStream __dis, boolean __alpha)
-		throws IOException, NullPointerException
-	{
-		if (__dis == null)
-			throw new NullPointerException("NARG");
+		int bitdepth = this._bitdepth,
+			end = __o + (__count * __dx);
 		
-		// Get output
-		int[] argb = this._argb;
-		int width = this._width,
-			height = this._height,
-			limit = width * height;
-		
-		// Keep reading in data
-		for (int o = 0; o < limit; o++)
+		// Indexed or grayscale, which always have a palette
+		if (palette != null)
 		{
-			// Read in all values, the mask is used to keep the sign bit in
-			// place but also cap the value to 255!
-			int r = __dis.read() & 0x800000FF,
-				g = __dis.read() & 0x800000FF,
-				b = __dis.read() & 0x800000FF;
-			int a = (__alpha ? (__dis.read() & 0x800000FF) : 0xFF);
+			// One pixel per byte
+			if (bitdepth == 8)
+				for (int o = __o, p = 1; o < end; o += __dx, p++)
+					argb[o] = palette[__row[p] & 0xFF];
 			
-			// Have any hit EOF? Just need to OR all the bits
-			if ((r | g | b | a) < 0)
-				break;
+			// Multiple pixels per byte, the highest bits are first
+			else
+			{
+				int mask = (1 << bitdepth) - 1,
+					hishift = 8 - bitdepth;
+				for (int o = __o, bit = 0; o < end; o += __dx,
+					bit += bitdepth)
+					argb[o] = palette[(__row[1 + (bit >>> 3)] >>>
+						(hishift - (bit & 7))) & mask];
+			}
 			
-			// Write pixel
-			argb[o] = (a << 24) | (r << 16) | (g << 8) | b;
+			return;
 		}
-	}
-	
-	/**
-	 * Decodes image data.
-	 *
-	 * @param __dis Input Stream.
-	 * @throws IOException On read errors.
-	 * @throws NullPointerException On null arguments.
-	 * @since 2019/04/15
-	 */
-	private final void __pixelsYA(InputStream __dis)
-		throws IOException, NullPointerException
-	{
-		if (__dis == null)
-			throw new NullPointerException("NARG");
-		
-		// Get output
-		int[] argb = this._argb;
-		int width = this._width,
-			height = this._height,
-			limit = width * height;
 		
-		// Keep reading in data
-		for (int o = 0; o < limit;)
+		// For 16-bit samples the most significant byte is first, only that
+		// byte is used for the color
+		int s = bitdepth >>> 3,
+			colortype = this._colortype;
+		switch (colortype)
 		{
-			// Read in all values, the mask is used to keep the sign bit in
-			// place but also cap the value to 255!
-			int a = __dis.read() & 0x800000FF,
-				y = __dis.read() & 0x800000FF;
-			
-			// Have any hit EOF? Just need to OR all the bits
-			if ((a | y) < 0)
+				// Grayscale
+			case 0:
+				for (int o = __o, p = 1; o < end; o += __dx, p += s)
+					argb[o] = 0xFF_000000 | ((__row[p] & 0xFF) * 0x010101);
+				break;
+				
+				// RGB
+			case 2:
+				for (int o = __o, p = 1, n = s * 3; o < end; o += __dx,
+					p += n)
+					argb[o] = 0xFF_000000 |
+						((__row[p] & 0xFF) << 16) |
+						((__row[p + s] & 0xFF) << 8) |
+						(__row[p + s + s] & 0xFF);
+				break;
+				
+				// YA (Grayscale + Alpha)
+			case 4:
+				for (int o = __o, p = 1, n = s * 2; o < end; o += __dx,
+					p += n)
+					argb[o] = ((__row[p + s] & 0xFF) << 24) |
+						((__row[p] & 0xFF) * 0x010101);
+				break;
+				
+				// RGBA
+			default:
+				for (int o = __o, p = 1, n = s * 4; o < end; o += __dx,
+					p += n)
+					argb[o] = ((__row[p + s + s + s] & 0xFF) << 24) |
+						((__row[p] & 0xFF) << 16) |
+						((__row[p + s] & 0xFF) << 8) |
+						(__row[p + s + s] & 0xFF);
 				break;
-			
-			// Write pixel
-			argb[o++] = (a << 24) | (y << 16) | (y << 8) | y;
 		}
-	}
-	
-	/**
-	 * Unfilters the PNG data.
-	 *
-	 * @param __in The stream to read from.
-	 * @return The unfiltered data.
-	 * @throws IOException On read errors.
-	 * @throws NullPointerException On null arguments.
-	 * @since 2019/04/15
-	 */
-	private final byte[] __unfilter(InputStream __in)
-		throws IOException, NullPointerException
-	{
-		if (__in == null)
-			throw new NullPointerException("NARG");
-		
-		// Need these
-		int scanlen = this._scanlen,
-			height = this._height;
 		
-		// Allocate buffer that will be returned, containing the unfiltered
-		// data
-		byte[] rv = new byte[scanlen * height];
-		
-		// Read the image scanline by scanline and process it
-		for (int dy = 0; dy < height; dy++)
+		// Pixels which exactly match the transparent color are cleared, this
+		// uses all of the bits of every sample
+		long transkey = this._transkey;
+		if (transkey >= 0)
 		{
-			// Base output for this scanline
-			int ibase = scanlen * dy;
-			
-			// At the start of every scanline is the filter type, which
-			// describes how the data should be treated
-			// {@squirreljme.error EB16 Unknown filter type. (The type; The
-			// scanline base coordinate; The scan line length; Image size)}
-			int type = __in.read();
-			if (type < 0 || type > 4)
-				throw new IOException(String.format(
-					"EB16 %d (%d, %d) %d [%d, %d]",
-					type, 0, dy, scanlen, this._width, height));
-			
-			// Go through each byte in the scanline
-			for (int dx = 0; dx < scanlen; dx++)
+			int numsamples = (colortype == 0 ? 1 : 3);
+			for (int o = __o, p = 1; o < end; o += __dx)
 			{
-				// The current position in the buffer
-				int di = ibase + dx;
-				
-				// The filter algorithm is a bit confusing and it uses the
-				// prior and old pixel information, so according to the PNG
-				// spec just to be easier to use the variables will be named
-				// the same. Anywhere that bleeds off the image will always be
-				// treated as zero.
-				
-				// The current byte being filtered
-				int x = __in.read() & 0xFF,
+				long key = 0;
+				for (int i = 0; i < numsamples; i++, p += s)
+					key = (key << 16) | (s == 1 ? (__row[p] & 0xFF) :
+						((__row[p] & 0xFF) << 8) | (__row[p + 1] & 0xFF));
 				
-				// The byte to the left of (x, y) [-1, 0]
-					a = (dx <= 0 ? 0 : rv[di - 1]) & 0xFF,
-				
-				// The byte to the top of (x, y) [0, -1]
-					b = (dy <= 0 ? 0 : rv[di - scanlen]) & 0xFF,
-				
-				// The byte to the top and left of (x, y) [-1, -1]
-					c = ((dx <= 0 || dy <= 0) ? 0 :
-						rv[(di - scanlen) - 1]) & 0xFF;
-				
-				// Depends on the decoding algorithm
-				int res = 0;
-				switch (type)
-				{
-						// None
-					case 0:
-						res = x;
-						break;
-						
-						// Sub
-					case 1:
-						res = x + a;
-						break;
-						
-						// Up
-					case 2:
-						res = x + b;
-						break;
-						
-						// Average
-					case 3:
-						res = x + ((a + b) >>> 2);
-						break;
-						
-						// Paeth, this probably is not correct
-					case 4:
-						{
-							// Calculate these
-							int p = a + b - c,
-								pa = p - a,
-								pb = p - b,
-								pc = p - c;
-							
-							// Absolute values
-							pa = (pa < 0 ? -pa : pa);
-							pb = (pb < 0 ? -pb : pb);
-							pc = (pc < 0 ? -pc : pc);
-							
-							// Perform some checks
-							if (pa <= pb && pa <= pc)
-								res = x + a;
-							else if (pb <= pc)
-								res = x + b;
-							else
-								res = x + c;
-						}
-						break;
-				}
-				
-				// Set result
-				rv[di] = (byte)res;
+				if (key == transkey)
+					argb[o] &= 0xFFFFFF;
 			}
 		}
-		
-		return rv;
 	}
 	
 	/**
-	 * Reads all the input data and returns a byte array for the data, so it
+	 * Reads all the input data and adds it to the given buffer, so it
 	 * may be processed later.
 	 *
 	 * @param __in The stream to read from.
-	 * @return The read data.
+	 * @param __glue The buffer to add the data to.
 	 * @throws IOException On read errors.
 	 * @throws NullPointerException On null arguments.
 	 * @since 2019/04/14
 	 */
-	private static byte[] __chunkLater(InputStream __in)
+	private static void __chunkLater(InputStream __in, ByteDeque __glue)
 		throws IOException, NullPointerException
 	{
-		if (__in == null)
+		if (__in == null || __glue == null)
 			throw new NullPointerException("NARG");
 		
-		// The final glue point
-		ByteDeque glue = new ByteDeque();
-		
 		// Read in all the various chunks as much as possible
 		byte[] buf = StreamUtils.buffer(__in);
 		for (;;)
@@ -763,10 +684,95 @@ public class PNGReader
 				break;
 			
 			// Add to the buffer
-			glue.addLast(buf, 0, rc);
+			__glue.addLast(buf, 0, rc);
 		}
+	}
+	
+	/**
+	 * Unfilters a single scanline.
+	 *
+	 * The filter algorithm uses the prior and old pixel information, so
+	 * according to the PNG spec just to be easier to use the variables will
+	 * be named the same. Anywhere that bleeds off the image will always be
+	 * treated as zero.
+	 *
+	 * @param __type The filter type.
+	 * @param __cur The scanline to unfilter, the first byte is the type.
+	 * @param __prev The previous unfiltered scanline.
+	 * @param __len The length of the scanline, including the type.
+	 * @param __bpp The distance to the byte in the previous pixel.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static void __unfilter(int __type, byte[] __cur, byte[] __prev,
+		int __len, int __bpp)
+		throws NullPointerException
+	{
+		if (__cur == null || __prev == null)
+			throw new NullPointerException("NARG");
 		
-		return glue.toByteArray();
+		// The first pixel has nothing to the left of it
+		int left = Math.min(__len, 1 + __bpp);
+		
+		// Depends on the decoding algorithm
+		switch (__type)
+		{
+				// None
+			case 0:
+				break;
+				
+				// Sub, the byte to the left of (x, y) [-1, 0]
+			case 1:
+				for (int i = left; i < __len; i++)
+					__cur[i] += __cur[i - __bpp];
+				break;
+				
+				// Up, the byte to the top of (x, y) [0, -1]
+			case 2:
+				for (int i = 1; i < __len; i++)
+					__cur[i] += __prev[i];
+				break;
+				
+				// Average
+			case 3:
+				for (int i = 1; i < left; i++)
+					__cur[i] += (byte)((__prev[i] & 0xFF) >>> 1);
+				for (int i = left; i < __len; i++)
+					__cur[i] += (byte)(((__cur[i - __bpp] & 0xFF) +
+						(__prev[i] & 0xFF)) >>> 1);
+				break;
+				
+				// Paeth, without a left pixel this is the same as up
+			default:
+				for (int i = 1; i < left; i++)
+					__cur[i] += __prev[i];
+				for (int i = left; i < __len; i++)
+				{
+					// The left, above, and upper left bytes
+					int a = __cur[i - __bpp] & 0xFF,
+						b = __prev[i] & 0xFF,
+						c = __prev[i - __bpp] & 0xFF;
+					
+					// Calculate these
+					int p = a + b - c,
+						pa = p - a,
+						pb = p - b,
+						pc = p - c;
+					
+					// Absolute values
+					pa = (pa < 0 ? -pa : pa);
+					pb = (pb < 0 ? -pb : pb);
+					pc = (pc < 0 ? -pc : pc);
+					
+					// Perform some checks
+					if (pa <= pb && pa <= pc)
+						__cur[i] += (byte)a;
+					else if (pb <= pc)
+						__cur[i] += (byte)b;
+					else
+						__cur[i] += (byte)c;
+				}
+				break;
+		}
 	}
 }
-
@@ -0,0 +1,74 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.runtime.lcdui.image;
+
+/**
+ * This is a single color component within a JPEG image.
+ *
+ * @since 2026/10/18
+ */
+final class __JPEGComponent__
+{
+	/** The identifier of the component. */
+	final int id;
+	
+	/** The horizontal sampling factor. */
+	final int h;
+	
+	/** The vertical sampling factor. */
+	final int v;
+	
+	/** The quantization table to use. */
+	final int tq;
+	
+	/** The DC huffman table for the current scan. */
+	__JPEGHuffman__ dc;
+	
+	/** The AC huffman table for the current scan. */
+	__JPEGHuffman__ ac;
+	
+	/** The DC value of the previous block. */
+	int dcpred;
+	
+	/** The number of blocks in each row of blocks, including padding. */
+	int blocksw;
+	
+	/**
+	 * The coefficients of every block in natural order, this is only used
+	 * when the entire image cannot be decoded in a single pass.
+	 */
+	short[] coefs;
+	
+	/** The samples for the current row of MCUs. */
+	byte[] plane;
+	
+	/** The width of the plane. */
+	int planew;
+	
+	/** The column in the plane for each column in the output image. */
+	int[] xmap;
+	
+	/**
+	 * Initializes the component.
+	 *
+	 * @param __id The identifier.
+	 * @param __h The horizontal sampling factor.
+	 * @param __v The vertical sampling factor.
+	 * @param __tq The quantization table.
+	 * @since 2026/10/18
+	 */
+	__JPEGComponent__(int __id, int __h, int __v, int __tq)
+	{
+		this.id = __id;
+		this.h = __h;
+		this.v = __v;
+		this.tq = __tq;
+	}
+}
@@ -0,0 +1,101 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.runtime.lcdui.image;
+
+import java.io.IOException;
+
+/**
+ * This is a huffman table which is used to decode JPEG images.
+ *
+ * Codes which are short enough are decoded with a single lookup of the next
+ * {@link #FAST_BITS} bits, the remaining codes are found by comparing
+ * against the largest code of each length.
+ *
+ * @since 2026/10/18
+ */
+final class __JPEGHuffman__
+{
+	/** The number of bits which are used for the fast lookup. */
+	static final int FAST_BITS =
+		9;
+	
+	/**
+	 * Fast lookup table, the code length is in the upper bits and the symbol
+	 * in the lowest 8 bits. Zero means the code is longer.
+	 */
+	final short[] fast =
+		new short[1 << __JPEGHuffman__.FAST_BITS];
+	
+	/** The largest code of each length, {@code -1} if there are none. */
+	final int[] maxcode =
+		new int[17];
+	
+	/** The value to add to a code to get the index of its symbol. */
+	final int[] valoffset =
+		new int[17];
+	
+	/** The symbols. */
+	final byte[] symbols =
+		new byte[256];
+	
+	/**
+	 * Initializes the table.
+	 *
+	 * @param __counts The number of codes of each length, starting at one.
+	 * @param __symbols The symbols in order of their codes.
+	 * @throws IOException If the table is not valid.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	__JPEGHuffman__(int[] __counts, byte[] __symbols)
+		throws IOException, NullPointerException
+	{
+		if (__counts == null || __symbols == null)
+			throw new NullPointerException("NARG");
+		
+		short[] fast = this.fast;
+		int[] maxcode = this.maxcode;
+		int[] valoffset = this.valoffset;
+		
+		System.arraycopy(__symbols, 0,
+			this.symbols, 0, __symbols.length);
+		
+		// Codes are assigned in increasing order, each length starts with
+		// the next code after the previous length doubled
+		int code = 0;
+		for (int len = 1, p = 0; len <= 16; len++, code <<= 1)
+		{
+			int count = __counts[len - 1];
+			
+			// {@squirreljme.error EB40 JPEG huffman table has more codes
+			// than can fit. (The code length)}
+			if (code + count > (1 << len))
+				throw new IOException("EB40 " + len);
+			
+			valoffset[len] = p - code;
+			
+			for (int i = 0; i < count; i++, p++, code++)
+			{
+				// Fill every entry in the fast table which starts with
+				// this code
+				if (len <= __JPEGHuffman__.FAST_BITS)
+				{
+					int shift = __JPEGHuffman__.FAST_BITS - len;
+					short entry = (short)((len << 8) | (__symbols[p] & 0xFF));
+					for (int j = code << shift, n = (code + 1) << shift;
+						j < n; j++)
+						fast[j] = entry;
+				}
+			}
+			
+			maxcode[len] = (count > 0 ? code - 1 : -1);
+		}
+	}
+}
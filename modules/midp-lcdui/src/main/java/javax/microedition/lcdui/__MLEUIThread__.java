@@ -263,7 +263,8 @@ final class __MLEUIThread__
 	@Override
 	public void paint(UIFormBracket __form, UIItemBracket __item, int __pf,
 		int __bw, int __bh, Object __buf, int __offset, int[] __pal, int __sx,
-		int __sy, int __sw, int __sh, int __special)
+		int __sy, int __sw, int __sh, int __cx, int __cy, int __cw, int __ch,
+		int __special)
 	{
 		// Debug
 		/*Debugging.debugNote("paint(%08x, %08x, %d, " +
@@ -299,6 +300,11 @@ final class __MLEUIThread__
 					__bw, __bh, __buf, __offset, __pal, __sx, __sy,
 					__sw, __sh);
 				
+				// Only the area which needs drawing is changed, everything
+				// outside of it is kept as it was
+				if (__cx != 0 || __cy != 0 || __cw != __sw || __ch != __sh)
+					gfx.setClip(__cx, __cy, __cw, __ch);
+				
 				// Forward the paint call
 				common.__paint(gfx, __sw, __sh, __special);
 			}
@@ -0,0 +1,106 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package gfx;
+
+import cc.squirreljme.runtime.lcdui.gfx.AdvancedGraphics;
+import net.multiphasicapps.tac.TestRunnable;
+
+/**
+ * Tests that the software graphics fill rectangles and copy tiles into the
+ * correct pixels.
+ *
+ * @since 2026/10/18
+ */
+public class TestAdvancedGraphicsSpans
+	extends TestRunnable
+{
+	/** The width of the buffer. */
+	private static final int _WIDTH =
+		40;
+	
+	/** The height of the buffer. */
+	private static final int _HEIGHT =
+		8;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void test()
+	{
+		int width = TestAdvancedGraphicsSpans._WIDTH;
+		int height = TestAdvancedGraphicsSpans._HEIGHT;
+		
+		// Fill a wide rectangle
+		int[] buf = new int[width * height];
+		AdvancedGraphics g = new AdvancedGraphics(buf, false, null,
+			width, height, width, 0, 0, 0);
+		g.setColor(0x123456);
+		g.fillRect(2, 1, 30, 3);
+		
+		boolean fill = true;
+		for (int y = 0; y < height; y++)
+			for (int x = 0; x < width; x++)
+			{
+				boolean in = (x >= 2 && x < 32 && y >= 1 && y < 4);
+				if (buf[(y * width) + x] != (in ? 0xFF_123456 : 0))
+					fill = false;
+			}
+		this.secondary("fill", fill);
+		
+		// Draw a tile which is clipped on the top and left, the scanline of
+		// the tile differs from the pitch of the buffer
+		int[] src = new int[20 * 4];
+		for (int i = 0; i < src.length; i++)
+			src[i] = 0x010101 * (i + 1);
+		
+		buf = new int[width * height];
+		g = new AdvancedGraphics(buf, false, null,
+			width, height, width, 0, 0, 0);
+		g.drawRGB(src, 0, 20, -3, -2, 20, 4, false);
+		
+		boolean tile = true;
+		for (int y = 0; y < height; y++)
+			for (int x = 0; x < width; x++)
+			{
+				int want = (x < 17 && y < 2 ?
+					src[((y + 2) * 20) + (x + 3)] : 0);
+				if ((buf[(y * width) + x] & 0xFFFFFF) != want)
+					tile = false;
+			}
+		this.secondary("tile", tile);
+		
+		// Transparent pixels are skipped and opaque ones are copied
+		int[] argb = new int[18];
+		for (int i = 0; i < argb.length; i++)
+			argb[i] = ((i & 1) == 0 ? 0xFF_000000 | (0x0A0B0C * i) :
+				0x00_FFFFFF);
+		
+		buf = new int[width * height];
+		for (int i = 0; i < buf.length; i++)
+			buf[i] = 0xFF_202020;
+		g = new AdvancedGraphics(buf, true, null,
+			width, height, width, 0, 0, 0);
+		g.drawRGB(argb, 0, 18, 5, 5, 18, 1, true);
+		
+		boolean alpha = true;
+		for (int y = 0; y < height; y++)
+			for (int x = 0; x < width; x++)
+			{
+				int want = 0xFF_202020;
+				if (y == 5 && x >= 5 && x < 23 && ((x - 5) & 1) == 0)
+					want = argb[x - 5];
+				if (buf[(y * width) + x] != want)
+					alpha = false;
+			}
+		this.secondary("alpha", alpha);
+	}
+}
@@ -0,0 +1,66 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package image;
+
+import cc.squirreljme.runtime.lcdui.image.JPEGReader;
+import java.io.InputStream;
+import javax.microedition.lcdui.Image;
+import net.multiphasicapps.tac.TestRunnable;
+
+/**
+ * Tests that baseline and progressive JPEG images, including ones with
+ * subsampled color and restart markers, are decoded at every scale.
+ *
+ * @since 2026/10/18
+ */
+public class TestJPEGReader
+	extends TestRunnable
+{
+	/** The images to decode. */
+	private static final String[] _IMAGES =
+		{
+			"n420",
+			"b444",
+			"gray",
+			"rst",
+			"p420",
+			"pgray",
+		};
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void test()
+		throws Throwable
+	{
+		for (String s : TestJPEGReader._IMAGES)
+			for (int scale = 1; scale <= 8; scale <<= 1)
+				try (InputStream in = TestJPEGReader.class.getResourceAsStream(
+					s + ".jpg"))
+				{
+					Image image = new JPEGReader(in, scale).parse();
+					
+					int width = image.getWidth();
+					int height = image.getHeight();
+					int[] argb = new int[width * height];
+					image.getRGB(argb, 0, width, 0, 0, width, height);
+					
+					// Hash all of the pixels
+					int hash = 0;
+					for (int v : argb)
+						hash = (hash * 31) + v;
+					
+					this.secondary(s + "-" + scale, width + "x" + height +
+						":" + hash);
+				}
+	}
+}
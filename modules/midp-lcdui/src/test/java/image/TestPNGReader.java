@@ -0,0 +1,75 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package image;
+
+import cc.squirreljme.runtime.lcdui.image.PNGReader;
+import java.io.InputStream;
+import javax.microedition.lcdui.Image;
+import net.multiphasicapps.tac.TestRunnable;
+
+/**
+ * Tests that PNG images of every color type and bit depth, with and without
+ * interlacing and transparency, are decoded to the correct pixels.
+ *
+ * @since 2026/10/18
+ */
+public class TestPNGReader
+	extends TestRunnable
+{
+	/** The images to decode. */
+	private static final String[] _IMAGES =
+		{
+			"gray1",
+			"gray2",
+			"gray4",
+			"gray8",
+			"gray16",
+			"rgb8",
+			"rgb16",
+			"pal1",
+			"pal2",
+			"pal4",
+			"pal8trns",
+			"ya8",
+			"ya16",
+			"rgba8",
+			"rgba16",
+			"tiny",
+			"wide",
+		};
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void test()
+		throws Throwable
+	{
+		for (String s : TestPNGReader._IMAGES)
+			try (InputStream in = TestPNGReader.class.getResourceAsStream(
+				s + ".png"))
+			{
+				Image image = new PNGReader(in).parse();
+				
+				int width = image.getWidth();
+				int height = image.getHeight();
+				int[] argb = new int[width * height];
+				image.getRGB(argb, 0, width, 0, 0, width, height);
+				
+				// Hash all of the pixels
+				int hash = 0;
+				for (int v : argb)
+					hash = (hash * 31) + v;
+				
+				this.secondary(s, hash);
+			}
+	}
+}
@@ -61,7 +61,8 @@ public class ListCallback
 	@Override
 	public void paint(UIFormBracket __form, UIItemBracket __item, int __pf,
 		int __bw, int __bh, Object __buf, int __offset, int[] __pal, int __sx,
-		int __sy, int __sw, int __sh, int __special)
+		int __sy, int __sw, int __sh, int __cx, int __cy, int __cw, int __ch,
+		int __special)
 	{
 		int hob = Integer.highestOneBit(Math.max(__sw, __sh));
 		Debugging.debugNote("Painting icon! %dx%d (%d)",
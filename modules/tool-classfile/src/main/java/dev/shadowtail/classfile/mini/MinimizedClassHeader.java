@@ -38,6 +38,10 @@ public final class MinimizedClassHeader
 	public static final int HEADER_SIZE_WITH_MAGIC =
 		MinimizedClassHeader.HEADER_SIZE_WITHOUT_MAGIC + 4;
 	
+	/** The offset of the UUID within the header, including the magic. */
+	public static final int UUID_OFFSET =
+		80;
+	
 	/** Unused A. */
 	public final int unuseda;
 	
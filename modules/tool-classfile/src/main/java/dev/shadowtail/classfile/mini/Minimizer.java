@@ -12,11 +12,15 @@ package dev.shadowtail.classfile.mini;
 import cc.squirreljme.runtime.cldc.debug.Debugging;
 import dev.shadowtail.classfile.nncc.ArgumentFormat;
 import dev.shadowtail.classfile.nncc.NativeCode;
+import dev.shadowtail.classfile.nncc.NativeCodeOptimizer;
 import dev.shadowtail.classfile.nncc.NativeInstruction;
 import dev.shadowtail.classfile.nncc.RegisterList;
+import dev.shadowtail.classfile.pool.BasicPool;
+import dev.shadowtail.classfile.pool.DualClassRuntimePool;
 import dev.shadowtail.classfile.pool.DualClassRuntimePoolBuilder;
 import dev.shadowtail.classfile.summercoat.register.Register;
 import dev.shadowtail.classfile.xlate.DataType;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -62,15 +66,26 @@ public final class Minimizer
 	protected final DualClassRuntimePoolBuilder localpool =
 		new DualClassRuntimePoolBuilder();
 	
+	/** The optimizer for native code, is optional. */
+	protected final NativeCodeOptimizer optimizer;
+	
+	/** The output, once the class has been translated. */
+	private TableSectionOutputStream _output;
+	
+	/** The header of the output, once the class has been translated. */
+	private TableSectionOutputStream.Section _header;
+	
 	/**
 	 * Initializes the minimizer.
 	 *
 	 * @param __dp The dual constant pool to use, may be null.
+	 * @param __opt The native code optimizer to use, may be null.
 	 * @param __cf The class to minimize.
 	 * @throws NullPointerException On null arguments.
 	 * @since 2019/03/10
 	 */
-	private Minimizer(DualClassRuntimePoolBuilder __dp, ClassFile __cf)
+	Minimizer(DualClassRuntimePoolBuilder __dp,
+		NativeCodeOptimizer __opt, ClassFile __cf)
 		throws NullPointerException
 	{
 		if (__cf == null)
@@ -80,22 +95,142 @@ public final class Minimizer
 		
 		// This is the packing JAR/ROM pool, this may be null
 		this.jarpool = __dp;
+		
+		// Code is only optimized if requested
+		this.optimizer = __opt;
+	}
+	
+	/**
+	 * Initializes the minimizer from a class which was already minimized
+	 * without a Jar or ROM pool, the class is then in the same state as if
+	 * it were just translated.
+	 *
+	 * @param __dp The dual constant pool to use, may be null.
+	 * @param __min The minimized class.
+	 * @throws InvalidClassFormatException If the minimized class is not
+	 * valid or uses a Jar or ROM pool.
+	 * @throws IOException On read errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	Minimizer(DualClassRuntimePoolBuilder __dp, byte[] __min)
+		throws InvalidClassFormatException, IOException, NullPointerException
+	{
+		if (__min == null)
+			throw new NullPointerException("NARG");
+		
+		this.input = null;
+		this.jarpool = __dp;
+		this.optimizer = null;
+		
+		// {@squirreljme.error JC4p The minimized class is not valid or it
+		// uses a Jar or ROM pool.}
+		MinimizedClassHeader head = MinimizedClassHeader.decode(
+			new ByteArrayInputStream(__min));
+		if (head.filesize != __min.length || head.staticpoolsize < 0 ||
+			head.runtimepoolsize < 0)
+			throw new InvalidClassFormatException("JC4p");
+		
+		// Rebuild the local pool, since dependencies of entries are always
+		// added first adding them in order gives the same indexes
+		DualClassRuntimePool pool = DualPoolEncoder.decode(__min,
+			head.staticpooloff, head.staticpoolsize,
+			head.runtimepooloff, head.runtimepoolsize);
+		DualClassRuntimePoolBuilder localpool = this.localpool;
+		for (boolean rt = false;; rt = true)
+		{
+			BasicPool from = (rt ? pool.runtimePool() : pool.classPool());
+			for (int i = 1, n = from.size(); i < n; i++)
+				if (localpool.add(rt, from.byIndex(i).value).index != i)
+					throw new InvalidClassFormatException("JC4p");
+			
+			if (rt)
+				break;
+		}
+		
+		// The header is the same up to the UUID, which is always new
+		TableSectionOutputStream output = new TableSectionOutputStream();
+		TableSectionOutputStream.Section header =
+			output.addSection(MinimizedClassHeader.HEADER_SIZE_WITH_MAGIC);
+		header.write(__min, 0, MinimizedClassHeader.UUID_OFFSET);
+		long uuid = Minimizer.generateUUID();
+		header.writeInt((int)(uuid >>> 32));
+		header.writeInt((int)uuid);
+		header.writeFileSizeInt();
+		header.writeInt(0);
+		
+		// The fields and methods are placed after the header in the same
+		// order, so the addresses in the header are the same
+		int[] sections = {head.sfoff, head.sfsize, head.ifoff, head.ifsize,
+			head.smoff, head.smsize, head.imoff, head.imsize};
+		for (int i = 0; i < 8; i += 2)
+			output.addSection(sections[i + 1], 4)
+				.write(__min, sections[i], sections[i + 1]);
+		
+		this._output = output;
+		this._header = header;
 	}
 	
 	/**
-	 * Performs the minimization process.
+	 * Merges the local pool of the translated class into the Jar or ROM
+	 * pool and writes the result, this must be called in the same order
+	 * the classes would have been minimized in so that the pool indexes
+	 * are the same.
 	 *
 	 * @param __os The stream to write the result to.
+	 * @throws IllegalStateException If the class was not translated.
 	 * @throws IOException On write errors.
 	 * @throws NullPointerException On null arguments.
-	 * @since 2019/03/10
+	 * @since 2026/10/18
 	 */
-	private void __run(OutputStream __os)
-		throws IOException, NullPointerException
+	final void finish(OutputStream __os)
+		throws IllegalStateException, IOException, NullPointerException
 	{
 		if (__os == null)
 			throw new NullPointerException("NARG");
-			
+		
+		// {@squirreljme.error JC4o The class has not been translated.}
+		TableSectionOutputStream output = this._output;
+		TableSectionOutputStream.Section header = this._header;
+		if (output == null)
+			throw new IllegalStateException("JC4o");
+		
+		// Where our pools are going
+		TableSectionOutputStream.Section lpd = output.addSection();
+		
+		// Encode the local pool or the local pool on top of the JAR pool
+		DualClassRuntimePoolBuilder localpool = this.localpool;
+		DualClassRuntimePoolBuilder jarpool = this.jarpool;
+		DualPoolEncodeResult der = (jarpool == null ?
+			DualPoolEncoder.encode(localpool, lpd) :
+			DualPoolEncoder.encodeLayered(localpool, jarpool, lpd));
+		
+		// Static pool
+		header.writeSectionAddressInt(lpd, der.staticpooloff);
+		header.writeInt(der.staticpoolsize);
+		
+		// Run-time pool
+		header.writeSectionAddressInt(lpd, der.runtimepooloff);
+		header.writeInt(der.runtimepoolsize);
+		
+		// Write end magic number, which is at the end of the file
+		TableSectionOutputStream.Section eofmagic = output.addSection(4);
+		eofmagic.writeInt(MinimizedClassHeader.END_MAGIC_NUMBER);
+		
+		// Write resulting file
+		output.writeTo(__os);
+	}
+	
+	/**
+	 * Translates the class and its methods, this does not use the Jar or
+	 * ROM pool so multiple classes may be translated at the same time.
+	 *
+	 * @throws IOException On write errors.
+	 * @since 2026/10/18
+	 */
+	final void translate()
+		throws IOException
+	{
 		// The input class
 		ClassFile input = this.input;
 		
@@ -208,29 +343,9 @@ public final class Minimizer
 		// Not used anymore
 		header.writeInt(0);
 		
-		// Where our pools are going
-		TableSectionOutputStream.Section lpd = output.addSection();
-		
-		// Encode the local pool or the local pool on top of the JAR pool
-		DualClassRuntimePoolBuilder jarpool = this.jarpool;
-		DualPoolEncodeResult der = (jarpool == null ?
-			DualPoolEncoder.encode(localpool, lpd) :
-			DualPoolEncoder.encodeLayered(localpool, jarpool, lpd));
-		
-		// Static pool
-		header.writeSectionAddressInt(lpd, der.staticpooloff);
-		header.writeInt(der.staticpoolsize);
-		
-		// Run-time pool
-		header.writeSectionAddressInt(lpd, der.runtimepooloff);
-		header.writeInt(der.runtimepoolsize);
-		
-		// Write end magic number, which is at the end of the file
-		TableSectionOutputStream.Section eofmagic = output.addSection(4);
-		eofmagic.writeInt(MinimizedClassHeader.END_MAGIC_NUMBER);
-		
-		// Write resulting file
-		output.writeTo(__os);
+		// The pools are written when finished
+		this._output = output;
+		this._header = header;
 	}
 	
 	/**
@@ -383,6 +498,11 @@ public final class Minimizer
 				// to handle by the VM
 				NativeCode rc = m.nativeCode();
 				
+				// Optimize the code, if requested
+				NativeCodeOptimizer optimizer = this.optimizer;
+				if (optimizer != null)
+					rc = optimizer.optimize(rc);
+				
 				// Encode data to bytes
 				try
 				{
@@ -693,6 +813,25 @@ public final class Minimizer
 	public static byte[] minimize(DualClassRuntimePoolBuilder __dp,
 		ClassFile __cf)
 		throws InvalidClassFormatException, IOException, NullPointerException
+	{
+		return Minimizer.minimize(__dp, null, __cf);
+	}
+	
+	/**
+	 * Minimizes the given class and returns the minimized version of it.
+	 *
+	 * @param __dp Dual constant pool, this may be {@code null}.
+	 * @param __opt The native code optimizer, this may be {@code null}.
+	 * @param __cf The class to minimize.
+	 * @return The resulting minimized class as a byte array.
+	 * @throws InvalidClassFormatException If the class is not formatted
+	 * correctly.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static byte[] minimize(DualClassRuntimePoolBuilder __dp,
+		NativeCodeOptimizer __opt, ClassFile __cf)
+		throws InvalidClassFormatException, IOException, NullPointerException
 	{
 		if (__cf == null)
 			throw new NullPointerException("NARG");
@@ -702,7 +841,7 @@ public final class Minimizer
 		try (ByteArrayOutputStream baos = new ByteArrayOutputStream(1048576))
 		{
 			// Output minimized code to the byte array
-			Minimizer.minimize(__dp, __cf, baos);
+			Minimizer.minimize(__dp, __opt, __cf, baos);
 			
 			// The class data is in the resulting byte array
 			return baos.toByteArray();
@@ -741,11 +880,78 @@ public final class Minimizer
 	public static void minimize(DualClassRuntimePoolBuilder __dp,
 		ClassFile __cf, OutputStream __os)
 		throws InvalidClassFormatException, IOException, NullPointerException
+	{
+		Minimizer.minimize(__dp, null, __cf, __os);
+	}
+	
+	/**
+	 * Minimizes the class file so that it is in a more compact format as
+	 * needed.
+	 *
+	 * @param __dp Dual constant pool, may be {@code null}.
+	 * @param __opt The native code optimizer, may be {@code null}.
+	 * @param __cf The class file to minimize.
+	 * @param __os The stream to write the minimized format to.
+	 * @throws InvalidClassFormatException If the class format is not valid.
+	 * @throws IOException On write errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static void minimize(DualClassRuntimePoolBuilder __dp,
+		NativeCodeOptimizer __opt, ClassFile __cf, OutputStream __os)
+		throws InvalidClassFormatException, IOException, NullPointerException
 	{
 		if (__cf == null || __os == null)
 			throw new NullPointerException("NARG");
 		
-		new Minimizer(__dp, __cf).__run(__os);
+		Minimizer minimizer = new Minimizer(__dp, __opt, __cf);
+		minimizer.translate();
+		minimizer.finish(__os);
+	}
+	
+	/**
+	 * Minimizes multiple classes at once using multiple threads, the result
+	 * is the same as if each class were minimized in order.
+	 *
+	 * @param __dp Dual constant pool, may be {@code null}.
+	 * @param __opt The native code optimizer, may be {@code null}.
+	 * @param __cache The cache of minimized classes, may be {@code null}.
+	 * @param __threads The number of threads to use, if this is one or
+	 * lower then the classes are minimized in the current thread.
+	 * @param __classes The class files to minimize.
+	 * @return The resulting minimized classes, in the same order.
+	 * @throws InvalidClassFormatException If a class is not valid.
+	 * @throws IOException On read or write errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static byte[][] minimizeAll(DualClassRuntimePoolBuilder __dp,
+		NativeCodeOptimizer __opt, MinimizerCache __cache, int __threads,
+		byte[]... __classes)
+		throws InvalidClassFormatException, IOException, NullPointerException
+	{
+		if (__classes == null)
+			throw new NullPointerException("NARG");
+		
+		// Translate everything first
+		int n = __classes.length;
+		Minimizer[] translated = new __ParallelMinimizer__(__dp, __opt,
+			__cache, __classes).run(__threads);
+		
+		// Then merge every pool in order
+		byte[][] rv = new byte[n][];
+		for (int i = 0; i < n; i++)
+			try (ByteArrayOutputStream baos = new ByteArrayOutputStream(
+				__classes[i].length))
+			{
+				translated[i].finish(baos);
+				rv[i] = baos.toByteArray();
+				
+				// Not needed anymore
+				translated[i] = null;
+			}
+		
+		return rv;
 	}
 	
 	/**
@@ -0,0 +1,48 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.mini;
+
+/**
+ * This is a cache of minimized classes which is keyed by the bytes of the
+ * input class, so that classes which have not changed do not need to be
+ * translated again.
+ *
+ * The cached classes are minimized without a Jar or ROM pool, so they do
+ * not depend on any other class. Any settings which change the result of
+ * minimization must be part of the key used by the cache.
+ *
+ * Caches may be used by multiple threads at once.
+ *
+ * @since 2026/10/18
+ */
+public interface MinimizerCache
+{
+	/**
+	 * Returns the minimized form of the given class.
+	 *
+	 * @param __class The bytes of the input class.
+	 * @return The minimized class or {@code null} if it is not cached.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	byte[] get(byte[] __class)
+		throws NullPointerException;
+	
+	/**
+	 * Stores the minimized form of the given class.
+	 *
+	 * @param __class The bytes of the input class.
+	 * @param __min The minimized class.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	void put(byte[] __class, byte[] __min)
+		throws NullPointerException;
+}
@@ -0,0 +1,233 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.mini;
+
+import dev.shadowtail.classfile.nncc.NativeCodeOptimizer;
+import dev.shadowtail.classfile.pool.DualClassRuntimePoolBuilder;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import net.multiphasicapps.classfile.ClassFile;
+
+/**
+ * This translates multiple classes at once, each thread takes the next
+ * class which has not been translated yet.
+ *
+ * Only the translation is done here since each class has its own local
+ * pool, merging the local pools into the Jar or ROM pool must be done in
+ * order afterwards.
+ *
+ * If there is a cache then classes are minimized without the Jar or ROM
+ * pool and stored in the cache, the minimized class is then used to
+ * initialize the {@link Minimizer}. This is done for classes which were
+ * just minimized as well so that the result is the same either way.
+ *
+ * @since 2026/10/18
+ */
+final class __ParallelMinimizer__
+	implements Runnable
+{
+	/** The Jar or ROM pool, is optional. */
+	protected final DualClassRuntimePoolBuilder dualpool;
+	
+	/** The native code optimizer, is optional. */
+	protected final NativeCodeOptimizer optimizer;
+	
+	/** The cache of minimized classes, is optional. */
+	protected final MinimizerCache cache;
+	
+	/** The classes to translate. */
+	private final byte[][] _classes;
+	
+	/** The translated classes. */
+	private final Minimizer[] _translated;
+	
+	/** The next class to translate. */
+	private int _next;
+	
+	/** The first failure which occurred. */
+	private Throwable _failure;
+	
+	/**
+	 * Initializes the translator.
+	 *
+	 * @param __dp The Jar or ROM pool, may be {@code null}.
+	 * @param __opt The native code optimizer, may be {@code null}.
+	 * @param __cache The cache of minimized classes, may be {@code null}.
+	 * @param __classes The classes to translate.
+	 * @throws NullPointerException If no classes were specified or any
+	 * are {@code null}.
+	 * @since 2026/10/18
+	 */
+	__ParallelMinimizer__(DualClassRuntimePoolBuilder __dp,
+		NativeCodeOptimizer __opt, MinimizerCache __cache,
+		byte[]... __classes)
+		throws NullPointerException
+	{
+		if (__classes == null)
+			throw new NullPointerException("NARG");
+		
+		for (byte[] b : __classes)
+			if (b == null)
+				throw new NullPointerException("NARG");
+		
+		this.dualpool = __dp;
+		this.optimizer = __opt;
+		this.cache = __cache;
+		this._classes = __classes.clone();
+		this._translated = new Minimizer[__classes.length];
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void run()
+	{
+		byte[][] classes = this._classes;
+		Minimizer[] translated = this._translated;
+		
+		for (;;)
+		{
+			// Claim the next class, stop if something failed
+			int dx;
+			synchronized (this)
+			{
+				dx = this._next;
+				if (dx >= classes.length || this._failure != null)
+					return;
+				this._next = dx + 1;
+			}
+			
+			try
+			{
+				// Joining the threads makes this visible to the caller
+				translated[dx] = this.__translate(classes[dx]);
+			}
+			
+			// Record the failure so that the caller may throw it
+			catch (IOException|RuntimeException|Error e)
+			{
+				synchronized (this)
+				{
+					if (this._failure == null)
+						this._failure = e;
+				}
+				
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Translates all of the classes.
+	 *
+	 * @param __threads The number of threads to use, if this is one or
+	 * lower then the current thread is used.
+	 * @return The translated classes.
+	 * @throws IOException On read or write errors.
+	 * @since 2026/10/18
+	 */
+	final Minimizer[] run(int __threads)
+		throws IOException
+	{
+		// There is no point in having more threads than classes
+		int n = Math.min(__threads, this._classes.length);
+		
+		// Translate in the current thread
+		if (n <= 1)
+			this.run();
+		
+		// Otherwise start threads and wait for them to finish
+		else
+		{
+			Thread[] threads = new Thread[n];
+			for (int i = 0; i < n; i++)
+			{
+				threads[i] = new Thread(this, "Minimizer-" + i);
+				threads[i].start();
+			}
+			
+			boolean interrupted = false;
+			for (Thread thread : threads)
+				for (;;)
+					try
+					{
+						thread.join();
+						break;
+					}
+					catch (InterruptedException e)
+					{
+						interrupted = true;
+					}
+			
+			// Keep the interrupt for the caller
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+		
+		// Throw the first failure as if this were done in one thread
+		Throwable failure;
+		synchronized (this)
+		{
+			failure = this._failure;
+		}
+		
+		if (failure instanceof IOException)
+			throw (IOException)failure;
+		if (failure instanceof RuntimeException)
+			throw (RuntimeException)failure;
+		if (failure instanceof Error)
+			throw (Error)failure;
+		
+		return this._translated;
+	}
+	
+	/**
+	 * Translates the given class.
+	 *
+	 * @param __class The class to translate.
+	 * @return The translated class.
+	 * @throws IOException On read or write errors.
+	 * @since 2026/10/18
+	 */
+	private Minimizer __translate(byte[] __class)
+		throws IOException
+	{
+		// Without a cache the class is just translated
+		MinimizerCache cache = this.cache;
+		if (cache == null)
+		{
+			Minimizer rv = new Minimizer(this.dualpool, this.optimizer,
+				ClassFile.decode(new ByteArrayInputStream(__class)));
+			rv.translate();
+			return rv;
+		}
+		
+		// Use the cached class, if it is not valid then it is replaced
+		byte[] min = cache.get(__class);
+		if (min != null)
+			try
+			{
+				return new Minimizer(this.dualpool, min);
+			}
+			catch (IOException|RuntimeException e)
+			{
+				// Minimize it again
+			}
+		
+		// Minimize the class by itself and cache it
+		min = Minimizer.minimize(null, this.optimizer,
+			ClassFile.decode(new ByteArrayInputStream(__class)));
+		cache.put(__class, min);
+		
+		return new Minimizer(this.dualpool, min);
+	}
+}
@@ -0,0 +1,477 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+import dev.shadowtail.classfile.xlate.CompareType;
+import dev.shadowtail.classfile.xlate.MathType;
+import net.multiphasicapps.classfile.InstructionJumpTarget;
+
+/**
+ * This calculates math on registers with known values ahead of time, and
+ * merges chains of constant additions so that the intermediate results are
+ * not needed. Comparisons of known values become plain jumps or are removed.
+ *
+ * Values are only followed within a straight run of instructions, they are
+ * forgotten at any jump target. The only value known at the start of a run
+ * is the zero register, so this pass does nothing if the code writes to
+ * the zero register.
+ *
+ * @since 2026/10/18
+ */
+public final class ConstantFoldingPass
+	implements NativeCodePass
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final String name()
+	{
+		return "constant-folding";
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int run(NativeCodeEditor __code)
+		throws NullPointerException
+	{
+		if (__code == null)
+			throw new NullPointerException("NARG");
+		
+		int n = __code.length();
+		
+		// Constants are loaded from the zero register, so it must be zero
+		long zero = NativeCodeEditor.bit(NativeCode.ZERO_REGISTER);
+		for (int i = 0; i < n; i++)
+			if ((NativeCodeEditor.defines(__code.get(i)) & zero) != 0)
+				return 0;
+		
+		boolean[] targets = __code.jumpTargets();
+		
+		// Registers with a known value
+		long known = zero;
+		int[] value = new int[NativeCode.MAX_REGISTERS];
+		
+		// Registers which are another register plus a constant
+		long offset = 0;
+		int[] offBase = new int[NativeCode.MAX_REGISTERS];
+		int[] offValue = new int[NativeCode.MAX_REGISTERS];
+		
+		int changes = 0;
+		for (int i = 0; i < n; i++)
+		{
+			// Other code may jump here, so nothing is known
+			if (targets[i])
+			{
+				known = zero;
+				offset = 0;
+			}
+			
+			NativeInstruction inst = __code.get(i);
+			int op = inst.operation();
+			
+			// The value the result register will have, if it is known
+			boolean result = false;
+			int resultValue = 0;
+			
+			// The register and offset the result will be, if it is known
+			boolean resultOff = false;
+			int resultBase = 0,
+				resultOffValue = 0;
+			
+			// Turn register math into constant math, which is then handled
+			// as such
+			if (inst.encoding() == NativeInstructionType.MATH_REG_INT)
+			{
+				NativeInstruction cm = ConstantFoldingPass.__constantMath(
+					inst, known, value);
+				if (cm != null)
+				{
+					inst = cm;
+					op = cm.operation();
+				}
+			}
+			
+			NativeInstruction re = inst;
+			switch (inst.encoding())
+			{
+				case NativeInstructionType.COPY:
+					{
+						int a = inst.intArgument(0);
+						
+						if ((known & NativeCodeEditor.bit(a)) != 0)
+						{
+							result = true;
+							resultValue = value[a];
+						}
+						
+						else if ((offset & NativeCodeEditor.bit(a)) != 0)
+						{
+							resultOff = true;
+							resultBase = offBase[a];
+							resultOffValue = offValue[a];
+						}
+					}
+					break;
+					
+				case NativeInstructionType.MATH_CONST_INT:
+					{
+						MathType mf = MathType.of(op & 0x0F);
+						int a = inst.intArgument(0),
+							b = inst.intArgument(1),
+							c = inst.intArgument(2);
+						
+						// Calculate the value
+						long v;
+						if ((known & NativeCodeEditor.bit(a)) != 0 &&
+							Long.MIN_VALUE != (v = ConstantFoldingPass.
+								__calculate(mf, value[a], b)))
+						{
+							result = true;
+							resultValue = (int)v;
+							re = ConstantFoldingPass.__constant((int)v, c);
+						}
+						
+						// Math which does nothing
+						else if (ConstantFoldingPass.__identity(mf, b))
+							re = new NativeInstruction(
+								NativeInstructionType.COPY, a, c);
+						
+						// Merge added constants
+						else if (mf == MathType.ADD || mf == MathType.SUB)
+						{
+							int add = (mf == MathType.ADD ? b : -b);
+							
+							if ((offset & NativeCodeEditor.bit(a)) != 0)
+							{
+								add += offValue[a];
+								a = offBase[a];
+								
+								re = (add == 0 ?
+									new NativeInstruction(
+										NativeInstructionType.COPY, a, c) :
+									new NativeInstruction(
+										NativeInstructionType.MATH_CONST_INT |
+										MathType.ADD.ordinal(), a, add, c));
+							}
+							
+							// The base must remain the same
+							if (a != c)
+							{
+								resultOff = true;
+								resultBase = a;
+								resultOffValue = add;
+							}
+						}
+					}
+					break;
+					
+					// Compare known values
+				case NativeInstructionType.IF_ICMP:
+				case NativeInstructionType.IFEQ_CONST:
+					{
+						boolean ifeq = (inst.encoding() ==
+							NativeInstructionType.IFEQ_CONST);
+						CompareType ct = (ifeq ? CompareType.EQUALS :
+							CompareType.of(op & 0b111));
+						if (ct == CompareType.TRUE || ct == CompareType.FALSE)
+							break;
+						
+						int a = inst.intArgument(0),
+							b = (ifeq ? -1 : inst.intArgument(1));
+						if ((known & NativeCodeEditor.bit(a)) == 0 ||
+							(!ifeq && (known & NativeCodeEditor.bit(b)) == 0))
+							break;
+						
+						// Either always jump or never jump
+						if (ConstantFoldingPass.__compare(ct, value[a],
+							(ifeq ? inst.intArgument(1) : value[b])))
+							re = new NativeInstruction(
+								NativeInstructionType.IF_ICMP |
+								CompareType.TRUE.ordinal(),
+								NativeCode.ZERO_REGISTER,
+								NativeCode.ZERO_REGISTER,
+								new InstructionJumpTarget(
+									NativeCodeEditor.jumpTarget(inst)));
+						else
+						{
+							__code.remove(i);
+							changes++;
+							continue;
+						}
+					}
+					break;
+			}
+			
+			// Use the new instruction
+			if (!re.equals(__code.get(i)))
+			{
+				__code.set(i, re);
+				changes++;
+			}
+			
+			// Forget anything about written registers
+			long defs = NativeCodeEditor.defines(re);
+			if (defs != 0)
+			{
+				known &= ~defs;
+				offset &= ~defs;
+				
+				for (int r = 0; r < NativeCode.MAX_REGISTERS; r++)
+					if ((offset & NativeCodeEditor.bit(r)) != 0 &&
+						(defs & NativeCodeEditor.bit(offBase[r])) != 0)
+						offset &= ~NativeCodeEditor.bit(r);
+				
+				// The zero register is always zero
+				known |= zero;
+			}
+			
+			// Remember the result
+			if (result || resultOff)
+			{
+				int c = (re.encoding() == NativeInstructionType.COPY ?
+					re.intArgument(1) : re.intArgument(2));
+				
+				if (result)
+				{
+					known |= NativeCodeEditor.bit(c);
+					value[c] = resultValue;
+				}
+				
+				else
+				{
+					offset |= NativeCodeEditor.bit(c);
+					offBase[c] = resultBase;
+					offValue[c] = resultOffValue;
+				}
+			}
+			
+			// Nothing is known at the instruction following a jump away
+			if (!NativeCodeEditor.fallsThrough(re))
+			{
+				known = zero;
+				offset = 0;
+			}
+		}
+		
+		return changes;
+	}
+	
+	/**
+	 * Calculates the result of math in the same way as the CPU.
+	 *
+	 * @param __mf The math function.
+	 * @param __a The first value.
+	 * @param __b The second value.
+	 * @return The result or {@link Long#MIN_VALUE} if it cannot be
+	 * calculated.
+	 * @since 2026/10/18
+	 */
+	private static long __calculate(MathType __mf, int __a, int __b)
+	{
+		switch (__mf)
+		{
+			case ADD:		return __a + __b;
+			case SUB:		return __a - __b;
+			case MUL:		return __a * __b;
+			case NEG:		return -__a;
+			case SHL:		return __a << __b;
+			case SHR:		return __a >> __b;
+			case USHR:		return __a >>> __b;
+			case AND:		return __a & __b;
+			case OR:		return __a | __b;
+			case XOR:		return __a ^ __b;
+			case SIGNX8:	return (byte)__a;
+			case SIGNX16:	return (short)__a;
+			
+			case CMPL:
+			case CMPG:
+				return (__a < __b ? -1 : (__a == __b ? 0 : 1));
+				
+				// Division by zero must happen at run-time
+			case DIV:
+				return (__b == 0 ? Long.MIN_VALUE : __a / __b);
+			case REM:
+				return (__b == 0 ? Long.MIN_VALUE : __a % __b);
+			
+			default:
+				return Long.MIN_VALUE;
+		}
+	}
+	
+	/**
+	 * Checks if the math function gives the same result when the values are
+	 * swapped.
+	 *
+	 * @param __mf The math function.
+	 * @return If the values can be swapped.
+	 * @since 2026/10/18
+	 */
+	private static boolean __commutes(MathType __mf)
+	{
+		switch (__mf)
+		{
+			case ADD:
+			case MUL:
+			case AND:
+			case OR:
+			case XOR:
+				return true;
+			
+			default:
+				return false;
+		}
+	}
+	
+	/**
+	 * Compares two values in the same way as the CPU.
+	 *
+	 * @param __ct The comparison.
+	 * @param __a The first value.
+	 * @param __b The second value.
+	 * @return The result of the comparison.
+	 * @since 2026/10/18
+	 */
+	private static boolean __compare(CompareType __ct, int __a, int __b)
+	{
+		switch (__ct)
+		{
+			case EQUALS:				return __a == __b;
+			case NOT_EQUALS:			return __a != __b;
+			case LESS_THAN:				return __a < __b;
+			case LESS_THAN_OR_EQUALS:	return __a <= __b;
+			case GREATER_THAN:			return __a > __b;
+			case GREATER_THAN_OR_EQUALS:	return __a >= __b;
+			case TRUE:					return true;
+			default:					return false;
+		}
+	}
+	
+	/**
+	 * Returns an instruction which loads a constant.
+	 *
+	 * @param __v The value to load.
+	 * @param __r The register to load into.
+	 * @return The instruction.
+	 * @since 2026/10/18
+	 */
+	private static NativeInstruction __constant(int __v, int __r)
+	{
+		return new NativeInstruction(NativeInstructionType.MATH_CONST_INT |
+			MathType.OR.ordinal(), NativeCode.ZERO_REGISTER, __v, __r);
+	}
+	
+	/**
+	 * Turns register math into constant math, if the values which are
+	 * needed are known.
+	 *
+	 * @param __inst The register math instruction.
+	 * @param __known The registers with a known value.
+	 * @param __value The values of the registers.
+	 * @return The constant math instruction or {@code null} if the needed
+	 * values are not known.
+	 * @since 2026/10/18
+	 */
+	private static NativeInstruction __constantMath(NativeInstruction __inst,
+		long __known, int[] __value)
+	{
+		MathType mf = MathType.of(__inst.operation() & 0x0F);
+		int a = __inst.intArgument(0),
+			b = __inst.intArgument(1),
+			c = __inst.intArgument(2);
+		
+		boolean ka = ((__known & NativeCodeEditor.bit(a)) != 0),
+			kb = ((__known & NativeCodeEditor.bit(b)) != 0);
+		
+		// Operations which only use the first value do not need to know the
+		// second one
+		if (ConstantFoldingPass.__unary(mf))
+			return (ka ? ConstantFoldingPass.__math(mf, a, 0, c) : null);
+		
+		if (kb)
+			return ConstantFoldingPass.__math(mf, a, __value[b], c);
+		
+		if (ka && ConstantFoldingPass.__commutes(mf))
+			return ConstantFoldingPass.__math(mf, b, __value[a], c);
+		
+		return null;
+	}
+	
+	/**
+	 * Checks if the math function with the given constant just results in
+	 * the first value.
+	 *
+	 * @param __mf The math function.
+	 * @param __b The constant.
+	 * @return If the result is the first value.
+	 * @since 2026/10/18
+	 */
+	private static boolean __identity(MathType __mf, int __b)
+	{
+		switch (__mf)
+		{
+			case ADD:
+			case SUB:
+			case OR:
+			case XOR:
+				return __b == 0;
+				
+				// Only the lower bits are used when shifting
+			case SHL:
+			case SHR:
+			case USHR:
+				return (__b & 0x1F) == 0;
+			
+			case MUL:
+			case DIV:
+				return __b == 1;
+			
+			case AND:
+				return __b == -1;
+			
+			default:
+				return false;
+		}
+	}
+	
+	/**
+	 * Returns constant math instruction.
+	 *
+	 * @param __mf The math function.
+	 * @param __a The register.
+	 * @param __b The constant.
+	 * @param __c The result register.
+	 * @return The instruction.
+	 * @since 2026/10/18
+	 */
+	private static NativeInstruction __math(MathType __mf, int __a, int __b,
+		int __c)
+	{
+		return new NativeInstruction(NativeInstructionType.MATH_CONST_INT |
+			__mf.ordinal(), __a, __b, __c);
+	}
+	
+	/**
+	 * Checks if the math function only uses the first value.
+	 *
+	 * @param __mf The math function.
+	 * @return If only the first value is used.
+	 * @since 2026/10/18
+	 */
+	private static boolean __unary(MathType __mf)
+	{
+		return __mf == MathType.NEG || __mf == MathType.SIGNX8 ||
+			__mf == MathType.SIGNX16;
+	}
+}
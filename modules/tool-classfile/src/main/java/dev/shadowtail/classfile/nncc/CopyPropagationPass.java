@@ -0,0 +1,117 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+/**
+ * This replaces reads of registers which are copies of other registers with
+ * reads of the original register, so that the copy may later be removed if
+ * it is no longer used.
+ *
+ * Copies are only followed within a straight run of instructions, they are
+ * forgotten at any jump target.
+ *
+ * @since 2026/10/18
+ */
+public final class CopyPropagationPass
+	implements NativeCodePass
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final String name()
+	{
+		return "copy-propagation";
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int run(NativeCodeEditor __code)
+		throws NullPointerException
+	{
+		if (__code == null)
+			throw new NullPointerException("NARG");
+		
+		int n = __code.length();
+		boolean[] targets = __code.jumpTargets();
+		
+		// The register each register is a copy of
+		int[] copyOf = new int[NativeCode.MAX_REGISTERS];
+		CopyPropagationPass.__forget(copyOf);
+		
+		int changes = 0;
+		for (int i = 0; i < n; i++)
+		{
+			// Other code may jump here, so nothing is known
+			if (targets[i])
+				CopyPropagationPass.__forget(copyOf);
+			
+			NativeInstruction inst = __code.get(i);
+			
+			// Read the original registers instead
+			NativeInstruction re = NativeCodeEditor.rename(inst, copyOf,
+				null);
+			if (re != inst)
+			{
+				__code.set(i, re);
+				inst = re;
+				changes++;
+			}
+			
+			// Copying a register to itself does nothing
+			boolean copy = (inst.encoding() == NativeInstructionType.COPY);
+			int from = (copy ? inst.intArgument(0) : -1),
+				to = (copy ? inst.intArgument(1) : -1);
+			if (copy && from == to)
+			{
+				__code.remove(i);
+				changes++;
+				continue;
+			}
+			
+			// Forget any copies which involve registers that were written
+			long defs = NativeCodeEditor.defines(inst);
+			if (defs != 0)
+				for (int r = 0; r < NativeCode.MAX_REGISTERS; r++)
+				{
+					int orig = copyOf[r];
+					if (orig != r && ((defs & (NativeCodeEditor.bit(r) |
+						NativeCodeEditor.bit(orig))) != 0))
+						copyOf[r] = r;
+				}
+			
+			// Remember the copy
+			if (copy)
+				copyOf[to] = from;
+			
+			// Nothing is known at the instruction following a jump away
+			if (!NativeCodeEditor.fallsThrough(inst))
+				CopyPropagationPass.__forget(copyOf);
+		}
+		
+		return changes;
+	}
+	
+	/**
+	 * Forgets all copies.
+	 *
+	 * @param __copyOf The copies to forget.
+	 * @since 2026/10/18
+	 */
+	private static void __forget(int[] __copyOf)
+	{
+		for (int r = 0, n = __copyOf.length; r < n; r++)
+			__copyOf[r] = r;
+	}
+}
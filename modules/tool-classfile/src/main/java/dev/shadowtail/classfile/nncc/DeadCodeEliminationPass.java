@@ -0,0 +1,109 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+/**
+ * This removes instructions which can never be reached, jumps which do not
+ * go anywhere, copies of a register to itself, and instructions whose
+ * results are never read.
+ *
+ * @since 2026/10/18
+ */
+public final class DeadCodeEliminationPass
+	implements NativeCodePass
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final String name()
+	{
+		return "dead-code-elimination";
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int run(NativeCodeEditor __code)
+		throws NullPointerException
+	{
+		if (__code == null)
+			throw new NullPointerException("NARG");
+		
+		int n = __code.length();
+		int changes = 0;
+		
+		// Remove code which cannot be reached
+		boolean[] reachable = __code.reachable();
+		for (int i = 0; i < n; i++)
+			if (!reachable[i] && __code.get(i) != null)
+			{
+				__code.remove(i);
+				changes++;
+			}
+		
+		// Remove instructions which do nothing, going backwards so that
+		// removing a jump can make the one before it useless
+		for (int i = n - 1; i >= 0; i--)
+		{
+			NativeInstruction inst = __code.get(i);
+			if (inst == null)
+				continue;
+			
+			// Copy to the same register
+			boolean useless;
+			if (inst.encoding() == NativeInstructionType.COPY)
+				useless = (inst.intArgument(0) == inst.intArgument(1));
+			
+			// Jump which never jumps or jumps to the next instruction
+			else if (inst.encoding() == NativeInstructionType.IF_ICMP ||
+				inst.encoding() == NativeInstructionType.IFEQ_CONST)
+			{
+				int jt = NativeCodeEditor.jumpTarget(inst);
+				useless = (jt < 0 || __code.next(jt) == __code.next(i + 1));
+			}
+			
+			else
+				useless = false;
+			
+			if (useless)
+			{
+				__code.remove(i);
+				changes++;
+			}
+		}
+		
+		// Remove instructions whose results are never read, this is repeated
+		// since removing one instruction can make the ones which calculated
+		// its input unused
+		for (boolean again = true; again;)
+		{
+			again = false;
+			
+			long[] liveOut = __code.liveOut();
+			for (int i = n - 1; i >= 0; i--)
+			{
+				NativeInstruction inst = __code.get(i);
+				if (inst == null || !NativeCodeEditor.isPure(inst) ||
+					(NativeCodeEditor.defines(inst) & liveOut[i]) != 0)
+					continue;
+				
+				__code.remove(i);
+				changes++;
+				again = true;
+			}
+		}
+		
+		return changes;
+	}
+}
@@ -0,0 +1,167 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+import dev.shadowtail.classfile.xlate.CompareType;
+import net.multiphasicapps.classfile.InstructionJumpTarget;
+
+/**
+ * This changes jumps which land on other jumps so that they go directly to
+ * where the other jump would go. Conditional jumps over a single
+ * unconditional jump are inverted, and jumps which land on a return just
+ * return.
+ *
+ * @since 2026/10/18
+ */
+public final class JumpThreadingPass
+	implements NativeCodePass
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final String name()
+	{
+		return "jump-threading";
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int run(NativeCodeEditor __code)
+		throws NullPointerException
+	{
+		if (__code == null)
+			throw new NullPointerException("NARG");
+		
+		int n = __code.length();
+		boolean[] targets = __code.jumpTargets();
+		
+		int changes = 0;
+		for (int i = 0; i < n; i++)
+		{
+			NativeInstruction inst = __code.get(i);
+			if (inst == null)
+				continue;
+			
+			int jt = NativeCodeEditor.jumpTarget(inst);
+			if (jt < 0)
+				continue;
+			
+			// Follow the chain of jumps, this is limited in case the jumps
+			// loop around
+			int at = jt;
+			for (int hops = 0; hops < n; hops++)
+			{
+				int land = __code.next(at);
+				if (land >= n || land == i)
+					break;
+				
+				// Unconditional jumps always go to their target, while the
+				// same condition will still be true since no registers were
+				// changed
+				NativeInstruction next = __code.get(land);
+				if (NativeCodeEditor.isGoto(next) ||
+					(next.operation() == inst.operation() &&
+					next.argument(0).equals(inst.argument(0)) &&
+					next.argument(1).equals(inst.argument(1))))
+				{
+					int nt = NativeCodeEditor.jumpTarget(next);
+					if (nt == land)
+						break;
+					at = nt;
+				}
+				else
+					break;
+			}
+			
+			// Jump to the end of the chain instead
+			if (at != jt)
+			{
+				inst = NativeCodeEditor.withJumpTarget(inst, at);
+				__code.set(i, inst);
+				changes++;
+			}
+			
+			// Jumping to a return can just return
+			int land = __code.next(at);
+			if (NativeCodeEditor.isGoto(inst) && land < n &&
+				__code.get(land).encoding() == NativeInstructionType.RETURN)
+			{
+				__code.set(i, __code.get(land));
+				changes++;
+				continue;
+			}
+			
+			// A condition which jumps over a single jump can instead jump
+			// to where that jump goes, if the condition is not true
+			int over = __code.next(i + 1);
+			if (inst.encoding() == NativeInstructionType.IF_ICMP &&
+				!NativeCodeEditor.isGoto(inst) && over < n &&
+				!targets[over] && land == __code.next(over + 1) &&
+				NativeCodeEditor.isGoto(__code.get(over)))
+			{
+				CompareType ct = JumpThreadingPass.__invert(
+					CompareType.of(inst.operation() & 0b111));
+				
+				__code.set(i, new NativeInstruction(
+					NativeInstructionType.IF_ICMP | ct.ordinal(),
+					inst.argument(0), inst.argument(1),
+					new InstructionJumpTarget(NativeCodeEditor.jumpTarget(
+						__code.get(over)))));
+				__code.remove(over);
+				changes++;
+			}
+		}
+		
+		return changes;
+	}
+	
+	/**
+	 * Returns the comparison which is true when the given comparison is
+	 * false.
+	 *
+	 * @param __ct The comparison.
+	 * @return The inverted comparison.
+	 * @since 2026/10/18
+	 */
+	private static CompareType __invert(CompareType __ct)
+	{
+		switch (__ct)
+		{
+			case EQUALS:
+				return CompareType.NOT_EQUALS;
+			
+			case NOT_EQUALS:
+				return CompareType.EQUALS;
+			
+			case LESS_THAN:
+				return CompareType.GREATER_THAN_OR_EQUALS;
+			
+			case LESS_THAN_OR_EQUALS:
+				return CompareType.GREATER_THAN;
+			
+			case GREATER_THAN:
+				return CompareType.LESS_THAN_OR_EQUALS;
+			
+			case GREATER_THAN_OR_EQUALS:
+				return CompareType.LESS_THAN;
+			
+			case TRUE:
+				return CompareType.FALSE;
+			
+			default:
+				return CompareType.TRUE;
+		}
+	}
+}
@@ -0,0 +1,917 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+import dev.shadowtail.classfile.xlate.CompareType;
+import dev.shadowtail.classfile.xlate.MathType;
+import net.multiphasicapps.classfile.InstructionJumpTarget;
+
+/**
+ * This is a modifiable copy of {@link NativeCode} which is used by the
+ * optimization passes, it also provides the register and control flow
+ * information that the passes need.
+ *
+ * Removed instructions are left as gaps until {@link #compact()} is called
+ * so that instruction indexes and jump targets remain the same while a pass
+ * is running. Gaps do nothing and just fall through to the next
+ * instruction.
+ *
+ * Sets of registers are stored as bits within a {@code long} since there
+ * are only {@link NativeCode#MAX_REGISTERS} registers.
+ *
+ * @since 2026/10/18
+ */
+public final class NativeCodeEditor
+{
+	/** Registers which are copied into called methods. */
+	public static final long GLOBAL_REGISTERS =
+		0xFFL;
+	
+	/**
+	 * Registers which are copied back from called methods, the zero
+	 * register is not included since it is zero in every method.
+	 */
+	public static final long RETURNED_REGISTERS =
+		0x3EL;
+	
+	/** The register is not used by the argument. */
+	private static final byte _NONE =
+		0;
+	
+	/** The register is read by the argument. */
+	private static final byte _USE =
+		1;
+	
+	/** The register is written by the argument. */
+	private static final byte _DEF =
+		2;
+	
+	/** The instructions, removed instructions are {@code null}. */
+	private NativeInstruction[] _code;
+	
+	/** The number of removed instructions. */
+	private int _removed;
+	
+	/**
+	 * Initializes the editor for the given code.
+	 *
+	 * @param __code The code to edit.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public NativeCodeEditor(NativeCode __code)
+		throws NullPointerException
+	{
+		if (__code == null)
+			throw new NullPointerException("NARG");
+		
+		int n = __code.length();
+		NativeInstruction[] code = new NativeInstruction[n];
+		for (int i = 0; i < n; i++)
+			code[i] = __code.get(i);
+		
+		this._code = code;
+	}
+	
+	/**
+	 * Removes all of the gaps left by removed instructions, jumps are
+	 * adjusted accordingly.
+	 *
+	 * @return The number of instructions which were removed.
+	 * @since 2026/10/18
+	 */
+	public final int compact()
+	{
+		int removed = this._removed;
+		if (removed == 0)
+			return 0;
+		
+		// Determine where every instruction moves to, removed instructions
+		// become the instruction which follows them
+		NativeInstruction[] code = this._code;
+		int n = code.length;
+		int[] moved = new int[n + 1];
+		for (int i = 0, at = 0; i <= n; i++)
+		{
+			moved[i] = at;
+			if (i < n && code[i] != null)
+				at++;
+		}
+		
+		// Move instructions down and adjust their jumps
+		NativeInstruction[] rv = new NativeInstruction[n - removed];
+		for (int i = 0; i < n; i++)
+		{
+			NativeInstruction inst = code[i];
+			if (inst == null)
+				continue;
+			
+			// No-operations keep their target even though they never jump
+			int jt = NativeCodeEditor.__target(inst);
+			if (jt >= 0 && moved[jt] != jt)
+				inst = NativeCodeEditor.__retarget(inst, moved[jt]);
+			
+			rv[moved[i]] = inst;
+		}
+		
+		this._code = rv;
+		this._removed = 0;
+		return removed;
+	}
+	
+	/**
+	 * Returns the instruction at the given index.
+	 *
+	 * @param __dx The index to get.
+	 * @return The instruction or {@code null} if it was removed.
+	 * @throws IndexOutOfBoundsException If the index is not within bounds.
+	 * @since 2026/10/18
+	 */
+	public final NativeInstruction get(int __dx)
+		throws IndexOutOfBoundsException
+	{
+		return this._code[__dx];
+	}
+	
+	/**
+	 * Returns which instructions are the target of a jump.
+	 *
+	 * @return The array of jump targets.
+	 * @since 2026/10/18
+	 */
+	public final boolean[] jumpTargets()
+	{
+		NativeInstruction[] code = this._code;
+		int n = code.length;
+		
+		boolean[] rv = new boolean[n];
+		for (int i = 0; i < n; i++)
+		{
+			NativeInstruction inst = code[i];
+			if (inst == null)
+				continue;
+			
+			int jt = NativeCodeEditor.jumpTarget(inst);
+			if (jt >= 0 && jt < n)
+				rv[jt] = true;
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * Returns the length of the code including any gaps.
+	 *
+	 * @return The code length.
+	 * @since 2026/10/18
+	 */
+	public final int length()
+	{
+		return this._code.length;
+	}
+	
+	/**
+	 * Calculates the registers which are live before each instruction, that
+	 * is registers which may be read before they are written.
+	 *
+	 * @return The live registers before each instruction, the last entry
+	 * is for the end of the code.
+	 * @since 2026/10/18
+	 */
+	public final long[] liveIn()
+	{
+		NativeInstruction[] code = this._code;
+		int n = code.length;
+		
+		// Anything could be read if the code runs off the end
+		long[] rv = new long[n + 1];
+		rv[n] = ~0L;
+		
+		// Repeat until nothing changes, going backwards takes the least
+		// number of iterations
+		for (boolean changed = true; changed;)
+		{
+			changed = false;
+			
+			for (int i = n - 1; i >= 0; i--)
+			{
+				NativeInstruction inst = code[i];
+				
+				long live;
+				if (inst == null)
+					live = rv[i + 1];
+				else
+				{
+					live = 0;
+					if (NativeCodeEditor.fallsThrough(inst))
+						live = rv[i + 1];
+					
+					int jt = NativeCodeEditor.jumpTarget(inst);
+					if (jt >= 0)
+						live |= rv[Math.min(jt, n)];
+					
+					live = NativeCodeEditor.uses(inst) |
+						(live & ~NativeCodeEditor.defines(inst));
+				}
+				
+				if (live != rv[i])
+				{
+					rv[i] = live;
+					changed = true;
+				}
+			}
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * Calculates the registers which are live after each instruction.
+	 *
+	 * @return The live registers after each instruction.
+	 * @since 2026/10/18
+	 */
+	public final long[] liveOut()
+	{
+		NativeInstruction[] code = this._code;
+		int n = code.length;
+		long[] in = this.liveIn();
+		
+		long[] rv = new long[n];
+		for (int i = 0; i < n; i++)
+		{
+			NativeInstruction inst = code[i];
+			
+			long live = 0;
+			if (inst == null || NativeCodeEditor.fallsThrough(inst))
+				live = in[i + 1];
+			
+			int jt = (inst == null ? -1 : NativeCodeEditor.jumpTarget(inst));
+			if (jt >= 0)
+				live |= in[Math.min(jt, n)];
+			
+			rv[i] = live;
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * Returns the index of the first instruction at or after the given
+	 * index which was not removed.
+	 *
+	 * @param __dx The index to start at.
+	 * @return The index of the instruction or the code length if there is
+	 * none.
+	 * @since 2026/10/18
+	 */
+	public final int next(int __dx)
+	{
+		NativeInstruction[] code = this._code;
+		int n = code.length;
+		
+		while (__dx < n && code[__dx] == null)
+			__dx++;
+		return Math.min(__dx, n);
+	}
+	
+	/**
+	 * Returns which instructions can be reached from the start of the code.
+	 *
+	 * @return The array of reachable instructions.
+	 * @since 2026/10/18
+	 */
+	public final boolean[] reachable()
+	{
+		NativeInstruction[] code = this._code;
+		int n = code.length;
+		
+		boolean[] rv = new boolean[n];
+		int[] queue = new int[n + 1];
+		int qn = 0;
+		
+		if (n > 0)
+		{
+			rv[0] = true;
+			queue[qn++] = 0;
+		}
+		
+		while (qn > 0)
+		{
+			int at = queue[--qn];
+			NativeInstruction inst = code[at];
+			
+			// The next instruction
+			if ((inst == null || NativeCodeEditor.fallsThrough(inst)) &&
+				at + 1 < n && !rv[at + 1])
+			{
+				rv[at + 1] = true;
+				queue[qn++] = at + 1;
+			}
+			
+			// The jump target
+			int jt = (inst == null ? -1 : NativeCodeEditor.jumpTarget(inst));
+			if (jt >= 0 && jt < n && !rv[jt])
+			{
+				rv[jt] = true;
+				queue[qn++] = jt;
+			}
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * Removes the given instruction.
+	 *
+	 * @param __dx The index of the instruction to remove.
+	 * @throws IndexOutOfBoundsException If the index is not within bounds.
+	 * @since 2026/10/18
+	 */
+	public final void remove(int __dx)
+		throws IndexOutOfBoundsException
+	{
+		NativeInstruction[] code = this._code;
+		if (code[__dx] != null)
+		{
+			code[__dx] = null;
+			this._removed++;
+		}
+	}
+	
+	/**
+	 * Replaces the given instruction.
+	 *
+	 * @param __dx The index of the instruction to replace.
+	 * @param __i The new instruction.
+	 * @throws IllegalStateException If the instruction was removed.
+	 * @throws IndexOutOfBoundsException If the index is not within bounds.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final void set(int __dx, NativeInstruction __i)
+		throws IllegalStateException, IndexOutOfBoundsException,
+			NullPointerException
+	{
+		if (__i == null)
+			throw new NullPointerException("NARG");
+		
+		// {@squirreljme.error JC4m Cannot replace an instruction which
+		// was removed. (The index)}
+		NativeInstruction[] code = this._code;
+		if (code[__dx] == null)
+			throw new IllegalStateException("JC4m " + __dx);
+		
+		code[__dx] = __i;
+	}
+	
+	/**
+	 * Returns the edited code.
+	 *
+	 * @return The resulting native code.
+	 * @since 2026/10/18
+	 */
+	public final NativeCode toNativeCode()
+	{
+		this.compact();
+		return new NativeCode(this._code);
+	}
+	
+	/**
+	 * Returns the register set which contains just the given register.
+	 *
+	 * @param __r The register.
+	 * @return The register set.
+	 * @since 2026/10/18
+	 */
+	public static long bit(int __r)
+	{
+		return 1L << __r;
+	}
+	
+	/**
+	 * Returns the registers which are written by the instruction.
+	 *
+	 * @param __i The instruction.
+	 * @return The written registers.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static long defines(NativeInstruction __i)
+		throws NullPointerException
+	{
+		return NativeCodeEditor.__registers(__i, NativeCodeEditor._DEF);
+	}
+	
+	/**
+	 * Returns whether execution can continue on to the next instruction.
+	 *
+	 * @param __i The instruction to check.
+	 * @return If the next instruction may be executed after this one.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static boolean fallsThrough(NativeInstruction __i)
+		throws NullPointerException
+	{
+		if (__i == null)
+			throw new NullPointerException("NARG");
+		
+		switch (__i.encoding())
+		{
+			case NativeInstructionType.RETURN:
+				return false;
+			
+			case NativeInstructionType.IF_ICMP:
+				return !NativeCodeEditor.isGoto(__i);
+			
+			default:
+				return true;
+		}
+	}
+	
+	/**
+	 * Returns whether the instruction always jumps.
+	 *
+	 * @param __i The instruction to check.
+	 * @return If this is an unconditional jump.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static boolean isGoto(NativeInstruction __i)
+		throws NullPointerException
+	{
+		if (__i == null)
+			throw new NullPointerException("NARG");
+		
+		return __i.encoding() == NativeInstructionType.IF_ICMP &&
+			CompareType.of(__i.op & 0b111) == CompareType.TRUE;
+	}
+	
+	/**
+	 * Returns whether the instruction does nothing other than write its
+	 * result register, so it may be removed if the result is never read.
+	 *
+	 * @param __i The instruction to check.
+	 * @return If the instruction has no side effects.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static boolean isPure(NativeInstruction __i)
+		throws NullPointerException
+	{
+		if (__i == null)
+			throw new NullPointerException("NARG");
+		
+		switch (__i.encoding())
+		{
+			case NativeInstructionType.COPY:
+			case NativeInstructionType.LOAD_POOL:
+				return true;
+				
+				// Division by zero stops the virtual machine
+			case NativeInstructionType.MATH_CONST_INT:
+			case NativeInstructionType.MATH_REG_INT:
+				{
+					MathType mf = MathType.of(__i.op & 0x0F);
+					return mf != MathType.DIV && mf != MathType.REM;
+				}
+			
+			default:
+				return false;
+		}
+	}
+	
+	/**
+	 * Checks if every instruction in the code is understood by the
+	 * optimizer, code which is not understood cannot be optimized.
+	 *
+	 * @param __code The code to check.
+	 * @return If the code can be optimized.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static boolean isSupported(NativeCode __code)
+		throws NullPointerException
+	{
+		if (__code == null)
+			throw new NullPointerException("NARG");
+		
+		for (NativeInstruction inst : __code)
+		{
+			int enc = inst.encoding();
+			switch (enc)
+			{
+				case NativeInstructionType.ATOMIC_COMPARE_GET_AND_SET:
+				case NativeInstructionType.ATOMIC_INT_DECREMENT_AND_GET:
+				case NativeInstructionType.ATOMIC_INT_INCREMENT:
+				case NativeInstructionType.COPY:
+				case NativeInstructionType.DEBUG_ENTRY:
+				case NativeInstructionType.DEBUG_EXIT:
+				case NativeInstructionType.DEBUG_POINT:
+				case NativeInstructionType.IF_ICMP:
+				case NativeInstructionType.IFEQ_CONST:
+				case NativeInstructionType.INVOKE:
+				case NativeInstructionType.LOAD_FROM_INTARRAY:
+				case NativeInstructionType.LOAD_POOL:
+				case NativeInstructionType.MATH_CONST_INT:
+				case NativeInstructionType.MATH_REG_INT:
+				case NativeInstructionType.MEMORY_OFF_ICONST:
+				case NativeInstructionType.MEMORY_OFF_ICONST_JAVA:
+				case NativeInstructionType.MEMORY_OFF_REG:
+				case NativeInstructionType.MEMORY_OFF_REG_JAVA:
+				case NativeInstructionType.RETURN:
+				case NativeInstructionType.STORE_POOL:
+				case NativeInstructionType.STORE_TO_INTARRAY:
+				case NativeInstructionType.SYSTEM_CALL:
+					break;
+				
+				default:
+					return false;
+			}
+			
+			// Registers must be plain numbers which are in range
+			Object[] args = inst._args;
+			for (int a = 0, an = args.length; a < an; a++)
+			{
+				if (NativeCodeEditor.__role(inst, a) ==
+					NativeCodeEditor._NONE)
+					continue;
+				
+				Object arg = args[a];
+				if (arg instanceof RegisterList)
+				{
+					RegisterList rl = (RegisterList)arg;
+					for (int r = 0, rn = rl.size(); r < rn; r++)
+						if (!NativeCodeEditor.__validRegister(rl.get(r)))
+							return false;
+				}
+				
+				else if (!(arg instanceof Integer) ||
+					!NativeCodeEditor.__validRegister((Integer)arg))
+					return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Returns the target of the jump.
+	 *
+	 * @param __i The instruction to get the jump from.
+	 * @return The jump target or {@code -1} if this is not a jump.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static int jumpTarget(NativeInstruction __i)
+		throws NullPointerException
+	{
+		if (__i == null)
+			throw new NullPointerException("NARG");
+		
+		switch (__i.encoding())
+		{
+			case NativeInstructionType.IF_ICMP:
+				// A no-operation never jumps
+				if (CompareType.of(__i.op & 0b111) == CompareType.FALSE)
+					return -1;
+				return ((InstructionJumpTarget)__i._args[2]).target();
+			
+			case NativeInstructionType.IFEQ_CONST:
+				return ((InstructionJumpTarget)__i._args[2]).target();
+			
+			default:
+				return -1;
+		}
+	}
+	
+	/**
+	 * Renames the registers which are read and written by the instruction.
+	 *
+	 * @param __i The instruction to rename the registers of.
+	 * @param __uses The new registers for read registers, or {@code null}
+	 * to not change them.
+	 * @param __defs The new registers for written registers, or
+	 * {@code null} to not change them.
+	 * @return The instruction with renamed registers, or {@code __i} if
+	 * nothing changed.
+	 * @throws NullPointerException If no instruction was specified.
+	 * @since 2026/10/18
+	 */
+	public static NativeInstruction rename(NativeInstruction __i,
+		int[] __uses, int[] __defs)
+		throws NullPointerException
+	{
+		if (__i == null)
+			throw new NullPointerException("NARG");
+		
+		Object[] args = __i._args;
+		Object[] rv = null;
+		for (int a = 0, an = args.length; a < an; a++)
+		{
+			byte role = NativeCodeEditor.__role(__i, a);
+			int[] map = (role == NativeCodeEditor._USE ? __uses :
+				(role == NativeCodeEditor._DEF ? __defs : null));
+			if (map == null)
+				continue;
+			
+			Object arg = args[a];
+			Object put;
+			if (arg instanceof RegisterList)
+			{
+				RegisterList rl = (RegisterList)arg;
+				int rn = rl.size();
+				
+				int[] regs = null;
+				for (int r = 0; r < rn; r++)
+				{
+					int was = rl.get(r);
+					int now = map[was];
+					if (now != was && regs == null)
+					{
+						regs = new int[rn];
+						for (int q = 0; q < r; q++)
+							regs[q] = rl.get(q);
+					}
+					
+					if (regs != null)
+						regs[r] = now;
+				}
+				
+				put = (regs == null ? arg : new RegisterList(regs));
+			}
+			else
+			{
+				int was = (Integer)arg;
+				int now = map[was];
+				put = (now == was ? arg : Integer.valueOf(now));
+			}
+			
+			// Only copy the arguments when something changes
+			if (put != arg)
+			{
+				if (rv == null)
+					rv = args.clone();
+				rv[a] = put;
+			}
+		}
+		
+		return (rv == null ? __i : new NativeInstruction(__i.op, rv));
+	}
+	
+	/**
+	 * Returns the registers which are read by the instruction.
+	 *
+	 * @param __i The instruction.
+	 * @return The read registers.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static long uses(NativeInstruction __i)
+		throws NullPointerException
+	{
+		return NativeCodeEditor.__registers(__i, NativeCodeEditor._USE);
+	}
+	
+	/**
+	 * Returns a copy of the jump with a different target.
+	 *
+	 * @param __i The jump instruction.
+	 * @param __t The new target.
+	 * @return The new jump instruction.
+	 * @throws IllegalArgumentException If the instruction is not a jump.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static NativeInstruction withJumpTarget(NativeInstruction __i,
+		int __t)
+		throws IllegalArgumentException, NullPointerException
+	{
+		if (__i == null)
+			throw new NullPointerException("NARG");
+		
+		// {@squirreljme.error JC4n Cannot change the target of an
+		// instruction which does not jump. (The instruction)}
+		if (NativeCodeEditor.jumpTarget(__i) < 0)
+			throw new IllegalArgumentException("JC4n " + __i);
+		
+		return NativeCodeEditor.__retarget(__i, __t);
+	}
+	
+	/**
+	 * Returns the registers which are used by the instruction in the given
+	 * way, including any registers which are implicitly used.
+	 *
+	 * @param __i The instruction.
+	 * @param __role How the register is used.
+	 * @return The registers.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static long __registers(NativeInstruction __i, byte __role)
+		throws NullPointerException
+	{
+		if (__i == null)
+			throw new NullPointerException("NARG");
+		
+		boolean use = (__role == NativeCodeEditor._USE);
+		
+		// Registers which are used without being arguments
+		long rv;
+		switch (__i.encoding())
+		{
+				// The pool is always read
+			case NativeInstructionType.LOAD_POOL:
+			case NativeInstructionType.STORE_POOL:
+				rv = (use ? NativeCodeEditor.bit(NativeCode.POOL_REGISTER) :
+					0);
+				break;
+				
+				// Called methods get and set the global registers
+			case NativeInstructionType.INVOKE:
+			case NativeInstructionType.SYSTEM_CALL:
+				rv = (use ? NativeCodeEditor.GLOBAL_REGISTERS :
+					NativeCodeEditor.RETURNED_REGISTERS);
+				break;
+				
+				// The global registers go back to the caller
+			case NativeInstructionType.RETURN:
+				rv = (use ? NativeCodeEditor.RETURNED_REGISTERS : 0);
+				break;
+			
+			default:
+				rv = 0;
+				break;
+		}
+		
+		Object[] args = __i._args;
+		for (int a = 0, an = args.length; a < an; a++)
+		{
+			if (NativeCodeEditor.__role(__i, a) != __role)
+				continue;
+			
+			Object arg = args[a];
+			if (arg instanceof RegisterList)
+			{
+				RegisterList rl = (RegisterList)arg;
+				for (int r = 0, rn = rl.size(); r < rn; r++)
+					rv |= NativeCodeEditor.bit(rl.get(r));
+			}
+			else
+				rv |= NativeCodeEditor.bit((Integer)arg);
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * Returns how the given instruction argument uses its register.
+	 *
+	 * @param __i The instruction.
+	 * @param __a The argument index.
+	 * @return How the register is used.
+	 * @since 2026/10/18
+	 */
+	private static byte __role(NativeInstruction __i, int __a)
+	{
+		int enc = __i.encoding();
+		boolean load = ((__i.op & 0b1000) != 0);
+		
+		switch (enc)
+		{
+				// [use, def]
+			case NativeInstructionType.COPY:
+				return (__a == 0 ? NativeCodeEditor._USE :
+					NativeCodeEditor._DEF);
+				
+				// [use, use, def]
+			case NativeInstructionType.MATH_REG_INT:
+				return (__a == 2 ? NativeCodeEditor._DEF :
+					NativeCodeEditor._USE);
+				
+				// [use, -, def]
+			case NativeInstructionType.MATH_CONST_INT:
+				return (__a == 0 ? NativeCodeEditor._USE : (__a == 2 ?
+					NativeCodeEditor._DEF : NativeCodeEditor._NONE));
+				
+				// [use, use, -]
+			case NativeInstructionType.IF_ICMP:
+				return (__a < 2 ? NativeCodeEditor._USE :
+					NativeCodeEditor._NONE);
+				
+				// [use, -, -]
+			case NativeInstructionType.IFEQ_CONST:
+			case NativeInstructionType.ATOMIC_INT_INCREMENT:
+				return (__a == 0 ? NativeCodeEditor._USE :
+					NativeCodeEditor._NONE);
+				
+				// [def/use, use, use]
+			case NativeInstructionType.MEMORY_OFF_REG:
+			case NativeInstructionType.MEMORY_OFF_REG_JAVA:
+				return ((__a == 0 && load) ? NativeCodeEditor._DEF :
+					NativeCodeEditor._USE);
+				
+				// [def/use, use, -]
+			case NativeInstructionType.MEMORY_OFF_ICONST:
+			case NativeInstructionType.MEMORY_OFF_ICONST_JAVA:
+				if (__a == 0)
+					return (load ? NativeCodeEditor._DEF :
+						NativeCodeEditor._USE);
+				return (__a == 1 ? NativeCodeEditor._USE :
+					NativeCodeEditor._NONE);
+				
+				// [-, def]
+			case NativeInstructionType.LOAD_POOL:
+				return (__a == 1 ? NativeCodeEditor._DEF :
+					NativeCodeEditor._NONE);
+				
+				// [-, use]
+			case NativeInstructionType.STORE_POOL:
+				return (__a == 1 ? NativeCodeEditor._USE :
+					NativeCodeEditor._NONE);
+				
+				// [def, use, use]
+			case NativeInstructionType.LOAD_FROM_INTARRAY:
+				return (__a == 0 ? NativeCodeEditor._DEF :
+					NativeCodeEditor._USE);
+				
+				// [use, use, use]
+			case NativeInstructionType.STORE_TO_INTARRAY:
+				return NativeCodeEditor._USE;
+				
+				// [def, use, -]
+			case NativeInstructionType.ATOMIC_INT_DECREMENT_AND_GET:
+				return (__a == 0 ? NativeCodeEditor._DEF : (__a == 1 ?
+					NativeCodeEditor._USE : NativeCodeEditor._NONE));
+				
+				// [use, def, use, use, -]
+			case NativeInstructionType.ATOMIC_COMPARE_GET_AND_SET:
+				return (__a == 1 ? NativeCodeEditor._DEF : (__a < 4 ?
+					NativeCodeEditor._USE : NativeCodeEditor._NONE));
+				
+				// [use, use...]
+			case NativeInstructionType.INVOKE:
+			case NativeInstructionType.SYSTEM_CALL:
+				return NativeCodeEditor._USE;
+			
+			default:
+				return NativeCodeEditor._NONE;
+		}
+	}
+	
+	/**
+	 * Returns a copy of the instruction with a different jump target.
+	 *
+	 * @param __i The instruction.
+	 * @param __t The new target.
+	 * @return The new instruction.
+	 * @since 2026/10/18
+	 */
+	private static NativeInstruction __retarget(NativeInstruction __i,
+		int __t)
+	{
+		Object[] args = __i.arguments();
+		args[2] = new InstructionJumpTarget(__t);
+		return new NativeInstruction(__i.op, args);
+	}
+	
+	/**
+	 * Returns the jump target argument of the instruction.
+	 *
+	 * @param __i The instruction.
+	 * @return The target or {@code -1} if there is no target.
+	 * @since 2026/10/18
+	 */
+	private static int __target(NativeInstruction __i)
+	{
+		switch (__i.encoding())
+		{
+			case NativeInstructionType.IF_ICMP:
+			case NativeInstructionType.IFEQ_CONST:
+				return ((InstructionJumpTarget)__i._args[2]).target();
+			
+			default:
+				return -1;
+		}
+	}
+	
+	/**
+	 * Checks if the register is within range.
+	 *
+	 * @param __r The register to check.
+	 * @return If the register is valid.
+	 * @since 2026/10/18
+	 */
+	private static boolean __validRegister(int __r)
+	{
+		return __r >= 0 && __r < NativeCode.MAX_REGISTERS;
+	}
+}
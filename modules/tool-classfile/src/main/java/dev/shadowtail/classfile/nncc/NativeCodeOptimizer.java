@@ -0,0 +1,136 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+/**
+ * This runs a sequence of optimization passes over {@link NativeCode}, the
+ * passes are repeated until none of them change anything since one pass can
+ * leave work for another.
+ *
+ * Code which contains instructions that are not understood by
+ * {@link NativeCodeEditor} is left as is.
+ *
+ * This class is thread safe as long as the passes are.
+ *
+ * @since 2026/10/18
+ */
+public final class NativeCodeOptimizer
+{
+	/** The maximum number of times the passes are run over code. */
+	private static final int _MAX_ROUNDS =
+		8;
+	
+	/** The passes to run. */
+	private final NativeCodePass[] _passes;
+	
+	/** The statistics for each pass. */
+	private final NativeCodePassStatistics[] _stats;
+	
+	/**
+	 * Initializes the optimizer with the default passes.
+	 *
+	 * @since 2026/10/18
+	 */
+	public NativeCodeOptimizer()
+	{
+		this(new CopyPropagationPass(), new ConstantFoldingPass(),
+			new JumpThreadingPass(), new RegisterCoalescingPass(),
+			new DeadCodeEliminationPass());
+	}
+	
+	/**
+	 * Initializes the optimizer with the given passes.
+	 *
+	 * @param __passes The passes to run, in order.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public NativeCodeOptimizer(NativeCodePass... __passes)
+		throws NullPointerException
+	{
+		if (__passes == null)
+			throw new NullPointerException("NARG");
+		
+		__passes = __passes.clone();
+		int n = __passes.length;
+		NativeCodePassStatistics[] stats = new NativeCodePassStatistics[n];
+		for (int i = 0; i < n; i++)
+		{
+			NativeCodePass pass = __passes[i];
+			if (pass == null)
+				throw new NullPointerException("NARG");
+			
+			stats[i] = new NativeCodePassStatistics(pass.name());
+		}
+		
+		this._passes = __passes;
+		this._stats = stats;
+	}
+	
+	/**
+	 * Optimizes the given code.
+	 *
+	 * @param __code The code to optimize.
+	 * @return The optimized code.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final NativeCode optimize(NativeCode __code)
+		throws NullPointerException
+	{
+		if (__code == null)
+			throw new NullPointerException("NARG");
+		
+		// Leave alone any code which cannot be understood
+		if (!NativeCodeEditor.isSupported(__code))
+			return __code;
+		
+		NativeCodePass[] passes = this._passes;
+		NativeCodePassStatistics[] stats = this._stats;
+		
+		NativeCodeEditor editor = new NativeCodeEditor(__code);
+		for (int round = 0; round < NativeCodeOptimizer._MAX_ROUNDS;
+			round++)
+		{
+			boolean changed = false;
+			
+			for (int i = 0, n = passes.length; i < n; i++)
+			{
+				long start = System.nanoTime();
+				
+				int changes = passes[i].run(editor);
+				int removed = editor.compact();
+				
+				stats[i].record(changes, removed,
+					System.nanoTime() - start);
+				
+				if (changes != 0 || removed != 0)
+					changed = true;
+			}
+			
+			// Nothing more can be done
+			if (!changed)
+				break;
+		}
+		
+		return editor.toNativeCode();
+	}
+	
+	/**
+	 * Returns the statistics for each pass.
+	 *
+	 * @return The pass statistics, in the order the passes are run.
+	 * @since 2026/10/18
+	 */
+	public final NativeCodePassStatistics[] statistics()
+	{
+		return this._stats.clone();
+	}
+}
@@ -0,0 +1,43 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+/**
+ * This is a single optimization pass which is run over native code by the
+ * {@link NativeCodeOptimizer}.
+ *
+ * Passes may be used by multiple threads at once, so they should not keep
+ * any state between runs.
+ *
+ * @since 2026/10/18
+ */
+public interface NativeCodePass
+{
+	/**
+	 * Returns the name of the pass.
+	 *
+	 * @return The pass name.
+	 * @since 2026/10/18
+	 */
+	String name();
+	
+	/**
+	 * Runs the pass over the given code, the code does not contain any
+	 * removed instructions when the pass starts.
+	 *
+	 * @param __code The code to optimize.
+	 * @return The number of changes which were made, {@code 0} if nothing
+	 * was changed.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	int run(NativeCodeEditor __code)
+		throws NullPointerException;
+}
@@ -0,0 +1,134 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+/**
+ * This contains the statistics for a single optimization pass, which is
+ * used to see how much each pass is actually doing.
+ *
+ * @since 2026/10/18
+ */
+public final class NativeCodePassStatistics
+{
+	/** The name of the pass. */
+	protected final String name;
+	
+	/** The number of times the pass was run. */
+	private int _runs;
+	
+	/** The number of changes the pass made. */
+	private int _changes;
+	
+	/** The number of instructions the pass removed. */
+	private int _removed;
+	
+	/** The time spent in the pass, in nanoseconds. */
+	private long _nanos;
+	
+	/**
+	 * Initializes the statistics.
+	 *
+	 * @param __name The name of the pass.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public NativeCodePassStatistics(String __name)
+		throws NullPointerException
+	{
+		if (__name == null)
+			throw new NullPointerException("NARG");
+		
+		this.name = __name;
+	}
+	
+	/**
+	 * Returns the number of changes the pass made.
+	 *
+	 * @return The number of changes.
+	 * @since 2026/10/18
+	 */
+	public final synchronized int changes()
+	{
+		return this._changes;
+	}
+	
+	/**
+	 * Returns the name of the pass.
+	 *
+	 * @return The pass name.
+	 * @since 2026/10/18
+	 */
+	public final String name()
+	{
+		return this.name;
+	}
+	
+	/**
+	 * Returns the time spent in the pass.
+	 *
+	 * @return The time in nanoseconds.
+	 * @since 2026/10/18
+	 */
+	public final synchronized long nanos()
+	{
+		return this._nanos;
+	}
+	
+	/**
+	 * Records a single run of the pass.
+	 *
+	 * @param __changes The number of changes made.
+	 * @param __removed The number of instructions removed.
+	 * @param __nanos The time spent, in nanoseconds.
+	 * @since 2026/10/18
+	 */
+	public final synchronized void record(int __changes, int __removed,
+		long __nanos)
+	{
+		this._runs++;
+		this._changes += __changes;
+		this._removed += __removed;
+		this._nanos += __nanos;
+	}
+	
+	/**
+	 * Returns the number of instructions the pass removed.
+	 *
+	 * @return The number of removed instructions.
+	 * @since 2026/10/18
+	 */
+	public final synchronized int removed()
+	{
+		return this._removed;
+	}
+	
+	/**
+	 * Returns the number of times the pass was run.
+	 *
+	 * @return The number of runs.
+	 * @since 2026/10/18
+	 */
+	public final synchronized int runs()
+	{
+		return this._runs;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final synchronized String toString()
+	{
+		return String.format("%s: %d runs, %d changes, %d removed, %d ms",
+			this.name, this._runs, this._changes, this._removed,
+			this._nanos / 1000000L);
+	}
+}
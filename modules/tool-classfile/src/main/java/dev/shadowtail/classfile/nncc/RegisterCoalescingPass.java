@@ -0,0 +1,170 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+/**
+ * This merges the source and destination registers of copies into a single
+ * register when their values are never needed at the same time, which turns
+ * the copy into a copy of a register to itself that can be removed.
+ *
+ * Only registers at or above {@link NativeCode#ARGUMENT_REGISTER_BASE} are
+ * merged, since the registers below it have special meanings.
+ *
+ * @since 2026/10/18
+ */
+public final class RegisterCoalescingPass
+	implements NativeCodePass
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final String name()
+	{
+		return "register-coalescing";
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int run(NativeCodeEditor __code)
+		throws NullPointerException
+	{
+		if (__code == null)
+			throw new NullPointerException("NARG");
+		
+		int n = __code.length();
+		int numRegs = NativeCode.MAX_REGISTERS;
+		
+		// Determine which registers have values that are needed at the
+		// same time, registers which have a value on entry all interfere
+		// with each other
+		long[] interfere = new long[numRegs];
+		long entry = __code.liveIn()[0];
+		RegisterCoalescingPass.__interfere(interfere, entry, entry);
+		
+		// Any register which is written interferes with every other register
+		// that is still needed afterwards, except for the source of a copy
+		// since both have the same value
+		long[] liveOut = __code.liveOut();
+		for (int i = 0; i < n; i++)
+		{
+			NativeInstruction inst = __code.get(i);
+			long defs = NativeCodeEditor.defines(inst);
+			if (defs == 0)
+				continue;
+			
+			long live = liveOut[i];
+			if (inst.encoding() == NativeInstructionType.COPY)
+				live &= ~NativeCodeEditor.bit(inst.intArgument(0));
+			
+			RegisterCoalescingPass.__interfere(interfere, defs, live);
+		}
+		
+		// Merge the registers of copies
+		int[] merged = new int[numRegs];
+		for (int r = 0; r < numRegs; r++)
+			merged[r] = r;
+		
+		int changes = 0;
+		for (int i = 0; i < n; i++)
+		{
+			NativeInstruction inst = __code.get(i);
+			if (inst.encoding() != NativeInstructionType.COPY)
+				continue;
+			
+			int from = RegisterCoalescingPass.__find(merged,
+					inst.intArgument(0)),
+				to = RegisterCoalescingPass.__find(merged,
+					inst.intArgument(1));
+			if (from == to || from < NativeCode.ARGUMENT_REGISTER_BASE ||
+				to < NativeCode.ARGUMENT_REGISTER_BASE ||
+				(interfere[from] & NativeCodeEditor.bit(to)) != 0)
+				continue;
+			
+			// Registers which have a value on entry must keep their number
+			// since that is where the value is placed
+			int keep = from,
+				drop = to;
+			if ((entry & NativeCodeEditor.bit(to)) != 0)
+			{
+				keep = to;
+				drop = from;
+			}
+			
+			// The merged register interferes with everything either one did
+			merged[drop] = keep;
+			RegisterCoalescingPass.__interfere(interfere,
+				NativeCodeEditor.bit(keep), interfere[drop]);
+			changes++;
+		}
+		
+		// Nothing was merged
+		if (changes == 0)
+			return 0;
+		
+		// Use the merged registers everywhere
+		for (int r = 0; r < numRegs; r++)
+			merged[r] = RegisterCoalescingPass.__find(merged, r);
+		for (int i = 0; i < n; i++)
+		{
+			NativeInstruction inst = NativeCodeEditor.rename(__code.get(i),
+				merged, merged);
+			
+			// Copies which were merged do nothing now
+			if (inst.encoding() == NativeInstructionType.COPY &&
+				inst.intArgument(0) == inst.intArgument(1))
+				__code.remove(i);
+			else
+				__code.set(i, inst);
+		}
+		
+		return changes;
+	}
+	
+	/**
+	 * Finds the register that the given register was merged into.
+	 *
+	 * @param __merged The merged registers.
+	 * @param __r The register to find.
+	 * @return The register it was merged into.
+	 * @since 2026/10/18
+	 */
+	private static int __find(int[] __merged, int __r)
+	{
+		while (__merged[__r] != __r)
+			__r = __merged[__r];
+		return __r;
+	}
+	
+	/**
+	 * Marks the given sets of registers as interfering with each other.
+	 *
+	 * @param __interfere The interference sets.
+	 * @param __a The first set of registers.
+	 * @param __b The second set of registers.
+	 * @since 2026/10/18
+	 */
+	private static void __interfere(long[] __interfere, long __a, long __b)
+	{
+		for (int r = 0, n = __interfere.length; r < n; r++)
+		{
+			long bit = NativeCodeEditor.bit(r);
+			
+			if ((__a & bit) != 0)
+				__interfere[r] |= (__b & ~bit);
+			if ((__b & bit) != 0)
+				__interfere[r] |= (__a & ~bit);
+		}
+	}
+}
@@ -0,0 +1,80 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import dev.shadowtail.classfile.nncc.NativeCode;
+import dev.shadowtail.classfile.nncc.NativeCodeBuilder;
+import dev.shadowtail.classfile.nncc.NativeCodeLabel;
+import dev.shadowtail.classfile.nncc.NativeCodeOptimizer;
+import dev.shadowtail.classfile.nncc.NativeInstruction;
+import dev.shadowtail.classfile.nncc.NativeInstructionType;
+import dev.shadowtail.classfile.xlate.CompareType;
+import dev.shadowtail.classfile.xlate.MathType;
+import dev.shadowtail.classfile.xlate.StackJavaType;
+import net.multiphasicapps.tac.TestRunnable;
+
+/**
+ * Tests that the native code optimizer removes copies, folds constants,
+ * threads jumps and removes dead code.
+ *
+ * @since 2026/10/18
+ */
+public class TestNativeCodeOptimizer
+	extends TestRunnable
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void test()
+	{
+		NativeCodeBuilder cb = new NativeCodeBuilder();
+		NativeCodeLabel hop = new NativeCodeLabel("hop", 0);
+		NativeCodeLabel out = new NativeCodeLabel("out", 0);
+		
+		// r9 = 5; r10 = r9 + 3; r11 = r10; r12 = r8 + r11
+		cb.addMathConst(StackJavaType.INTEGER, MathType.OR, 0, 5, 9);
+		cb.addMathConst(StackJavaType.INTEGER, MathType.ADD, 9, 3, 10);
+		cb.addCopy(10, 11);
+		cb.addMathReg(StackJavaType.INTEGER, MathType.ADD, 8, 11, 12);
+		
+		// This is never taken since the values are known
+		cb.addIfICmp(CompareType.EQUALS, 9, 10, out);
+		
+		// Jump to a jump, skipping code that is never executed
+		cb.addGoto(hop);
+		cb.addMathConst(StackJavaType.INTEGER, MathType.ADD, 12, 1, 12);
+		cb.label(hop);
+		cb.addGoto(out);
+		
+		// Return the value
+		cb.label(out);
+		cb.addCopy(12, 1);
+		cb.add(NativeInstructionType.RETURN);
+		
+		NativeCode code = cb.build();
+		this.secondary("before", code.length());
+		
+		// Only the addition and the return should remain
+		NativeCode opt = new NativeCodeOptimizer().optimize(code);
+		this.secondary("after", opt.length());
+		for (int i = 0, n = opt.length(); i < n; i++)
+		{
+			NativeInstruction inst = opt.get(i);
+			
+			int[] args = new int[inst.argumentCount()];
+			for (int a = 0; a < args.length; a++)
+				args[a] = inst.intArgument(a);
+			
+			this.secondary("op" + i,
+				NativeInstruction.mnemonic(inst.operation()));
+			this.secondary("args" + i, args);
+		}
+	}
+}
@@ -14,6 +14,8 @@ import cc.squirreljme.vm.VMClassLibrary;
 import dev.shadowtail.classfile.mini.DualPoolEncodeResult;
 import dev.shadowtail.classfile.mini.DualPoolEncoder;
 import dev.shadowtail.classfile.mini.Minimizer;
+import dev.shadowtail.classfile.mini.MinimizerCache;
+import dev.shadowtail.classfile.nncc.NativeCodeOptimizer;
 import dev.shadowtail.classfile.pool.DualClassRuntimePoolBuilder;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -41,6 +43,14 @@ public final class JarMinimizer
 	static final boolean _ENABLE_DEBUG =
 		Boolean.getBoolean("dev.shadowtail.jarfile.debug");
 	
+	/**
+	 * {@squirreljme.property dev.shadowtail.jarfile.threads=int
+	 * The number of threads used to minimize classes, if this is one then
+	 * only a single thread is used.}
+	 */
+	static final int _THREADS =
+		Integer.getInteger("dev.shadowtail.jarfile.threads", 4);
+	
 	/** The state of the bootstrap. */
 	protected final BootstrapState bootstrap;
 	
@@ -56,6 +66,12 @@ public final class JarMinimizer
 	/** Are we using our own dual pool? */
 	protected final boolean owndualpool;
 	
+	/** The native code optimizer, may be {@code null}. */
+	protected final NativeCodeOptimizer optimizer;
+	
+	/** The cache of minimized classes, may be {@code null}. */
+	protected final MinimizerCache cache;
+	
 	/** The resulting JAR header. */
 	private MinimizedJarHeader _jheader;
 	
@@ -65,11 +81,15 @@ public final class JarMinimizer
 	 * @param __dp The global dual constant pool, may be {@code null} to not
 	 * use the pack-file global one.
 	 * @param __boot Is this a boot JAR?
+	 * @param __opt The native code optimizer, may be {@code null} to not
+	 * optimize code.
+	 * @param __cache The cache of minimized classes, may be {@code null}.
 	 * @param __in The input library.
 	 * @throws NullPointerException On null arguments.
 	 * @since 2019/04/27
 	 */
 	private JarMinimizer(DualClassRuntimePoolBuilder __dp, boolean __boot,
+		NativeCodeOptimizer __opt, MinimizerCache __cache,
 		VMClassLibrary __in)
 		throws NullPointerException
 	{
@@ -78,6 +98,8 @@ public final class JarMinimizer
 			
 		this.boot = __boot;
 		this.input = __in;
+		this.optimizer = __opt;
+		this.cache = __cache;
 		
 		// Use the passed pool if it was passed, but otherwise just use one
 		// in the event one was not passed through (uses our own pool)
@@ -145,6 +167,51 @@ public final class JarMinimizer
 		// Buffer for byte copies
 		byte[] copybuf = new byte[512];
 		
+		// Read in every class, so they can all be minimized at once
+		byte[] readbuf = new byte[4096];
+		int[] classdx = new int[numrc];
+		byte[][] classes = new byte[numrc][];
+		int numclasses = 0;
+		for (int i = 0; i < numrc; i++)
+		{
+			String rc = rcnames[i];
+			
+			// Not a class
+			classdx[i] = -1;
+			if (!rc.endsWith(".class") || !ClassName.isValidClassName(
+				rc.substring(0, rc.length() - 6)))
+				continue;
+			
+			// {@squirreljme.error BC0g The class could not be read.
+			// (The resource)}
+			try (InputStream in = input.resourceAsStream(rc);
+				ByteArrayOutputStream baos = new ByteArrayOutputStream())
+			{
+				if (in == null)
+					throw new IOException("BC0g " + rc);
+				
+				for (;;)
+				{
+					int ll = in.read(readbuf);
+					
+					// EOF?
+					if (ll < 0)
+						break;
+					
+					baos.write(readbuf, 0, ll);
+				}
+				
+				classes[(classdx[i] = numclasses++)] = baos.toByteArray();
+			}
+		}
+		
+		// Minimize all of the classes, the Jar pool is filled in the same
+		// order as the classes so this is the same as doing them one by one
+		byte[][] minimized = Minimizer.minimizeAll(dualpool, this.optimizer,
+			this.cache, JarMinimizer._THREADS,
+			Arrays.copyOf(classes, numclasses));
+		classes = null;
+		
 		// Go through and add every resource
 		for (int i = 0; i < numrc; i++)
 		{
@@ -156,15 +223,14 @@ public final class JarMinimizer
 				TableSectionOutputStream.VARIABLE_SIZE, 4);
 			
 			// Process the resource
-			try (InputStream in = input.resourceAsStream(rc))
+			try (InputStream in = (classdx[i] >= 0 ? null :
+				input.resourceAsStream(rc)))
 			{
-				// Minimizing class file if it is a valid class
-				if (rc.endsWith(".class") && ClassName.isValidClassName(
-					rc.substring(0, rc.length() - 6)))
+				// Class which was minimized
+				if (classdx[i] >= 0)
 				{
-					// Minimize the class
-					byte[] bytes = Minimizer.minimize(dualpool,
-						ClassFile.decode(in));
+					byte[] bytes = minimized[classdx[i]];
+					minimized[classdx[i]] = null;
 					
 					// Write to ROM!
 					rcdata.write(bytes);
@@ -426,6 +492,27 @@ public final class JarMinimizer
 		JarMinimizer.minimize(null, __boot, __in, __out, __mjh);
 	}
 	
+	/**
+	 * Minimizes the specified Jar file.
+	 *
+	 * @param __boot Should pre-created boot memory be created to quickly
+	 * initialize the virtual machine?
+	 * @param __opt The native code optimizer, may be {@code null}.
+	 * @param __cache The cache of minimized classes, may be {@code null}.
+	 * @param __in The input JAR file.
+	 * @param __out The stream where JAR data will be placed.
+	 * @throws IOException On read/write errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static void minimize(boolean __boot, NativeCodeOptimizer __opt,
+		MinimizerCache __cache, VMClassLibrary __in, OutputStream __out)
+		throws IOException, NullPointerException
+	{
+		JarMinimizer.minimize(null, __boot, __opt, __cache, __in, __out,
+			null);
+	}
+	
 	/**
 	 * Minimizes the specified Jar file.
 	 *
@@ -443,12 +530,37 @@ public final class JarMinimizer
 		boolean __boot, VMClassLibrary __in, OutputStream __out,
 		MinimizedJarHeader[] __mjh)
 		throws IOException, NullPointerException
+	{
+		JarMinimizer.minimize(__dp, __boot, null, null, __in, __out,
+			__mjh);
+	}
+	
+	/**
+	 * Minimizes the specified Jar file.
+	 *
+	 * @param __dp The dual-pool.
+	 * @param __boot Should pre-created boot memory be created to quickly
+	 * initialize the virtual machine?
+	 * @param __opt The native code optimizer, may be {@code null}.
+	 * @param __cache The cache of minimized classes, may be {@code null}.
+	 * @param __in The input JAR file.
+	 * @param __out The stream where JAR data will be placed.
+	 * @param __mjh The output JAR header.
+	 * @throws IOException On read/write errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static void minimize(DualClassRuntimePoolBuilder __dp,
+		boolean __boot, NativeCodeOptimizer __opt, MinimizerCache __cache,
+		VMClassLibrary __in, OutputStream __out, MinimizedJarHeader[] __mjh)
+		throws IOException, NullPointerException
 	{
 		if (__in == null || __out == null)
 			throw new NullPointerException("NARG");
 		
 		// Use helper class
-		JarMinimizer jm = new JarMinimizer(__dp, __boot, __in);
+		JarMinimizer jm = new JarMinimizer(__dp, __boot, __opt, __cache,
+			__in);
 		jm.__process(__out);
 		
 		// Set header that was generated
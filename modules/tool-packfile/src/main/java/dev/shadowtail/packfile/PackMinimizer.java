@@ -13,6 +13,7 @@ import cc.squirreljme.vm.SummerCoatJarLibrary;
 import cc.squirreljme.vm.VMClassLibrary;
 import dev.shadowtail.classfile.mini.DualPoolEncodeResult;
 import dev.shadowtail.classfile.mini.DualPoolEncoder;
+import dev.shadowtail.classfile.mini.MinimizerCache;
 import dev.shadowtail.classfile.pool.DualClassRuntimePoolBuilder;
 import dev.shadowtail.jarfile.JarMinimizer;
 import dev.shadowtail.jarfile.MinimizedJarHeader;
@@ -82,6 +83,29 @@ public class PackMinimizer
 		String[] __initcp, String __mainbc, boolean __ismid,
 		VMClassLibrary... __libs)
 		throws IOException, NullPointerException
+	{
+		PackMinimizer.minimize(__os, null, __boot, __initcp, __mainbc,
+			__ismid, __libs);
+	}
+	
+	/**
+	 * Minimizes the class library.
+	 *
+	 * @param __os The stream to write the minimized file to.
+	 * @param __cache The cache of minimized classes, may be {@code null}.
+	 * @param __boot The boot JAR used for the entry point.
+	 * @param __initcp Initial classpath.
+	 * @param __mainbc Main boot class.
+	 * @param __ismid Is this a MIDlet?
+	 * @param __libs The libraries to minimize.
+	 * @throws IOException On read/write errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static void minimize(OutputStream __os, MinimizerCache __cache,
+		String __boot, String[] __initcp, String __mainbc, boolean __ismid,
+		VMClassLibrary... __libs)
+		throws IOException, NullPointerException
 	{
 		if (__os == null || __libs == null ||
 			(__boot != null && (__initcp == null || __mainbc == null)))
@@ -226,8 +250,8 @@ public class PackMinimizer
 					// The boot JAR is completely stand-alone, so do not use
 					// a global JAR pool for it.
 					JarMinimizer.minimize((isboot ? null : dualpool), isboot,
-						lib, jdata, mjha);
-						
+						null, __cache, lib, jdata, mjha);
+					
 					// Get the generated header
 					mjh = mjha[0];
 				}